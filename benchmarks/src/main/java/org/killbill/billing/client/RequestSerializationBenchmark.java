@@ -0,0 +1,93 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.util.concurrent.TimeUnit;
+
+import org.killbill.billing.client.benchmarks.Fixtures;
+import org.killbill.billing.client.model.Payments;
+import org.killbill.billing.client.model.gen.Account;
+import org.killbill.billing.client.model.gen.Catalog;
+import org.killbill.billing.client.model.gen.Invoice;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Request path of the client: serialization of the bodies into pooled chunks ({@link JsonBodyPublisher}), released
+ * as the client does once the server has answered. In the same package as the client, to reach it without a server.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestSerializationBenchmark {
+
+    private final JsonCodecs codecs = new JsonCodecs(KillBillHttpClient.newObjectMapper());
+    private final ByteChunkPool pool = new ByteChunkPool();
+
+    private Account account;
+    private Invoice invoice;
+    private Payments payments;
+    private Catalog catalog;
+
+    @Setup
+    public void setup() {
+        final Fixtures fixtures = new Fixtures();
+        account = fixtures.account();
+        invoice = fixtures.invoice(200);
+        payments = fixtures.payments(20);
+        catalog = fixtures.catalog(20);
+    }
+
+    @Benchmark
+    public void serializeAccount(final Blackhole blackhole) throws Exception {
+        serialize(account, blackhole);
+    }
+
+    @Benchmark
+    public void serializeInvoice(final Blackhole blackhole) throws Exception {
+        serialize(invoice, blackhole);
+    }
+
+    @Benchmark
+    public void serializePayments(final Blackhole blackhole) throws Exception {
+        serialize(payments, blackhole);
+    }
+
+    @Benchmark
+    public void serializeCatalog(final Blackhole blackhole) throws Exception {
+        serialize(catalog, blackhole);
+    }
+
+    private void serialize(final Object body, final Blackhole blackhole) throws Exception {
+        final JsonBodyPublisher bodyPublisher = JsonBodyPublisher.create(codecs, body, pool, null);
+        blackhole.consume(bodyPublisher.contentLength());
+        bodyPublisher.recycle();
+    }
+}
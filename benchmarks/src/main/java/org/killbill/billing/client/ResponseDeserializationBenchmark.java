@@ -0,0 +1,193 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.SSLSession;
+
+import org.killbill.billing.client.benchmarks.Fixtures;
+import org.killbill.billing.client.model.Payments;
+import org.killbill.billing.client.model.gen.Account;
+import org.killbill.billing.client.model.gen.Catalog;
+import org.killbill.billing.client.model.gen.Invoice;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Response path of the client ({@link KillBillHttpClient#deserializeResponse(HttpResponse, Class)}), from the body
+ * stream to the models, with and without the debug path ({@code org.killbill.client.debug}, which reads the
+ * body as a String first). In the same package as the client, to reach it without a server.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseDeserializationBenchmark {
+
+    @Param({"false", "true"})
+    public boolean debug;
+
+    private KillBillHttpClient client;
+
+    private Body account;
+    private Body invoice;
+    private Body payments;
+    private Body catalog;
+
+    @Setup
+    public void setup() throws Exception {
+        // Read by the client when created
+        final String previous = System.getProperty("org.killbill.client.debug");
+        System.setProperty("org.killbill.client.debug", String.valueOf(debug));
+        try {
+            client = new KillBillHttpClient();
+        } finally {
+            if (previous == null) {
+                System.clearProperty("org.killbill.client.debug");
+            } else {
+                System.setProperty("org.killbill.client.debug", previous);
+            }
+        }
+
+        final ObjectMapper mapper = KillBillHttpClient.newObjectMapper();
+        final Fixtures fixtures = new Fixtures();
+        account = new Body(mapper.writeValueAsBytes(fixtures.account()));
+        invoice = new Body(mapper.writeValueAsBytes(fixtures.invoice(200)));
+        payments = new Body(mapper.writeValueAsBytes(fixtures.payments(20)));
+        catalog = new Body(mapper.writeValueAsBytes(fixtures.catalog(20)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public void deserializeAccount(final Blackhole blackhole) throws Exception {
+        blackhole.consume(client.deserializeResponse(account.newResponse(), Account.class));
+    }
+
+    @Benchmark
+    public void deserializeInvoice(final Blackhole blackhole) throws Exception {
+        blackhole.consume(client.deserializeResponse(invoice.newResponse(), Invoice.class));
+    }
+
+    @Benchmark
+    public void deserializePayments(final Blackhole blackhole) throws Exception {
+        blackhole.consume(client.deserializeResponse(payments.newResponse(), Payments.class));
+    }
+
+    @Benchmark
+    public void deserializeCatalog(final Blackhole blackhole) throws Exception {
+        blackhole.consume(client.deserializeResponse(catalog.newResponse(), Catalog.class));
+    }
+
+    private static final class Body {
+
+        private final byte[] content;
+        private final HttpHeaders headers;
+
+        private Body(final byte[] content) {
+            this.content = content;
+            this.headers = HttpHeaders.of(Map.of("Content-Type", List.of("application/json"),
+                                                 "Content-Length", List.of(String.valueOf(content.length))),
+                                          (name, value) -> true);
+        }
+
+        private HttpResponse<InputStream> newResponse() {
+            return new BodyResponse(headers, new ByteArrayInputStream(content));
+        }
+    }
+
+    private static final class BodyResponse implements HttpResponse<InputStream> {
+
+        private final HttpHeaders headers;
+        private final InputStream body;
+
+        private BodyResponse(final HttpHeaders headers, final InputStream body) {
+            this.headers = headers;
+            this.body = body;
+        }
+
+        @Override
+        public int statusCode() {
+            return 200;
+        }
+
+        @Override
+        public HttpRequest request() {
+            return null;
+        }
+
+        @Override
+        public Optional<HttpResponse<InputStream>> previousResponse() {
+            return Optional.empty();
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            return headers;
+        }
+
+        @Override
+        public InputStream body() {
+            return body;
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return Optional.empty();
+        }
+
+        @Override
+        public URI uri() {
+            return null;
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return HttpClient.Version.HTTP_1_1;
+        }
+    }
+}
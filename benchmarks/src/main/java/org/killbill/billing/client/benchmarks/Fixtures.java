@@ -0,0 +1,283 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.killbill.billing.ObjectType;
+import org.killbill.billing.catalog.api.BillingMode;
+import org.killbill.billing.catalog.api.BillingPeriod;
+import org.killbill.billing.catalog.api.Currency;
+import org.killbill.billing.catalog.api.TimeUnit;
+import org.killbill.billing.client.model.Payments;
+import org.killbill.billing.client.model.gen.Account;
+import org.killbill.billing.client.model.gen.AuditLog;
+import org.killbill.billing.client.model.gen.Catalog;
+import org.killbill.billing.client.model.gen.Duration;
+import org.killbill.billing.client.model.gen.Invoice;
+import org.killbill.billing.client.model.gen.InvoiceItem;
+import org.killbill.billing.client.model.gen.Limit;
+import org.killbill.billing.client.model.gen.Payment;
+import org.killbill.billing.client.model.gen.PaymentAttempt;
+import org.killbill.billing.client.model.gen.PaymentTransaction;
+import org.killbill.billing.client.model.gen.Phase;
+import org.killbill.billing.client.model.gen.Plan;
+import org.killbill.billing.client.model.gen.PluginProperty;
+import org.killbill.billing.client.model.gen.Price;
+import org.killbill.billing.client.model.gen.PriceList;
+import org.killbill.billing.client.model.gen.Product;
+import org.killbill.billing.client.model.gen.Tier;
+import org.killbill.billing.client.model.gen.TieredBlock;
+import org.killbill.billing.client.model.gen.Unit;
+import org.killbill.billing.client.model.gen.Usage;
+import org.killbill.billing.invoice.api.InvoiceItemType;
+import org.killbill.billing.invoice.api.InvoiceStatus;
+import org.killbill.billing.payment.api.TransactionStatus;
+import org.killbill.billing.payment.api.TransactionType;
+
+/**
+ * Payloads shaped like the ones returned by a Kill Bill server. Values are generated from a fixed seed, so that
+ * all runs (de)serialize the same bytes.
+ */
+public final class Fixtures {
+
+    private static final ZonedDateTime REFERENCE_TIME = ZonedDateTime.of(2026, 10, 1, 8, 30, 0, 0, ZoneOffset.UTC);
+    private static final List<Currency> CURRENCIES = List.of(Currency.USD, Currency.EUR);
+
+    private final Random random = new Random(42);
+
+    public Account account() {
+        return new Account().setAccountId(uuid())
+                            .setName("Jane Doe")
+                            .setFirstNameLength(4)
+                            .setExternalKey("jane-" + random.nextInt(100000))
+                            .setEmail("jane@example.com")
+                            .setBillCycleDayLocal(1)
+                            .setCurrency(Currency.USD)
+                            .setIsPaymentDelegatedToParent(false)
+                            .setPaymentMethodId(uuid())
+                            .setReferenceTime(REFERENCE_TIME)
+                            .setTimeZone("America/Los_Angeles")
+                            .setAddress1("1 Market Street")
+                            .setPostalCode("94105")
+                            .setCompany("Example, Inc.")
+                            .setCity("San Francisco")
+                            .setState("CA")
+                            .setCountry("US")
+                            .setLocale("en_US")
+                            .setPhone("+1 415 555 0100")
+                            .setIsMigrated(false)
+                            .setAccountBalance(new BigDecimal("120.50"))
+                            .setAccountCBA(new BigDecimal("10.00"));
+    }
+
+    public Invoice invoice(final int nbItems) {
+        final UUID invoiceId = uuid();
+        final UUID accountId = uuid();
+        final List<InvoiceItem> items = new ArrayList<>(nbItems);
+        for (int i = 0; i < nbItems; i++) {
+            final InvoiceItem item = new InvoiceItem().setInvoiceItemId(uuid())
+                                                      .setInvoiceId(invoiceId)
+                                                      .setAccountId(accountId)
+                                                      .setBundleId(uuid())
+                                                      .setSubscriptionId(uuid())
+                                                      .setProductName("Standard")
+                                                      .setPlanName("standard-monthly")
+                                                      .setPhaseName("standard-monthly-evergreen")
+                                                      .setItemType(i % 10 == 0 ? InvoiceItemType.FIXED : InvoiceItemType.RECURRING)
+                                                      .setDescription("standard-monthly-evergreen")
+                                                      .setStartDate(LocalDate.of(2026, 10, 1))
+                                                      .setEndDate(LocalDate.of(2026, 11, 1))
+                                                      .setAmount(amount())
+                                                      .setRate(new BigDecimal("29.95"))
+                                                      .setCurrency(Currency.USD);
+            item.setAuditLogs(List.of(auditLog(ObjectType.INVOICE_ITEM)));
+            items.add(item);
+        }
+        final Invoice invoice = new Invoice().setInvoiceId(invoiceId)
+                                             .setAccountId(accountId)
+                                             .setAmount(items.stream().map(InvoiceItem::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add))
+                                             .setBalance(BigDecimal.ZERO)
+                                             .setCreditAdj(BigDecimal.ZERO)
+                                             .setRefundAdj(BigDecimal.ZERO)
+                                             .setCurrency(Currency.USD)
+                                             .setStatus(InvoiceStatus.COMMITTED)
+                                             .setInvoiceDate(LocalDate.of(2026, 10, 1))
+                                             .setTargetDate(LocalDate.of(2026, 10, 1))
+                                             .setInvoiceNumber(String.valueOf(1000 + random.nextInt(100000)))
+                                             .setIsParentInvoice(false)
+                                             .setItems(items);
+        invoice.setAuditLogs(List.of(auditLog(ObjectType.INVOICE)));
+        return invoice;
+    }
+
+    // Authorized, captured then partially refunded, after a failed first attempt
+    public Payments payments(final int nbPayments) {
+        final Payments payments = new Payments();
+        for (int i = 0; i < nbPayments; i++) {
+            final UUID accountId = uuid();
+            final UUID paymentId = uuid();
+            final UUID paymentMethodId = uuid();
+            final String paymentExternalKey = "payment-" + random.nextInt(100000);
+            final BigDecimal amount = amount();
+
+            final List<PaymentTransaction> transactions = new ArrayList<>();
+            for (final TransactionType transactionType : List.of(TransactionType.AUTHORIZE, TransactionType.CAPTURE, TransactionType.REFUND)) {
+                final BigDecimal transactionAmount = transactionType == TransactionType.REFUND ? amount.divide(BigDecimal.valueOf(2)) : amount;
+                transactions.add(new PaymentTransaction().setTransactionId(uuid())
+                                                         .setTransactionExternalKey(uuid().toString())
+                                                         .setPaymentId(paymentId)
+                                                         .setPaymentExternalKey(paymentExternalKey)
+                                                         .setTransactionType(transactionType)
+                                                         .setAmount(transactionAmount)
+                                                         .setCurrency(Currency.USD)
+                                                         .setEffectiveDate(REFERENCE_TIME.plusMinutes(transactions.size()))
+                                                         .setProcessedAmount(transactionAmount)
+                                                         .setProcessedCurrency(Currency.USD)
+                                                         .setStatus(TransactionStatus.SUCCESS)
+                                                         .setGatewayErrorCode("00")
+                                                         .setGatewayErrorMsg("Approved")
+                                                         .setFirstPaymentReferenceId("ch_" + Long.toHexString(random.nextLong()))
+                                                         .setProperties(List.of(new PluginProperty().setKey("processor").setValue("stripe").setIsUpdatable(false))));
+            }
+
+            final List<PaymentAttempt> attempts = new ArrayList<>();
+            for (final String stateName : List.of("RETRIED", "SUCCESS")) {
+                attempts.add(new PaymentAttempt().setAccountId(accountId)
+                                                 .setPaymentMethodId(paymentMethodId)
+                                                 .setPaymentExternalKey(paymentExternalKey)
+                                                 .setTransactionId(transactions.get(0).getTransactionId())
+                                                 .setTransactionExternalKey(transactions.get(0).getTransactionExternalKey())
+                                                 .setTransactionType(TransactionType.AUTHORIZE)
+                                                 .setEffectiveDate(REFERENCE_TIME.minusDays(attempts.size()))
+                                                 .setStateName(stateName)
+                                                 .setAmount(amount)
+                                                 .setCurrency(Currency.USD)
+                                                 .setPluginName("killbill-stripe")
+                                                 .setPluginProperties(List.of()));
+            }
+
+            final Payment payment = new Payment().setAccountId(accountId)
+                                                 .setPaymentId(paymentId)
+                                                 .setPaymentNumber(String.valueOf(random.nextInt(100000)))
+                                                 .setPaymentExternalKey(paymentExternalKey)
+                                                 .setAuthAmount(amount)
+                                                 .setCapturedAmount(amount)
+                                                 .setPurchasedAmount(BigDecimal.ZERO)
+                                                 .setRefundedAmount(amount.divide(BigDecimal.valueOf(2)))
+                                                 .setCreditedAmount(BigDecimal.ZERO)
+                                                 .setCurrency(Currency.USD)
+                                                 .setPaymentMethodId(paymentMethodId)
+                                                 .setTransactions(transactions)
+                                                 .setPaymentAttempts(attempts);
+            payment.setAuditLogs(List.of(auditLog(ObjectType.PAYMENT)));
+            payments.add(payment);
+        }
+        return payments;
+    }
+
+    // Products with trial and evergreen phases in all currencies, one of them with a tiered usage
+    public Catalog catalog(final int nbProducts) {
+        final List<Product> products = new ArrayList<>();
+        final List<String> planNames = new ArrayList<>();
+        for (int i = 0; i < nbProducts; i++) {
+            final String productName = "product-" + i;
+            final List<Plan> plans = new ArrayList<>();
+            for (final BillingPeriod billingPeriod : List.of(BillingPeriod.MONTHLY, BillingPeriod.ANNUAL)) {
+                final String planName = productName + "-" + billingPeriod.name().toLowerCase();
+                planNames.add(planName);
+
+                final Phase trial = new Phase().setType("TRIAL")
+                                               .setPrices(List.of())
+                                               .setFixedPrices(prices(BigDecimal.ZERO))
+                                               .setDuration(new Duration().setUnit(TimeUnit.DAYS).setNumber(30))
+                                               .setUsages(List.of());
+                final Phase evergreen = new Phase().setType("EVERGREEN")
+                                                   .setPrices(prices(amount()))
+                                                   .setFixedPrices(List.of())
+                                                   .setDuration(new Duration().setUnit(TimeUnit.UNLIMITED).setNumber(-1))
+                                                   .setUsages(i % 4 == 0 ? List.of(usage()) : List.of());
+                plans.add(new Plan().setName(planName)
+                                    .setPrettyName("Product " + i + " (" + billingPeriod.name().toLowerCase() + ")")
+                                    .setRecurringBillingMode(BillingMode.IN_ADVANCE)
+                                    .setBillingPeriod(billingPeriod)
+                                    .setPhases(List.of(trial, evergreen)));
+            }
+            products.add(new Product().setType(i % 3 == 0 ? "ADD_ON" : "BASE")
+                                      .setName(productName)
+                                      .setPrettyName("Product " + i)
+                                      .setPlans(plans)
+                                      .setIncluded(List.of())
+                                      .setAvailable(i % 3 == 0 ? List.of() : List.of("product-0")));
+        }
+
+        return new Catalog().setName("Example catalog")
+                            .setEffectiveDate(REFERENCE_TIME.minusYears(1))
+                            .setCurrencies(CURRENCIES)
+                            .setUnits(List.of(new Unit().setName("api-calls").setPrettyName("API calls")))
+                            .setProducts(products)
+                            .setPriceLists(List.of(new PriceList().setName("DEFAULT").setPlans(planNames)));
+    }
+
+    private Usage usage() {
+        final List<Tier> tiers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            final String max = i == 2 ? "-1" : String.valueOf(1000 * (i + 1));
+            tiers.add(new Tier().setLimits(List.of(new Limit().setUnit("api-calls").setMax(max).setMin("0")))
+                                .setFixedPrice(List.of())
+                                .setRecurringPrice(List.of())
+                                .setBlocks(List.of(new TieredBlock().setUnit("api-calls").setSize("100").setMax(max).setPrices(prices(amount())))));
+        }
+        return new Usage().setBillingPeriod("MONTHLY").setTiers(tiers);
+    }
+
+    private List<Price> prices(final BigDecimal value) {
+        final List<Price> prices = new ArrayList<>();
+        for (final Currency currency : CURRENCIES) {
+            prices.add(new Price().setCurrency(currency).setValue(value));
+        }
+        return prices;
+    }
+
+    private AuditLog<Object> auditLog(final ObjectType objectType) {
+        // The generated setters return the raw type: don't chain them
+        final AuditLog<Object> auditLog = new AuditLog<>();
+        auditLog.setChangeType("INSERT");
+        auditLog.setChangeDate(REFERENCE_TIME.plusSeconds(random.nextInt(86400)));
+        auditLog.setObjectType(objectType);
+        auditLog.setObjectId(uuid());
+        auditLog.setChangedBy("billing-system");
+        auditLog.setUserToken(uuid().toString());
+        return auditLog;
+    }
+
+    private BigDecimal amount() {
+        return BigDecimal.valueOf(100 + random.nextInt(10000), 2);
+    }
+
+    private UUID uuid() {
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+}
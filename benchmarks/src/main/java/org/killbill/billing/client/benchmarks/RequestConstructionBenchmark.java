@@ -0,0 +1,120 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client.benchmarks;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.killbill.billing.catalog.api.BillingActionPolicy;
+import org.killbill.billing.catalog.api.BillingPeriod;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.api.gen.AccountApi;
+import org.killbill.billing.client.api.gen.PaymentApi;
+import org.killbill.billing.client.api.gen.SubscriptionApi;
+import org.killbill.billing.client.model.gen.Subscription;
+import org.killbill.billing.util.api.AuditLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Client side of generated API calls, from the arguments to the {@code HttpRequest} handed to the transport:
+ * options and query parameters, URI expansion and encoding, headers and body serialization. The transport is a
+ * {@link NoopHttpClient}, so run with {@code -prof gc} to get the CPU and allocations of the client alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestConstructionBenchmark {
+
+    private static final Map<String, String> PLUGIN_PROPERTIES = Map.of("paymentProcessor", "stripe",
+                                                                        "ipAddress", "192.0.2.10",
+                                                                        "note", "upgrade from the self-service portal");
+
+    private KillBillHttpClient client;
+    private AccountApi accountApi;
+    private SubscriptionApi subscriptionApi;
+    private PaymentApi paymentApi;
+
+    private RequestOptions requestOptions;
+    private UUID accountId;
+    private UUID subscriptionId;
+    private Subscription subscription;
+
+    @Setup
+    public void setup() {
+        client = KillBillHttpClient.builder()
+                                   .withKbServerUrl("http://127.0.0.1:8080/")
+                                   .withUsername("admin")
+                                   .withPassword("password")
+                                   .withApiKey("bob")
+                                   .withApiSecret("lazar")
+                                   .withHttpClient(new NoopHttpClient())
+                                   .build();
+        accountApi = new AccountApi(client);
+        subscriptionApi = new SubscriptionApi(client);
+        paymentApi = new PaymentApi(client);
+
+        requestOptions = RequestOptions.builder()
+                                       .withCreatedBy("admin")
+                                       .withReason("benchmark")
+                                       .withRequestId("f3ab9f5e-4b41-4be2-98a6-5c9d6d1f4a4e")
+                                       .build();
+        accountId = UUID.fromString("5b4d1f60-0f3a-4c1e-9a67-2f4f8d2c6b11");
+        subscriptionId = UUID.fromString("9a0e7c3d-8b5f-4e21-b6d4-71c2e0a9f3c8");
+        subscription = new Subscription().setProductName("Pistol")
+                                         .setBillingPeriod(BillingPeriod.MONTHLY)
+                                         .setPriceList("DEFAULT");
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public void getAccount(final Blackhole blackhole) throws Exception {
+        blackhole.consume(accountApi.getAccount(accountId, true, false, AuditLevel.NONE, requestOptions));
+    }
+
+    @Benchmark
+    public void changeSubscriptionPlan() throws Exception {
+        subscriptionApi.changeSubscriptionPlan(subscriptionId, subscription, LocalDate.of(2026, 11, 1), BillingActionPolicy.IMMEDIATE, PLUGIN_PROPERTIES, requestOptions);
+    }
+
+    @Benchmark
+    public void searchPayments(final Blackhole blackhole) throws Exception {
+        blackhole.consume(paymentApi.searchPayments("jane@example.com", 0L, 100L, true, false, null, PLUGIN_PROPERTIES, AuditLevel.MINIMAL, requestOptions));
+    }
+}
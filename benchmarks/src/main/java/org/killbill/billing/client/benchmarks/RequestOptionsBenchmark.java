@@ -0,0 +1,128 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
+import org.killbill.billing.client.util.CompactSetMultimap;
+import org.killbill.billing.client.util.Multimap;
+import org.killbill.billing.client.util.TreeMapSetMultimap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Per-call derivation of {@link RequestOptions} in the generated APIs (e.g. {@code InvoiceApi#getInvoices}).
+ * Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm}: {@link #derivePerCallOptions} is the current
+ * pipeline, {@link #derivePerCallOptionsByCopy} replays the copies of the previous (map copying) implementation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestOptionsBenchmark {
+
+    private RequestOptions inputOptions;
+
+    @Setup
+    public void setup() {
+        inputOptions = RequestOptions.builder()
+                                     .withCreatedBy("admin")
+                                     .withTenantApiKey("bob")
+                                     .withTenantApiSecret("lazar")
+                                     .withRequestId("f3ab9f5e-4b41-4be2-98a6-5c9d6d1f4a4e")
+                                     .withHeader("X-Correlation-Id", "c1")
+                                     .withHeader("X-Tenant-Region", "eu")
+                                     .build();
+    }
+
+    @Benchmark
+    public void derivePerCallOptions(final Blackhole blackhole) {
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
+        queryParams.put("offset", "0");
+        queryParams.put("limit", "100");
+        queryParams.put("audit", "NONE");
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withQueryParams(queryParams.asMap());
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        // What KillBillHttpClient reads for each request
+        consume(blackhole, requestOptions.getHeaders(), requestOptions.getQueryParams());
+    }
+
+    @Benchmark
+    public void derivePerCallOptionsByCopy(final Blackhole blackhole) {
+        // getQueryParams()
+        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(new HashMap<>(inputOptions.getQueryParams()));
+        queryParams.put("offset", "0");
+        queryParams.put("limit", "100");
+        queryParams.put("audit", "NONE");
+
+        // extend(), then withQueryParams() and withQueryParamsForFollow()
+        final Map<String, String> headers = new HashMap<>(inputOptions.getHeaders());
+        toMutableMapValues(inputOptions.getQueryParams());
+        toMutableMapValues(inputOptions.getQueryParamsForFollow());
+        final Map<String, ? extends Collection<String>> newQueryParams = toMutableMapValues(queryParams.asMap());
+        headers.put(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+
+        // build()
+        final Map<String, String> builtHeaders = new HashMap<>(headers);
+        final Map<String, Collection<String>> builtQueryParams = new HashMap<>(newQueryParams);
+        blackhole.consume(new HashMap<>(inputOptions.getQueryParamsForFollow()));
+
+        // getHeaders() and getQueryParams()
+        consume(blackhole, Map.copyOf(builtHeaders), new HashMap<>(builtQueryParams));
+    }
+
+    private static void consume(final Blackhole blackhole, final Map<String, String> headers, final Map<String, Collection<String>> queryParams) {
+        for (final Entry<String, String> header : headers.entrySet()) {
+            blackhole.consume(header.getValue());
+        }
+        for (final Entry<String, Collection<String>> queryParam : queryParams.entrySet()) {
+            blackhole.consume(queryParam.getValue());
+        }
+    }
+
+    private static Map<String, ? extends Collection<String>> toMutableMapValues(final Map<String, ? extends Collection<String>> map) {
+        final Map<String, Collection<String>> result = new HashMap<>();
+        for (final Entry<String, ? extends Collection<String>> entry : map.entrySet()) {
+            result.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        }
+        return result;
+    }
+}
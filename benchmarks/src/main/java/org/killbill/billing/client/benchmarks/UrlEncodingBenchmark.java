@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client.benchmarks;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.killbill.billing.client.Converter;
+import org.killbill.billing.client.UTF8UrlEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Encoding of query parameters: plugin properties of a batch call, and already safe values (UUIDs).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UrlEncodingBenchmark {
+
+    private final Map<String, String> pluginProperties = new LinkedHashMap<>();
+    private final byte[] buffer = new byte[256];
+
+    private String uuid;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < 50; i++) {
+            pluginProperties.put("property_" + i, i % 2 == 0 ? UUID.randomUUID().toString() : "value with spaces & symbols " + i);
+        }
+        uuid = UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public void convertPluginPropertyMap(final Blackhole blackhole) {
+        blackhole.consume(Converter.convertPluginPropertyMap(pluginProperties));
+    }
+
+    @Benchmark
+    public void encodeSafeValue(final Blackhole blackhole) {
+        blackhole.consume(UTF8UrlEncoder.encode(uuid));
+    }
+
+    @Benchmark
+    public void encodeToBytes(final Blackhole blackhole) {
+        int position = 0;
+        for (final Map.Entry<String, String> entry : pluginProperties.entrySet()) {
+            position = UTF8UrlEncoder.encode(entry.getValue(), false, buffer, 0);
+        }
+        blackhole.consume(position);
+    }
+}
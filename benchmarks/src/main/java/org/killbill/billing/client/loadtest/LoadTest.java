@@ -0,0 +1,416 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client.loadtest;
+
+import java.lang.management.ManagementFactory;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.killbill.billing.catalog.api.BillingActionPolicy;
+import org.killbill.billing.catalog.api.BillingPeriod;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.api.gen.AccountApi;
+import org.killbill.billing.client.api.gen.AccountApiAsync;
+import org.killbill.billing.client.api.gen.InvoiceApi;
+import org.killbill.billing.client.api.gen.InvoiceApiAsync;
+import org.killbill.billing.client.api.gen.PaymentApi;
+import org.killbill.billing.client.api.gen.PaymentApiAsync;
+import org.killbill.billing.client.api.gen.SubscriptionApi;
+import org.killbill.billing.client.api.gen.SubscriptionApiAsync;
+import org.killbill.billing.client.model.gen.Subscription;
+import org.killbill.billing.util.api.AuditLevel;
+
+/**
+ * Load test of {@link KillBillHttpClient} against a {@link StubKillBillServer}, in a single JVM and without network
+ * access. Once the benchmarks are packaged:
+ * <pre>
+ *   java -cp benchmarks/target/benchmarks.jar org.killbill.billing.client.loadtest.LoadTest --concurrency=1,16,64
+ *   java -cp benchmarks/target/benchmarks.jar org.killbill.billing.client.loadtest.LoadTest --rate=500,2000 --latency=20
+ * </pre>
+ * Options (all optional):
+ * <ul>
+ * <li>{@code --scenario}: {@code getAccount}, {@code getInvoice}, {@code searchPayments}, {@code changeSubscriptionPlan}
+ * or {@code mix} (round robin over all of them, the default)</li>
+ * <li>{@code --concurrency}: closed loop, each level runs as many threads calling the blocking APIs back to back
+ * (default: 1,8,64)</li>
+ * <li>{@code --rate}: open loop instead, each level sends as many requests per second through the asynchronous
+ * APIs, whether or not the previous ones have completed</li>
+ * <li>{@code --duration} and {@code --warmup}: seconds measured, and run beforehand, at each level
+ * (default: 20 and 5)</li>
+ * <li>{@code --latency}: milliseconds spent by the stub on each request (default: 5)</li>
+ * <li>{@code --items}: number of invoice items and of payments in the responses (default: 20)</li>
+ * </ul>
+ * Each level reports the throughput, the latency percentiles and the allocation rate of the client. In the open
+ * loop, latencies are measured from the time each request was due, so that a client falling behind shows up in them.
+ * Allocations are counted on all threads but the stub's, and miss threads which ended during the measurement.
+ */
+public final class LoadTest {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final Map<String, String> options;
+    private final Scenario scenario;
+    private final Workload workload;
+
+    private LoadTest(final Map<String, String> options, final KillBillHttpClient client) {
+        this.options = options;
+        this.scenario = Scenario.fromName(options.getOrDefault("scenario", "mix"));
+        this.workload = new Workload(client);
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Map<String, String> options = parseOptions(args);
+        final Duration latency = Duration.ofMillis(Long.parseLong(options.getOrDefault("latency", "5")));
+        final int payloadItems = Integer.parseInt(options.getOrDefault("items", "20"));
+
+        try (final StubKillBillServer server = StubKillBillServer.start(latency, payloadItems);
+             final KillBillHttpClient client = KillBillHttpClient.builder()
+                                                                 .withKbServerUrl(server.getUrl())
+                                                                 .withUsername("admin")
+                                                                 .withPassword("password")
+                                                                 .withApiKey("bob")
+                                                                 .withApiSecret("lazar")
+                                                                 .withHttpVersion(HttpClient.Version.HTTP_1_1)
+                                                                 .build()) {
+            new LoadTest(options, client).run(latency, payloadItems);
+        }
+    }
+
+    private void run(final Duration latency, final int payloadItems) throws InterruptedException {
+        final long warmupSeconds = Long.parseLong(options.getOrDefault("warmup", "5"));
+        final long durationSeconds = Long.parseLong(options.getOrDefault("duration", "20"));
+        final boolean openLoop = options.containsKey("rate");
+        final int[] levels = parseLevels(openLoop ? options.get("rate") : options.getOrDefault("concurrency", "1,8,64"));
+
+        System.out.printf(Locale.ROOT, "scenario=%s latency=%dms items=%d warmup=%ds duration=%ds%n",
+                          scenario.name, latency.toMillis(), payloadItems, warmupSeconds, durationSeconds);
+        System.out.printf(Locale.ROOT, "%12s %10s %8s %10s %9s %9s %9s %9s %11s %9s%n",
+                          openLoop ? "rate" : "concurrency", "requests", "errors", "req/s",
+                          "p50 ms", "p99 ms", "p99.9 ms", "max ms", "alloc MB/s", "KB/req");
+        for (final int level : levels) {
+            if (openLoop) {
+                runOpenLoop(level, warmupSeconds);
+                print(level, runOpenLoop(level, durationSeconds));
+            } else {
+                runClosedLoop(level, warmupSeconds);
+                print(level, runClosedLoop(level, durationSeconds));
+            }
+        }
+    }
+
+    private Result runClosedLoop(final int concurrency, final long seconds) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        final LongAdder errors = new LongAdder();
+        final LongAdder workerAllocatedBytes = new LongAdder();
+        final long[][] latencies = new long[concurrency][];
+
+        final AllocationSnapshot allocations = AllocationSnapshot.take();
+        final long start = System.nanoTime();
+        final List<Thread> workers = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            final int worker = i;
+            final Thread thread = new Thread(() -> {
+                final long allocatedBefore = AllocationSnapshot.allocatedBytes(Thread.currentThread());
+                final Samples samples = new Samples();
+                long n = worker;
+                while (System.nanoTime() < deadline) {
+                    final long requestStart = System.nanoTime();
+                    try {
+                        workload.call(scenario.pick(n++));
+                        samples.add(System.nanoTime() - requestStart);
+                    } catch (final Exception e) {
+                        errors.increment();
+                    }
+                }
+                latencies[worker] = samples.toArray();
+                workerAllocatedBytes.add(AllocationSnapshot.allocatedBytes(Thread.currentThread()) - allocatedBefore);
+            }, "loadtest-worker-" + i);
+            workers.add(thread);
+            thread.start();
+        }
+        for (final Thread worker : workers) {
+            worker.join();
+        }
+        final long elapsed = System.nanoTime() - start;
+        final long allocatedBytes = allocations.allocatedSince() + workerAllocatedBytes.sum();
+
+        long[] all = new long[0];
+        for (final long[] workerLatencies : latencies) {
+            all = concat(all, workerLatencies);
+        }
+        return new Result(all, errors.sum(), elapsed, allocatedBytes);
+    }
+
+    private Result runOpenLoop(final int rate, final long seconds) throws InterruptedException {
+        final int nbRequests = Math.toIntExact(rate * seconds);
+        final long periodNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        final long[] latencies = new long[nbRequests];
+        Arrays.fill(latencies, -1);
+        final AtomicLong completed = new AtomicLong();
+
+        final AllocationSnapshot allocations = AllocationSnapshot.take();
+        final long start = System.nanoTime();
+        for (int i = 0; i < nbRequests; i++) {
+            final int request = i;
+            final long due = start + i * periodNanos;
+            long now;
+            while ((now = System.nanoTime()) < due) {
+                LockSupport.parkNanos(due - now);
+            }
+            CompletableFuture<?> future;
+            try {
+                future = workload.callAsync(scenario.pick(i));
+            } catch (final RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            future.whenComplete((value, throwable) -> {
+                if (throwable == null) {
+                    latencies[request] = System.nanoTime() - due;
+                }
+                completed.incrementAndGet();
+            });
+        }
+
+        final long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (completed.get() < nbRequests && System.nanoTime() < drainDeadline) {
+            Thread.sleep(1);
+        }
+        final long elapsed = System.nanoTime() - start;
+        final long allocatedBytes = allocations.allocatedSince();
+
+        // Requests which failed or are still pending count as errors
+        final long[] succeeded = Arrays.stream(latencies).filter(latency -> latency >= 0).toArray();
+        return new Result(succeeded, nbRequests - succeeded.length, elapsed, allocatedBytes);
+    }
+
+    private static void print(final int level, final Result result) {
+        final long requests = result.latencies.length + result.errors;
+        final double seconds = result.elapsedNanos / 1e9;
+        System.out.printf(Locale.ROOT, "%12d %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %11.1f %9.1f%n",
+                          level, requests, result.errors, result.latencies.length / seconds,
+                          result.percentileMillis(0.50), result.percentileMillis(0.99), result.percentileMillis(0.999), result.percentileMillis(1),
+                          result.allocatedBytes / seconds / (1024 * 1024), requests == 0 ? 0 : result.allocatedBytes / 1024.0 / requests);
+    }
+
+    private static Map<String, String> parseOptions(final String[] args) {
+        final Map<String, String> options = new HashMap<>();
+        for (final String arg : args) {
+            final int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --option=value, got: " + arg);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    private static int[] parseLevels(final String levels) {
+        return Arrays.stream(levels.split(",")).mapToInt(level -> Integer.parseInt(level.trim())).toArray();
+    }
+
+    private static long[] concat(final long[] first, final long[] second) {
+        final long[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    private enum Scenario {
+        GET_ACCOUNT("getAccount"),
+        GET_INVOICE("getInvoice"),
+        SEARCH_PAYMENTS("searchPayments"),
+        CHANGE_SUBSCRIPTION_PLAN("changeSubscriptionPlan"),
+        MIX("mix");
+
+        private static final Scenario[] CALLS = {GET_ACCOUNT, GET_INVOICE, SEARCH_PAYMENTS, CHANGE_SUBSCRIPTION_PLAN};
+
+        private final String name;
+
+        Scenario(final String name) {
+            this.name = name;
+        }
+
+        // Call to make as the n-th request of the scenario
+        Scenario pick(final long n) {
+            return this == MIX ? CALLS[(int) (n % CALLS.length)] : this;
+        }
+
+        static Scenario fromName(final String name) {
+            for (final Scenario scenario : values()) {
+                if (scenario.name.equals(name)) {
+                    return scenario;
+                }
+            }
+            throw new IllegalArgumentException("Unknown scenario: " + name);
+        }
+    }
+
+    private static final class Workload {
+
+        private static final Map<String, String> PLUGIN_PROPERTIES = Map.of("paymentProcessor", "stripe");
+
+        private final AccountApi accountApi;
+        private final InvoiceApi invoiceApi;
+        private final PaymentApi paymentApi;
+        private final SubscriptionApi subscriptionApi;
+        private final AccountApiAsync accountApiAsync;
+        private final InvoiceApiAsync invoiceApiAsync;
+        private final PaymentApiAsync paymentApiAsync;
+        private final SubscriptionApiAsync subscriptionApiAsync;
+
+        private final RequestOptions requestOptions = RequestOptions.builder().withCreatedBy("loadtest").build();
+        private final UUID id = UUID.fromString("5b4d1f60-0f3a-4c1e-9a67-2f4f8d2c6b11");
+        private final Subscription subscription = new Subscription().setProductName("Pistol")
+                                                                    .setBillingPeriod(BillingPeriod.MONTHLY)
+                                                                    .setPriceList("DEFAULT");
+        private final LocalDate requestedDate = LocalDate.of(2026, 11, 1);
+
+        private Workload(final KillBillHttpClient client) {
+            this.accountApi = new AccountApi(client);
+            this.invoiceApi = new InvoiceApi(client);
+            this.paymentApi = new PaymentApi(client);
+            this.subscriptionApi = new SubscriptionApi(client);
+            this.accountApiAsync = new AccountApiAsync(client);
+            this.invoiceApiAsync = new InvoiceApiAsync(client);
+            this.paymentApiAsync = new PaymentApiAsync(client);
+            this.subscriptionApiAsync = new SubscriptionApiAsync(client);
+        }
+
+        Object call(final Scenario call) throws Exception {
+            switch (call) {
+                case GET_ACCOUNT:
+                    return accountApi.getAccount(id, requestOptions);
+                case GET_INVOICE:
+                    return invoiceApi.getInvoice(id, requestOptions);
+                case SEARCH_PAYMENTS:
+                    return paymentApi.searchPayments("jane@example.com", null, PLUGIN_PROPERTIES, requestOptions);
+                case CHANGE_SUBSCRIPTION_PLAN:
+                    subscriptionApi.changeSubscriptionPlan(id, subscription, requestedDate, BillingActionPolicy.IMMEDIATE, PLUGIN_PROPERTIES, requestOptions);
+                    return null;
+                default:
+                    throw new IllegalArgumentException("Not a call: " + call);
+            }
+        }
+
+        CompletableFuture<?> callAsync(final Scenario call) {
+            switch (call) {
+                case GET_ACCOUNT:
+                    return accountApiAsync.getAccount(id, requestOptions);
+                case GET_INVOICE:
+                    return invoiceApiAsync.getInvoice(id, requestOptions);
+                case SEARCH_PAYMENTS:
+                    return paymentApiAsync.searchPayments("jane@example.com", null, PLUGIN_PROPERTIES, requestOptions);
+                case CHANGE_SUBSCRIPTION_PLAN:
+                    return subscriptionApiAsync.changeSubscriptionPlan(id, subscription, requestedDate, BillingActionPolicy.IMMEDIATE, PLUGIN_PROPERTIES, requestOptions);
+                default:
+                    throw new IllegalArgumentException("Not a call: " + call);
+            }
+        }
+    }
+
+    // Growable array of latencies, owned by a single thread
+    private static final class Samples {
+
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(final long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private static final class Result {
+
+        private final long[] latencies;
+        private final long errors;
+        private final long elapsedNanos;
+        private final long allocatedBytes;
+
+        private Result(final long[] latencies, final long errors, final long elapsedNanos, final long allocatedBytes) {
+            this.latencies = latencies;
+            this.errors = errors;
+            this.elapsedNanos = elapsedNanos;
+            this.allocatedBytes = allocatedBytes;
+            Arrays.sort(latencies);
+        }
+
+        double percentileMillis(final double percentile) {
+            if (latencies.length == 0) {
+                return Double.NaN;
+            }
+            final int index = Math.max(0, (int) Math.ceil(percentile * latencies.length) - 1);
+            return latencies[index] / 1e6;
+        }
+    }
+
+    // Bytes allocated by the live threads, except the ones of the stub server
+    private static final class AllocationSnapshot {
+
+        private static final com.sun.management.ThreadMXBean THREADS = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        private final Map<Long, Long> allocatedBytesByThread;
+
+        private AllocationSnapshot(final Map<Long, Long> allocatedBytesByThread) {
+            this.allocatedBytesByThread = allocatedBytesByThread;
+        }
+
+        static AllocationSnapshot take() {
+            final Map<Long, Long> allocatedBytesByThread = new HashMap<>();
+            for (final Thread thread : Thread.getAllStackTraces().keySet()) {
+                if (!StubKillBillServer.isServerThread(thread)) {
+                    allocatedBytesByThread.put(thread.getId(), allocatedBytes(thread));
+                }
+            }
+            return new AllocationSnapshot(allocatedBytesByThread);
+        }
+
+        static long allocatedBytes(final Thread thread) {
+            return Math.max(0, THREADS.getThreadAllocatedBytes(thread.getId()));
+        }
+
+        // Threads started since the snapshot count from zero
+        long allocatedSince() {
+            long allocatedBytes = 0;
+            for (final Map.Entry<Long, Long> entry : take().allocatedBytesByThread.entrySet()) {
+                allocatedBytes += entry.getValue() - allocatedBytesByThread.getOrDefault(entry.getKey(), 0L);
+            }
+            return allocatedBytes;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.benchmarks.Fixtures;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Kill Bill stand-in for load tests, bound to the loopback interface. It answers the endpoints driven by
+ * {@link LoadTest} with canned JSON, serialized once at startup, after a fixed latency:
+ * <ul>
+ * <li>{@code GET /1.0/kb/accounts/{accountId}}: an account</li>
+ * <li>{@code GET /1.0/kb/invoices/{invoiceId}}: an invoice with {@code payloadItems} items</li>
+ * <li>{@code GET /1.0/kb/payments/search/{searchKey}}: {@code payloadItems} payments</li>
+ * <li>{@code PUT /1.0/kb/subscriptions/{subscriptionId}}: 204 No Content</li>
+ * </ul>
+ * Anything else is a 404. Each exchange is handled on its own pooled thread, so that the latency doesn't limit
+ * the concurrency.
+ */
+public final class StubKillBillServer implements AutoCloseable {
+
+    static final String THREAD_NAME_PREFIX = "stub-killbill-";
+
+    private static final String ACCOUNTS = "/1.0/kb/accounts/";
+    private static final String INVOICES = "/1.0/kb/invoices/";
+    private static final String PAYMENTS_SEARCH = "/1.0/kb/payments/search/";
+    private static final String SUBSCRIPTIONS = "/1.0/kb/subscriptions/";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMillis;
+    private final byte[] account;
+    private final byte[] invoice;
+    private final byte[] payments;
+
+    private StubKillBillServer(final Duration latency, final int payloadItems) throws IOException {
+        this.latencyMillis = latency.toMillis();
+
+        final Fixtures fixtures = new Fixtures();
+        final ObjectMapper mapper = KillBillHttpClient.newObjectMapper();
+        this.account = toJson(mapper, fixtures.account());
+        this.invoice = toJson(mapper, fixtures.invoice(payloadItems));
+        this.payments = toJson(mapper, fixtures.payments(payloadItems));
+
+        final AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+    }
+
+    /**
+     * @param latency      time spent by the server on each request
+     * @param payloadItems number of invoice items and of payments in the responses
+     */
+    public static StubKillBillServer start(final Duration latency, final int payloadItems) throws IOException {
+        final StubKillBillServer stubServer = new StubKillBillServer(latency, payloadItems);
+        stubServer.server.start();
+        return stubServer;
+    }
+
+    public String getUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/";
+    }
+
+    /**
+     * @return whether the thread serves the stub (to leave it out of the client measurements)
+     */
+    public static boolean isServerThread(final Thread thread) {
+        return thread.getName().startsWith(THREAD_NAME_PREFIX) || thread.getName().startsWith("HTTP-Dispatcher");
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try {
+            exchange.getRequestBody().transferTo(OutputStream.nullOutputStream());
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+
+            final String method = exchange.getRequestMethod();
+            final String path = exchange.getRequestURI().getPath();
+            if ("GET".equals(method) && path.startsWith(ACCOUNTS)) {
+                sendJson(exchange, account);
+            } else if ("GET".equals(method) && path.startsWith(INVOICES)) {
+                sendJson(exchange, invoice);
+            } else if ("GET".equals(method) && path.startsWith(PAYMENTS_SEARCH)) {
+                sendJson(exchange, payments);
+            } else if ("PUT".equals(method) && path.startsWith(SUBSCRIPTIONS)) {
+                exchange.sendResponseHeaders(204, -1);
+            } else {
+                exchange.sendResponseHeaders(404, -1);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void sendJson(final HttpExchange exchange, final byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    private static byte[] toJson(final ObjectMapper mapper, final Object value) throws JsonProcessingException {
+        return mapper.writeValueAsBytes(value);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client;
+
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs the methods of the generated (blocking) APIs without blocking, for their {@code *ApiAsync} variants: the
+ * blocking method builds the request (path, query parameters, headers, options) as usual, and
+ * {@link KillBillHttpClient} hands it over to its asynchronous path instead of sending it. Both variants thus share
+ * the request building code, and the asynchronous ones can't drift from what is generated.
+ *
+ * Failures while building the request (e.g. a missing required parameter) fail the returned future.
+ */
+public final class AsyncApiCalls {
+
+    // Set while a blocking API method runs on behalf of its asynchronous variant
+    private static final ThreadLocal<Recording> RECORDING = new ThreadLocal<>();
+
+    // Unwinds the blocking method once its request has been sent
+    private static final RuntimeException SENT = new RequestSent();
+
+    private AsyncApiCalls() {
+    }
+
+    /**
+     * @param call call of a blocking API method returning the (deserialized) response, e.g.
+     *             {@code () -> accountApi.getAccount(accountId, requestOptions)}
+     * @return the response, once received
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> CompletableFuture<T> call(final ApiCall<T> call) {
+        return (CompletableFuture<T>) send(call::call);
+    }
+
+    /**
+     * @param call call of a blocking API method without any result, e.g.
+     *             {@code () -> accountApi.closeAccount(accountId, requestOptions)}
+     * @return completed once the response is received
+     */
+    public static CompletableFuture<Void> run(final ApiRun call) {
+        return map(send(call), response -> null);
+    }
+
+    /**
+     * @param call call of a blocking API method streaming the response to an {@code OutputStream}, and returning
+     *             its status code
+     * @return the status code, once the body has been written to the stream
+     */
+    public static CompletableFuture<Integer> stream(final ApiCall<Integer> call) {
+        return map(send(call::call), response -> ((HttpResponse<?>) response).statusCode());
+    }
+
+    // Cancelling the returned future cancels the request
+    private static <T> CompletableFuture<T> map(final CompletableFuture<?> request, final Function<Object, T> mapper) {
+        final CompletableFuture<T> result = request.thenApply(mapper);
+        result.whenComplete((value, throwable) -> {
+            if (result.isCancelled()) {
+                request.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private static CompletableFuture<?> send(final ApiRun call) {
+        final Recording previous = RECORDING.get();
+        final Recording recording = new Recording();
+        RECORDING.set(recording);
+        try {
+            call.run();
+            return CompletableFuture.failedFuture(new IllegalStateException("The API call didn't send any request"));
+        } catch (final RequestSent e) {
+            return recording.future;
+        } catch (final KillBillClientException | RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * @return whether requests of the current thread should be sent asynchronously, see {@link #sent(Supplier)}
+     */
+    static boolean isRecording() {
+        final Recording recording = RECORDING.get();
+        return recording != null && recording.future == null;
+    }
+
+    /**
+     * Send the request of the running blocking API method asynchronously
+     *
+     * @param request sends the request asynchronously
+     * @return the exception to throw, to leave the blocking method
+     */
+    static RuntimeException sent(final Supplier<CompletableFuture<?>> request) {
+        final Recording recording = RECORDING.get();
+        // Callbacks run synchronously by the asynchronous path (e.g. exchange listeners) must send their own requests
+        RECORDING.remove();
+        try {
+            recording.future = request.get();
+        } finally {
+            RECORDING.set(recording);
+        }
+        return SENT;
+    }
+
+    private static void restore(final Recording previous) {
+        if (previous == null) {
+            RECORDING.remove();
+        } else {
+            RECORDING.set(previous);
+        }
+    }
+
+    @FunctionalInterface
+    public interface ApiCall<T> {
+
+        T call() throws KillBillClientException;
+    }
+
+    @FunctionalInterface
+    public interface ApiRun {
+
+        void run() throws KillBillClientException;
+    }
+
+    private static final class Recording {
+
+        private CompletableFuture<?> future;
+    }
+
+    private static final class RequestSent extends RuntimeException {
+
+        private RequestSent() {
+            super("Request sent asynchronously", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Concurrent map of the state kept per URI template (circuits, latency histograms, metric time series).
+ *
+ * Requests made outside of the generated APIs, with paths embedding non-identifier values (e.g. user names),
+ * shouldn't create an unbounded number of entries: past {@value #MAX_KEYS} keys, new keys share the
+ * {@value #OVERFLOW_KEY} entry. The bound isn't strict, concurrent insertions may overshoot it slightly.
+ */
+final class BoundedKeyMap<V> {
+
+    static final int MAX_KEYS = 1024;
+    static final String OVERFLOW_KEY = "*";
+
+    private final ConcurrentMap<String, V> entries = new ConcurrentHashMap<>();
+    private final Function<String, V> factory;
+
+    /**
+     * @param factory creates the value of a key (possibly {@value #OVERFLOW_KEY}) on first use
+     */
+    BoundedKeyMap(final Function<String, V> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * @return the value of the key, or null if there isn't any (yet)
+     */
+    V get(final String key) {
+        return entries.get(key);
+    }
+
+    /**
+     * @return the value of the key, or the one of {@value #OVERFLOW_KEY} if there are too many keys already
+     */
+    V getOrCreate(final String key) {
+        final V value = entries.get(key);
+        if (value != null) {
+            return value;
+        }
+        return entries.computeIfAbsent(entries.size() < MAX_KEYS ? key : OVERFLOW_KEY, factory);
+    }
+
+    /**
+     * @return a live, unmodifiable, view of the entries
+     */
+    Map<String, V> asMap() {
+        return Collections.unmodifiableMap(entries);
+    }
+
+    void clear() {
+        entries.clear();
+    }
+}
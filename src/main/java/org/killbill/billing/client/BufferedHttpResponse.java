@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient.Version;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Optional;
+
+import javax.net.ssl.SSLSession;
+
+/**
+ * Exposes a fully read {@code HttpResponse<byte[]>} as an {@code HttpResponse<InputStream>}, so that responses
+ * received asynchronously go through the same error handling and deserialization code as blocking ones.
+ */
+class BufferedHttpResponse implements HttpResponse<InputStream> {
+
+    private final HttpResponse<byte[]> delegate;
+    private final HttpHeaders headers;
+    private final byte[] body;
+
+    BufferedHttpResponse(final HttpResponse<byte[]> delegate) {
+        this.delegate = delegate;
+        this.headers = delegate.headers();
+        this.body = delegate.body();
+    }
+
+    /**
+     * @param delegate    response
+     * @param decodedBody decompressed body, exposed without the {@code Content-Encoding} and {@code Content-Length}
+     *                    headers of the response (see {@link ContentEncodings#decodedHeaders(HttpHeaders)})
+     */
+    BufferedHttpResponse(final HttpResponse<byte[]> delegate, final byte[] decodedBody) {
+        this.delegate = delegate;
+        this.headers = ContentEncodings.decodedHeaders(delegate.headers());
+        this.body = decodedBody;
+    }
+
+    @Override
+    public int statusCode() {
+        return delegate.statusCode();
+    }
+
+    @Override
+    public HttpRequest request() {
+        return delegate.request();
+    }
+
+    @Override
+    public Optional<HttpResponse<InputStream>> previousResponse() {
+        return Optional.empty();
+    }
+
+    @Override
+    public HttpHeaders headers() {
+        return headers;
+    }
+
+    @Override
+    public InputStream body() {
+        return new ByteArrayInputStream(body == null ? new byte[0] : body);
+    }
+
+    @Override
+    public Optional<SSLSession> sslSession() {
+        return delegate.sslSession();
+    }
+
+    @Override
+    public URI uri() {
+        return delegate.uri();
+    }
+
+    @Override
+    public Version version() {
+        return delegate.version();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of fixed-size byte arrays, used to serialize request bodies without allocating in proportion to their size.
+ */
+final class ByteChunkPool {
+
+    static final int DEFAULT_CHUNK_SIZE = 16 * 1024;
+    static final int DEFAULT_MAX_POOLED_CHUNKS = 256;
+
+    private final int chunkSize;
+    private final int maxPooledChunks;
+    private final ConcurrentLinkedQueue<byte[]> chunks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooledChunks = new AtomicInteger();
+
+    ByteChunkPool() {
+        this(DEFAULT_CHUNK_SIZE, DEFAULT_MAX_POOLED_CHUNKS);
+    }
+
+    ByteChunkPool(final int chunkSize, final int maxPooledChunks) {
+        this.chunkSize = chunkSize;
+        this.maxPooledChunks = maxPooledChunks;
+    }
+
+    int getChunkSize() {
+        return chunkSize;
+    }
+
+    int getPooledChunks() {
+        return pooledChunks.get();
+    }
+
+    byte[] acquire() {
+        final byte[] chunk = chunks.poll();
+        if (chunk == null) {
+            return new byte[chunkSize];
+        }
+        pooledChunks.decrementAndGet();
+        return chunk;
+    }
+
+    void release(final byte[] chunk) {
+        if (chunk.length != chunkSize) {
+            return;
+        }
+        if (pooledChunks.incrementAndGet() <= maxPooledChunks) {
+            chunks.offer(chunk);
+        } else {
+            pooledChunks.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.killbill.billing.client.util.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Circuit breaker, keyed by URI template (e.g. {@code /1.0/kb/payments/{paymentId}}), so that a slow or failing
+ * resource (e.g. a payment plugin) doesn't use up the capacity needed for the other ones.
+ *
+ * Each key tracks the outcome of its last {@code slidingWindowSize} calls. Once {@code minimumNumberOfCalls}
+ * have been recorded and the failure rate (5xx responses, connection errors and timeouts) or the slow call rate
+ * reaches its threshold, the circuit opens and calls fail fast with a {@link CircuitBreakerOpenException}.
+ * After {@code waitDurationInOpenState}, {@code permittedCallsInHalfOpenState} trial calls are let through:
+ * the circuit closes again if they stay under the thresholds, and re-opens otherwise.
+ */
+public class CircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    private static final byte FAILURE = 1;
+    private static final byte SLOW = 2;
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final float failureRateThreshold;
+    private final float slowCallRateThreshold;
+    private final long slowCallDurationNanos;
+    private final int slidingWindowSize;
+    private final int minimumNumberOfCalls;
+    private final long waitDurationInOpenStateNanos;
+    private final int permittedCallsInHalfOpenState;
+
+    private final BoundedKeyMap<Circuit> circuits = new BoundedKeyMap<>(Circuit::new);
+
+    private CircuitBreaker(final CircuitBreakerBuilder builder) {
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.slowCallRateThreshold = builder.slowCallRateThreshold;
+        this.slowCallDurationNanos = builder.slowCallDuration.toNanos();
+        this.slidingWindowSize = builder.slidingWindowSize;
+        this.minimumNumberOfCalls = Math.min(builder.minimumNumberOfCalls, builder.slidingWindowSize);
+        this.waitDurationInOpenStateNanos = builder.waitDurationInOpenState.toNanos();
+        this.permittedCallsInHalfOpenState = builder.permittedCallsInHalfOpenState;
+    }
+
+    public static CircuitBreakerBuilder builder() {
+        return new CircuitBreakerBuilder();
+    }
+
+    /**
+     * @param uriTemplate URI template (e.g. {@code /1.0/kb/payments/{paymentId}})
+     * @return the current state of the circuit
+     */
+    public State getState(final String uriTemplate) {
+        final Circuit circuit = circuits.get(uriTemplate);
+        return circuit == null ? State.CLOSED : circuit.getState();
+    }
+
+    /**
+     * @return the state of all circuits seen so far, by URI template
+     */
+    public Map<String, State> getStates() {
+        final Map<String, State> states = new TreeMap<>();
+        for (final Map.Entry<String, Circuit> entry : circuits.asMap().entrySet()) {
+            states.put(entry.getKey(), entry.getValue().getState());
+        }
+        return Collections.unmodifiableMap(states);
+    }
+
+    /**
+     * Close all circuits and forget their history.
+     */
+    public void reset() {
+        circuits.clear();
+    }
+
+    /**
+     * @param uriTemplate URI template of the call
+     * @return a permit to complete once the call is done, or null if the call isn't permitted
+     */
+    Permit tryAcquire(final String uriTemplate) {
+        return circuits.getOrCreate(uriTemplate).tryAcquire();
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreaker{" +
+               "failureRateThreshold=" + failureRateThreshold +
+               ", slowCallRateThreshold=" + slowCallRateThreshold +
+               ", slowCallDurationNanos=" + slowCallDurationNanos +
+               ", slidingWindowSize=" + slidingWindowSize +
+               ", minimumNumberOfCalls=" + minimumNumberOfCalls +
+               ", waitDurationInOpenStateNanos=" + waitDurationInOpenStateNanos +
+               ", permittedCallsInHalfOpenState=" + permittedCallsInHalfOpenState +
+               '}';
+    }
+
+    final class Permit {
+
+        private final Circuit circuit;
+        private final long generation;
+        private final long startNanos;
+
+        private Permit(final Circuit circuit, final long generation) {
+            this.circuit = circuit;
+            this.generation = generation;
+            this.startNanos = System.nanoTime();
+        }
+
+        /**
+         * @param statusCode response status code, -1 if there was no response
+         * @param failure    failure, if any
+         */
+        void complete(final int statusCode, final Throwable failure) {
+            byte outcome = 0;
+            if (failure != null || statusCode >= 500) {
+                outcome |= FAILURE;
+            }
+            if (System.nanoTime() - startNanos >= slowCallDurationNanos) {
+                outcome |= SLOW;
+            }
+            circuit.record(generation, outcome);
+        }
+
+        /**
+         * Give the permit back without recording any outcome, for a call which was cancelled (e.g. the losing
+         * request of a hedged pair): in the half-open state, another trial call is let through instead.
+         */
+        void cancel() {
+            circuit.cancel(generation);
+        }
+    }
+
+    private final class Circuit {
+
+        private final String key;
+        private final byte[] outcomes = new byte[slidingWindowSize];
+
+        private State state = State.CLOSED;
+        // Incremented on each transition, so that calls started in a previous state are ignored
+        private long generation;
+        private long openedAtNanos;
+        private int position;
+        private int calls;
+        private int failures;
+        private int slowCalls;
+        private int halfOpenPermits;
+
+        private Circuit(final String key) {
+            this.key = key;
+        }
+
+        synchronized State getState() {
+            return state;
+        }
+
+        synchronized Permit tryAcquire() {
+            if (state == State.OPEN) {
+                if (System.nanoTime() - openedAtNanos < waitDurationInOpenStateNanos) {
+                    return null;
+                }
+                transitionTo(State.HALF_OPEN);
+            }
+            if (state == State.HALF_OPEN) {
+                if (halfOpenPermits >= permittedCallsInHalfOpenState) {
+                    return null;
+                }
+                halfOpenPermits++;
+            }
+            return new Permit(this, generation);
+        }
+
+        synchronized void record(final long callGeneration, final byte outcome) {
+            if (callGeneration != generation || state == State.OPEN) {
+                return;
+            }
+
+            if (calls == outcomes.length) {
+                final byte evicted = outcomes[position];
+                failures -= evicted & FAILURE;
+                slowCalls -= (evicted & SLOW) >> 1;
+            } else {
+                calls++;
+            }
+            outcomes[position] = outcome;
+            position = (position + 1) % outcomes.length;
+            failures += outcome & FAILURE;
+            slowCalls += (outcome & SLOW) >> 1;
+
+            final int requiredCalls = state == State.HALF_OPEN ? Math.min(permittedCallsInHalfOpenState, outcomes.length) : minimumNumberOfCalls;
+            if (calls < requiredCalls) {
+                return;
+            }
+
+            final boolean aboveThresholds = failures * 100f / calls >= failureRateThreshold ||
+                                            slowCalls * 100f / calls >= slowCallRateThreshold;
+            if (aboveThresholds) {
+                log.warn("Opening circuit for {}: {}/{} failed and {}/{} slow calls", key, failures, calls, slowCalls, calls);
+                transitionTo(State.OPEN);
+            } else if (state == State.HALF_OPEN) {
+                log.info("Closing circuit for {}", key);
+                transitionTo(State.CLOSED);
+            }
+        }
+
+        synchronized void cancel(final long callGeneration) {
+            if (callGeneration == generation && state == State.HALF_OPEN) {
+                halfOpenPermits--;
+            }
+        }
+
+        private void transitionTo(final State newState) {
+            state = newState;
+            generation++;
+            position = 0;
+            calls = 0;
+            failures = 0;
+            slowCalls = 0;
+            halfOpenPermits = 0;
+            if (newState == State.OPEN) {
+                openedAtNanos = System.nanoTime();
+            }
+        }
+    }
+
+    public static class CircuitBreakerBuilder {
+
+        private float failureRateThreshold = 50;
+
+        private float slowCallRateThreshold = 100;
+
+        private Duration slowCallDuration = Duration.ofSeconds(5);
+
+        private int slidingWindowSize = 20;
+
+        private int minimumNumberOfCalls = 10;
+
+        private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+
+        private int permittedCallsInHalfOpenState = 3;
+
+        /**
+         * @param failureRateThreshold percentage of failed calls (0-100] above which the circuit opens
+         */
+        public CircuitBreakerBuilder withFailureRateThreshold(final float failureRateThreshold) {
+            this.failureRateThreshold = checkPercentage(failureRateThreshold, "failureRateThreshold");
+            return this;
+        }
+
+        /**
+         * @param slowCallRateThreshold percentage of slow calls (0-100] above which the circuit opens
+         */
+        public CircuitBreakerBuilder withSlowCallRateThreshold(final float slowCallRateThreshold) {
+            this.slowCallRateThreshold = checkPercentage(slowCallRateThreshold, "slowCallRateThreshold");
+            return this;
+        }
+
+        /**
+         * @param slowCallDuration duration from which a call is considered slow
+         */
+        public CircuitBreakerBuilder withSlowCallDuration(final Duration slowCallDuration) {
+            this.slowCallDuration = Preconditions.checkNotNull(slowCallDuration, "slowCallDuration cannot be null");
+            return this;
+        }
+
+        /**
+         * @param slidingWindowSize number of most recent calls used to compute the rates
+         */
+        public CircuitBreakerBuilder withSlidingWindowSize(final int slidingWindowSize) {
+            this.slidingWindowSize = checkPositive(slidingWindowSize, "slidingWindowSize");
+            return this;
+        }
+
+        /**
+         * @param minimumNumberOfCalls number of calls to record before the rates are evaluated
+         */
+        public CircuitBreakerBuilder withMinimumNumberOfCalls(final int minimumNumberOfCalls) {
+            this.minimumNumberOfCalls = checkPositive(minimumNumberOfCalls, "minimumNumberOfCalls");
+            return this;
+        }
+
+        /**
+         * @param waitDurationInOpenState how long calls fail fast before trial calls are let through
+         */
+        public CircuitBreakerBuilder withWaitDurationInOpenState(final Duration waitDurationInOpenState) {
+            this.waitDurationInOpenState = Preconditions.checkNotNull(waitDurationInOpenState, "waitDurationInOpenState cannot be null");
+            return this;
+        }
+
+        /**
+         * @param permittedCallsInHalfOpenState number of trial calls deciding whether the circuit closes again
+         */
+        public CircuitBreakerBuilder withPermittedCallsInHalfOpenState(final int permittedCallsInHalfOpenState) {
+            this.permittedCallsInHalfOpenState = checkPositive(permittedCallsInHalfOpenState, "permittedCallsInHalfOpenState");
+            return this;
+        }
+
+        public CircuitBreaker build() {
+            return new CircuitBreaker(this);
+        }
+
+        private static float checkPercentage(final float value, final String name) {
+            if (value <= 0 || value > 100) {
+                throw new IllegalArgumentException(name + " must be in (0, 100]");
+            }
+            return value;
+        }
+
+        private static int checkPositive(final int value, final String name) {
+            if (value < 1) {
+                throw new IllegalArgumentException(name + " must be at least 1");
+            }
+            return value;
+        }
+    }
+}
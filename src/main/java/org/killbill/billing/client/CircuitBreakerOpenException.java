@@ -0,0 +1,36 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+/**
+ * Thrown (as the cause of a {@link KillBillClientException}) when a call is rejected by an open {@link CircuitBreaker}.
+ */
+@SuppressWarnings("serial")
+public class CircuitBreakerOpenException extends Exception {
+
+    private final String uriTemplate;
+
+    public CircuitBreakerOpenException(final String uriTemplate) {
+        super("Circuit breaker is open for " + uriTemplate);
+        this.uriTemplate = uriTemplate;
+    }
+
+    public String getUriTemplate() {
+        return uriTemplate;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.net.http.HttpHeaders;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Helpers for compressed (gzip, deflate) request and response bodies.
+ */
+final class ContentEncodings {
+
+    static final String ACCEPTED_ENCODINGS = "gzip, deflate";
+    static final String GZIP = "gzip";
+
+    private static final String DEFLATE = "deflate";
+    private static final String CONTENT_LENGTH = "Content-Length";
+
+    private ContentEncodings() {}
+
+    /**
+     * @return the (lower-cased) content encoding of the response, if it's one we can decode
+     */
+    static Optional<String> getContentEncoding(final HttpHeaders headers) {
+        return headers.firstValue(KillBillHttpClient.HTTP_HEADER_CONTENT_ENCODING)
+                      .map(encoding -> encoding.trim().toLowerCase(Locale.ROOT))
+                      .filter(encoding -> GZIP.equals(encoding) || DEFLATE.equals(encoding));
+    }
+
+    /**
+     * @return the headers describing a decoded body: without the {@code Content-Encoding} and the
+     * {@code Content-Length} (the one of the encoded body)
+     */
+    static HttpHeaders decodedHeaders(final HttpHeaders headers) {
+        return HttpHeaders.of(headers.map(), (name, value) -> !KillBillHttpClient.HTTP_HEADER_CONTENT_ENCODING.equalsIgnoreCase(name) &&
+                                                              !CONTENT_LENGTH.equalsIgnoreCase(name));
+    }
+
+    static InputStream decode(final InputStream in, final String encoding) throws IOException {
+        // Responses without body (e.g. 204) may still carry a Content-Encoding header
+        final PushbackInputStream pushbackInputStream = new PushbackInputStream(in, 1);
+        final int first = pushbackInputStream.read();
+        if (first == -1) {
+            return pushbackInputStream;
+        }
+        pushbackInputStream.unread(first);
+        return GZIP.equals(encoding) ? new GZIPInputStream(pushbackInputStream) : new InflaterInputStream(pushbackInputStream);
+    }
+
+    static byte[] decode(final byte[] body, final String encoding) throws IOException {
+        if (body == null || body.length == 0) {
+            return body;
+        }
+        try (final InputStream in = decode(new ByteArrayInputStream(body), encoding)) {
+            return in.readAllBytes();
+        }
+    }
+}
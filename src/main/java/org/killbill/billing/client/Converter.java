@@ -45,11 +45,11 @@ public class Converter {
         if (pluginProperties == null || pluginProperties.isEmpty()) {
             return Collections.emptyList();
         }
-        final List<String> result = new ArrayList<>();
+        final List<String> result = new ArrayList<>(pluginProperties.size());
         for (final Entry<String, String> entry : pluginProperties.entrySet()) {
             final String encodedKey = UTF8UrlEncoder.encode(entry.getKey());
             final String encodedValue = UTF8UrlEncoder.encode(entry.getValue());
-            result.add(String.format("%s=%s", encodedKey, encodedValue));
+            result.add(encodedKey + '=' + encodedValue);
         }
         return result;
     }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of the deserialization of a response body.
+ */
+@Name(DeserializationJfrEvent.NAME)
+@Label("Kill Bill Deserialization")
+@Category({"Kill Bill", "Client"})
+@Description("Deserialization of a response body by the Kill Bill client")
+@StackTrace(false)
+final class DeserializationJfrEvent extends Event {
+
+    static final String NAME = "org.killbill.client.Deserialization";
+
+    // Enabled state of the event type, without allocating an event per response
+    private static final DeserializationJfrEvent PROBE = new DeserializationJfrEvent();
+
+    @Label("Target Class")
+    Class<?> targetClass;
+
+    @Label("Bytes")
+    @Description("Size of the (decompressed) body, -1 if unknown")
+    @DataAmount
+    long bytes;
+
+    /**
+     * @return a started event, or null if the event is disabled
+     */
+    static DeserializationJfrEvent start() {
+        if (!PROBE.isEnabled()) {
+            return null;
+        }
+        final DeserializationJfrEvent event = new DeserializationJfrEvent();
+        event.begin();
+        return event;
+    }
+
+    void commit(final Class<?> targetClass, final long bytes) {
+        end();
+        if (shouldCommit()) {
+            this.targetClass = targetClass;
+            this.bytes = bytes;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.io.IOException;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.killbill.billing.client.api.gen.NodesInfoApi;
+import org.killbill.billing.client.model.NodeInfos;
+import org.killbill.billing.client.model.gen.NodeInfo;
+import org.killbill.billing.client.util.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Client-side load balancing across several Kill Bill nodes.
+ *
+ * Relative request paths are resolved against a node picked by the configured {@link Strategy}. Nodes returning
+ * connection errors or a 503 are ejected for an increasing period of time, and then re-admitted. The node list
+ * can be refreshed from {@link NodesInfoApi#getNodesInfo(RequestOptions)} (see {@link #refresh(KillBillHttpClient, Function, RequestOptions)}).
+ */
+public class EndpointPool {
+
+    public static final String DEFAULT_HEALTHCHECK_PATH = "/1.0/healthcheck";
+
+    private static final Logger log = LoggerFactory.getLogger(EndpointPool.class);
+
+    public enum Strategy {
+        /**
+         * Node with the fewest in-flight requests (ties broken randomly)
+         */
+        LEAST_OUTSTANDING_REQUESTS,
+        /**
+         * Least loaded of two nodes picked at random
+         */
+        POWER_OF_TWO_CHOICES
+    }
+
+    private final Strategy strategy;
+    private final long baseEjectionNanos;
+    private final long maxEjectionNanos;
+    private final String healthCheckPath;
+
+    private volatile List<Endpoint> endpoints;
+
+    public EndpointPool(final Collection<String> baseUrls) {
+        this(baseUrls, Strategy.POWER_OF_TWO_CHOICES, Duration.ofSeconds(30), Duration.ofMinutes(5), DEFAULT_HEALTHCHECK_PATH);
+    }
+
+    /**
+     * @param baseUrls         Kill Bill urls (e.g. http://kb1:8080)
+     * @param strategy         node selection strategy
+     * @param baseEjectionTime how long a failing node is ejected the first time (doubled on each consecutive ejection)
+     * @param maxEjectionTime  upper bound of the ejection time
+     * @param healthCheckPath  path probed on each node by {@link #refresh(KillBillHttpClient, Function, RequestOptions)}, null to disable
+     */
+    public EndpointPool(final Collection<String> baseUrls,
+                        final Strategy strategy,
+                        final Duration baseEjectionTime,
+                        final Duration maxEjectionTime,
+                        final String healthCheckPath) {
+        this.strategy = Preconditions.checkNotNull(strategy, "strategy cannot be null");
+        this.baseEjectionNanos = baseEjectionTime.toNanos();
+        this.maxEjectionNanos = Math.max(maxEjectionTime.toNanos(), baseEjectionNanos);
+        this.healthCheckPath = healthCheckPath;
+        this.endpoints = Collections.emptyList();
+        setBaseUrls(baseUrls);
+    }
+
+    /**
+     * Replace the list of nodes. State (in-flight requests, ejection) of the nodes already known is kept,
+     * in-flight requests to removed nodes complete normally.
+     *
+     * @param baseUrls new list of Kill Bill urls, cannot be empty
+     */
+    public synchronized void setBaseUrls(final Collection<String> baseUrls) {
+        Preconditions.checkNotNull(baseUrls, "baseUrls cannot be null");
+        final Map<String, Endpoint> existing = new HashMap<>();
+        for (final Endpoint endpoint : endpoints) {
+            existing.put(endpoint.getBaseUrl(), endpoint);
+        }
+
+        final List<Endpoint> updated = new ArrayList<>(baseUrls.size());
+        for (final String baseUrl : new LinkedHashSet<>(baseUrls)) {
+            final String normalized = normalize(baseUrl);
+            updated.add(existing.containsKey(normalized) ? existing.get(normalized) : new Endpoint(normalized));
+        }
+        if (updated.isEmpty()) {
+            throw new IllegalArgumentException("EndpointPool requires at least one base url");
+        }
+        this.endpoints = Collections.unmodifiableList(updated);
+    }
+
+    public List<Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    /**
+     * Refresh the list of nodes from the nodes info API: nodes which are not registered anymore are drained,
+     * and nodes failing their health check (e.g. taken out via {@code AdminApi#putOutOfRotation}) are ejected.
+     *
+     * This is meant to be called periodically, e.g. from a {@code ScheduledExecutorService}.
+     *
+     * @param httpClient     client configured with this pool
+     * @param nodeUrlMapper  maps a node to its base url (e.g. {@code node -> "http://" + node.getNodeName() + ":8080"}), null to skip a node
+     * @param requestOptions options (credentials) for the nodes info and health check calls
+     * @return the refreshed list of nodes
+     */
+    public List<Endpoint> refresh(final KillBillHttpClient httpClient, final Function<NodeInfo, String> nodeUrlMapper, final RequestOptions requestOptions) throws KillBillClientException {
+        final NodeInfos nodeInfos = new NodesInfoApi(httpClient).getNodesInfo(requestOptions);
+        final List<String> baseUrls = new ArrayList<>(nodeInfos.size());
+        for (final NodeInfo nodeInfo : nodeInfos) {
+            final String baseUrl = nodeUrlMapper.apply(nodeInfo);
+            if (baseUrl != null) {
+                baseUrls.add(baseUrl);
+            }
+        }
+        if (baseUrls.isEmpty()) {
+            log.warn("No node returned by the nodes info API, keeping the current list {}", endpoints);
+            return endpoints;
+        }
+        setBaseUrls(baseUrls);
+
+        if (healthCheckPath != null) {
+            for (final Endpoint endpoint : endpoints) {
+                checkHealth(httpClient, endpoint, requestOptions);
+            }
+        }
+        return endpoints;
+    }
+
+    private void checkHealth(final KillBillHttpClient httpClient, final Endpoint endpoint, final RequestOptions requestOptions) {
+        // Probed directly: the failure of one node shouldn't open the (shared) circuit of the health check path,
+        // nor be retried
+        final int statusCode;
+        try {
+            statusCode = httpClient.probe(endpoint.getBaseUrl() + healthCheckPath, requestOptions);
+        } catch (final KillBillClientException e) {
+            log.info("Node {} failed its health check, ejecting it: {}", endpoint.getBaseUrl(), e.getLocalizedMessage());
+            eject(endpoint);
+            return;
+        }
+
+        if (statusCode >= 500) {
+            log.info("Node {} failed its health check ({}), ejecting it", endpoint.getBaseUrl(), statusCode);
+            eject(endpoint);
+        } else if (statusCode < 400) {
+            endpoint.onSuccess();
+        }
+        // Otherwise, not a health issue (e.g. authentication)
+    }
+
+    /**
+     * Pick a node and mark a request as in-flight: each call must be followed by {@link #release(Endpoint, int, Throwable)}.
+     */
+    Endpoint acquire() {
+        return acquire(null);
+    }
+
+    /**
+     * Same as {@link #acquire()}, but avoids the given node if any other one is available (e.g. for hedged requests).
+     */
+    Endpoint acquire(final Endpoint excluded) {
+        final List<Endpoint> current = endpoints;
+        final long now = System.nanoTime();
+
+        final List<Endpoint> available = new ArrayList<>(current.size());
+        for (final Endpoint endpoint : current) {
+            if (endpoint != excluded && endpoint.isAvailable(now)) {
+                available.add(endpoint);
+            }
+        }
+        if (available.isEmpty() && excluded != null && excluded.isAvailable(now)) {
+            available.add(excluded);
+        }
+
+        final Endpoint selected;
+        if (available.isEmpty()) {
+            // All nodes are ejected: fail open on the node re-admitted the soonest
+            selected = Collections.min(current, (a, b) -> Long.compare(a.ejectedUntilNanos, b.ejectedUntilNanos));
+        } else if (available.size() == 1) {
+            selected = available.get(0);
+        } else if (strategy == Strategy.POWER_OF_TWO_CHOICES) {
+            final ThreadLocalRandom random = ThreadLocalRandom.current();
+            final int first = random.nextInt(available.size());
+            final int second = (first + 1 + random.nextInt(available.size() - 1)) % available.size();
+            final Endpoint a = available.get(first);
+            final Endpoint b = available.get(second);
+            selected = b.getOutstandingRequests() < a.getOutstandingRequests() ? b : a;
+        } else {
+            final int offset = ThreadLocalRandom.current().nextInt(available.size());
+            Endpoint best = null;
+            for (int i = 0; i < available.size(); i++) {
+                final Endpoint candidate = available.get((offset + i) % available.size());
+                if (best == null || candidate.getOutstandingRequests() < best.getOutstandingRequests()) {
+                    best = candidate;
+                }
+            }
+            selected = best;
+        }
+
+        selected.outstandingRequests.incrementAndGet();
+        return selected;
+    }
+
+    /**
+     * @param endpoint   node returned by {@link #acquire()}
+     * @param statusCode response status code, or -1 if the request failed
+     * @param failure    request failure, if any
+     */
+    void release(final Endpoint endpoint, final int statusCode, final Throwable failure) {
+        endpoint.outstandingRequests.decrementAndGet();
+        if (statusCode == 503 || isConnectionFailure(failure)) {
+            eject(endpoint);
+        } else if (failure == null) {
+            endpoint.onSuccess();
+        }
+    }
+
+    private void eject(final Endpoint endpoint) {
+        synchronized (endpoint) {
+            final long now = System.nanoTime();
+            if (!endpoint.isAvailable(now)) {
+                // Already ejected (e.g. concurrent failures)
+                return;
+            }
+            final int ejections = endpoint.consecutiveEjections;
+            endpoint.consecutiveEjections = ejections + 1;
+            final long ejectionNanos = Math.min(baseEjectionNanos << Math.min(ejections, 20), maxEjectionNanos);
+            endpoint.ejectedUntilNanos = now + (ejectionNanos > 0 ? ejectionNanos : maxEjectionNanos);
+        }
+        log.warn("Ejecting Kill Bill node {} for {} ms", endpoint.getBaseUrl(), (endpoint.ejectedUntilNanos - System.nanoTime()) / 1000000);
+    }
+
+    static boolean isConnectionFailure(final Throwable failure) {
+        final Throwable cause = failure instanceof KillBillClientException && failure.getCause() != null ? failure.getCause() : failure;
+        if (cause instanceof HttpConnectTimeoutException) {
+            return true;
+        }
+        // Read timeouts are a slow node, not an unreachable one
+        return cause instanceof IOException && !(cause instanceof HttpTimeoutException);
+    }
+
+    private static String normalize(final String baseUrl) {
+        Preconditions.checkNotNull(baseUrl, "baseUrl cannot be null");
+        return baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    @Override
+    public String toString() {
+        return "EndpointPool{" +
+               "strategy=" + strategy +
+               ", endpoints=" + endpoints +
+               '}';
+    }
+
+    public static final class Endpoint {
+
+        private final String baseUrl;
+        private final AtomicInteger outstandingRequests = new AtomicInteger();
+
+        private volatile long ejectedUntilNanos;
+        private volatile int consecutiveEjections;
+
+        private Endpoint(final String baseUrl) {
+            this.baseUrl = baseUrl;
+            this.ejectedUntilNanos = System.nanoTime();
+        }
+
+        public String getBaseUrl() {
+            return baseUrl;
+        }
+
+        public int getOutstandingRequests() {
+            return outstandingRequests.get();
+        }
+
+        public boolean isEjected() {
+            return !isAvailable(System.nanoTime());
+        }
+
+        private boolean isAvailable(final long now) {
+            return now - ejectedUntilNanos >= 0;
+        }
+
+        private void onSuccess() {
+            if (consecutiveEjections > 0 && isAvailable(System.nanoTime())) {
+                consecutiveEjections = 0;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return baseUrl + (isEjected() ? " (ejected)" : "") + " [" + outstandingRequests.get() + " in flight]";
+        }
+    }
+}
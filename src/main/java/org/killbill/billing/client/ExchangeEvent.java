@@ -0,0 +1,234 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * State of an exchange, as seen by {@link ExchangeListener}s. Values not known yet are -1 (or 0 for durations).
+ */
+public final class ExchangeEvent {
+
+    private static final Logger log = LoggerFactory.getLogger(ExchangeEvent.class);
+
+    private final ExchangeListener[] listeners;
+    private final String verb;
+    private final String uriTemplate;
+    private final String tenantApiKey;
+    private final long bytesOut;
+    private final ExchangeJfrEvent jfrEvent;
+
+    private final long startNanos;
+    private long sentNanos;
+    private int status = -1;
+    private long bytesIn = -1;
+    private long queueTimeNanos;
+    private long networkTimeNanos;
+    private long deserializationTimeNanos;
+    private boolean done;
+
+    ExchangeEvent(final ExchangeListener[] listeners, final String verb, final String uriTemplate, final String tenantApiKey, final long bytesOut, final ExchangeJfrEvent jfrEvent) {
+        this.listeners = listeners;
+        this.verb = verb;
+        this.uriTemplate = uriTemplate;
+        this.tenantApiKey = tenantApiKey;
+        this.bytesOut = bytesOut;
+        this.jfrEvent = jfrEvent;
+        this.startNanos = System.nanoTime();
+        this.sentNanos = startNanos;
+    }
+
+    public String getVerb() {
+        return verb;
+    }
+
+    /**
+     * @return URI template of the request (e.g. {@code /1.0/kb/accounts/{accountId}}), see
+     * {@link RequestOptions#getUriTemplate()}
+     */
+    public String getUriTemplate() {
+        return uriTemplate;
+    }
+
+    public String getTenantApiKey() {
+        return tenantApiKey;
+    }
+
+    /**
+     * @return response status, -1 until the response headers are received
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * @return size of the request body as sent (compressed if so), 0 without body
+     */
+    public long getBytesOut() {
+        return bytesOut;
+    }
+
+    /**
+     * @return size of the response body as deserialized (i.e. decompressed) once parsed, otherwise its
+     * {@code Content-Length}, -1 if unknown
+     */
+    public long getBytesIn() {
+        return bytesIn;
+    }
+
+    /**
+     * @return time spent waiting before sending the request (see {@link TenantBulkhead})
+     */
+    public long getQueueTimeNanos() {
+        return queueTimeNanos;
+    }
+
+    /**
+     * @return time from sending the request to receiving the response headers, including retries and hedged
+     * requests (for asynchronous calls, until the whole body is received)
+     */
+    public long getNetworkTimeNanos() {
+        return networkTimeNanos;
+    }
+
+    /**
+     * @return time spent deserializing the response body, 0 if there was none to deserialize
+     */
+    public long getDeserializationTimeNanos() {
+        return deserializationTimeNanos;
+    }
+
+    void requestStart() {
+        for (final ExchangeListener listener : listeners) {
+            try {
+                listener.onRequestStart(this);
+            } catch (final RuntimeException e) {
+                log.warn("Exchange listener failed on request start", e);
+            }
+        }
+    }
+
+    void requestSent() {
+        sentNanos = System.nanoTime();
+        queueTimeNanos = sentNanos - startNanos;
+    }
+
+    void responseHeaders(final HttpResponse<?> response) {
+        networkTimeNanos = System.nanoTime() - sentNanos;
+        status = response.statusCode();
+        bytesIn = response.headers().firstValueAsLong("Content-Length").orElse(-1);
+        for (final ExchangeListener listener : listeners) {
+            try {
+                listener.onResponseHeaders(this);
+            } catch (final RuntimeException e) {
+                log.warn("Exchange listener failed on response headers", e);
+            }
+        }
+    }
+
+    /**
+     * @param in response body, about to be deserialized
+     * @return the body, counting the bytes read into {@link #getBytesIn()}
+     */
+    InputStream countBytesIn(final InputStream in) {
+        bytesIn = 0;
+        return new FilterInputStream(in) {
+            @Override
+            public int read() throws IOException {
+                final int b = super.read();
+                if (b >= 0) {
+                    bytesIn++;
+                }
+                return b;
+            }
+
+            @Override
+            public int read(final byte[] b, final int off, final int len) throws IOException {
+                final int read = super.read(b, off, len);
+                if (read > 0) {
+                    bytesIn += read;
+                }
+                return read;
+            }
+        };
+    }
+
+    void setBytesIn(final long bytesIn) {
+        this.bytesIn = bytesIn;
+    }
+
+    void setDeserializationTimeNanos(final long deserializationTimeNanos) {
+        this.deserializationTimeNanos = deserializationTimeNanos;
+    }
+
+    void bodyParsed() {
+        done = true;
+        if (jfrEvent != null) {
+            jfrEvent.commit(this);
+        }
+        for (final ExchangeListener listener : listeners) {
+            try {
+                listener.onBodyParsed(this);
+            } catch (final RuntimeException e) {
+                log.warn("Exchange listener failed on body parsed", e);
+            }
+        }
+    }
+
+    void failed(final Throwable failure) {
+        // A failure of the exchange following the Location header isn't one of this exchange
+        if (done) {
+            return;
+        }
+        done = true;
+        if (jfrEvent != null) {
+            jfrEvent.commit(this);
+        }
+        final Throwable cause = (failure instanceof CompletionException && failure.getCause() != null) ? failure.getCause() : failure;
+        for (final ExchangeListener listener : listeners) {
+            try {
+                listener.onFailure(this, cause);
+            } catch (final RuntimeException e) {
+                log.warn("Exchange listener failed on failure", e);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ExchangeEvent{" +
+               "verb='" + verb + '\'' +
+               ", uriTemplate='" + uriTemplate + '\'' +
+               ", tenantApiKey='" + tenantApiKey + '\'' +
+               ", status=" + status +
+               ", bytesOut=" + bytesOut +
+               ", bytesIn=" + bytesIn +
+               ", queueTimeNanos=" + queueTimeNanos +
+               ", networkTimeNanos=" + networkTimeNanos +
+               ", deserializationTimeNanos=" + deserializationTimeNanos +
+               '}';
+    }
+}
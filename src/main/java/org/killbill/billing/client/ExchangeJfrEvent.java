@@ -0,0 +1,86 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of an exchange (see {@link ExchangeListener}), from the request start to the response
+ * being handled. For asynchronous calls, the event is committed by the thread completing the exchange.
+ */
+@Name(ExchangeJfrEvent.NAME)
+@Label("Kill Bill Exchange")
+@Category({"Kill Bill", "Client"})
+@Description("HTTP exchange of the Kill Bill client, including its retries and hedged requests")
+@StackTrace(false)
+final class ExchangeJfrEvent extends Event {
+
+    static final String NAME = "org.killbill.client.Exchange";
+
+    // Enabled state of the event type, without allocating an event per exchange
+    private static final ExchangeJfrEvent PROBE = new ExchangeJfrEvent();
+
+    @Label("Verb")
+    String verb;
+
+    @Label("Path Template")
+    String pathTemplate;
+
+    @Label("Status")
+    @Description("Response status, -1 without response")
+    int status;
+
+    @Label("Bytes Out")
+    @DataAmount
+    long bytesOut;
+
+    @Label("Bytes In")
+    @DataAmount
+    long bytesIn;
+
+    /**
+     * @return a started event, or null if the event is disabled
+     */
+    static ExchangeJfrEvent start() {
+        if (!PROBE.isEnabled()) {
+            return null;
+        }
+        final ExchangeJfrEvent event = new ExchangeJfrEvent();
+        event.begin();
+        return event;
+    }
+
+    void commit(final ExchangeEvent exchange) {
+        end();
+        if (shouldCommit()) {
+            verb = exchange.getVerb();
+            pathTemplate = exchange.getUriTemplate();
+            status = exchange.getStatus();
+            bytesOut = exchange.getBytesOut();
+            bytesIn = exchange.getBytesIn();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client;
+
+/**
+ * Callbacks on the HTTP exchanges of a {@link KillBillHttpClient}, e.g. to feed a metrics system (see
+ * {@link MetricsExchangeListener}). An exchange is one call of the client: its retries and hedged requests are
+ * part of it, while following a {@code Location} header is a new exchange.
+ *
+ * For a given exchange, {@link #onRequestStart} is called first, then {@link #onResponseHeaders} once the server
+ * has answered, and finally either {@link #onBodyParsed} or {@link #onFailure}. The same {@link ExchangeEvent} is
+ * passed to all of them, completed as the exchange goes.
+ *
+ * Callbacks run on the threads carrying out the exchanges: they must be thread safe and fast. Exceptions they throw
+ * are logged and otherwise ignored.
+ */
+public interface ExchangeListener {
+
+    /**
+     * The request is built (its body serialized) and about to be sent.
+     */
+    default void onRequestStart(final ExchangeEvent event) {
+    }
+
+    /**
+     * The response status and headers are received. The status may be an error one.
+     */
+    default void onResponseHeaders(final ExchangeEvent event) {
+    }
+
+    /**
+     * The response is handled successfully, its body deserialized if there was one to.
+     */
+    default void onBodyParsed(final ExchangeEvent event) {
+    }
+
+    /**
+     * The exchange failed: no response (e.g. timeout, connection error, open circuit), an error status or an
+     * invalid body.
+     */
+    default void onFailure(final ExchangeEvent event, final Throwable failure) {
+    }
+}
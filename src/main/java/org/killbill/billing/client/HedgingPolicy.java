@@ -0,0 +1,203 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.killbill.billing.client.util.Preconditions;
+
+/**
+ * Hedging of GET and HEAD requests, to cut tail latency: if no response has arrived after a delay (by default,
+ * the 95th percentile of the observed latencies), a duplicate request is sent (to another node, when an
+ * {@link EndpointPool} is configured). The first response wins and the other request is cancelled.
+ *
+ * Hedges are limited by a budget ({@code maxHedgeRatio}, 10% of the requests by default), so that a slow
+ * server never sees its load doubled.
+ */
+public class HedgingPolicy {
+
+    // Number of most recent latencies used to compute the percentile, and how often it is recomputed
+    static final int LATENCY_WINDOW_SIZE = 1000;
+    static final int LATENCY_REFRESH_INTERVAL = 64;
+
+    // Maximum number of hedges which can be sent in a burst
+    private static final double MAX_BUDGET = 10;
+
+    private final double percentile;
+    private final long minDelayNanos;
+    private final double maxHedgeRatio;
+
+    private final long[] latencies = new long[LATENCY_WINDOW_SIZE];
+    private int latencyPosition;
+    private int latencyCount;
+    private double budget;
+
+    private volatile long delayNanos;
+
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private final LongAdder budgetExhausted = new LongAdder();
+
+    private HedgingPolicy(final HedgingPolicyBuilder builder) {
+        this.percentile = builder.percentile;
+        this.minDelayNanos = builder.minDelay.toNanos();
+        this.maxHedgeRatio = builder.maxHedgeRatio;
+        this.delayNanos = Math.max(builder.initialDelay.toNanos(), minDelayNanos);
+        this.budget = maxHedgeRatio > 0 ? MAX_BUDGET : 0;
+    }
+
+    public static HedgingPolicyBuilder builder() {
+        return new HedgingPolicyBuilder();
+    }
+
+    /**
+     * @return how long a request waits for a response before being hedged
+     */
+    public Duration getDelay() {
+        return Duration.ofNanos(delayNanos);
+    }
+
+    /**
+     * @return number of hedged (duplicate) requests sent
+     */
+    public long getHedgeCount() {
+        return hedges.sum();
+    }
+
+    /**
+     * @return number of hedged requests which answered first
+     */
+    public long getHedgeWinCount() {
+        return hedgeWins.sum();
+    }
+
+    /**
+     * @return number of hedges not sent because the budget was exhausted
+     */
+    public long getBudgetExhaustedCount() {
+        return budgetExhausted.sum();
+    }
+
+    long getDelayNanos() {
+        return delayNanos;
+    }
+
+    /**
+     * Record the latency of a request (until its first response), and earn some hedging budget.
+     */
+    synchronized void recordLatency(final long latencyNanos) {
+        budget = Math.min(MAX_BUDGET, budget + maxHedgeRatio);
+
+        if (percentile <= 0) {
+            return;
+        }
+        latencies[latencyPosition] = latencyNanos;
+        latencyPosition = (latencyPosition + 1) % latencies.length;
+        if (latencyCount < latencies.length) {
+            latencyCount++;
+        }
+        if (latencyCount >= LATENCY_REFRESH_INTERVAL && latencyPosition % LATENCY_REFRESH_INTERVAL == 0) {
+            final long[] sorted = Arrays.copyOf(latencies, latencyCount);
+            Arrays.sort(sorted);
+            final int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile / 100 * sorted.length) - 1);
+            delayNanos = Math.max(minDelayNanos, sorted[Math.max(index, 0)]);
+        }
+    }
+
+    /**
+     * @return whether the budget allows one more hedge
+     */
+    synchronized boolean tryAcquireHedge() {
+        if (budget < 1) {
+            budgetExhausted.increment();
+            return false;
+        }
+        budget -= 1;
+        hedges.increment();
+        return true;
+    }
+
+    void onHedgeWin() {
+        hedgeWins.increment();
+    }
+
+    @Override
+    public String toString() {
+        return "HedgingPolicy{" +
+               "percentile=" + percentile +
+               ", minDelayNanos=" + minDelayNanos +
+               ", maxHedgeRatio=" + maxHedgeRatio +
+               ", delayNanos=" + delayNanos +
+               '}';
+    }
+
+    public static class HedgingPolicyBuilder {
+
+        private double percentile = 95;
+
+        private Duration initialDelay = Duration.ofMillis(100);
+
+        private Duration minDelay = Duration.ofMillis(5);
+
+        private double maxHedgeRatio = 0.1;
+
+        /**
+         * @param percentile latency percentile (e.g. 95) after which a request is hedged, 0 to always use the initial delay
+         */
+        public HedgingPolicyBuilder withPercentile(final double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("percentile must be in [0, 100]");
+            }
+            this.percentile = percentile;
+            return this;
+        }
+
+        /**
+         * @param initialDelay hedging delay until enough latencies have been observed
+         */
+        public HedgingPolicyBuilder withInitialDelay(final Duration initialDelay) {
+            this.initialDelay = Preconditions.checkNotNull(initialDelay, "initialDelay cannot be null");
+            return this;
+        }
+
+        /**
+         * @param minDelay lower bound of the hedging delay
+         */
+        public HedgingPolicyBuilder withMinDelay(final Duration minDelay) {
+            this.minDelay = Preconditions.checkNotNull(minDelay, "minDelay cannot be null");
+            return this;
+        }
+
+        /**
+         * @param maxHedgeRatio maximum number of hedges, as a fraction of the requests (e.g. 0.1 for 10%)
+         */
+        public HedgingPolicyBuilder withMaxHedgeRatio(final double maxHedgeRatio) {
+            if (maxHedgeRatio < 0 || maxHedgeRatio > 1) {
+                throw new IllegalArgumentException("maxHedgeRatio must be in [0, 1]");
+            }
+            this.maxHedgeRatio = maxHedgeRatio;
+            return this;
+        }
+
+        public HedgingPolicy build() {
+            return new HedgingPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client;
+
+/**
+ * Flight recorder events of the client: {@value ExchangeJfrEvent#NAME} for each exchange and
+ * {@value DeserializationJfrEvent#NAME} for each response body deserialized. Both are enabled by default in
+ * recordings, and can be disabled (or given a threshold) through the recording settings, e.g.
+ * {@code -XX:StartFlightRecording:settings=kb.jfc} with a custom settings file, or {@code Recording#disable}.
+ * Disabled events cost a field read.
+ *
+ * Nothing is recorded on runtimes without the {@code jdk.jfr} module.
+ */
+final class JfrEvents {
+
+    private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    private JfrEvents() {
+    }
+
+    /**
+     * @return a started exchange event, or null if disabled
+     */
+    static ExchangeJfrEvent startExchange() {
+        return AVAILABLE ? ExchangeJfrEvent.start() : null;
+    }
+
+    /**
+     * @return a started deserialization event, or null if disabled
+     */
+    static DeserializationJfrEvent startDeserialization() {
+        return AVAILABLE ? DeserializationJfrEvent.start() : null;
+    }
+}
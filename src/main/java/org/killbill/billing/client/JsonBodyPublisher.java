@@ -0,0 +1,242 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+
+/**
+ * Request body serialized by Jackson straight into pooled chunks (see {@link ByteChunkPool}), instead of an
+ * intermediate {@code String} encoded again by {@code BodyPublishers.ofString}. The content length is exact,
+ * and the body can be sent several times (retries).
+ *
+ * Chunks are only returned to the pool by {@link #recycle()}, once the server has answered: a body still
+ * referenced by an exchange must never be reused.
+ */
+final class JsonBodyPublisher implements BodyPublisher {
+
+    private final ByteChunkPool pool;
+    private final List<byte[]> chunks;
+    private final long contentLength;
+    private final boolean gzipped;
+    private final AtomicBoolean recycled = new AtomicBoolean();
+
+    private JsonBodyPublisher(final ByteChunkPool pool, final ChunkedOutputStream out, final boolean gzipped) {
+        this.pool = pool;
+        this.chunks = out.chunks;
+        this.contentLength = out.size;
+        this.gzipped = gzipped;
+    }
+
+    /**
+     * @param codecs               writers used to serialize the body
+     * @param body                 body: a JSON {@code String}, an object to serialize, or null for an empty object
+     * @param pool                 chunk pool
+     * @param compressionThreshold size from which the body is gzipped, null to never compress
+     */
+    static JsonBodyPublisher create(final JsonCodecs codecs, final Object body, final ByteChunkPool pool, final Integer compressionThreshold) throws IOException {
+        final ChunkedOutputStream out = new ChunkedOutputStream(pool);
+        try {
+            if (body == null) {
+                out.write('{');
+                out.write('}');
+            } else if (body instanceof String) {
+                try (final Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+                    writer.write((String) body);
+                }
+            } else {
+                codecs.writerFor(body.getClass()).writeValue(out, body);
+            }
+        } catch (final IOException | RuntimeException e) {
+            out.recycle();
+            throw e;
+        }
+
+        if (compressionThreshold == null || out.size < compressionThreshold) {
+            return new JsonBodyPublisher(pool, out, false);
+        }
+
+        final ChunkedOutputStream compressed = new ChunkedOutputStream(pool);
+        try (final GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressed, pool.getChunkSize())) {
+            out.writeTo(gzipOutputStream);
+        } catch (final IOException | RuntimeException e) {
+            compressed.recycle();
+            throw e;
+        } finally {
+            out.recycle();
+        }
+        return new JsonBodyPublisher(pool, compressed, true);
+    }
+
+    boolean isGzipped() {
+        return gzipped;
+    }
+
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super ByteBuffer> subscriber) {
+        subscriber.onSubscribe(new ChunkSubscription(subscriber));
+    }
+
+    /**
+     * Return the chunks to the pool. The body cannot be sent anymore.
+     */
+    void recycle() {
+        if (recycled.compareAndSet(false, true)) {
+            for (final byte[] chunk : chunks) {
+                pool.release(chunk);
+            }
+        }
+    }
+
+    private final class ChunkSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super ByteBuffer> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        // Serializes the emissions, as request() can be called from onNext()
+        private final AtomicInteger workInProgress = new AtomicInteger();
+
+        private int index;
+        private volatile boolean done;
+
+        private ChunkSubscription(final Flow.Subscriber<? super ByteBuffer> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(final long n) {
+            if (done) {
+                return;
+            }
+            if (n <= 0) {
+                done = true;
+                subscriber.onError(new IllegalArgumentException("Non-positive request: " + n));
+                return;
+            }
+            demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+        }
+
+        private void drain() {
+            if (workInProgress.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                while (!done && index < chunks.size() && demand.get() > 0) {
+                    if (recycled.get()) {
+                        done = true;
+                        subscriber.onError(new IllegalStateException("Request body has been recycled"));
+                        return;
+                    }
+                    final int length = (int) Math.min(pool.getChunkSize(), contentLength - (long) index * pool.getChunkSize());
+                    final ByteBuffer buffer = ByteBuffer.wrap(chunks.get(index), 0, length).asReadOnlyBuffer();
+                    index++;
+                    demand.decrementAndGet();
+                    subscriber.onNext(buffer);
+                }
+                if (!done && index == chunks.size()) {
+                    done = true;
+                    subscriber.onComplete();
+                }
+            } while (workInProgress.decrementAndGet() != 0);
+        }
+    }
+
+    private static final class ChunkedOutputStream extends OutputStream {
+
+        private final ByteChunkPool pool;
+        private final List<byte[]> chunks = new ArrayList<>();
+        private byte[] current;
+        private int position;
+        private long size;
+
+        private ChunkedOutputStream(final ByteChunkPool pool) {
+            this.pool = pool;
+        }
+
+        @Override
+        public void write(final int b) {
+            if (current == null || position == current.length) {
+                nextChunk();
+            }
+            current[position++] = (byte) b;
+            size++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            int offset = off;
+            int remaining = len;
+            while (remaining > 0) {
+                if (current == null || position == current.length) {
+                    nextChunk();
+                }
+                final int length = Math.min(remaining, current.length - position);
+                System.arraycopy(b, offset, current, position, length);
+                position += length;
+                offset += length;
+                remaining -= length;
+                size += length;
+            }
+        }
+
+        void writeTo(final OutputStream out) throws IOException {
+            long remaining = size;
+            for (final byte[] chunk : chunks) {
+                final int length = (int) Math.min(chunk.length, remaining);
+                out.write(chunk, 0, length);
+                remaining -= length;
+            }
+        }
+
+        void recycle() {
+            for (final byte[] chunk : chunks) {
+                pool.release(chunk);
+            }
+            chunks.clear();
+        }
+
+        private void nextChunk() {
+            current = pool.acquire();
+            position = 0;
+            chunks.add(current);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * {@link ObjectReader} and {@link ObjectWriter} of a mapper, resolved once per type: lookups are lock-free reads.
+ */
+final class JsonCodecs {
+
+    private final ObjectMapper mapper;
+    private final ConcurrentMap<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    JsonCodecs(final ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    ObjectMapper getMapper() {
+        return mapper;
+    }
+
+    ObjectReader readerFor(final Class<?> clazz) {
+        final ObjectReader reader = readers.get(clazz);
+        if (reader != null) {
+            return reader;
+        }
+        // Racing threads resolve the same reader, first one wins
+        final ObjectReader newReader = mapper.readerFor(clazz);
+        final ObjectReader existing = readers.putIfAbsent(clazz, newReader);
+        return existing != null ? existing : newReader;
+    }
+
+    ObjectWriter writerFor(final Class<?> clazz) {
+        final ObjectWriter writer = writers.get(clazz);
+        if (writer != null) {
+            return writer;
+        }
+        final ObjectWriter newWriter = mapper.writerFor(clazz);
+        final ObjectWriter existing = writers.putIfAbsent(clazz, newWriter);
+        return existing != null ? existing : newWriter;
+    }
+}
@@ -25,6 +25,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.net.InetSocketAddress;
 import java.net.ProxySelector;
 import java.net.URI;
@@ -37,22 +38,34 @@ import java.net.http.HttpResponse.BodyHandlers;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
 import java.time.Duration;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.killbill.billing.client.model.KillBillObject;
 import org.killbill.billing.client.model.KillBillObjects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
@@ -73,6 +86,8 @@ public class KillBillHttpClient implements Closeable {
 
     public static final String HTTP_HEADER_ACCEPT = "Accept";
     public static final String HTTP_HEADER_CONTENT_TYPE = "Content-Type";
+    public static final String HTTP_HEADER_ACCEPT_ENCODING = "Accept-Encoding";
+    public static final String HTTP_HEADER_CONTENT_ENCODING = "Content-Encoding";
 
     public static final String ACCEPT_HTML = "text/html";
     public static final String ACCEPT_JSON = "application/json";
@@ -82,6 +97,11 @@ public class KillBillHttpClient implements Closeable {
 
     private static final Logger log = LoggerFactory.getLogger(KillBillHttpClient.class);
     private static final String USER_AGENT = "KillBill-JavaClient/1.0";
+    private static final Method VIRTUAL_THREAD_EXECUTOR_FACTORY = lookupVirtualThreadExecutorFactory();
+
+    private static final JsonCodecs DEFAULT_CODECS = new JsonCodecs(newObjectMapper());
+
+    private static final ExchangeListener[] NO_EXCHANGE_LISTENERS = new ExchangeListener[0];
 
     private final boolean DEBUG = Boolean.parseBoolean(System.getProperty("org.killbill.client.debug", "false"));
 
@@ -91,8 +111,19 @@ public class KillBillHttpClient implements Closeable {
     private final String apiKey;
     private final String apiSecret;
     private final HttpClient httpClient;
-    private final ObjectMapper mapper;
-    private final int defaultReadTimeoutSec;
+    private final JsonCodecs codecs;
+    private final Duration defaultReadTimeout;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final EndpointPool endpointPool;
+    private final RetryPolicy retryPolicy;
+    private final CircuitBreaker circuitBreaker;
+    private final TenantBulkhead tenantBulkhead;
+    private final HedgingPolicy hedgingPolicy;
+    private final boolean responseCompression;
+    private final Integer requestCompressionThreshold;
+    private final ByteChunkPool bodyChunkPool = new ByteChunkPool();
+    private final ExchangeListener[] exchangeListeners;
 
     /**
      * @param kbServerUrl    Kill Bill url
@@ -141,40 +172,76 @@ public class KillBillHttpClient implements Closeable {
                               final Integer readTimeOut,
                               final Boolean strictSSL,
                               final String SSLProtocol) {
-        this.kbServerUrl = kbServerUrl;
-        this.username = username;
-        this.password = password;
-        this.apiKey = apiKey;
-        this.apiSecret = apiSecret;
+        this(builder().withKbServerUrl(kbServerUrl)
+                      .withUsername(username)
+                      .withPassword(password)
+                      .withApiKey(apiKey)
+                      .withApiSecret(apiSecret)
+                      .withProxy(proxyHost, proxyPort)
+                      .withConnectTimeOut(connectTimeOut)
+                      .withReadTimeOut(readTimeOut)
+                      .withStrictSSL(strictSSL)
+                      .withSSLProtocol(SSLProtocol));
+    }
+
+    private KillBillHttpClient(final KillBillHttpClientBuilder clientBuilder) {
+        this.kbServerUrl = clientBuilder.kbServerUrl;
+        this.username = clientBuilder.username;
+        this.password = clientBuilder.password;
+        this.apiKey = clientBuilder.apiKey;
+        this.apiSecret = clientBuilder.apiSecret;
+        this.endpointPool = clientBuilder.endpointPool;
+        this.retryPolicy = clientBuilder.retryPolicy;
+        this.circuitBreaker = clientBuilder.circuitBreaker;
+        this.tenantBulkhead = clientBuilder.tenantBulkhead;
+        this.hedgingPolicy = clientBuilder.hedgingPolicy;
+        this.responseCompression = clientBuilder.responseCompression;
+        this.requestCompressionThreshold = clientBuilder.requestCompressionThreshold;
+        this.exchangeListeners = clientBuilder.exchangeListeners.isEmpty() ? null : clientBuilder.exchangeListeners.toArray(new ExchangeListener[0]);
+
+        if (clientBuilder.executor != null) {
+            this.executor = clientBuilder.executor;
+            this.ownedExecutor = null;
+        } else if (clientBuilder.virtualThreads) {
+            this.ownedExecutor = newVirtualThreadPerTaskExecutor();
+            this.executor = ownedExecutor;
+        } else {
+            this.executor = null;
+            this.ownedExecutor = null;
+        }
+
+        this.httpClient = clientBuilder.httpClient != null ? clientBuilder.httpClient : newHttpClient(clientBuilder, executor);
+
+        this.defaultReadTimeout = Objects.requireNonNullElse(clientBuilder.readTimeout, Duration.ofSeconds(DEFAULT_HTTP_TIMEOUT_SEC));
 
+        // Readers and writers of the default mapper are shared by all clients
+        this.codecs = clientBuilder.objectMapper == null ? DEFAULT_CODECS : new JsonCodecs(clientBuilder.objectMapper);
+    }
+
+    private static HttpClient newHttpClient(final KillBillHttpClientBuilder clientBuilder, final Executor executor) {
         final HttpClient.Builder builder;
         try {
             builder = HttpClient.newBuilder()
-                                .sslContext(SslUtils.getInstance().getSSLContext(!strictSSL, SSLProtocol))
-                                .connectTimeout(Duration.of(Objects.requireNonNullElse(connectTimeOut, DEFAULT_HTTP_TIMEOUT_SEC * 1000), ChronoUnit.MILLIS));
+                                .sslContext(SslUtils.getInstance().getSSLContext(!clientBuilder.strictSSL, clientBuilder.SSLProtocol))
+                                .connectTimeout(Objects.requireNonNullElse(clientBuilder.connectTimeout, Duration.ofSeconds(DEFAULT_HTTP_TIMEOUT_SEC)))
+                                .followRedirects(clientBuilder.followRedirects);
         } catch (final GeneralSecurityException e) {
             throw new RuntimeException(e);
         }
 
-        if (proxyHost != null && proxyPort != null) {
-            builder.proxy(ProxySelector.of(new InetSocketAddress(proxyHost, proxyPort)));
+        if (clientBuilder.proxyHost != null && clientBuilder.proxyPort != null) {
+            builder.proxy(ProxySelector.of(new InetSocketAddress(clientBuilder.proxyHost, clientBuilder.proxyPort)));
         }
 
-        httpClient = builder.build();
+        if (clientBuilder.httpVersion != null) {
+            builder.version(clientBuilder.httpVersion);
+        }
 
-        if (readTimeOut != null) {
-            int timeoutSec = (int) TimeUnit.MILLISECONDS.toSeconds(readTimeOut);
-            if (TimeUnit.SECONDS.toMillis(timeoutSec) != readTimeOut) {
-                timeoutSec += 1;
-            }
-            this.defaultReadTimeoutSec = timeoutSec;
-        } else {
-            this.defaultReadTimeoutSec = DEFAULT_HTTP_TIMEOUT_SEC;
+        if (executor != null) {
+            builder.executor(executor);
         }
 
-        mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
-        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return builder.build();
     }
 
     public KillBillHttpClient(final String kbServerUrl, final String username, final String password, final String apiKey, final String apiSecret) {
@@ -193,8 +260,82 @@ public class KillBillHttpClient implements Closeable {
              System.getProperty("killbill.apiSecret", "lazar"));
     }
 
+    /**
+     * @return a new mapper, configured as the default one of the client (to customize, then share with {@link KillBillHttpClientBuilder#withObjectMapper(ObjectMapper)})
+     */
+    public static ObjectMapper newObjectMapper() {
+        final ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return mapper;
+    }
+
+    /**
+     * Helper method for creating a new builder
+     * @return a new instance of KillBillHttpClientBuilder
+     */
+    public static KillBillHttpClientBuilder builder() {
+        return new KillBillHttpClientBuilder();
+    }
+
+    /**
+     * @return whether the running JDK can provide a virtual thread per task executor (JDK 21+)
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VIRTUAL_THREAD_EXECUTOR_FACTORY != null;
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (VIRTUAL_THREAD_EXECUTOR_FACTORY == null) {
+            log.warn("Virtual threads are not supported by this JDK, falling back to the default HttpClient executor");
+            return null;
+        }
+        try {
+            return (ExecutorService) VIRTUAL_THREAD_EXECUTOR_FACTORY.invoke(null);
+        } catch (final IllegalAccessException | InvocationTargetException e) {
+            log.warn("Unable to create a virtual thread executor, falling back to the default HttpClient executor", e);
+            return null;
+        }
+    }
+
+    private static Method lookupVirtualThreadExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (final NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    public EndpointPool getEndpointPool() {
+        return endpointPool;
+    }
+
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public TenantBulkhead getTenantBulkhead() {
+        return tenantBulkhead;
+    }
+
+    public HedgingPolicy getHedgingPolicy() {
+        return hedgingPolicy;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
     @Override
     public void close() {
+        // Only shut down what we created: a user-supplied executor is owned by the caller
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
     }
 
     // POST
@@ -204,12 +345,13 @@ public class KillBillHttpClient implements Closeable {
     }
 
     public <T> T doPost(final String uri, final Object body, final Class<T> returnClass, final RequestOptions requestOptions) throws KillBillClientException {
-        return doPost(uri, body, returnClass, requestOptions, this.defaultReadTimeoutSec);
+        final String verb = "POST";
+        return doPrepareRequest(verb, uri, body, returnClass, requestOptions, this.defaultReadTimeout);
     }
 
     public <T> T doPost(final String uri, final Object body, final Class<T> returnClass, final RequestOptions requestOptions, final int timeoutSec) throws KillBillClientException {
         final String verb = "POST";
-        return doPrepareRequest(verb, uri, body, returnClass, requestOptions, timeoutSec);
+        return doPrepareRequest(verb, uri, body, returnClass, requestOptions, Duration.ofSeconds(timeoutSec));
     }
 
     @SuppressWarnings("unchecked")
@@ -218,12 +360,13 @@ public class KillBillHttpClient implements Closeable {
     }
 
     public <T> T doPut(final String uri, final Object body, final Class<T> returnClass, final RequestOptions options) throws KillBillClientException {
-        return doPut(uri, body, returnClass, options, this.defaultReadTimeoutSec);
+        final String verb = "PUT";
+        return doPrepareRequest(verb, uri, body, returnClass, options, this.defaultReadTimeout);
     }
 
     public <T> T doPut(final String uri, final Object body, final Class<T> returnClass, final RequestOptions options, final int timeoutSec) throws KillBillClientException {
         final String verb = "PUT";
-        return doPrepareRequest(verb, uri, body, returnClass, options, timeoutSec);
+        return doPrepareRequest(verb, uri, body, returnClass, options, Duration.ofSeconds(timeoutSec));
     }
 
     // DELETE
@@ -238,18 +381,19 @@ public class KillBillHttpClient implements Closeable {
     }
 
     public <T> T doDelete(final String uri, final Object body, final Class<T> returnClass, final RequestOptions requestOptions) throws KillBillClientException {
-        return doDelete(uri, body, returnClass, requestOptions, this.defaultReadTimeoutSec);
+        final String verb = "DELETE";
+        return doPrepareRequest(verb, uri, body, returnClass, requestOptions, this.defaultReadTimeout);
     }
 
     public <T> T doDelete(final String uri, final Object body, final Class<T> returnClass, final RequestOptions requestOptions, final int timeoutSec) throws KillBillClientException {
         final String verb = "DELETE";
-        return doPrepareRequest(verb, uri, body, returnClass, requestOptions, timeoutSec);
+        return doPrepareRequest(verb, uri, body, returnClass, requestOptions, Duration.ofSeconds(timeoutSec));
     }
 
     // GET
     public HttpResponse<InputStream> doGet(final String uri, final OutputStream outputStream, final RequestOptions requestOptions) throws KillBillClientException {
         final String verb = "GET";
-        return doPrepareRequest(verb, uri, null, outputStream, requestOptions, this.defaultReadTimeoutSec);
+        return doPrepareRequest(verb, uri, null, outputStream, requestOptions, this.defaultReadTimeout);
     }
 
     @SuppressWarnings("unchecked")
@@ -258,52 +402,324 @@ public class KillBillHttpClient implements Closeable {
     }
 
     public <T> T doGet(final String uri, final Class<T> returnClass, final RequestOptions requestOptions) throws KillBillClientException {
-        return doGet(uri, returnClass, requestOptions, this.defaultReadTimeoutSec);
+        final String verb = "GET";
+        return doPrepareRequest(verb, uri, null, returnClass, requestOptions, this.defaultReadTimeout);
     }
 
     public <T> T doGet(final String uri, final Class<T> returnClass, final RequestOptions requestOptions, final int timeoutSec) throws KillBillClientException {
         final String verb = "GET";
-        return doPrepareRequest(verb, uri, null, returnClass, requestOptions, timeoutSec);
+        return doPrepareRequest(verb, uri, null, returnClass, requestOptions, Duration.ofSeconds(timeoutSec));
+    }
+
+    /**
+     * Stream the elements of a list response (e.g. {@code /1.0/kb/invoices/pagination}) instead of deserializing
+     * the whole page at once. A 404 returns an empty iterator.
+     *
+     * @param uri          list resource
+     * @param elementClass element type (e.g. {@code Invoice.class} for {@code Invoices})
+     * @return an iterator, to close
+     */
+    public <T extends KillBillObject> KillBillObjectsIterator<T> doGetIterator(final String uri, final Class<T> elementClass, final RequestOptions requestOptions) throws KillBillClientException {
+        return doGetIterator(uri, codecs.readerFor(elementClass), requestOptions);
+    }
+
+    <T extends KillBillObject> KillBillObjectsIterator<T> doGetIterator(final String uri, final ObjectReader reader, final RequestOptions requestOptions) throws KillBillClientException {
+        final RequestOptions options = requestOptions.getHeaders().containsKey(HTTP_HEADER_ACCEPT) ?
+                                       requestOptions :
+                                       requestOptions.extend().withHeader(HTTP_HEADER_ACCEPT, ACCEPT_JSON).build();
+        final HttpResponse<InputStream> response = doGet(uri, options);
+        try {
+            return new KillBillObjectsIterator<>(response, reader, this, options);
+        } catch (final IOException e) {
+            throw new KillBillClientException(e, response);
+        }
     }
 
     // HEAD
+    @SuppressWarnings("unchecked")
     public HttpResponse<InputStream> doHead(final String uri, final RequestOptions requestOptions) throws KillBillClientException {
-        return doHead(uri, requestOptions, this.defaultReadTimeoutSec);
+        final String verb = "HEAD";
+        return doPrepareRequest(verb, uri, null, HttpResponse.class, requestOptions, this.defaultReadTimeout);
     }
 
     @SuppressWarnings("unchecked")
     public HttpResponse<InputStream> doHead(final String uri, final RequestOptions requestOptions, final int timeoutSec) throws KillBillClientException {
         final String verb = "HEAD";
-        return doPrepareRequest(verb, uri, null, HttpResponse.class, requestOptions, timeoutSec);
+        return doPrepareRequest(verb, uri, null, HttpResponse.class, requestOptions, Duration.ofSeconds(timeoutSec));
     }
 
     // OPTIONS
+    @SuppressWarnings("unchecked")
     public HttpResponse<InputStream> doOptions(final String uri, final RequestOptions requestOptions) throws KillBillClientException {
-        return doOptions(uri, requestOptions, this.defaultReadTimeoutSec);
+        final String verb = "OPTIONS";
+        return doPrepareRequest(verb, uri, null, HttpResponse.class, requestOptions, this.defaultReadTimeout);
     }
 
     @SuppressWarnings("unchecked")
     public HttpResponse<InputStream> doOptions(final String uri, final RequestOptions requestOptions, final int timeoutSec) throws KillBillClientException {
         final String verb = "OPTIONS";
-        return doPrepareRequest(verb, uri, null, HttpResponse.class, requestOptions, timeoutSec);
+        return doPrepareRequest(verb, uri, null, HttpResponse.class, requestOptions, Duration.ofSeconds(timeoutSec));
+    }
+
+    // POST (async)
+    public CompletableFuture<HttpResponse<InputStream>> doPostAsync(final String uri, final Object body, final RequestOptions requestOptions) {
+        return toResponseFuture(doPostAsync(uri, body, HttpResponse.class, requestOptions));
+    }
+
+    public <T> CompletableFuture<T> doPostAsync(final String uri, final Object body, final Class<T> returnClass, final RequestOptions requestOptions) {
+        final String verb = "POST";
+        return doPrepareRequestInternalAsync(verb, uri, body, returnClass, null, requestOptions, this.defaultReadTimeout);
+    }
+
+    public <T> CompletableFuture<T> doPostAsync(final String uri, final Object body, final Class<T> returnClass, final RequestOptions requestOptions, final int timeoutSec) {
+        final String verb = "POST";
+        return doPrepareRequestInternalAsync(verb, uri, body, returnClass, null, requestOptions, Duration.ofSeconds(timeoutSec));
+    }
+
+    // PUT (async)
+    public CompletableFuture<HttpResponse<InputStream>> doPutAsync(final String uri, final Object body, final RequestOptions options) {
+        return toResponseFuture(doPutAsync(uri, body, HttpResponse.class, options));
+    }
+
+    public <T> CompletableFuture<T> doPutAsync(final String uri, final Object body, final Class<T> returnClass, final RequestOptions options) {
+        final String verb = "PUT";
+        return doPrepareRequestInternalAsync(verb, uri, body, returnClass, null, options, this.defaultReadTimeout);
+    }
+
+    public <T> CompletableFuture<T> doPutAsync(final String uri, final Object body, final Class<T> returnClass, final RequestOptions options, final int timeoutSec) {
+        final String verb = "PUT";
+        return doPrepareRequestInternalAsync(verb, uri, body, returnClass, null, options, Duration.ofSeconds(timeoutSec));
+    }
+
+    // DELETE (async)
+    public CompletableFuture<HttpResponse<InputStream>> doDeleteAsync(final String uri, final RequestOptions requestOptions) {
+        return doDeleteAsync(uri, null, requestOptions);
+    }
+
+    public CompletableFuture<HttpResponse<InputStream>> doDeleteAsync(final String uri, final Object body, final RequestOptions options) {
+        return toResponseFuture(doDeleteAsync(uri, body, HttpResponse.class, options));
+    }
+
+    public <T> CompletableFuture<T> doDeleteAsync(final String uri, final Object body, final Class<T> returnClass, final RequestOptions requestOptions) {
+        final String verb = "DELETE";
+        return doPrepareRequestInternalAsync(verb, uri, body, returnClass, null, requestOptions, this.defaultReadTimeout);
+    }
+
+    public <T> CompletableFuture<T> doDeleteAsync(final String uri, final Object body, final Class<T> returnClass, final RequestOptions requestOptions, final int timeoutSec) {
+        final String verb = "DELETE";
+        return doPrepareRequestInternalAsync(verb, uri, body, returnClass, null, requestOptions, Duration.ofSeconds(timeoutSec));
+    }
+
+    // GET (async)
+    public CompletableFuture<HttpResponse<InputStream>> doGetAsync(final String uri, final OutputStream outputStream, final RequestOptions requestOptions) {
+        final String verb = "GET";
+        return toResponseFuture(doPrepareRequestInternalAsync(verb, uri, null, HttpResponse.class, outputStream, requestOptions, this.defaultReadTimeout));
+    }
+
+    public CompletableFuture<HttpResponse<InputStream>> doGetAsync(final String uri, final RequestOptions requestOptions) {
+        return toResponseFuture(doGetAsync(uri, HttpResponse.class, requestOptions));
+    }
+
+    public <T> CompletableFuture<T> doGetAsync(final String uri, final Class<T> returnClass, final RequestOptions requestOptions) {
+        final String verb = "GET";
+        return doPrepareRequestInternalAsync(verb, uri, null, returnClass, null, requestOptions, this.defaultReadTimeout);
+    }
+
+    public <T> CompletableFuture<T> doGetAsync(final String uri, final Class<T> returnClass, final RequestOptions requestOptions, final int timeoutSec) {
+        final String verb = "GET";
+        return doPrepareRequestInternalAsync(verb, uri, null, returnClass, null, requestOptions, Duration.ofSeconds(timeoutSec));
+    }
+
+    // HEAD (async)
+    public CompletableFuture<HttpResponse<InputStream>> doHeadAsync(final String uri, final RequestOptions requestOptions) {
+        return doHeadAsync(uri, requestOptions, this.defaultReadTimeout);
+    }
+
+    public CompletableFuture<HttpResponse<InputStream>> doHeadAsync(final String uri, final RequestOptions requestOptions, final int timeoutSec) {
+        return doHeadAsync(uri, requestOptions, Duration.ofSeconds(timeoutSec));
+    }
+
+    private CompletableFuture<HttpResponse<InputStream>> doHeadAsync(final String uri, final RequestOptions requestOptions, final Duration timeout) {
+        final String verb = "HEAD";
+        return toResponseFuture(doPrepareRequestInternalAsync(verb, uri, null, HttpResponse.class, null, requestOptions, timeout));
+    }
+
+    // OPTIONS (async)
+    public CompletableFuture<HttpResponse<InputStream>> doOptionsAsync(final String uri, final RequestOptions requestOptions) {
+        return doOptionsAsync(uri, requestOptions, this.defaultReadTimeout);
+    }
+
+    public CompletableFuture<HttpResponse<InputStream>> doOptionsAsync(final String uri, final RequestOptions requestOptions, final int timeoutSec) {
+        return doOptionsAsync(uri, requestOptions, Duration.ofSeconds(timeoutSec));
+    }
+
+    private CompletableFuture<HttpResponse<InputStream>> doOptionsAsync(final String uri, final RequestOptions requestOptions, final Duration timeout) {
+        final String verb = "OPTIONS";
+        return toResponseFuture(doPrepareRequestInternalAsync(verb, uri, null, HttpResponse.class, null, requestOptions, timeout));
+    }
+
+    /**
+     * Send a GET request straight to the given url, bypassing the circuit breaker, retries, hedging, the tenant
+     * bulkhead and the endpoint pool (e.g. health checks, where each node must be probed once, on its own).
+     *
+     * @param url            absolute url
+     * @param requestOptions options (credentials)
+     * @return the response status code (the body is discarded)
+     */
+    int probe(final String url, final RequestOptions requestOptions) throws KillBillClientException {
+        final HttpRequest.Builder builder = prepareRequest("GET", url, null, requestOptions);
+        builder.uri(getURI(null, url, DEFAULT_EMPTY_QUERY));
+        builder.timeout(defaultReadTimeout);
+        try {
+            return httpClient.send(builder.build(), BodyHandlers.discarding()).statusCode();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KillBillClientException(e);
+        } catch (final IOException e) {
+            throw new KillBillClientException(e);
+        }
+    }
+
+    // A cast rather than a dependent stage: cancelling the returned future must cancel the request
+    @SuppressWarnings("unchecked")
+    private static CompletableFuture<HttpResponse<InputStream>> toResponseFuture(final CompletableFuture<?> future) {
+        return (CompletableFuture<HttpResponse<InputStream>>) future;
     }
 
     // COMMON
     @SuppressWarnings("unchecked")
-    private HttpResponse<InputStream> doPrepareRequest(final String verb, final String uri, final Object body, final OutputStream outputStream, final RequestOptions requestOptions, final int timeoutSec) throws KillBillClientException {
-        return doPrepareRequestInternal(verb, uri, body, HttpResponse.class, outputStream, requestOptions, timeoutSec);
+    private HttpResponse<InputStream> doPrepareRequest(final String verb, final String uri, final Object body, final OutputStream outputStream, final RequestOptions requestOptions, final Duration timeout) throws KillBillClientException {
+        return doPrepareRequestInternal(verb, uri, body, HttpResponse.class, outputStream, requestOptions, timeout);
+    }
+
+    private <T> T doPrepareRequest(final String verb, final String uri, final Object body, final Class<T> returnClass, final RequestOptions requestOptions, final Duration timeout) throws KillBillClientException {
+        return doPrepareRequestInternal(verb, uri, body, returnClass, null, requestOptions, timeout);
+    }
+
+    private <T> T doPrepareRequestInternal(final String verb, final String uri, final Object body, final Class<T> returnClass, final OutputStream outputStream, final RequestOptions requestOptions, final Duration timeout) throws KillBillClientException {
+        if (AsyncApiCalls.isRecording()) {
+            // Blocking API method called by its asynchronous variant
+            throw AsyncApiCalls.sent(() -> doPrepareRequestInternalAsync(verb, uri, body, returnClass, outputStream, requestOptions, timeout));
+        }
+
+        final JsonBodyPublisher bodyPublisher = createBodyPublisher(verb, body);
+        final HttpRequest.Builder builder = prepareRequest(verb, uri, bodyPublisher, requestOptions);
+        final boolean retryable = retryPolicy.isRetryable(verb, body, requestOptions);
+        final boolean hedged = isHedged(verb, outputStream);
+
+        final ExchangeEvent event = startExchange(verb, uri, bodyPublisher, requestOptions);
+        try {
+            HttpResponse<InputStream> response = null;
+            final TenantBulkhead.Permit permit = acquireTenantPermit(requestOptions);
+            if (event != null) {
+                event.requestSent();
+            }
+            try {
+                response = doRequest(builder, uri, requestOptions, retryable, hedged, outputStream, timeout);
+            } finally {
+                releaseTenantPermit(permit);
+                recycleBody(bodyPublisher, response);
+            }
+            if (event != null) {
+                event.responseHeaders(response);
+            }
+            if (response.statusCode() == 404 || response.statusCode() == 204) {
+                completeExchange(event);
+                return createEmptyResult(returnClass);
+            }
+
+            if (requestOptions.shouldFollowLocation() && response.headers().firstValue("Location").isPresent()) {
+                completeExchange(event);
+                final String location = response.headers().firstValue("Location").get();
+                return doPrepareRequest("GET", location, null, returnClass, getOptionsForFollow(requestOptions), timeout);
+            }
+            throwExceptionOnResponseError(response);
+            return deserializeResponse(response, returnClass, event);
+        } catch (final KillBillClientException | RuntimeException e) {
+            if (event != null) {
+                event.failed(e);
+            }
+            throw e;
+        }
     }
 
-    private <T> T doPrepareRequest(final String verb, final String uri, final Object body, final Class<T> returnClass, final RequestOptions requestOptions, final int timeoutSec) throws KillBillClientException {
-        return doPrepareRequestInternal(verb, uri, body, returnClass, null, requestOptions, timeoutSec);
+    private <T> CompletableFuture<T> doPrepareRequestInternalAsync(final String verb, final String uri, final Object body, final Class<T> returnClass, final OutputStream outputStream, final RequestOptions requestOptions, final Duration timeout) {
+        final JsonBodyPublisher bodyPublisher;
+        final HttpRequest.Builder builder;
+        try {
+            bodyPublisher = createBodyPublisher(verb, body);
+            builder = prepareRequest(verb, uri, bodyPublisher, requestOptions);
+        } catch (final KillBillClientException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        final boolean retryable = retryPolicy.isRetryable(verb, body, requestOptions);
+        final boolean hedged = isHedged(verb, outputStream);
+
+        final ExchangeEvent event = startExchange(verb, uri, bodyPublisher, requestOptions);
+        final AtomicBoolean cancelled = new AtomicBoolean();
+        final AtomicReference<CompletableFuture<HttpResponse<InputStream>>> inFlight = new AtomicReference<>();
+        final CompletableFuture<TenantBulkhead.Permit> permitFuture = acquireTenantPermitAsync(requestOptions);
+        final CompletableFuture<HttpResponse<InputStream>> responseFuture = permitFuture.thenCompose(permit -> {
+            if (event != null) {
+                event.requestSent();
+            }
+            final CompletableFuture<HttpResponse<InputStream>> request = doRequestAsync(builder, uri, requestOptions, retryable, hedged, outputStream, timeout);
+            inFlight.set(request);
+            if (cancelled.get()) {
+                request.cancel(true);
+            }
+            return request.whenComplete((response, throwable) -> {
+                releaseTenantPermit(permit);
+                recycleBody(bodyPublisher, response);
+            });
+        });
+
+        final CompletableFuture<T> result = responseFuture.thenCompose(response -> {
+            if (event != null) {
+                event.responseHeaders(response);
+            }
+            if (response.statusCode() == 404 || response.statusCode() == 204) {
+                completeExchange(event);
+                return CompletableFuture.completedFuture(createEmptyResult(returnClass));
+            }
+
+            if (requestOptions.shouldFollowLocation() && response.headers().firstValue("Location").isPresent()) {
+                completeExchange(event);
+                final String location = response.headers().firstValue("Location").get();
+                return doPrepareRequestInternalAsync("GET", location, null, returnClass, null, getOptionsForFollow(requestOptions), timeout);
+            }
+
+            try {
+                throwExceptionOnResponseError(response);
+                return CompletableFuture.completedFuture(deserializeResponse(response, returnClass, event));
+            } catch (final KillBillClientException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        });
+        // Cancelling the result cancels the request, whether it is waiting for a tenant permit or in flight
+        // (the permit is then released once the exchange is aborted)
+        result.whenComplete((value, throwable) -> {
+            if (result.isCancelled()) {
+                cancelled.set(true);
+                permitFuture.cancel(false);
+                final CompletableFuture<HttpResponse<InputStream>> request = inFlight.get();
+                if (request != null) {
+                    request.cancel(true);
+                }
+            }
+            if (throwable != null && event != null) {
+                event.failed(throwable);
+            }
+        });
+        return result;
     }
 
-    private <T> T doPrepareRequestInternal(final String verb, final String uri, final Object body, final Class<T> returnClass, final OutputStream outputStream, final RequestOptions requestOptions, final int timeoutSec) throws KillBillClientException {
-        final HttpRequest.Builder builder = getBuilderWithHeaderAndQuery(verb, uri, requestOptions);
+    private HttpRequest.Builder prepareRequest(final String verb, final String uri, final JsonBodyPublisher bodyPublisher, final RequestOptions requestOptions) throws KillBillClientException {
+        final HttpRequest.Builder builder = getBuilderWithHeaderAndQuery(verb, requestOptions);
 
         // Multi-Tenancy headers
-        final String apiKey = requestOptions.getTenantApiKey() != null ? requestOptions.getTenantApiKey() : this.apiKey;
-        addHeader(builder, JaxrsResource.HDR_API_KEY, apiKey);
+        addHeader(builder, JaxrsResource.HDR_API_KEY, getApiKey(requestOptions));
         final String apiSecret = requestOptions.getTenantApiSecret() != null ? requestOptions.getTenantApiSecret() : this.apiSecret;
         addHeader(builder, JaxrsResource.HDR_API_SECRET, apiSecret);
 
@@ -314,43 +730,96 @@ public class KillBillHttpClient implements Closeable {
 
         addHeader(builder, JaxrsResource.HDR_REQUEST_ID, requestOptions.getRequestId());
 
-        if (!"GET".equals(verb) && !"HEAD".equals(verb)) {
-            String bodyString = "{}";
-            if (body != null) {
-                if (body instanceof String) {
-                    bodyString = (String) body;
-                } else {
-                    try {
-                        bodyString = mapper.writeValueAsString(body);
-                    } catch (final JsonProcessingException e) {
-                        throw new KillBillClientException(e);
-                    }
-                }
+        if (bodyPublisher != null) {
+            if (bodyPublisher.isGzipped()) {
+                builder.header(HTTP_HEADER_CONTENT_ENCODING, ContentEncodings.GZIP);
             }
-            builder.method(verb, BodyPublishers.ofString(bodyString));
+            builder.method(verb, bodyPublisher);
+        }
+
+        return builder;
+    }
+
+    private ExchangeEvent startExchange(final String verb, final String uri, final JsonBodyPublisher bodyPublisher, final RequestOptions requestOptions) {
+        final ExchangeJfrEvent jfrEvent = JfrEvents.startExchange();
+        if (exchangeListeners == null && jfrEvent == null) {
+            return null;
+        }
+        final ExchangeEvent event = new ExchangeEvent(exchangeListeners == null ? NO_EXCHANGE_LISTENERS : exchangeListeners,
+                                                      verb, getUriTemplate(uri, requestOptions), getApiKey(requestOptions), bodyPublisher == null ? 0 : bodyPublisher.contentLength(),
+                                                      jfrEvent);
+        event.requestStart();
+        return event;
+    }
+
+    // Responses without a body to deserialize
+    private static void completeExchange(final ExchangeEvent event) {
+        if (event != null) {
+            event.bodyParsed();
+        }
+    }
+
+    private JsonBodyPublisher createBodyPublisher(final String verb, final Object body) throws KillBillClientException {
+        if ("GET".equals(verb) || "HEAD".equals(verb)) {
+            return null;
+        }
+        try {
+            return JsonBodyPublisher.create(codecs, body, bodyChunkPool, requestCompressionThreshold);
+        } catch (final IOException e) {
+            throw new KillBillClientException(e);
         }
+    }
+
+    private static void recycleBody(final JsonBodyPublisher bodyPublisher, final HttpResponse<InputStream> response) {
+        // Only once the server has answered successfully, i.e. has read the whole body: after a failure or an
+        // early error response, the exchange could still reference the chunks
+        if (bodyPublisher != null && response != null && response.statusCode() >= 200 && response.statusCode() < 300) {
+            bodyPublisher.recycle();
+        }
+    }
 
-        final HttpResponse<InputStream> response = outputStream != null ? doRequest(builder, outputStream, timeoutSec) : doRequest(builder, timeoutSec);
-        if (response.statusCode() == 404 || response.statusCode() == 204) {
-            return createEmptyResult(returnClass);
+    private String getApiKey(final RequestOptions requestOptions) {
+        return requestOptions.getTenantApiKey() != null ? requestOptions.getTenantApiKey() : this.apiKey;
+    }
+
+    private TenantBulkhead.Permit acquireTenantPermit(final RequestOptions requestOptions) throws KillBillClientException {
+        if (tenantBulkhead == null) {
+            return null;
         }
+        final CompletableFuture<TenantBulkhead.Permit> permitFuture = tenantBulkhead.acquire(getApiKey(requestOptions));
+        try {
+            return permitFuture.get();
+        } catch (final InterruptedException e) {
+            // Leave the queue, or give the permit back if it was granted in the meantime
+            permitFuture.cancel(false);
+            permitFuture.thenAccept(KillBillHttpClient::releaseTenantPermit);
+            Thread.currentThread().interrupt();
+            throw new KillBillClientException(e);
+        } catch (final ExecutionException e) {
+            throw toKillBillClientException(e.getCause());
+        }
+    }
 
-        if (requestOptions.shouldFollowLocation() && response.headers().firstValue("Location").isPresent()) {
-            final String location = response.headers().firstValue("Location").get();
-            final RequestOptions optionsForFollow = RequestOptions.builder()
-                                                                  .withUser(requestOptions.getUser())
-                                                                  .withPassword(requestOptions.getPassword())
-                                                                  .withTenantApiKey(requestOptions.getTenantApiKey())
-                                                                  .withTenantApiSecret(requestOptions.getTenantApiSecret())
-                                                                  .withRequestId(requestOptions.getRequestId())
-                                                                  .withFollowLocation(false)
-                                                                  .withQueryParams(requestOptions.getQueryParamsForFollow())
-                                                                  .build();
-            return doGet(location, returnClass, optionsForFollow, timeoutSec);
+    private CompletableFuture<TenantBulkhead.Permit> acquireTenantPermitAsync(final RequestOptions requestOptions) {
+        return tenantBulkhead == null ? CompletableFuture.completedFuture(null) : tenantBulkhead.acquire(getApiKey(requestOptions));
+    }
+
+    private static void releaseTenantPermit(final TenantBulkhead.Permit permit) {
+        if (permit != null) {
+            permit.release();
         }
-        throwExceptionOnResponseError(response);
-        return deserializeResponse(response, returnClass);
+    }
 
+    private static RequestOptions getOptionsForFollow(final RequestOptions requestOptions) {
+        return RequestOptions.builder()
+                             .withUser(requestOptions.getUser())
+                             .withPassword(requestOptions.getPassword())
+                             .withTenantApiKey(requestOptions.getTenantApiKey())
+                             .withTenantApiSecret(requestOptions.getTenantApiSecret())
+                             .withRequestId(requestOptions.getRequestId())
+                             .withFollowLocation(false)
+                             .withQueryParams(requestOptions.getQueryParamsForFollow())
+                             .build();
     }
 
     private static void addHeader(final HttpRequest.Builder builder, final String headerName, final String value) {
@@ -359,26 +828,472 @@ public class KillBillHttpClient implements Closeable {
         }
     }
 
-    private HttpResponse<InputStream> doRequest(final HttpRequest.Builder builder, final OutputStream outputStream, final int timeoutSec) throws KillBillClientException {
-        final HttpResponse<InputStream> response = doRequest(builder, timeoutSec);
+    private HttpResponse<InputStream> doRequest(final HttpRequest.Builder builder, final String uri, final RequestOptions requestOptions, final boolean retryable, final boolean hedged, final OutputStream outputStream, final Duration timeout) throws KillBillClientException {
+        int attempt = 1;
+        while (true) {
+            HttpResponse<InputStream> response = null;
+            KillBillClientException failure = null;
+            try {
+                response = hedged ? doHedgedAttempt(builder, uri, requestOptions, timeout) : doAttempt(builder, uri, requestOptions, timeout);
+            } catch (final KillBillClientException e) {
+                failure = e;
+            }
+
+            if (retryable && retryPolicy.shouldRetry(attempt, response, failure)) {
+                final long backoffMillis = retryPolicy.getBackoffMillis(attempt, response);
+                log.debug("Retrying {} (attempt {}) in {} ms", uri, attempt, backoffMillis);
+                discardBody(response);
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new KillBillClientException(e);
+                }
+                attempt++;
+                continue;
+            }
+
+            if (failure != null) {
+                throw failure;
+            }
+            if (outputStream != null) {
+                transferBody(response, outputStream);
+            }
+            return response;
+        }
+    }
+
+    /**
+     * Send the request, and retry it as needed. Cancelling the returned future aborts the attempt in flight, or
+     * the next one. A body to stream to {@code outputStream} is read from the client executor.
+     */
+    private CompletableFuture<HttpResponse<InputStream>> doRequestAsync(final HttpRequest.Builder builder, final String uri, final RequestOptions requestOptions, final boolean retryable, final boolean hedged, final OutputStream outputStream, final Duration timeout) {
+        final CompletableFuture<HttpResponse<InputStream>> result = new CompletableFuture<>();
+        doRequestAsync(result, builder, uri, requestOptions, retryable, hedged, outputStream, timeout, 1);
+        return result;
+    }
+
+    private void doRequestAsync(final CompletableFuture<HttpResponse<InputStream>> result, final HttpRequest.Builder builder, final String uri, final RequestOptions requestOptions, final boolean retryable, final boolean hedged, final OutputStream outputStream, final Duration timeout, final int attempt) {
+        final boolean streamed = outputStream != null;
+        final CompletableFuture<HttpResponse<InputStream>> attemptFuture = hedged ? doHedgedAttemptAsync(builder, uri, requestOptions, timeout) : doAttemptAsync(builder, uri, requestOptions, timeout, streamed);
+        result.whenComplete((response, throwable) -> {
+            if (result.isCancelled()) {
+                attemptFuture.cancel(true);
+            }
+        });
+        attemptFuture.whenComplete((response, throwable) -> {
+            if (result.isDone()) {
+                // Cancelled
+                closeBody(response);
+                return;
+            }
+
+            final KillBillClientException failure = throwable == null ? null : toKillBillClientException(throwable);
+            if (retryable && retryPolicy.shouldRetry(attempt, response, failure)) {
+                final long backoffMillis = retryPolicy.getBackoffMillis(attempt, response);
+                log.debug("Retrying {} (attempt {}) in {} ms", uri, attempt, backoffMillis);
+                closeBody(response);
+                getDelayedExecutor(backoffMillis, TimeUnit.MILLISECONDS).execute(() -> {
+                    if (!result.isDone()) {
+                        doRequestAsync(result, builder, uri, requestOptions, retryable, hedged, outputStream, timeout, attempt + 1);
+                    }
+                });
+                return;
+            }
+
+            if (failure != null) {
+                result.completeExceptionally(failure);
+            } else if (streamed) {
+                // Reading the body blocks: not from the thread completing the exchange
+                result.whenComplete((ignored, cancellation) -> {
+                    if (result.isCancelled()) {
+                        closeBody(response);
+                    }
+                });
+                runAsync(() -> {
+                    try {
+                        transferBody(response, outputStream);
+                        result.complete(response);
+                    } catch (final KillBillClientException e) {
+                        result.completeExceptionally(e);
+                    }
+                });
+            } else {
+                result.complete(response);
+            }
+        });
+    }
+
+    private HttpResponse<InputStream> doAttempt(final HttpRequest.Builder builder, final String uri, final RequestOptions requestOptions, final Duration timeout) throws KillBillClientException {
+        final CircuitBreaker.Permit permit = acquirePermit(uri, requestOptions);
+        final EndpointPool.Endpoint endpoint = acquireEndpoint(uri, null);
+        HttpResponse<InputStream> response = null;
+        KillBillClientException failure = null;
+        try {
+            builder.uri(getURI(endpoint, uri, requestOptions.getQueryParams()));
+            response = doRequest(builder, timeout);
+            return response;
+        } catch (final KillBillClientException e) {
+            failure = e;
+            throw e;
+        } finally {
+            releaseEndpoint(endpoint, response, failure);
+            releasePermit(permit, response, failure);
+        }
+    }
+
+    private CompletableFuture<HttpResponse<InputStream>> doAttemptAsync(final HttpRequest.Builder builder, final String uri, final RequestOptions requestOptions, final Duration timeout, final boolean streamed) {
+        return doAttemptAsync(builder, uri, requestOptions, timeout, acquireEndpoint(uri, null), streamed);
+    }
+
+    private CompletableFuture<HttpResponse<InputStream>> doAttemptAsync(final HttpRequest.Builder builder, final String uri, final RequestOptions requestOptions, final Duration timeout, final EndpointPool.Endpoint endpoint, final boolean streamed) {
+        final CircuitBreaker.Permit permit;
+        try {
+            permit = acquirePermit(uri, requestOptions);
+        } catch (final KillBillClientException e) {
+            releaseEndpoint(endpoint, null, e);
+            return CompletableFuture.failedFuture(e);
+        }
+
+        try {
+            builder.uri(getURI(endpoint, uri, requestOptions.getQueryParams()));
+        } catch (final KillBillClientException e) {
+            releaseEndpoint(endpoint, null, e);
+            releasePermit(permit, null, e);
+            return CompletableFuture.failedFuture(e);
+        }
+
+        final CompletableFuture<HttpResponse<InputStream>> exchange = doRequestAsync(builder, timeout, streamed);
+        // Not a dependent stage of the exchange: cancelling it (e.g. for a losing hedged request) aborts the exchange,
+        // and the endpoint and permit are still released
+        final CompletableFuture<HttpResponse<InputStream>> attemptFuture = new CompletableFuture<>();
+        exchange.whenComplete((response, throwable) -> {
+            releaseEndpoint(endpoint, response, throwable);
+            releasePermit(permit, response, throwable);
+            if (throwable != null) {
+                attemptFuture.completeExceptionally(throwable);
+            } else {
+                attemptFuture.complete(response);
+            }
+        });
+        attemptFuture.whenComplete((response, throwable) -> {
+            if (attemptFuture.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+        return attemptFuture;
+    }
+
+    private HttpResponse<InputStream> doHedgedAttempt(final HttpRequest.Builder builder, final String uri, final RequestOptions requestOptions, final Duration timeout) throws KillBillClientException {
+        final CompletableFuture<HttpResponse<InputStream>> attemptFuture = doHedgedAttemptAsync(builder, uri, requestOptions, timeout);
+        try {
+            return attemptFuture.get();
+        } catch (final InterruptedException e) {
+            attemptFuture.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new KillBillClientException(e);
+        } catch (final ExecutionException e) {
+            throw toKillBillClientException(e.getCause());
+        }
+    }
+
+    /**
+     * Send the request and, if there is no response after the hedging delay, a duplicate one (to another node
+     * when possible). The first response wins, and the other request is cancelled.
+     */
+    private CompletableFuture<HttpResponse<InputStream>> doHedgedAttemptAsync(final HttpRequest.Builder builder, final String uri, final RequestOptions requestOptions, final Duration timeout) {
+        final long startNanos = System.nanoTime();
+        final CompletableFuture<HttpResponse<InputStream>> result = new CompletableFuture<>();
+        // Attempts which haven't failed yet (0 once they all have)
+        final AtomicInteger pending = new AtomicInteger(1);
+        final AtomicBoolean answered = new AtomicBoolean();
+        // Copied right away, as the builder is reused by the next retry
+        final HttpRequest.Builder hedgeBuilder = builder.copy();
+
+        final EndpointPool.Endpoint primaryEndpoint = acquireEndpoint(uri, null);
+        final CompletableFuture<HttpResponse<InputStream>> primary = doAttemptAsync(builder, uri, requestOptions, timeout, primaryEndpoint, false);
+        primary.whenComplete((response, throwable) -> completeHedgedAttempt(result, pending, answered, startNanos, false, response, throwable));
+        result.whenComplete((response, throwable) -> primary.cancel(true));
+
+        getDelayedExecutor(hedgingPolicy.getDelayNanos(), TimeUnit.NANOSECONDS).execute(() -> {
+            if (result.isDone() || !hedgingPolicy.tryAcquireHedge() || pending.getAndUpdate(count -> count == 0 ? 0 : count + 1) == 0) {
+                return;
+            }
+            log.debug("No response from {} after {} ms, hedging the request", uri, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            final CompletableFuture<HttpResponse<InputStream>> hedge = doAttemptAsync(hedgeBuilder, uri, requestOptions, timeout, acquireEndpoint(uri, primaryEndpoint), false);
+            hedge.whenComplete((response, throwable) -> completeHedgedAttempt(result, pending, answered, startNanos, true, response, throwable));
+            result.whenComplete((response, throwable) -> hedge.cancel(true));
+        });
+
+        return result;
+    }
+
+    private void completeHedgedAttempt(final CompletableFuture<HttpResponse<InputStream>> result,
+                                       final AtomicInteger pending,
+                                       final AtomicBoolean answered,
+                                       final long startNanos,
+                                       final boolean hedge,
+                                       final HttpResponse<InputStream> response,
+                                       final Throwable throwable) {
+        if (throwable == null) {
+            if (answered.compareAndSet(false, true)) {
+                hedgingPolicy.recordLatency(System.nanoTime() - startNanos);
+                if (hedge) {
+                    hedgingPolicy.onHedgeWin();
+                }
+                result.complete(response);
+            } else {
+                discardBody(response);
+            }
+        } else if (pending.decrementAndGet() == 0) {
+            result.completeExceptionally(throwable);
+        }
+    }
+
+    private boolean isHedged(final String verb, final OutputStream outputStream) {
+        // Not the streamed responses: they would be buffered, and the losing one drained
+        return hedgingPolicy != null && outputStream == null && ("GET".equals(verb) || "HEAD".equals(verb));
+    }
+
+    private void runAsync(final Runnable task) {
+        if (executor != null) {
+            executor.execute(task);
+        } else {
+            CompletableFuture.runAsync(task);
+        }
+    }
+
+    private Executor getDelayedExecutor(final long delay, final TimeUnit unit) {
+        return executor != null ? CompletableFuture.delayedExecutor(delay, unit, executor) : CompletableFuture.delayedExecutor(delay, unit);
+    }
+
+    private CircuitBreaker.Permit acquirePermit(final String uri, final RequestOptions requestOptions) throws KillBillClientException {
+        if (circuitBreaker == null) {
+            return null;
+        }
+        final String uriTemplate = getUriTemplate(uri, requestOptions);
+        final CircuitBreaker.Permit permit = circuitBreaker.tryAcquire(uriTemplate);
+        if (permit == null) {
+            throw new KillBillClientException(new CircuitBreakerOpenException(uriTemplate));
+        }
+        return permit;
+    }
+
+    private static void releasePermit(final CircuitBreaker.Permit permit, final HttpResponse<InputStream> response, final Throwable failure) {
+        if (permit == null) {
+            return;
+        }
+        final Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        if (cause instanceof CancellationException) {
+            // A cancelled request (e.g. a losing hedged request) tells nothing about the server
+            permit.cancel();
+        } else {
+            permit.complete(response == null ? -1 : response.statusCode(), failure);
+        }
+    }
+
+    private EndpointPool.Endpoint acquireEndpoint(final String uri, final EndpointPool.Endpoint excluded) {
+        // Absolute urls (e.g. Location headers) target a specific node
+        return endpointPool != null && !isAbsoluteUrl(uri) ? endpointPool.acquire(excluded) : null;
+    }
+
+    private void releaseEndpoint(final EndpointPool.Endpoint endpoint, final HttpResponse<InputStream> response, final Throwable failure) {
+        if (endpoint != null) {
+            endpointPool.release(endpoint, response == null ? -1 : response.statusCode(), failure == null ? null : toKillBillClientException(failure));
+        }
+    }
+
+    private static boolean isAbsoluteUrl(final String url) {
+        if (url == null || url.isEmpty() || !Character.isLetter(url.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < url.length(); i++) {
+            final char c = url.charAt(i);
+            if (c == ':') {
+                return true;
+            } else if (!Character.isLetterOrDigit(c) && c != '+' && c != '-' && c != '.') {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static String getUriTemplate(final String uri, final RequestOptions requestOptions) {
+        // Set by the generated APIs
+        return requestOptions.getUriTemplate() != null ? requestOptions.getUriTemplate() : toUriTemplate(uri);
+    }
+
+    /**
+     * Guess the URI template of a request made outside of the generated APIs (e.g. following a Location header),
+     * by replacing identifiers (UUIDs and numbers) with a parameter named after the preceding segment, e.g.
+     * {@code /1.0/kb/payments/<uuid>/tags} into {@code /1.0/kb/payments/{paymentId}/tags}. The query string and,
+     * for absolute urls, the scheme and authority are dropped.
+     */
+    // VisibleForTesting
+    static String toUriTemplate(final String uri) {
+        String path = uri;
+        if (isAbsoluteUrl(path)) {
+            final int authority = path.indexOf("//");
+            final int pathStart = authority < 0 ? -1 : path.indexOf('/', authority + 2);
+            path = pathStart < 0 ? "/" : path.substring(pathStart);
+        }
+        final int queryStart = path.indexOf('?');
+        if (queryStart >= 0) {
+            path = path.substring(0, queryStart);
+        }
+
+        final String[] segments = path.split("/", -1);
+        final StringBuilder template = new StringBuilder(path.length());
+        for (int i = 0; i < segments.length; i++) {
+            if (i > 0) {
+                template.append('/');
+            }
+            if (isIdentifier(segments[i])) {
+                final String previous = i > 0 ? segments[i - 1] : "";
+                if (previous.length() > 1 && previous.endsWith("s") && !isIdentifier(previous)) {
+                    template.append('{').append(previous, 0, previous.length() - 1).append("Id}");
+                } else {
+                    template.append("{id}");
+                }
+            } else {
+                template.append(segments[i]);
+            }
+        }
+        return template.toString();
+    }
+
+    private static boolean isIdentifier(final String segment) {
+        if (segment.isEmpty()) {
+            return false;
+        }
+        if (segment.length() == 36) {
+            for (int i = 0; i < 36; i++) {
+                final char c = segment.charAt(i);
+                final boolean valid = (i == 8 || i == 13 || i == 18 || i == 23) ? c == '-' : Character.digit(c, 16) >= 0;
+                if (!valid) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            if (!Character.isDigit(segment.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void transferBody(final HttpResponse<InputStream> response, final OutputStream outputStream) throws KillBillClientException {
         try {
             response.body().transferTo(outputStream);
         } catch (final IOException e) {
             throw new KillBillClientException(e);
         }
-        return response;
     }
 
-    private HttpResponse<InputStream> doRequest(final HttpRequest.Builder builder, final int timeoutSec) throws KillBillClientException {
-        builder.timeout(Duration.of(timeoutSec, ChronoUnit.SECONDS));
+    // Without reading what is left (e.g. of a streamed body): the connection isn't reused
+    private static void closeBody(final HttpResponse<InputStream> response) {
+        if (response == null) {
+            return;
+        }
+        try {
+            response.body().close();
+        } catch (final IOException e) {
+            log.debug("Failed to close response body: {}", e.getLocalizedMessage());
+        }
+    }
+
+    private static void discardBody(final HttpResponse<InputStream> response) {
+        if (response == null) {
+            return;
+        }
+        try (final InputStream in = response.body()) {
+            in.transferTo(OutputStream.nullOutputStream());
+        } catch (final IOException e) {
+            log.debug("Failed to discard response body: {}", e.getLocalizedMessage());
+        }
+    }
+
+    private HttpResponse<InputStream> doRequest(final HttpRequest.Builder builder, final Duration timeout) throws KillBillClientException {
+        builder.timeout(timeout);
 
         try {
-            return httpClient.send(builder.build(), BodyHandlers.ofInputStream());
+            final HttpResponse<InputStream> response = httpClient.send(builder.build(), BodyHandlers.ofInputStream());
+            final Optional<String> contentEncoding = ContentEncodings.getContentEncoding(response.headers());
+            if (contentEncoding.isEmpty()) {
+                return response;
+            }
+            return new DecodedHttpResponse(response, ContentEncodings.decode(response.body(), contentEncoding.get()));
         } catch (final IOException | InterruptedException e) {
             throw new KillBillClientException(e);
         }
     }
 
+    /**
+     * @param streamed whether the body is read as it is received (from another thread than the one completing the
+     *                 exchange), or in full before completion so that callbacks never block on the network
+     */
+    private CompletableFuture<HttpResponse<InputStream>> doRequestAsync(final HttpRequest.Builder builder, final Duration timeout, final boolean streamed) {
+        builder.timeout(timeout);
+
+        final CompletableFuture<? extends HttpResponse<?>> exchange;
+        final CompletableFuture<HttpResponse<InputStream>> responseFuture;
+        if (streamed) {
+            final CompletableFuture<HttpResponse<InputStream>> streamedExchange = httpClient.sendAsync(builder.build(), BodyHandlers.ofInputStream());
+            exchange = streamedExchange;
+            responseFuture = streamedExchange.handle((response, throwable) -> {
+                if (throwable != null) {
+                    throw new CompletionException(toKillBillClientException(throwable));
+                }
+                final Optional<String> contentEncoding = ContentEncodings.getContentEncoding(response.headers());
+                if (contentEncoding.isEmpty()) {
+                    return response;
+                }
+                try {
+                    return new DecodedHttpResponse(response, ContentEncodings.decode(response.body(), contentEncoding.get()));
+                } catch (final IOException e) {
+                    closeBody(response);
+                    throw new CompletionException(new KillBillClientException(e));
+                }
+            });
+        } else {
+            final CompletableFuture<HttpResponse<byte[]>> bufferedExchange = httpClient.sendAsync(builder.build(), BodyHandlers.ofByteArray());
+            exchange = bufferedExchange;
+            responseFuture = bufferedExchange.handle((response, throwable) -> {
+                if (throwable != null) {
+                    throw new CompletionException(toKillBillClientException(throwable));
+                }
+                final Optional<String> contentEncoding = ContentEncodings.getContentEncoding(response.headers());
+                if (contentEncoding.isEmpty()) {
+                    return new BufferedHttpResponse(response);
+                }
+                try {
+                    return new BufferedHttpResponse(response, ContentEncodings.decode(response.body(), contentEncoding.get()));
+                } catch (final IOException e) {
+                    throw new CompletionException(new KillBillClientException(e));
+                }
+            });
+        }
+        responseFuture.whenComplete((response, throwable) -> {
+            if (responseFuture.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+        return responseFuture;
+    }
+
+    private static KillBillClientException toKillBillClientException(final Throwable throwable) {
+        final Throwable cause = (throwable instanceof CompletionException && throwable.getCause() != null) ? throwable.getCause() : throwable;
+        if (cause instanceof KillBillClientException) {
+            return (KillBillClientException) cause;
+        } else if (cause instanceof Exception) {
+            return new KillBillClientException((Exception) cause);
+        } else {
+            return new KillBillClientException(new ExecutionException(cause));
+        }
+    }
+
     // VisibleForTesting
     void throwExceptionOnResponseError(final HttpResponse<InputStream> response) throws KillBillClientException {
         if (response.statusCode() == 401) {
@@ -399,6 +1314,18 @@ public class KillBillHttpClient implements Closeable {
 
     // VisibleForTesting
     <T> T deserializeResponse(final HttpResponse<InputStream> response, final Class<T> clazz) throws KillBillClientException {
+        return deserializeResponse(response, clazz, null);
+    }
+
+    private <T> T deserializeResponse(final HttpResponse<InputStream> response, final Class<T> clazz, final ExchangeEvent event) throws KillBillClientException {
+        final T result = doDeserializeResponse(response, clazz, event);
+        if (event != null) {
+            event.bodyParsed();
+        }
+        return result;
+    }
+
+    private <T> T doDeserializeResponse(final HttpResponse<InputStream> response, final Class<T> clazz, final ExchangeEvent event) throws KillBillClientException {
         // No deserialization required
         if (HttpResponse.class.isAssignableFrom(clazz)) {
             return clazz.cast(response);
@@ -409,7 +1336,15 @@ public class KillBillHttpClient implements Closeable {
             return createEmptyResult(clazz);
         }
 
-        final T result = unmarshalResponse(response, clazz);
+        final DeserializationJfrEvent jfrEvent = JfrEvents.startDeserialization();
+        final long startNanos = event == null ? 0 : System.nanoTime();
+        final T result = unmarshalResponse(response, clazz, event);
+        if (event != null) {
+            event.setDeserializationTimeNanos(System.nanoTime() - startNanos);
+        }
+        if (jfrEvent != null) {
+            jfrEvent.commit(clazz, event != null ? event.getBytesIn() : response.headers().firstValueAsLong("Content-Length").orElse(-1));
+        }
         if (KillBillObjects.class.isAssignableFrom(clazz)) {
             final KillBillObjects<?> objects = ((KillBillObjects<?>) result);
             final Optional<String> paginationCurrentOffset = response.headers().firstValue(JaxrsResource.HDR_PAGINATION_CURRENT_OFFSET);
@@ -455,20 +1390,24 @@ public class KillBillHttpClient implements Closeable {
     }
 
     @SuppressWarnings("unchecked")
-    private <T> T unmarshalResponse(final HttpResponse<InputStream> response, final Class<T> clazz) throws KillBillClientException {
+    private <T> T unmarshalResponse(final HttpResponse<InputStream> response, final Class<T> clazz, final ExchangeEvent event) throws KillBillClientException {
         final T result;
 
         final boolean requiresMapper = (String.class != clazz);
         try {
             if (DEBUG || !requiresMapper) {
-                final String content = new String(response.body().readAllBytes(), StandardCharsets.UTF_8);
+                final byte[] bytes = response.body().readAllBytes();
+                if (event != null) {
+                    event.setBytesIn(bytes.length);
+                }
+                final String content = new String(bytes, StandardCharsets.UTF_8);
                 log.debug("Received: " + content);
-                result = requiresMapper ? mapper.readValue(content, clazz) : (T) content;
+                result = requiresMapper ? codecs.readerFor(clazz).readValue(content) : (T) content;
             } else {
                 InputStream in = null;
                 try {
-                    in = response.body();
-                    result = mapper.readValue(in, clazz);
+                    in = event == null ? response.body() : event.countBytesIn(response.body());
+                    result = codecs.readerFor(clazz).readValue(in);
                 } finally {
                     if (in != null) {
                         try {
@@ -485,12 +1424,15 @@ public class KillBillHttpClient implements Closeable {
         return result;
     }
 
-    private HttpRequest.Builder getBuilderWithHeaderAndQuery(final String verb, final String url, final RequestOptions requestOptions) throws KillBillClientException {
+    private HttpRequest.Builder getBuilderWithHeaderAndQuery(final String verb, final RequestOptions requestOptions) throws KillBillClientException {
+        // The uri is set when sending the request, once the node is known
         final HttpRequest.Builder builder = HttpRequest.newBuilder()
-                                                       .uri(getURI(url, requestOptions.getQueryParams()))
                                                        .method(verb, BodyPublishers.noBody()); // Body overridden later on
 
         builder.header("User-Agent", USER_AGENT);
+        if (responseCompression && !requestOptions.getHeaders().containsKey(HTTP_HEADER_ACCEPT_ENCODING)) {
+            builder.header(HTTP_HEADER_ACCEPT_ENCODING, ContentEncodings.ACCEPTED_ENCODINGS);
+        }
 
         final String usernameMaybeOverridden = requestOptions.getUser() != null ? requestOptions.getUser() : this.username;
         final String passwordMaybeOverridden = requestOptions.getPassword() != null ? requestOptions.getPassword() : this.password;
@@ -505,96 +1447,312 @@ public class KillBillHttpClient implements Closeable {
         return builder;
     }
 
-    private URI getURI(final String url, final Map<String, ? extends Collection<String>> queryParams) throws KillBillClientException {
+    private URI getURI(final EndpointPool.Endpoint endpoint, final String url, final Map<String, ? extends Collection<String>> queryParams) throws KillBillClientException {
         try {
             if (url == null) {
                 throw new URISyntaxException("(null)", "HttpClient URL misconfigured");
             }
 
-            URI u = new URI(url);
-            if (!u.isAbsolute()) {
-                u = new URI(String.format("%s%s", this.kbServerUrl, url));
+            // Build the full url in one pass, so that it is parsed only once
+            final int fragmentIndex = url.indexOf('#');
+            final int pathEnd = fragmentIndex < 0 ? url.length() : fragmentIndex;
+            final String baseUrl = hasScheme(url) ? "" : (endpoint != null ? endpoint.getBaseUrl() : this.kbServerUrl);
+            final StringBuilder sb = new StringBuilder(baseUrl.length() + url.length() + 16 * queryParams.size());
+            sb.append(baseUrl).append(url, 0, pathEnd);
+
+            final int queryIndex = url.indexOf('?');
+            boolean hasQuery = queryIndex >= 0 && queryIndex < pathEnd - 1;
+            if (queryIndex == pathEnd - 1) {
+                // Empty query
+                sb.setLength(sb.length() - 1);
             }
-
-            if (queryParams.isEmpty()) {
-                return u;
-            }
-
-            final StringBuilder sb = new StringBuilder(u.getQuery() == null ? "" : u.getQuery());
-            queryParams.keySet().forEach(key -> {
-                for (final String value : queryParams.get(key)) {
-                    if (sb.length() > 0) {
-                        sb.append('&');
-                    }
-                    sb.append(UTF8UrlEncoder.encode(key));
+            for (final Entry<String, ? extends Collection<String>> entry : queryParams.entrySet()) {
+                for (final String value : entry.getValue()) {
+                    sb.append(hasQuery ? '&' : '?');
+                    hasQuery = true;
+                    UTF8UrlEncoder.appendEncoded(sb, entry.getKey());
                     sb.append('=');
-                    sb.append(UTF8UrlEncoder.encode(value));
+                    UTF8UrlEncoder.appendEncoded(sb, value);
                 }
-            });
-
-            final String query = sb.toString();
+            }
+            sb.append(url, pathEnd, url.length());
 
-            return new URI(buildURI(u.getScheme(),
-                                    u.getUserInfo(),
-                                    u.getHost(),
-                                    u.getPort(),
-                                    u.getAuthority(),
-                                    u.getRawPath(), // Keep the raw path (don't decode it)
-                                    query,
-                                    u.getFragment()));
+            return new URI(sb.toString());
         } catch (final URISyntaxException e) {
             throw new KillBillClientException(e);
         }
     }
 
-    private String buildURI(final String scheme,
-                            final String userInfo,
-                            final String host,
-                            final int port,
-                            final String authority,
-                            final String path,
-                            final String query,
-                            final String fragment) {
-        final StringBuilder sb = new StringBuilder();
-        if (scheme != null) {
-            sb.append(scheme);
-            sb.append(':');
-        }
-        if (host != null) {
-            sb.append("//");
-            if (userInfo != null) {
-                sb.append(userInfo);
-                sb.append('@');
-            }
-            final boolean needBrackets = ((host.indexOf(':') >= 0)
-                                          && !host.startsWith("[")
-                                          && !host.endsWith("]"));
-            if (needBrackets) {
-                sb.append('[');
-            }
-            sb.append(host);
-            if (needBrackets) {
-                sb.append(']');
-            }
-            if (port != -1) {
-                sb.append(':');
-                sb.append(port);
-            }
-        } else if (authority != null) {
-            sb.append("//");
-            sb.append(authority);
-        }
-        if (path != null) {
-            sb.append(path);
-        }
-        if (query != null) {
-            sb.append('?');
-            sb.append(query);
-        }
-        if (fragment != null) {
-            sb.append('#');
-            sb.append(fragment);
-        }
-        return sb.toString();
+    private static boolean hasScheme(final String url) {
+        for (int i = 0; i < url.length(); i++) {
+            final char c = url.charAt(i);
+            if (c == ':') {
+                return i > 0;
+            }
+            if (!Character.isLetterOrDigit(c) && c != '+' && c != '-' && c != '.') {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    public static class KillBillHttpClientBuilder {
+
+        private String kbServerUrl = System.getProperty("killbill.url", "http://127.0.0.1:8080/");
+
+        private String username, password;
+
+        private String apiKey, apiSecret;
+
+        private String proxyHost;
+
+        private Integer proxyPort;
+
+        private Duration connectTimeout, readTimeout;
+
+        private HttpClient.Version httpVersion;
+
+        private HttpClient.Redirect followRedirects = HttpClient.Redirect.NEVER;
+
+        private boolean strictSSL = true;
+
+        private String SSLProtocol;
+
+        private Executor executor;
+
+        private boolean virtualThreads;
+
+        private EndpointPool endpointPool;
+
+        private RetryPolicy retryPolicy = RetryPolicy.none();
+
+        private CircuitBreaker circuitBreaker;
+
+        private TenantBulkhead tenantBulkhead;
+
+        private HedgingPolicy hedgingPolicy;
+
+        private boolean responseCompression = true;
+
+        private Integer requestCompressionThreshold;
+        private ObjectMapper objectMapper;
+
+        private HttpClient httpClient;
+
+        private final List<ExchangeListener> exchangeListeners = new ArrayList<>();
+
+        public KillBillHttpClientBuilder withKbServerUrl(final String kbServerUrl) {
+            this.kbServerUrl = kbServerUrl;
+            return this;
+        }
+
+        public KillBillHttpClientBuilder withUsername(final String username) {
+            this.username = username;
+            return this;
+        }
+
+        public KillBillHttpClientBuilder withPassword(final String password) {
+            this.password = password;
+            return this;
+        }
+
+        public KillBillHttpClientBuilder withApiKey(final String apiKey) {
+            this.apiKey = apiKey;
+            return this;
+        }
+
+        public KillBillHttpClientBuilder withApiSecret(final String apiSecret) {
+            this.apiSecret = apiSecret;
+            return this;
+        }
+
+        public KillBillHttpClientBuilder withProxy(final String proxyHost, final Integer proxyPort) {
+            this.proxyHost = proxyHost;
+            this.proxyPort = proxyPort;
+            return this;
+        }
+
+        /**
+         * @param connectTimeOut connect timeout in milliseconds
+         */
+        public KillBillHttpClientBuilder withConnectTimeOut(final Integer connectTimeOut) {
+            return withConnectTimeout(connectTimeOut == null ? null : Duration.ofMillis(connectTimeOut));
+        }
+
+        public KillBillHttpClientBuilder withConnectTimeout(final Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        /**
+         * @param readTimeOut read timeout in milliseconds
+         */
+        public KillBillHttpClientBuilder withReadTimeOut(final Integer readTimeOut) {
+            return withReadTimeout(readTimeOut == null ? null : Duration.ofMillis(readTimeOut));
+        }
+
+        /**
+         * @param readTimeout default timeout of a request (until the response headers are received)
+         */
+        public KillBillHttpClientBuilder withReadTimeout(final Duration readTimeout) {
+            this.readTimeout = readTimeout;
+            return this;
+        }
+
+        /**
+         * @param httpVersion preferred HTTP version. {@code HTTP_2} is negotiated through ALPN over TLS and
+         *                    falls back to HTTP/1.1 if the server doesn't support it (JDK default: {@code HTTP_2})
+         */
+        public KillBillHttpClientBuilder withHttpVersion(final HttpClient.Version httpVersion) {
+            this.httpVersion = httpVersion;
+            return this;
+        }
+
+        /**
+         * @param followRedirects redirect policy of the underlying HttpClient (default: {@code NEVER}).
+         *                        This is unrelated to {@link RequestOptions#shouldFollowLocation()}, which
+         *                        follows the Location header of 201 responses.
+         */
+        public KillBillHttpClientBuilder withFollowRedirects(final HttpClient.Redirect followRedirects) {
+            this.followRedirects = Objects.requireNonNullElse(followRedirects, HttpClient.Redirect.NEVER);
+            return this;
+        }
+
+        /**
+         * @param strictSSL whether to validate SSL certificates (null means true)
+         */
+        public KillBillHttpClientBuilder withStrictSSL(final Boolean strictSSL) {
+            this.strictSSL = strictSSL == null || strictSSL;
+            return this;
+        }
+
+        public KillBillHttpClientBuilder withSSLProtocol(final String SSLProtocol) {
+            this.SSLProtocol = SSLProtocol;
+            return this;
+        }
+
+        /**
+         * Executor used by the underlying HttpClient for asynchronous tasks (and the completion of
+         * the *Async methods). By default, the JDK uses an unbounded cached thread pool.
+         *
+         * The executor is not shut down by {@link KillBillHttpClient#close()}.
+         *
+         * @param executor executor to use, takes precedence over {@link #withVirtualThreads(boolean)}
+         */
+        public KillBillHttpClientBuilder withExecutor(final Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Run the HttpClient asynchronous tasks on virtual threads (one per task), when the JDK supports it
+         * (see {@link KillBillHttpClient#isVirtualThreadSupported()}). Otherwise, the default executor is used.
+         *
+         * To run many concurrent blocking calls without growing the number of platform threads, the calls
+         * themselves should also be issued from virtual threads.
+         */
+        public KillBillHttpClientBuilder withVirtualThreads(final boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+            return this;
+        }
+
+        /**
+         * Spread requests across several Kill Bill nodes. Relative request paths are resolved against a node
+         * of the pool instead of the Kill Bill url.
+         */
+        public KillBillHttpClientBuilder withEndpointPool(final EndpointPool endpointPool) {
+            this.endpointPool = endpointPool;
+            return this;
+        }
+
+        /**
+         * Retry failed requests (by default, requests are not retried). See {@link RetryPolicy} for which
+         * requests are eligible.
+         */
+        public KillBillHttpClientBuilder withRetryPolicy(final RetryPolicy retryPolicy) {
+            this.retryPolicy = Objects.requireNonNullElse(retryPolicy, RetryPolicy.none());
+            return this;
+        }
+
+        /**
+         * Fail fast on URI templates which are failing or slow (by default, there is no circuit breaker).
+         * Rejected requests throw a {@link KillBillClientException} caused by a {@link CircuitBreakerOpenException}.
+         */
+        public KillBillHttpClientBuilder withCircuitBreaker(final CircuitBreaker circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+            return this;
+        }
+
+        /**
+         * Limit the concurrency and rate of requests of each tenant (by default, there is no limit). Rejected
+         * requests throw a {@link KillBillClientException} caused by a {@link TenantLimitExceededException}.
+         */
+        public KillBillHttpClientBuilder withTenantBulkhead(final TenantBulkhead tenantBulkhead) {
+            this.tenantBulkhead = tenantBulkhead;
+            return this;
+        }
+
+        /**
+         * Hedge GET and HEAD requests which are slow to answer (by default, requests are not hedged). Hedged
+         * requests are sent asynchronously and their response is buffered, even when called synchronously.
+         */
+        public KillBillHttpClientBuilder withHedgingPolicy(final HedgingPolicy hedgingPolicy) {
+            this.hedgingPolicy = hedgingPolicy;
+            return this;
+        }
+
+        /**
+         * Ask for compressed (gzip or deflate) responses, enabled by default. Compressed responses are always
+         * decompressed transparently, including the body of the {@code HttpResponse} returned to the caller.
+         */
+        public KillBillHttpClientBuilder withResponseCompression(final boolean responseCompression) {
+            this.responseCompression = responseCompression;
+            return this;
+        }
+
+        /**
+         * Gzip request bodies of at least {@code requestCompressionThreshold} bytes (by default, request bodies
+         * are never compressed). The Kill Bill server must be configured to inflate compressed requests.
+         */
+        public KillBillHttpClientBuilder withRequestCompressionThreshold(final Integer requestCompressionThreshold) {
+            this.requestCompressionThreshold = requestCompressionThreshold;
+            return this;
+        }
+
+        /**
+         * Mapper used to (de)serialize bodies, see {@link KillBillHttpClient#newObjectMapper()} for the expected
+         * configuration. By default, all clients share the same mapper. It must not be reconfigured once in use.
+         */
+        public KillBillHttpClientBuilder withObjectMapper(final ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+            return this;
+        }
+
+        /**
+         * HttpClient to send the requests with, e.g. to share it between clients or to stub the transport (by
+         * default, a new HttpClient is created). The settings of the connection (proxy, SSL, connect timeout,
+         * HTTP version, redirects and executor) are then left to the supplied client.
+         *
+         * The JDK HttpClient has no per-client connection pool settings: its pool size and keep-alive timeout are
+         * JVM-wide, set with the {@code jdk.httpclient.connectionPoolSize} and {@code jdk.httpclient.keepalive.timeout}
+         * system properties (e.g. on the command line), and only read when the HttpClient class is first initialized.
+         */
+        public KillBillHttpClientBuilder withHttpClient(final HttpClient httpClient) {
+            this.httpClient = httpClient;
+            return this;
+        }
+
+        /**
+         * Listen to the exchanges of the client (by default, there is no listener). Can be called several times,
+         * listeners are called in the order they were added.
+         */
+        public KillBillHttpClientBuilder withExchangeListener(final ExchangeListener exchangeListener) {
+            this.exchangeListeners.add(Objects.requireNonNull(exchangeListener, "exchangeListener"));
+            return this;
+        }
+
+        public KillBillHttpClient build() {
+            return new KillBillHttpClient(this);
+        }
     }
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.killbill.billing.client.model.KillBillObject;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Elements of a list response (e.g. a page of {@code Invoices}), deserialized one at a time while the response
+ * is read, so that memory stays flat whatever the page size. See
+ * {@link KillBillHttpClient#doGetIterator(String, Class, RequestOptions)}.
+ *
+ * The iterator must be closed (it is closed automatically once exhausted), to release the connection.
+ *
+ * @param <T> element type
+ */
+public class KillBillObjectsIterator<T extends KillBillObject> implements Iterator<T>, Closeable {
+
+    private final JsonParser parser;
+    private final ObjectReader reader;
+    private final KillBillHttpClient killBillHttpClient;
+    private final RequestOptions requestOptions;
+
+    private final int paginationCurrentOffset;
+    private final int paginationNextOffset;
+    private final int paginationTotalNbRecords;
+    private final int paginationMaxNbRecords;
+    private final String paginationNextPageUri;
+
+    private boolean closed;
+
+    KillBillObjectsIterator(final HttpResponse<InputStream> response, final ObjectReader reader, final KillBillHttpClient killBillHttpClient, final RequestOptions requestOptions) throws IOException {
+        this.reader = reader;
+        this.killBillHttpClient = killBillHttpClient;
+        this.requestOptions = requestOptions;
+
+        final HttpHeaders headers = response == null ? HttpHeaders.of(Map.of(), (name, value) -> true) : response.headers();
+        this.paginationCurrentOffset = getIntHeader(headers, JaxrsResource.HDR_PAGINATION_CURRENT_OFFSET);
+        this.paginationNextOffset = getIntHeader(headers, JaxrsResource.HDR_PAGINATION_NEXT_OFFSET);
+        this.paginationTotalNbRecords = getIntHeader(headers, JaxrsResource.HDR_PAGINATION_TOTAL_NB_RECORDS);
+        this.paginationMaxNbRecords = getIntHeader(headers, JaxrsResource.HDR_PAGINATION_MAX_NB_RECORDS);
+        this.paginationNextPageUri = headers.firstValue(JaxrsResource.HDR_PAGINATION_NEXT_PAGE_URI).orElse(null);
+
+        if (response == null) {
+            this.parser = null;
+            this.closed = true;
+            return;
+        }
+
+        this.parser = reader.getFactory().createParser(response.body());
+        try {
+            final JsonToken token = parser.nextToken();
+            if (token == null) {
+                close();
+            } else if (token != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array, got " + token);
+            } else {
+                // Position the parser on the first element
+                advance();
+            }
+        } catch (final IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !closed;
+    }
+
+    @Override
+    public T next() {
+        if (closed) {
+            throw new NoSuchElementException();
+        }
+        try {
+            final T element = reader.readValue(parser);
+            advance();
+            return element;
+        } catch (final IOException e) {
+            closeQuietly();
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return the remaining elements, as a sequential stream which closes the iterator when closed
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                            .onClose(this::closeQuietly);
+    }
+
+    /**
+     * @return the elements of the next page (fetched with the same credentials and headers), or null if this is the last page
+     */
+    public KillBillObjectsIterator<T> getNext() throws KillBillClientException {
+        if (killBillHttpClient == null || paginationNextPageUri == null) {
+            return null;
+        }
+        // The next page uri already has all query parameters
+        return killBillHttpClient.doGetIterator(paginationNextPageUri, reader, requestOptions.extend().withQueryParams(Map.of()).build());
+    }
+
+    public int getPaginationCurrentOffset() {
+        return paginationCurrentOffset;
+    }
+
+    public int getPaginationNextOffset() {
+        return paginationNextOffset;
+    }
+
+    public int getPaginationTotalNbRecords() {
+        return paginationTotalNbRecords;
+    }
+
+    public int getPaginationMaxNbRecords() {
+        return paginationMaxNbRecords;
+    }
+
+    public String getPaginationNextPageUri() {
+        return paginationNextPageUri;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            // Also closes the response body
+            parser.close();
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void advance() throws IOException {
+        final JsonToken token = parser.nextToken();
+        if (token == null || token == JsonToken.END_ARRAY) {
+            close();
+        }
+    }
+
+    private static int getIntHeader(final HttpHeaders headers, final String name) {
+        return headers.firstValue(name).map(Integer::parseInt).orElse(0);
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process latency histograms of the exchanges of a {@link KillBillHttpClient}, by endpoint (verb and URI
+ * template, e.g. {@code GET /1.0/kb/accounts/{accountId}}) and status class ({@code 2xx}, {@code 4xx}..., or
+ * {@code none} without response). It is an {@link ExchangeListener}, to register on the client builder:
+ * <pre>
+ *   final LatencyRecorder latencyRecorder = new LatencyRecorder();
+ *   final KillBillHttpClient client = KillBillHttpClient.builder().withExchangeListener(latencyRecorder).build();
+ * </pre>
+ * The time spent by the request on the network (see {@link ExchangeEvent#getNetworkTimeNanos()}) and the one
+ * spent deserializing the response are recorded separately, to tell the server latency from the client parse
+ * time.
+ *
+ * Histograms are log-linear: 32 linear buckets per power of two of microseconds, so that percentiles are within
+ * about 3% of the recorded values (longer than an hour are clamped). Bucket counters are {@link LongAdder}s,
+ * created on first use, so that threads recording concurrently don't contend.
+ */
+public class LatencyRecorder implements ExchangeListener {
+
+    private static final String[] STATUS_CLASSES = {"none", "1xx", "2xx", "3xx", "4xx", "5xx"};
+
+    private final AtomicReference<BoundedKeyMap<Endpoint>> endpoints = new AtomicReference<>(newEndpoints());
+
+    @Override
+    public void onResponseHeaders(final ExchangeEvent event) {
+        recordNetworkTime(toEndpoint(event), event.getStatus(), event.getNetworkTimeNanos());
+    }
+
+    @Override
+    public void onBodyParsed(final ExchangeEvent event) {
+        final String endpoint = toEndpoint(event);
+        if (event.getDeserializationTimeNanos() > 0) {
+            recordDeserializationTime(endpoint, event.getStatus(), event.getDeserializationTimeNanos());
+        }
+        recordCompletion(endpoint, false);
+    }
+
+    @Override
+    public void onFailure(final ExchangeEvent event, final Throwable failure) {
+        recordCompletion(toEndpoint(event), true);
+    }
+
+    /**
+     * @return the statistics of the endpoints, by endpoint
+     */
+    public Map<String, EndpointSnapshot> snapshot() {
+        return snapshot(endpoints.get());
+    }
+
+    /**
+     * @return the statistics of the endpoints, by endpoint, before they are reset (atomically)
+     */
+    public Map<String, EndpointSnapshot> snapshotAndReset() {
+        return snapshot(endpoints.getAndSet(newEndpoints()));
+    }
+
+    /**
+     * Forget everything recorded so far. Exchanges completing while resetting may be lost.
+     */
+    public void reset() {
+        endpoints.set(newEndpoints());
+    }
+
+    void recordNetworkTime(final String endpoint, final int status, final long nanos) {
+        getEndpoint(endpoint).networkTimes.get(status).record(nanos);
+    }
+
+    void recordDeserializationTime(final String endpoint, final int status, final long nanos) {
+        getEndpoint(endpoint).deserializationTimes.get(status).record(nanos);
+    }
+
+    void recordCompletion(final String endpoint, final boolean failed) {
+        final Endpoint stats = getEndpoint(endpoint);
+        stats.count.increment();
+        if (failed) {
+            stats.errorCount.increment();
+        }
+    }
+
+    private static String toEndpoint(final ExchangeEvent event) {
+        return event.getVerb() + " " + event.getUriTemplate();
+    }
+
+    private Endpoint getEndpoint(final String endpoint) {
+        return endpoints.get().getOrCreate(endpoint);
+    }
+
+    private static BoundedKeyMap<Endpoint> newEndpoints() {
+        return new BoundedKeyMap<>(ignored -> new Endpoint());
+    }
+
+    private static Map<String, EndpointSnapshot> snapshot(final BoundedKeyMap<Endpoint> endpoints) {
+        final Map<String, EndpointSnapshot> snapshots = new TreeMap<>();
+        for (final Map.Entry<String, Endpoint> entry : endpoints.asMap().entrySet()) {
+            snapshots.put(entry.getKey(), entry.getValue().snapshot());
+        }
+        return Collections.unmodifiableMap(snapshots);
+    }
+
+    private static final class Endpoint {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errorCount = new LongAdder();
+        private final HistogramsByStatusClass networkTimes = new HistogramsByStatusClass();
+        private final HistogramsByStatusClass deserializationTimes = new HistogramsByStatusClass();
+
+        EndpointSnapshot snapshot() {
+            return new EndpointSnapshot(count.sum(), errorCount.sum(), networkTimes.snapshot(), deserializationTimes.snapshot());
+        }
+    }
+
+    private static final class HistogramsByStatusClass {
+
+        private final AtomicReferenceArray<Histogram> histograms = new AtomicReferenceArray<>(STATUS_CLASSES.length);
+
+        Histogram get(final int status) {
+            final int index = status >= 100 && status < 600 ? status / 100 : 0;
+            final Histogram histogram = histograms.get(index);
+            if (histogram != null) {
+                return histogram;
+            }
+            histograms.compareAndSet(index, null, new Histogram());
+            return histograms.get(index);
+        }
+
+        Map<String, LatencySnapshot> snapshot() {
+            final Map<String, LatencySnapshot> snapshots = new LinkedHashMap<>();
+            for (int i = 0; i < STATUS_CLASSES.length; i++) {
+                final Histogram histogram = histograms.get(i);
+                if (histogram != null) {
+                    snapshots.put(STATUS_CLASSES[i], histogram.snapshot());
+                }
+            }
+            return Collections.unmodifiableMap(snapshots);
+        }
+    }
+
+    // VisibleForTesting
+    static final class Histogram {
+
+        // Values (in microseconds) below 2^SUB_BUCKET_BITS have their own bucket, above each power of two is split
+        // into 2^SUB_BUCKET_BITS buckets
+        private static final int SUB_BUCKET_BITS = 5;
+        private static final long MAX_MICROS = (1L << 32) - 1;
+        private static final int NB_BUCKETS = bucketIndex(MAX_MICROS) + 1;
+
+        private final AtomicReferenceArray<LongAdder> buckets = new AtomicReferenceArray<>(NB_BUCKETS);
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void record(final long nanos) {
+            final long micros = Math.min(MAX_MICROS, Math.max(0, nanos / 1000));
+            getBucket(bucketIndex(micros)).increment();
+            maxNanos.accumulate(nanos);
+        }
+
+        private LongAdder getBucket(final int index) {
+            final LongAdder bucket = buckets.get(index);
+            if (bucket != null) {
+                return bucket;
+            }
+            buckets.compareAndSet(index, null, new LongAdder());
+            return buckets.get(index);
+        }
+
+        static int bucketIndex(final long micros) {
+            if (micros < (1 << SUB_BUCKET_BITS)) {
+                return (int) micros;
+            }
+            final int exponent = 63 - Long.numberOfLeadingZeros(micros);
+            return ((exponent - SUB_BUCKET_BITS) << SUB_BUCKET_BITS) + (int) (micros >>> (exponent - SUB_BUCKET_BITS));
+        }
+
+        // Highest value (in microseconds) of the bucket
+        static long bucketMaxMicros(final int index) {
+            if (index < (1 << SUB_BUCKET_BITS)) {
+                return index;
+            }
+            final int shift = (index >>> SUB_BUCKET_BITS) - 1;
+            final long mantissa = (index & ((1 << SUB_BUCKET_BITS) - 1)) + (1 << SUB_BUCKET_BITS);
+            return ((mantissa + 1) << shift) - 1;
+        }
+
+        LatencySnapshot snapshot() {
+            final long[] counts = new long[NB_BUCKETS];
+            long count = 0;
+            for (int i = 0; i < NB_BUCKETS; i++) {
+                final LongAdder bucket = buckets.get(i);
+                if (bucket != null) {
+                    counts[i] = bucket.sum();
+                    count += counts[i];
+                }
+            }
+            final long max = maxNanos.get();
+            return new LatencySnapshot(count,
+                                       percentile(counts, count, 0.50, max),
+                                       percentile(counts, count, 0.90, max),
+                                       percentile(counts, count, 0.99, max),
+                                       max);
+        }
+
+        private static long percentile(final long[] counts, final long count, final double percentile, final long maxNanos) {
+            if (count == 0) {
+                return 0;
+            }
+            final long rank = Math.max(1, (long) Math.ceil(percentile * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(maxNanos, (bucketMaxMicros(i) + 1) * 1000 - 1);
+                }
+            }
+            return maxNanos;
+        }
+    }
+
+    public static final class EndpointSnapshot {
+
+        private final long count;
+        private final long errorCount;
+        private final Map<String, LatencySnapshot> networkTimes;
+        private final Map<String, LatencySnapshot> deserializationTimes;
+
+        private EndpointSnapshot(final long count, final long errorCount, final Map<String, LatencySnapshot> networkTimes, final Map<String, LatencySnapshot> deserializationTimes) {
+            this.count = count;
+            this.errorCount = errorCount;
+            this.networkTimes = networkTimes;
+            this.deserializationTimes = deserializationTimes;
+        }
+
+        /**
+         * @return number of completed exchanges
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return number of failed exchanges (no response, error status or invalid body)
+         */
+        public long getErrorCount() {
+            return errorCount;
+        }
+
+        public double getErrorRate() {
+            return count == 0 ? 0 : (double) errorCount / count;
+        }
+
+        /**
+         * @return time from sending the requests to receiving the response headers, by status class
+         */
+        public Map<String, LatencySnapshot> getNetworkTimes() {
+            return networkTimes;
+        }
+
+        /**
+         * @return time spent deserializing the response bodies (when there was one), by status class
+         */
+        public Map<String, LatencySnapshot> getDeserializationTimes() {
+            return deserializationTimes;
+        }
+
+        @Override
+        public String toString() {
+            return "EndpointSnapshot{" +
+                   "count=" + count +
+                   ", errorCount=" + errorCount +
+                   ", networkTimes=" + networkTimes +
+                   ", deserializationTimes=" + deserializationTimes +
+                   '}';
+        }
+    }
+
+    public static final class LatencySnapshot {
+
+        private final long count;
+        private final long p50Nanos;
+        private final long p90Nanos;
+        private final long p99Nanos;
+        private final long maxNanos;
+
+        private LatencySnapshot(final long count, final long p50Nanos, final long p90Nanos, final long p99Nanos, final long maxNanos) {
+            this.count = count;
+            this.p50Nanos = p50Nanos;
+            this.p90Nanos = p90Nanos;
+            this.p99Nanos = p99Nanos;
+            this.maxNanos = maxNanos;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getP50Nanos() {
+            return p50Nanos;
+        }
+
+        public long getP90Nanos() {
+            return p90Nanos;
+        }
+
+        public long getP99Nanos() {
+            return p99Nanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        @Override
+        public String toString() {
+            return "LatencySnapshot{" +
+                   "count=" + count +
+                   ", p50Nanos=" + p50Nanos +
+                   ", p90Nanos=" + p90Nanos +
+                   ", p99Nanos=" + p99Nanos +
+                   ", maxNanos=" + maxNanos +
+                   '}';
+        }
+    }
+}
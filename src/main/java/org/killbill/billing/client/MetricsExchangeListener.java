@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bridge from {@link ExchangeListener} to a metrics system (Micrometer, Dropwizard, Prometheus...): subclasses
+ * only have to record timers, sizes and counters, named after the constants below and tagged with:
+ * <ul>
+ * <li>{@value #TAG_VERB}: HTTP verb</li>
+ * <li>{@value #TAG_URI}: URI template, e.g. {@code /1.0/kb/accounts/{accountId}} (see {@link ExchangeEvent#getUriTemplate()}),
+ * {@value #OVERFLOW_URI} past {@code 1024} distinct values</li>
+ * <li>{@value #TAG_TENANT}: tenant api key, {@value #NONE} if there isn't any</li>
+ * <li>{@value #TAG_STATUS}: response status, {@value #NONE} if there wasn't any response</li>
+ * </ul>
+ * Failures are also tagged with {@value #TAG_EXCEPTION}, the simple name of the exception class (the one of the
+ * cause, for a {@link KillBillClientException} wrapping another exception).
+ */
+public abstract class MetricsExchangeListener implements ExchangeListener {
+
+    public static final String QUEUE_TIME = "killbill.client.queue.time";
+    public static final String NETWORK_TIME = "killbill.client.network.time";
+    public static final String DESERIALIZATION_TIME = "killbill.client.deserialization.time";
+    public static final String BYTES_OUT = "killbill.client.bytes.out";
+    public static final String BYTES_IN = "killbill.client.bytes.in";
+    // Exchanges which succeeded, and which failed
+    public static final String REQUESTS = "killbill.client.requests";
+    public static final String FAILURES = "killbill.client.failures";
+
+    public static final String TAG_VERB = "verb";
+    public static final String TAG_URI = "uri";
+    public static final String TAG_TENANT = "tenant";
+    public static final String TAG_STATUS = "status";
+    public static final String TAG_EXCEPTION = "exception";
+
+    public static final String NONE = "none";
+    public static final String OVERFLOW_URI = BoundedKeyMap.OVERFLOW_KEY;
+
+    private final BoundedKeyMap<String> uris = new BoundedKeyMap<>(Function.identity());
+
+    /**
+     * @param name  metric name
+     * @param tags  tags of the exchange (immutable)
+     * @param nanos duration to record
+     */
+    protected abstract void recordTime(String name, Map<String, String> tags, long nanos);
+
+    /**
+     * @param name  metric name
+     * @param tags  tags of the exchange (immutable)
+     * @param bytes size to record
+     */
+    protected abstract void recordSize(String name, Map<String, String> tags, long bytes);
+
+    /**
+     * @param name metric name
+     * @param tags tags of the exchange (immutable)
+     */
+    protected abstract void increment(String name, Map<String, String> tags);
+
+    @Override
+    public void onResponseHeaders(final ExchangeEvent event) {
+        final Map<String, String> tags = tags(event);
+        recordTime(QUEUE_TIME, tags, event.getQueueTimeNanos());
+        recordTime(NETWORK_TIME, tags, event.getNetworkTimeNanos());
+        recordSize(BYTES_OUT, tags, event.getBytesOut());
+    }
+
+    @Override
+    public void onBodyParsed(final ExchangeEvent event) {
+        final Map<String, String> tags = tags(event);
+        recordTime(DESERIALIZATION_TIME, tags, event.getDeserializationTimeNanos());
+        if (event.getBytesIn() >= 0) {
+            recordSize(BYTES_IN, tags, event.getBytesIn());
+        }
+        increment(REQUESTS, tags);
+    }
+
+    @Override
+    public void onFailure(final ExchangeEvent event, final Throwable failure) {
+        final Throwable cause = failure instanceof KillBillClientException && failure.getCause() != null ? failure.getCause() : failure;
+        increment(FAILURES, Map.of(TAG_VERB, event.getVerb(),
+                                   TAG_URI, uri(event),
+                                   TAG_TENANT, orNone(event.getTenantApiKey()),
+                                   TAG_STATUS, status(event),
+                                   TAG_EXCEPTION, cause.getClass().getSimpleName()));
+    }
+
+    private Map<String, String> tags(final ExchangeEvent event) {
+        return Map.of(TAG_VERB, event.getVerb(),
+                      TAG_URI, uri(event),
+                      TAG_TENANT, orNone(event.getTenantApiKey()),
+                      TAG_STATUS, status(event));
+    }
+
+    private String uri(final ExchangeEvent event) {
+        return uris.getOrCreate(event.getUriTemplate());
+    }
+
+    private static String status(final ExchangeEvent event) {
+        return event.getStatus() < 0 ? NONE : String.valueOf(event.getStatus());
+    }
+
+    private static String orNone(final String value) {
+        return value == null ? NONE : value;
+    }
+}
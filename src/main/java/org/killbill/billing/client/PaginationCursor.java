@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.killbill.billing.client.model.KillBillObject;
+import org.killbill.billing.client.model.KillBillObjects;
+
+/**
+ * Iterates over all the elements of a paginated list (e.g. {@code AccountApi#getAccounts}), following
+ * {@link KillBillObjects#getPaginationNextPageUri()}. Up to {@code prefetchPages} pages are fetched
+ * asynchronously ahead of the caller, so that network latency overlaps with the processing of the current page.
+ *
+ * Next pages are fetched with the {@link RequestOptions} of the first page (credentials, tenant, headers).
+ * A failure to fetch a page is thrown by {@link #next()} as a {@link CompletionException} caused by a
+ * {@link KillBillClientException}.
+ *
+ * @param <T> element type
+ */
+public class PaginationCursor<T extends KillBillObject> implements Iterator<T>, Closeable {
+
+    private final KillBillHttpClient killBillHttpClient;
+    private final Class<? extends KillBillObjects<T>> pageClass;
+    private final RequestOptions requestOptions;
+    private final int prefetchPages;
+
+    // Fetched (or being fetched) pages, not consumed yet
+    private final ArrayDeque<CompletableFuture<? extends KillBillObjects<T>>> pages = new ArrayDeque<>();
+    private String nextPageUri;
+    private boolean fetching;
+    private boolean closed;
+
+    private Iterator<T> current;
+
+    /**
+     * @param firstPage      first page, as returned by the API
+     * @param pageClass      page type (e.g. {@code Accounts.class})
+     * @param requestOptions options used to fetch the first page
+     * @param prefetchPages  maximum number of pages fetched ahead of the current one
+     */
+    public <U extends KillBillObjects<T>> PaginationCursor(final U firstPage, final Class<U> pageClass, final RequestOptions requestOptions, final int prefetchPages) {
+        if (prefetchPages < 1) {
+            throw new IllegalArgumentException("prefetchPages must be at least 1");
+        }
+        this.killBillHttpClient = firstPage == null ? null : firstPage.getKillBillHttpClient();
+        this.pageClass = pageClass;
+        // The next page uri already has all query parameters
+        this.requestOptions = requestOptions.extend().withQueryParams(Map.of()).build();
+        this.prefetchPages = prefetchPages;
+        this.current = firstPage == null ? Collections.emptyIterator() : firstPage.iterator();
+        this.nextPageUri = killBillHttpClient == null ? null : firstPage.getPaginationNextPageUri();
+
+        prefetch();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            final CompletableFuture<? extends KillBillObjects<T>> page;
+            synchronized (this) {
+                page = pages.pollFirst();
+            }
+            if (page == null) {
+                return false;
+            }
+            prefetch();
+
+            final KillBillObjects<T> objects = page.join();
+            current = objects == null ? Collections.emptyIterator() : objects.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * @return the remaining elements, as a sequential stream which closes the cursor when closed
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                            .onClose(this::close);
+    }
+
+    /**
+     * Stop prefetching, and discard the pages not consumed yet.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            for (final CompletableFuture<? extends KillBillObjects<T>> page : pages) {
+                page.cancel(false);
+            }
+            pages.clear();
+        }
+        current = Collections.emptyIterator();
+    }
+
+    private void prefetch() {
+        final CompletableFuture<? extends KillBillObjects<T>> page;
+        synchronized (this) {
+            // Pages are chained (each one gives the uri of the next one), so there is at most one request in flight
+            if (closed || fetching || nextPageUri == null || pages.size() >= prefetchPages) {
+                return;
+            }
+            fetching = true;
+            page = killBillHttpClient.doGetAsync(nextPageUri, pageClass, requestOptions);
+            pages.addLast(page);
+        }
+
+        page.whenComplete((objects, throwable) -> {
+            synchronized (this) {
+                fetching = false;
+                nextPageUri = (throwable == null && objects != null) ? objects.getPaginationNextPageUri() : null;
+            }
+            prefetch();
+        });
+    }
+}
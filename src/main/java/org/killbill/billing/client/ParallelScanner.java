@@ -0,0 +1,231 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.killbill.billing.client.model.KillBillObject;
+import org.killbill.billing.client.model.KillBillObjects;
+
+/**
+ * Scans a paginated list (e.g. {@code InvoiceApiAsync#getInvoices(Long, Long, AuditLevel, RequestOptions)}) by fetching
+ * offset windows concurrently, instead of walking the pages one by one.
+ *
+ * The first window gives the total number of records, which is then split into windows of {@code pageSize} records,
+ * at most {@code parallelism} of them being fetched at any time. When the server doesn't return the total, windows are
+ * fetched until a partial one is found.
+ *
+ * A failure to fetch a window is thrown by the stream as a {@link CompletionException} caused by a
+ * {@link KillBillClientException}.
+ */
+public class ParallelScanner {
+
+    /**
+     * Fetches the window of records starting at {@code offset}, typically an {@code *ApiAsync} list method.
+     */
+    @FunctionalInterface
+    public interface PageFetcher<U extends KillBillObjects<?>> {
+
+        CompletableFuture<U> fetch(Long offset, Long limit);
+    }
+
+    private final long pageSize;
+    private final int parallelism;
+    private final boolean preserveOrder;
+
+    public ParallelScanner(final long pageSize, final int parallelism, final boolean preserveOrder) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize must be at least 1");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        this.pageSize = pageSize;
+        this.parallelism = parallelism;
+        this.preserveOrder = preserveOrder;
+    }
+
+    public long getPageSize() {
+        return pageSize;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public boolean isPreserveOrder() {
+        return preserveOrder;
+    }
+
+    /**
+     * @param fetcher fetches one window, e.g. {@code (offset, limit) -> invoiceApi.getInvoices(offset, limit, AuditLevel.NONE, requestOptions)}
+     * @return all records, lazily fetched; closing the stream cancels the outstanding requests
+     */
+    public <T extends KillBillObject, U extends KillBillObjects<T>> Stream<T> scan(final PageFetcher<U> fetcher) {
+        return pages(fetcher).flatMap(Collection::stream);
+    }
+
+    /**
+     * @param fetcher fetches one window
+     * @return all pages, lazily fetched; closing the stream cancels the outstanding requests
+     */
+    public <U extends KillBillObjects<?>> Stream<U> pages(final PageFetcher<U> fetcher) {
+        final Scan<U> scan = new Scan<>(fetcher);
+        final int characteristics = Spliterator.NONNULL | (preserveOrder ? Spliterator.ORDERED : 0);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(scan, characteristics), false)
+                            .onClose(scan::close);
+    }
+
+    private final class Scan<U extends KillBillObjects<?>> implements Iterator<U>, Closeable {
+
+        private final PageFetcher<U> fetcher;
+        // Windows in flight (or fetched but not consumed yet), in offset order
+        private final ArrayDeque<Window<U>> windows = new ArrayDeque<>();
+
+        private boolean started;
+        private boolean firstWindowFetched;
+        private long nextOffset;
+        // Unknown until the first window is fetched
+        private long endOffset = Long.MAX_VALUE;
+        private boolean totalKnown;
+
+        private Scan(final PageFetcher<U> fetcher) {
+            this.fetcher = fetcher;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!started) {
+                started = true;
+                submit();
+            }
+            return !windows.isEmpty();
+        }
+
+        @Override
+        public U next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final Window<U> window = preserveOrder ? windows.pollFirst() : pollCompleted();
+            final U page = window.page.join();
+            if (window.offset == 0) {
+                firstWindowFetched = true;
+                if (page.getPaginationTotalNbRecords() > 0) {
+                    totalKnown = true;
+                    endOffset = page.getPaginationTotalNbRecords();
+                }
+            }
+            if (!totalKnown && page.size() < pageSize) {
+                endOffset = Math.min(endOffset, window.offset + page.size());
+            }
+            submit();
+            return page;
+        }
+
+        @Override
+        public void close() {
+            endOffset = 0;
+            for (final Window<U> window : windows) {
+                window.page.cancel(false);
+            }
+            windows.clear();
+        }
+
+        private void submit() {
+            // Until the first window tells us the total, don't speculate
+            final int maxWindows = firstWindowFetched ? parallelism : 1;
+            while (windows.size() < maxWindows && nextOffset < endOffset) {
+                windows.addLast(new Window<>(nextOffset, fetcher.fetch(nextOffset, pageSize)));
+                nextOffset += pageSize;
+            }
+        }
+
+        private Window<U> pollCompleted() {
+            final CompletableFuture<?>[] pages = new CompletableFuture<?>[windows.size()];
+            int i = 0;
+            for (final Window<U> window : windows) {
+                pages[i++] = window.page;
+            }
+            // Failures are thrown by join() in next()
+            CompletableFuture.anyOf(pages).handle((result, throwable) -> null).join();
+
+            final Iterator<Window<U>> iterator = windows.iterator();
+            while (iterator.hasNext()) {
+                final Window<U> window = iterator.next();
+                if (window.page.isDone()) {
+                    iterator.remove();
+                    return window;
+                }
+            }
+            throw new IllegalStateException("No completed window");
+        }
+    }
+
+    private static final class Window<U> {
+
+        private final long offset;
+        private final CompletableFuture<U> page;
+
+        private Window(final long offset, final CompletableFuture<U> page) {
+            this.offset = offset;
+            this.page = page;
+        }
+    }
+
+    public static ParallelScannerBuilder builder() {
+        return new ParallelScannerBuilder();
+    }
+
+    public static class ParallelScannerBuilder {
+
+        private long pageSize = 100;
+        private int parallelism = 4;
+        private boolean preserveOrder = true;
+
+        public ParallelScannerBuilder withPageSize(final long pageSize) {
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        public ParallelScannerBuilder withParallelism(final int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        public ParallelScannerBuilder withPreserveOrder(final boolean preserveOrder) {
+            this.preserveOrder = preserveOrder;
+            return this;
+        }
+
+        public ParallelScanner build() {
+            return new ParallelScanner(pageSize, parallelism, preserveOrder);
+        }
+    }
+}
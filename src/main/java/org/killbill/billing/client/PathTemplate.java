@@ -0,0 +1,115 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Precompiled path template (e.g. {@code /1.0/kb/accounts/{accountId}/tags}), split once into literal and
+ * parameter segments, to expand API paths without regular expressions. Parameter values are percent-encoded, so they
+ * must be passed raw: an already encoded value (e.g. {@code john%20doe}) is encoded again ({@code john%2520doe}).
+ * Before 1.5.2, values were inserted as is.
+ */
+public final class PathTemplate {
+
+    // Typical expanded value, e.g. a UUID
+    private static final int VALUE_LENGTH_HINT = 36;
+
+    private final String template;
+    // literals[i] precedes parameters[i], the last literal follows the last parameter
+    private final String[] literals;
+    private final String[] parameters;
+    private final int lengthHint;
+
+    private PathTemplate(final String template, final String[] literals, final String[] parameters) {
+        this.template = template;
+        this.literals = literals;
+        this.parameters = parameters;
+
+        int length = 0;
+        for (final String literal : literals) {
+            length += literal.length();
+        }
+        this.lengthHint = length + parameters.length * VALUE_LENGTH_HINT;
+    }
+
+    public static PathTemplate compile(final String template) {
+        final List<String> literals = new ArrayList<>();
+        final List<String> parameters = new ArrayList<>();
+
+        int start = 0;
+        int open;
+        while ((open = template.indexOf('{', start)) >= 0) {
+            final int close = template.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unterminated parameter in template " + template);
+            }
+            literals.add(template.substring(start, open));
+            parameters.add(template.substring(open + 1, close));
+            start = close + 1;
+        }
+        literals.add(template.substring(start));
+
+        return new PathTemplate(template, literals.toArray(new String[0]), parameters.toArray(new String[0]));
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    public List<String> getParameters() {
+        return List.of(parameters);
+    }
+
+    public String expand(final Object value) {
+        checkArity(1);
+        final StringBuilder sb = new StringBuilder(lengthHint);
+        sb.append(literals[0]);
+        UTF8UrlEncoder.appendEncoded(sb, value.toString());
+        sb.append(literals[1]);
+        return sb.toString();
+    }
+
+    /**
+     * @param values parameter values, in the order of the template
+     * @return the expanded path
+     */
+    public String expand(final Object... values) {
+        checkArity(values.length);
+        final StringBuilder sb = new StringBuilder(lengthHint);
+        for (int i = 0; i < parameters.length; i++) {
+            sb.append(literals[i]);
+            UTF8UrlEncoder.appendEncoded(sb, values[i].toString());
+        }
+        sb.append(literals[parameters.length]);
+        return sb.toString();
+    }
+
+    private void checkArity(final int nbValues) {
+        if (nbValues != parameters.length) {
+            throw new IllegalArgumentException(String.format("Template %s expects parameters %s, got %d value(s)", template, Arrays.toString(parameters), nbValues));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+}
@@ -19,17 +19,21 @@
 
 package org.killbill.billing.client;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-
-import java.util.Map.Entry;
 import java.util.Objects;
 
+import org.killbill.billing.client.util.PersistentMap;
+
+/**
+ * Options of a request. Headers and query parameters are immutable maps, shared between the options derived
+ * with {@link #extend()}: deriving options only costs the changed entries.
+ */
 public class RequestOptions {
 
+    private static final RequestOptions EMPTY = new RequestOptionsBuilder().build();
+
     private final String requestId;
 
     private final String user, password;
@@ -38,13 +42,15 @@ public class RequestOptions {
 
     private final String tenantApiKey, tenantApiSecret;
 
-    private final Map<String, String> headers;
+    private final PersistentMap<String, String> headers;
 
-    private final Map<String, Collection<String>> queryParams;
+    private final PersistentMap<String, Collection<String>> queryParams;
 
     private final Boolean followLocation;
 
-    private final Map<String, Collection<String>> queryParamsForFollow;
+    private final PersistentMap<String, Collection<String>> queryParamsForFollow;
+
+    private final String uriTemplate;
 
     public RequestOptions(final String requestId,
                           final String user, final String password,
@@ -54,6 +60,18 @@ public class RequestOptions {
                           final Map<String, ? extends Collection<String>> queryParams,
                           final Boolean followLocation,
                           final Map<String, ? extends Collection<String>> queryParamsForFollow) {
+        this(requestId, user, password, createdBy, reason, comment, tenantApiKey, tenantApiSecret, headers, queryParams, followLocation, queryParamsForFollow, null);
+    }
+
+    public RequestOptions(final String requestId,
+                          final String user, final String password,
+                          final String createdBy, final String reason, final String comment,
+                          final String tenantApiKey, final String tenantApiSecret,
+                          final Map<String, String> headers,
+                          final Map<String, ? extends Collection<String>> queryParams,
+                          final Boolean followLocation,
+                          final Map<String, ? extends Collection<String>> queryParamsForFollow,
+                          final String uriTemplate) {
         this.requestId = requestId;
         this.user = user;
         this.password = password;
@@ -62,10 +80,22 @@ public class RequestOptions {
         this.comment = comment;
         this.tenantApiKey = tenantApiKey;
         this.tenantApiSecret = tenantApiSecret;
-        this.headers = (headers != null) ? new HashMap<>(headers) : Collections.emptyMap();
-        this.queryParams = (queryParams != null) ? new HashMap<>(queryParams) : Collections.emptyMap();
+        this.headers = PersistentMap.copyOf(headers);
+        this.queryParams = toQueryParams(queryParams);
         this.followLocation = followLocation;
-        this.queryParamsForFollow = (queryParamsForFollow != null) ? new HashMap<>(queryParamsForFollow) : Collections.emptyMap();
+        this.queryParamsForFollow = toQueryParams(queryParamsForFollow);
+        this.uriTemplate = uriTemplate;
+    }
+
+    // Values are copied into immutable lists, unless the map comes from another RequestOptions
+    private static PersistentMap<String, Collection<String>> toQueryParams(final Map<String, ? extends Collection<String>> queryParams) {
+        if (queryParams == null || queryParams.isEmpty()) {
+            return PersistentMap.empty();
+        }
+        if (queryParams instanceof PersistentMap) {
+            return PersistentMap.copyOf(queryParams);
+        }
+        return PersistentMap.copyOf(queryParams, List::copyOf);
     }
 
     public String getRequestId() {
@@ -100,12 +130,18 @@ public class RequestOptions {
         return tenantApiSecret;
     }
 
+    /**
+     * @return the headers (immutable)
+     */
     public Map<String, String> getHeaders() {
-        return Map.copyOf(this.headers);
+        return headers;
     }
 
+    /**
+     * @return the query parameters (immutable)
+     */
     public Map<String, Collection<String>> getQueryParams() {
-        return new HashMap<>(queryParams);
+        return queryParams;
     }
 
     public Boolean getFollowLocation() {
@@ -119,20 +155,33 @@ public class RequestOptions {
         return followLocation;
     }
 
+    /**
+     * @return the query parameters to follow the Location header with (immutable)
+     */
     public Map<String, Collection<String>> getQueryParamsForFollow() {
-        return new HashMap<>(queryParamsForFollow);
+        return queryParamsForFollow;
+    }
+
+    /**
+     * @return the path template of the API call (e.g. {@code /1.0/kb/accounts/{accountId}}), null if unknown
+     */
+    public String getUriTemplate() {
+        return uriTemplate;
     }
 
     public RequestOptionsBuilder extend() {
         final RequestOptionsBuilder builder = new RequestOptionsBuilder();
-        builder.headers.putAll(this.headers);
+        // Shared, not copied
+        builder.headers = this.headers;
+        builder.queryParams = this.queryParams;
+        builder.queryParamsForFollow = this.queryParamsForFollow;
         return builder
                 .withRequestId(requestId)
                 .withUser(user).withPassword(password)
                 .withCreatedBy(createdBy).withReason(reason).withComment(comment)
                 .withTenantApiKey(tenantApiKey).withTenantApiSecret(tenantApiSecret)
-                .withQueryParams(queryParams)
-                .withFollowLocation(followLocation).withQueryParamsForFollow(queryParamsForFollow);
+                .withFollowLocation(followLocation)
+                .withUriTemplate(uriTemplate);
     }
 
     @Override
@@ -157,7 +206,8 @@ public class RequestOptions {
                && Objects.equals(headers, that.headers)
                && Objects.equals(queryParams, that.queryParams)
                && Objects.equals(followLocation, that.followLocation)
-               && Objects.equals(queryParamsForFollow, that.queryParamsForFollow);
+               && Objects.equals(queryParamsForFollow, that.queryParamsForFollow)
+               && Objects.equals(uriTemplate, that.uriTemplate);
     }
 
     @Override
@@ -174,7 +224,8 @@ public class RequestOptions {
                 headers,
                 queryParams,
                 followLocation,
-                queryParamsForFollow);
+                queryParamsForFollow,
+                uriTemplate);
     }
 
     @Override
@@ -193,6 +244,7 @@ public class RequestOptions {
         sb.append("    queryParams: ").append(queryParams).append("\n");
         sb.append("    followLocation: ").append(followLocation).append("\n");
         sb.append("    queryParamsForFollow: ").append(queryParamsForFollow).append("\n");
+        sb.append("    uriTemplate: ").append(uriTemplate).append("\n");
         sb.append("}");
         return sb.toString();
     }
@@ -210,7 +262,7 @@ public class RequestOptions {
      * @return an empty RequestOptions object.
      */
     public static RequestOptions empty() {
-        return new RequestOptionsBuilder().build();
+        return EMPTY;
     }
 
     public static class RequestOptionsBuilder {
@@ -223,13 +275,15 @@ public class RequestOptions {
 
         private String tenantApiKey, tenantApiSecret;
 
-        private final Map<String, String> headers = new HashMap<>();
+        private PersistentMap<String, String> headers = PersistentMap.empty();
 
-        private Map<String, ? extends Collection<String>> queryParams = new HashMap<>();
+        private PersistentMap<String, Collection<String>> queryParams = PersistentMap.empty();
 
         private Boolean followLocation;
 
-        private Map<String, ? extends Collection<String>> queryParamsForFollow = new HashMap<>();
+        private PersistentMap<String, Collection<String>> queryParamsForFollow = PersistentMap.empty();
+
+        private String uriTemplate;
 
         public RequestOptionsBuilder withRequestId(final String requestId) {
             this.requestId = requestId;
@@ -272,12 +326,12 @@ public class RequestOptions {
         }
 
         public RequestOptionsBuilder withHeader(final String header, final String value) {
-            this.headers.put(header, value);
+            this.headers = this.headers.with(header, value);
             return this;
         }
 
         public RequestOptionsBuilder withQueryParams(final Map<String, ? extends Collection<String>> queryParams) {
-            this.queryParams = toMutableMapValues(queryParams);
+            this.queryParams = toQueryParams(queryParams);
             return this;
         }
 
@@ -287,29 +341,22 @@ public class RequestOptions {
         }
 
         public RequestOptionsBuilder withQueryParamsForFollow(final Map<String, ? extends Collection<String>> queryParamsForFollow) {
-            this.queryParamsForFollow = toMutableMapValues(queryParamsForFollow);
+            this.queryParamsForFollow = toQueryParams(queryParamsForFollow);
             return this;
         }
 
-        public RequestOptions build() {
-            return new RequestOptions(requestId, user, password, createdBy, reason, comment, tenantApiKey, tenantApiSecret,
-                                      headers, queryParams, followLocation, queryParamsForFollow);
-        }
-
         /**
-         * Make sure that map collection values are mutable. Used to rebuild method parameter in
-         * {@link #withQueryParams(Map)} and {@link #withQueryParamsForFollow(Map)} .
-         *
-         * See {@code TestRequestOptions} for why we may need this.
+         * @param uriTemplate path template of the API call, used to group requests (circuit breaker, metrics):
+         *                    set by the generated APIs, requests without it are grouped by a template guessed from their path
          */
-        Map<String, ? extends Collection<String>> toMutableMapValues(final Map<String, ? extends Collection<String>> map) {
-            final Map<String, Collection<String>> result = new HashMap<>();
-
-            for (final Entry<String, ? extends Collection<String>> entry : map.entrySet()) {
-                result.put(entry.getKey(), new ArrayList<>(entry.getValue()));
-            }
+        public RequestOptionsBuilder withUriTemplate(final String uriTemplate) {
+            this.uriTemplate = uriTemplate;
+            return this;
+        }
 
-            return result;
+        public RequestOptions build() {
+            return new RequestOptions(requestId, user, password, createdBy, reason, comment, tenantApiKey, tenantApiSecret,
+                                      headers, queryParams, followLocation, queryParamsForFollow, uriTemplate);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.io.InputStream;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.killbill.billing.client.model.gen.Account;
+import org.killbill.billing.client.model.gen.PaymentTransaction;
+import org.killbill.billing.client.util.Preconditions;
+
+/**
+ * Retries of failed requests, with a jittered exponential backoff.
+ *
+ * GET, HEAD and OPTIONS requests are always retried. Other requests are only retried when Kill Bill deduplicates
+ * them, i.e. payment transactions carrying a {@link PaymentTransaction#getTransactionExternalKey()} and account
+ * creations carrying an {@link Account#getExternalKey()}. Parent keys (e.g. {@code paymentExternalKey} on a capture or
+ * {@code bundleExternalKey} on an add-on) and the request id ({@link JaxrsResource#HDR_REQUEST_ID}, only used for
+ * correlation) don't make a request safe to resend: retrying everything else requires
+ * {@link RetryPolicyBuilder#withRetryNonIdempotent(boolean)}.
+ *
+ * Retry counters are kept per policy instance.
+ */
+public class RetryPolicy {
+
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final double backoffMultiplier;
+    private final Set<Integer> retryableStatusCodes;
+    private final boolean retryOnConnectionFailure;
+    private final boolean retryNonIdempotent;
+
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+
+    private RetryPolicy(final RetryPolicyBuilder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.initialBackoffMillis = builder.initialBackoff.toMillis();
+        this.maxBackoffMillis = Math.max(builder.maxBackoff.toMillis(), initialBackoffMillis);
+        this.backoffMultiplier = builder.backoffMultiplier;
+        this.retryableStatusCodes = Set.copyOf(builder.retryableStatusCodes);
+        this.retryOnConnectionFailure = builder.retryOnConnectionFailure;
+        this.retryNonIdempotent = builder.retryNonIdempotent;
+    }
+
+    /**
+     * @return a policy which never retries
+     */
+    public static RetryPolicy none() {
+        return builder().withMaxAttempts(1).build();
+    }
+
+    public static RetryPolicyBuilder builder() {
+        return new RetryPolicyBuilder();
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * @return total number of retries (attempts after the first one)
+     */
+    public long getRetryCount() {
+        return retries.sum();
+    }
+
+    /**
+     * @return number of requests which still failed after the last attempt
+     */
+    public long getExhaustedCount() {
+        return exhausted.sum();
+    }
+
+    /**
+     * @return whether the request can safely be sent more than once
+     */
+    public boolean isRetryable(final String verb, final Object body, final RequestOptions requestOptions) {
+        if (maxAttempts <= 1) {
+            return false;
+        }
+        if ("GET".equals(verb) || "HEAD".equals(verb) || "OPTIONS".equals(verb)) {
+            return true;
+        }
+        return retryNonIdempotent || isDeduplicatedByServer(verb, body);
+    }
+
+    /**
+     * @param attempt  attempt number (starting at 1) which just completed
+     * @param response response, if any
+     * @param failure  failure, if any
+     * @return whether a new attempt should be made
+     */
+    boolean shouldRetry(final int attempt, final HttpResponse<InputStream> response, final KillBillClientException failure) {
+        final boolean retryableOutcome = failure != null ? isRetryableFailure(failure) : retryableStatusCodes.contains(response.statusCode());
+        if (!retryableOutcome) {
+            return false;
+        }
+        if (attempt >= maxAttempts) {
+            exhausted.increment();
+            return false;
+        }
+        retries.increment();
+        return true;
+    }
+
+    /**
+     * Full jitter: a random delay between 0 and the exponential backoff of this attempt. A Retry-After header
+     * (in seconds) takes precedence if it doesn't exceed the maximum backoff.
+     *
+     * @param attempt  attempt number (starting at 1) which just completed
+     * @param response response, if any
+     * @return delay before the next attempt, in milliseconds
+     */
+    long getBackoffMillis(final int attempt, final HttpResponse<InputStream> response) {
+        if (response != null) {
+            final Optional<String> retryAfter = response.headers().firstValue("Retry-After");
+            if (retryAfter.isPresent()) {
+                try {
+                    final long retryAfterMillis = Long.parseLong(retryAfter.get().trim()) * 1000;
+                    if (retryAfterMillis >= 0 && retryAfterMillis <= maxBackoffMillis) {
+                        return retryAfterMillis;
+                    }
+                } catch (final NumberFormatException ignored) {
+                    // HTTP date, not supported
+                }
+            }
+        }
+
+        final double backoff = Math.min(maxBackoffMillis, initialBackoffMillis * Math.pow(backoffMultiplier, attempt - 1));
+        return (long) (ThreadLocalRandom.current().nextDouble() * backoff);
+    }
+
+    private boolean isRetryableFailure(final KillBillClientException failure) {
+        // Read timeouts are not retried: the request may still be processed by the server
+        return retryOnConnectionFailure && failure.getResponse() == null && EndpointPool.isConnectionFailure(failure);
+    }
+
+    private static boolean isDeduplicatedByServer(final String verb, final Object body) {
+        if (body instanceof PaymentTransaction) {
+            return ((PaymentTransaction) body).getTransactionExternalKey() != null;
+        }
+        if (body instanceof Account) {
+            return "POST".equals(verb) && ((Account) body).getExternalKey() != null;
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy{" +
+               "maxAttempts=" + maxAttempts +
+               ", initialBackoffMillis=" + initialBackoffMillis +
+               ", maxBackoffMillis=" + maxBackoffMillis +
+               ", backoffMultiplier=" + backoffMultiplier +
+               ", retryableStatusCodes=" + retryableStatusCodes +
+               ", retryOnConnectionFailure=" + retryOnConnectionFailure +
+               ", retryNonIdempotent=" + retryNonIdempotent +
+               '}';
+    }
+
+    public static class RetryPolicyBuilder {
+
+        private int maxAttempts = 3;
+
+        private Duration initialBackoff = Duration.ofMillis(100);
+
+        private Duration maxBackoff = Duration.ofSeconds(2);
+
+        private double backoffMultiplier = 2.0;
+
+        private Collection<Integer> retryableStatusCodes = Set.of(502, 503, 504);
+
+        private boolean retryOnConnectionFailure = true;
+
+        private boolean retryNonIdempotent = false;
+
+        /**
+         * @param maxAttempts total number of attempts, including the first one
+         */
+        public RetryPolicyBuilder withMaxAttempts(final int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("maxAttempts must be at least 1");
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public RetryPolicyBuilder withInitialBackoff(final Duration initialBackoff) {
+            this.initialBackoff = Preconditions.checkNotNull(initialBackoff, "initialBackoff cannot be null");
+            return this;
+        }
+
+        public RetryPolicyBuilder withMaxBackoff(final Duration maxBackoff) {
+            this.maxBackoff = Preconditions.checkNotNull(maxBackoff, "maxBackoff cannot be null");
+            return this;
+        }
+
+        public RetryPolicyBuilder withBackoffMultiplier(final double backoffMultiplier) {
+            if (backoffMultiplier < 1) {
+                throw new IllegalArgumentException("backoffMultiplier must be at least 1");
+            }
+            this.backoffMultiplier = backoffMultiplier;
+            return this;
+        }
+
+        public RetryPolicyBuilder withRetryableStatusCodes(final Collection<Integer> retryableStatusCodes) {
+            this.retryableStatusCodes = Preconditions.checkNotNull(retryableStatusCodes, "retryableStatusCodes cannot be null");
+            return this;
+        }
+
+        /**
+         * @param retryOnConnectionFailure whether to retry connection failures (refused, reset, connect timeout)
+         */
+        public RetryPolicyBuilder withRetryOnConnectionFailure(final boolean retryOnConnectionFailure) {
+            this.retryOnConnectionFailure = retryOnConnectionFailure;
+            return this;
+        }
+
+        /**
+         * @param retryNonIdempotent whether to also retry POST, PUT and DELETE requests which Kill Bill doesn't
+         *                           deduplicate: a retry after a read or connection failure may apply them twice
+         */
+        public RetryPolicyBuilder withRetryNonIdempotent(final boolean retryNonIdempotent) {
+            this.retryNonIdempotent = retryNonIdempotent;
+            return this;
+        }
+
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,385 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.killbill.billing.client.util.Preconditions;
+
+/**
+ * Per-tenant isolation for a {@link KillBillHttpClient} shared by several tenants: each tenant (identified by the
+ * effective api key of the request, see {@link RequestOptions#getTenantApiKey()}) gets its own concurrency limit
+ * (bulkhead) and token-bucket rate limit, so that one tenant's batch job cannot starve the others.
+ *
+ * Requests over the limits either wait (up to {@code maxWaitTime}, in FIFO order) or, if {@code maxWaitTime}
+ * is zero, are rejected right away with a {@link KillBillClientException} caused by a {@link TenantLimitExceededException}.
+ * Async requests wait without blocking a thread.
+ */
+public class TenantBulkhead {
+
+    // Requests without any api key
+    static final String NO_TENANT = "";
+
+    private final int maxConcurrentRequests;
+    private final double requestsPerSecond;
+    private final double burst;
+    private final long maxWaitNanos;
+
+    private final ConcurrentMap<String, Tenant> tenants = new ConcurrentHashMap<>();
+
+    private TenantBulkhead(final TenantBulkheadBuilder builder) {
+        this.maxConcurrentRequests = builder.maxConcurrentRequests;
+        this.requestsPerSecond = builder.requestsPerSecond;
+        this.burst = builder.burst > 0 ? builder.burst : Math.max(1, Math.ceil(builder.requestsPerSecond));
+        this.maxWaitNanos = builder.maxWaitTime.toNanos();
+    }
+
+    public static TenantBulkheadBuilder builder() {
+        return new TenantBulkheadBuilder();
+    }
+
+    /**
+     * @return statistics of all tenants seen so far, by api key (the empty string for requests without api key)
+     */
+    public Map<String, TenantStats> getStats() {
+        final Map<String, TenantStats> stats = new TreeMap<>();
+        for (final Map.Entry<String, Tenant> entry : tenants.entrySet()) {
+            stats.put(entry.getKey(), entry.getValue().getStats());
+        }
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /**
+     * @param apiKey tenant api key, null if none
+     * @return statistics of the tenant
+     */
+    public TenantStats getStats(final String apiKey) {
+        final Tenant tenant = tenants.get(apiKey == null ? NO_TENANT : apiKey);
+        return tenant == null ? new TenantStats(0, 0, 0, 0, 0, 0) : tenant.getStats();
+    }
+
+    /**
+     * @param apiKey tenant api key, null if none
+     * @return a future completed with a permit once the request may proceed, or failed with a
+     * {@link KillBillClientException} if the request is rejected. Cancelling the future gives up the request's
+     * place in the queue.
+     */
+    CompletableFuture<Permit> acquire(final String apiKey) {
+        final String key = apiKey == null ? NO_TENANT : apiKey;
+        return tenants.computeIfAbsent(key, Tenant::new).acquire();
+    }
+
+    @Override
+    public String toString() {
+        return "TenantBulkhead{" +
+               "maxConcurrentRequests=" + maxConcurrentRequests +
+               ", requestsPerSecond=" + requestsPerSecond +
+               ", burst=" + burst +
+               ", maxWaitNanos=" + maxWaitNanos +
+               '}';
+    }
+
+    final class Permit {
+
+        private final Tenant tenant;
+
+        private Permit(final Tenant tenant) {
+            this.tenant = tenant;
+        }
+
+        void release() {
+            tenant.release();
+        }
+    }
+
+    public static final class TenantStats {
+
+        private final int inFlight;
+        private final int queued;
+        private final long acquiredCount;
+        private final long rejectedCount;
+        private final long totalQueueTimeNanos;
+        private final long maxQueueTimeNanos;
+
+        private TenantStats(final int inFlight, final int queued, final long acquiredCount, final long rejectedCount, final long totalQueueTimeNanos, final long maxQueueTimeNanos) {
+            this.inFlight = inFlight;
+            this.queued = queued;
+            this.acquiredCount = acquiredCount;
+            this.rejectedCount = rejectedCount;
+            this.totalQueueTimeNanos = totalQueueTimeNanos;
+            this.maxQueueTimeNanos = maxQueueTimeNanos;
+        }
+
+        public int getInFlight() {
+            return inFlight;
+        }
+
+        public int getQueued() {
+            return queued;
+        }
+
+        public long getAcquiredCount() {
+            return acquiredCount;
+        }
+
+        public long getRejectedCount() {
+            return rejectedCount;
+        }
+
+        /**
+         * @return time spent waiting for a permit, summed over all requests
+         */
+        public Duration getTotalQueueTime() {
+            return Duration.ofNanos(totalQueueTimeNanos);
+        }
+
+        public Duration getMaxQueueTime() {
+            return Duration.ofNanos(maxQueueTimeNanos);
+        }
+
+        @Override
+        public String toString() {
+            return "TenantStats{" +
+                   "inFlight=" + inFlight +
+                   ", queued=" + queued +
+                   ", acquiredCount=" + acquiredCount +
+                   ", rejectedCount=" + rejectedCount +
+                   ", totalQueueTimeNanos=" + totalQueueTimeNanos +
+                   ", maxQueueTimeNanos=" + maxQueueTimeNanos +
+                   '}';
+        }
+    }
+
+    private static final class Waiter {
+
+        private final CompletableFuture<Permit> future = new CompletableFuture<>();
+        private final long enqueuedAtNanos = System.nanoTime();
+    }
+
+    private final class Tenant {
+
+        private final String apiKey;
+        private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+
+        private int inFlight;
+        private double tokens = burst;
+        private long lastRefillNanos = System.nanoTime();
+        private boolean refillScheduled;
+
+        private long acquiredCount;
+        private long rejectedCount;
+        private long totalQueueTimeNanos;
+        private long maxQueueTimeNanos;
+
+        private Tenant(final String apiKey) {
+            this.apiKey = apiKey;
+        }
+
+        CompletableFuture<Permit> acquire() {
+            final Waiter waiter;
+            synchronized (this) {
+                if (waiters.isEmpty() && tryTake()) {
+                    acquiredCount++;
+                    return CompletableFuture.completedFuture(new Permit(this));
+                }
+                if (maxWaitNanos <= 0) {
+                    rejectedCount++;
+                    return CompletableFuture.failedFuture(newRejection());
+                }
+                waiter = new Waiter();
+                waiters.addLast(waiter);
+                scheduleRefillIfNeeded();
+            }
+
+            waiter.future.whenComplete((permit, failure) -> {
+                if (failure instanceof CancellationException) {
+                    cancel(waiter);
+                }
+            });
+            CompletableFuture.delayedExecutor(maxWaitNanos, TimeUnit.NANOSECONDS).execute(() -> expire(waiter));
+            return waiter.future;
+        }
+
+        void release() {
+            final List<Waiter> granted;
+            synchronized (this) {
+                inFlight--;
+                granted = grant();
+                // Waiters blocked on concurrency may now be blocked on the rate limit
+                scheduleRefillIfNeeded();
+            }
+            complete(granted);
+        }
+
+        synchronized TenantStats getStats() {
+            return new TenantStats(inFlight, waiters.size(), acquiredCount, rejectedCount, totalQueueTimeNanos, maxQueueTimeNanos);
+        }
+
+        private void expire(final Waiter waiter) {
+            synchronized (this) {
+                if (!waiters.remove(waiter)) {
+                    return;
+                }
+                rejectedCount++;
+            }
+            waiter.future.completeExceptionally(newRejection());
+        }
+
+        private void cancel(final Waiter waiter) {
+            final List<Waiter> granted;
+            synchronized (this) {
+                if (!waiters.remove(waiter)) {
+                    return;
+                }
+                granted = grant();
+                scheduleRefillIfNeeded();
+            }
+            complete(granted);
+        }
+
+        private void refill() {
+            final List<Waiter> granted;
+            synchronized (this) {
+                refillScheduled = false;
+                granted = grant();
+                scheduleRefillIfNeeded();
+            }
+            complete(granted);
+        }
+
+        // Must hold the lock
+        private List<Waiter> grant() {
+            List<Waiter> granted = null;
+            while (!waiters.isEmpty() && tryTake()) {
+                final Waiter waiter = waiters.pollFirst();
+                final long queueTimeNanos = System.nanoTime() - waiter.enqueuedAtNanos;
+                acquiredCount++;
+                totalQueueTimeNanos += queueTimeNanos;
+                maxQueueTimeNanos = Math.max(maxQueueTimeNanos, queueTimeNanos);
+                if (granted == null) {
+                    granted = new ArrayList<>();
+                }
+                granted.add(waiter);
+            }
+            return granted == null ? Collections.emptyList() : granted;
+        }
+
+        private void complete(final List<Waiter> granted) {
+            for (final Waiter waiter : granted) {
+                // Completed outside of the lock, as dependent stages may run synchronously
+                final Permit permit = new Permit(this);
+                if (!waiter.future.complete(permit)) {
+                    // Cancelled after being granted
+                    permit.release();
+                }
+            }
+        }
+
+        // Must hold the lock
+        private boolean tryTake() {
+            if (inFlight >= maxConcurrentRequests) {
+                return false;
+            }
+            if (!Double.isInfinite(requestsPerSecond)) {
+                final long now = System.nanoTime();
+                tokens = Math.min(burst, tokens + (now - lastRefillNanos) * requestsPerSecond / TimeUnit.SECONDS.toNanos(1));
+                lastRefillNanos = now;
+                if (tokens < 1) {
+                    return false;
+                }
+                tokens -= 1;
+            }
+            inFlight++;
+            return true;
+        }
+
+        // Must hold the lock. Waiters blocked on the rate limit (rather than on concurrency) aren't woken up by a
+        // release, so a refill is scheduled for when the next token is available. While blocked on concurrency,
+        // the next release reschedules it.
+        private void scheduleRefillIfNeeded() {
+            if (refillScheduled || waiters.isEmpty() || Double.isInfinite(requestsPerSecond) || inFlight >= maxConcurrentRequests) {
+                return;
+            }
+            final long delayNanos = (long) Math.ceil((1 - tokens) * TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+            refillScheduled = true;
+            CompletableFuture.delayedExecutor(Math.max(delayNanos, 1), TimeUnit.NANOSECONDS).execute(this::refill);
+        }
+
+        private KillBillClientException newRejection() {
+            return new KillBillClientException(new TenantLimitExceededException(apiKey.isEmpty() ? null : apiKey));
+        }
+    }
+
+    public static class TenantBulkheadBuilder {
+
+        private int maxConcurrentRequests = Integer.MAX_VALUE;
+
+        private double requestsPerSecond = Double.POSITIVE_INFINITY;
+
+        private double burst;
+
+        private Duration maxWaitTime = Duration.ZERO;
+
+        /**
+         * @param maxConcurrentRequests maximum number of in-flight requests per tenant
+         */
+        public TenantBulkheadBuilder withMaxConcurrentRequests(final int maxConcurrentRequests) {
+            if (maxConcurrentRequests < 1) {
+                throw new IllegalArgumentException("maxConcurrentRequests must be at least 1");
+            }
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
+        /**
+         * @param requestsPerSecond sustained request rate per tenant
+         * @param burst             number of requests which can be sent at once after an idle period (0 for the default, one second worth of requests)
+         */
+        public TenantBulkheadBuilder withRateLimit(final double requestsPerSecond, final int burst) {
+            if (requestsPerSecond <= 0 || burst < 0) {
+                throw new IllegalArgumentException("requestsPerSecond must be positive and burst cannot be negative");
+            }
+            this.requestsPerSecond = requestsPerSecond;
+            this.burst = burst;
+            return this;
+        }
+
+        /**
+         * @param maxWaitTime how long a request over the limits waits for a permit before being rejected (zero to reject right away)
+         */
+        public TenantBulkheadBuilder withMaxWaitTime(final Duration maxWaitTime) {
+            this.maxWaitTime = Preconditions.checkNotNull(maxWaitTime, "maxWaitTime cannot be null");
+            return this;
+        }
+
+        public TenantBulkhead build() {
+            return new TenantBulkhead(this);
+        }
+    }
+}
@@ -54,9 +54,18 @@ public final class UTF8UrlEncoder {
         return encode(input, false);
     }
 
+    /**
+     * @return the input itself (as a {@code String}) when nothing needs to be escaped
+     */
     public static String encode(final CharSequence input, final boolean encodeSpaceUsingPlus) {
+        final int firstUnsafe = indexOfUnsafe(input);
+        if (firstUnsafe < 0) {
+            return input.toString();
+        }
+
         final StringBuilder sb = new StringBuilder(input.length() + 16);
-        appendEncoded(sb, input, encodeSpaceUsingPlus);
+        sb.append(input, 0, firstUnsafe);
+        appendEncoded(sb, input, firstUnsafe, encodeSpaceUsingPlus);
         return sb.toString();
     }
 
@@ -65,8 +74,74 @@ public final class UTF8UrlEncoder {
     }
 
     public static StringBuilder appendEncoded(final StringBuilder sb, final CharSequence input, final boolean encodeSpaceUsingPlus) {
+        final int firstUnsafe = indexOfUnsafe(input);
+        if (firstUnsafe < 0) {
+            return sb.append(input);
+        }
+
+        sb.append(input, 0, firstUnsafe);
+        return appendEncoded(sb, input, firstUnsafe, encodeSpaceUsingPlus);
+    }
+
+    /**
+     * @return the number of bytes (or characters) of the encoded input
+     */
+    public static int encodedLength(final CharSequence input, final boolean encodeSpaceUsingPlus) {
+        int length = 0;
         int c;
         for (int i = 0; i < input.length(); i += Character.charCount(c)) {
+            c = Character.codePointAt(input, i);
+            if (c <= 127) {
+                length += (SAFE_ASCII[c] || (encodeSpaceUsingPlus && c == 32)) ? 1 : 3;
+            } else {
+                length += 3 * utf8Length(c);
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Write the encoded input as ASCII bytes, without intermediate {@code String}.
+     *
+     * @param buffer destination, see {@link #encodedLength(CharSequence, boolean)} to size it
+     * @param offset position of the first byte to write
+     * @return position following the last byte written
+     * @throws ArrayIndexOutOfBoundsException if the buffer is too small
+     */
+    public static int encode(final CharSequence input, final boolean encodeSpaceUsingPlus, final byte[] buffer, final int offset) {
+        int position = offset;
+        int c;
+        for (int i = 0; i < input.length(); i += Character.charCount(c)) {
+            c = Character.codePointAt(input, i);
+            if (c <= 127 && SAFE_ASCII[c]) {
+                buffer[position++] = (byte) c;
+            } else if (c == 32 && encodeSpaceUsingPlus) {
+                buffer[position++] = '+';
+            } else if (c <= 127) {
+                position = putPercentEncoded(buffer, position, c);
+            } else {
+                final int utf8Length = utf8Length(c);
+                for (int j = 0; j < utf8Length; j++) {
+                    position = putPercentEncoded(buffer, position, utf8Byte(c, utf8Length, j));
+                }
+            }
+        }
+        return position;
+    }
+
+    private static int indexOfUnsafe(final CharSequence input) {
+        for (int i = 0; i < input.length(); i++) {
+            final char c = input.charAt(i);
+            if (c > 127 || !SAFE_ASCII[c]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static StringBuilder appendEncoded(final StringBuilder sb, final CharSequence input, final int start, final boolean encodeSpaceUsingPlus) {
+        int c;
+        for (int i = start; i < input.length(); i += Character.charCount(c)) {
             c = Character.codePointAt(input, i);
             if (c <= 127) {
                 if (SAFE_ASCII[c]) {
@@ -75,7 +150,10 @@ public final class UTF8UrlEncoder {
                     appendSingleByteEncoded(sb, c, encodeSpaceUsingPlus);
                 }
             } else {
-                appendMultiByteEncoded(sb, c, encodeSpaceUsingPlus);
+                final int utf8Length = utf8Length(c);
+                for (int j = 0; j < utf8Length; j++) {
+                    appendSingleByteEncoded(sb, utf8Byte(c, utf8Length, j), encodeSpaceUsingPlus);
+                }
             }
         }
         return sb;
@@ -92,19 +170,30 @@ public final class UTF8UrlEncoder {
         sb.append(HEX[value & 0xF]);
     }
 
-    private static void appendMultiByteEncoded(final StringBuilder sb, final int value, final boolean encodeSpaceUsingPlus) {
-        if (value < 0x800) {
-            appendSingleByteEncoded(sb, (0xc0 | (value >> 6)), encodeSpaceUsingPlus);
-            appendSingleByteEncoded(sb, (0x80 | (value & 0x3f)), encodeSpaceUsingPlus);
-        } else if (value < 0x10000) {
-            appendSingleByteEncoded(sb, (0xe0 | (value >> 12)), encodeSpaceUsingPlus);
-            appendSingleByteEncoded(sb, (0x80 | ((value >> 6) & 0x3f)), encodeSpaceUsingPlus);
-            appendSingleByteEncoded(sb, (0x80 | (value & 0x3f)), encodeSpaceUsingPlus);
+    private static int putPercentEncoded(final byte[] buffer, final int position, final int value) {
+        buffer[position] = '%';
+        buffer[position + 1] = (byte) HEX[value >> 4];
+        buffer[position + 2] = (byte) HEX[value & 0xF];
+        return position + 3;
+    }
+
+    // Number of bytes of the UTF-8 encoding of a non-ASCII code point
+    private static int utf8Length(final int codePoint) {
+        if (codePoint < 0x800) {
+            return 2;
+        } else if (codePoint < 0x10000) {
+            return 3;
         } else {
-            appendSingleByteEncoded(sb, (0xf0 | (value >> 18)), encodeSpaceUsingPlus);
-            appendSingleByteEncoded(sb, (0x80 | (value >> 12) & 0x3f), encodeSpaceUsingPlus);
-            appendSingleByteEncoded(sb, (0x80 | (value >> 6) & 0x3f), encodeSpaceUsingPlus);
-            appendSingleByteEncoded(sb, (0x80 | (value & 0x3f)), encodeSpaceUsingPlus);
+            return 4;
+        }
+    }
+
+    // Byte #index of the UTF-8 encoding of a non-ASCII code point
+    private static int utf8Byte(final int codePoint, final int utf8Length, final int index) {
+        if (index == 0) {
+            // Leading byte: 110xxxxx, 1110xxxx or 11110xxx
+            return ((0xF00 >> utf8Length) & 0xFF) | (codePoint >> (6 * (utf8Length - 1)));
         }
+        return 0x80 | ((codePoint >> (6 * (utf8Length - 1 - index))) & 0x3F);
     }
 }
\ No newline at end of file
@@ -61,12 +61,13 @@ import java.time.format.DateTimeFormatter;
 import org.killbill.billing.client.Converter;
 import org.killbill.billing.client.KillBillClientException;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
 import org.killbill.billing.client.util.Preconditions;
 import org.killbill.billing.client.util.Multimap;
-import org.killbill.billing.client.util.TreeMapSetMultimap;
+import org.killbill.billing.client.util.CompactSetMultimap;
 
 /**
  *           DO NOT EDIT !!!
@@ -76,6 +77,34 @@ import org.killbill.billing.client.util.TreeMapSetMultimap;
  */
 public class AccountApi {
 
+    private static final PathTemplate ACCOUNTS_ACCOUNT_ID_BLOCK_PATH = PathTemplate.compile("/1.0/kb/accounts/{accountId}/block");
+    private static final PathTemplate ACCOUNTS_ACCOUNT_ID_EMAILS_PATH = PathTemplate.compile("/1.0/kb/accounts/{accountId}/emails");
+    private static final PathTemplate ACCOUNTS_ACCOUNT_ID_PATH = PathTemplate.compile("/1.0/kb/accounts/{accountId}");
+    private static final PathTemplate ACCOUNTS_ACCOUNT_ID_CUSTOM_FIELDS_PATH = PathTemplate.compile("/1.0/kb/accounts/{accountId}/customFields");
+    private static final PathTemplate ACCOUNTS_ACCOUNT_ID_TAGS_PATH = PathTemplate.compile("/1.0/kb/accounts/{accountId}/tags");
+    private static final PathTemplate ACCOUNTS_ACCOUNT_ID_PAYMENT_METHODS_PATH = PathTemplate.compile("/1.0/kb/accounts/{accountId}/paymentMethods");
+    private static final PathTemplate ACCOUNTS_ACCOUNT_ID_AUDIT_LOGS_PATH = PathTemplate.compile("/1.0/kb/accounts/{accountId}/auditLogs");
+    private static final PathTemplate ACCOUNTS_ACCOUNT_ID_AUDIT_LOGS_WITH_HISTORY_PATH = PathTemplate.compile("/1.0/kb/accounts/{accountId}/auditLogsWithHistory");
+    private static final PathTemplate ACCOUNTS_ACCOUNT_ID_BUNDLES_PATH = PathTemplate.compile("/1.0/kb/accounts/{accountId}/bundles");
+    private static final PathTemplate ACCOUNTS_ACCOUNT_ID_BUNDLES_PAGINATION_PATH = PathTemplate.compile("/1.0/kb/accounts/{accountId}/bundles/pagination");
+    private static final PathTemplate ACCOUNTS_ACCOUNT_ID_EMAILS_ACCOUNT_EMAIL_ID_AUDIT_LOGS_WITH_HISTORY_PATH = PathTemplate.compile("/1.0/kb/accounts/{accountId}/emails/{accountEmailId}/auditLogsWithHistory");
+    private static final PathTemplate ACCOUNTS_ACCOUNT_ID_TIMELINE_PATH = PathTemplate.compile("/1.0/kb/accounts/{accountId}/timeline");
+    private static final PathTemplate ACCOUNTS_ACCOUNT_ID_ALL_CUSTOM_FIELDS_PATH = PathTemplate.compile("/1.0/kb/accounts/{accountId}/allCustomFields");
+    private static final PathTemplate ACCOUNTS_ACCOUNT_ID_ALL_TAGS_PATH = PathTemplate.compile("/1.0/kb/accounts/{accountId}/allTags");
+    private static final PathTemplate ACCOUNTS_BLOCK_BLOCKING_ID_AUDIT_LOGS_WITH_HISTORY_PATH = PathTemplate.compile("/1.0/kb/accounts/block/{blockingId}/auditLogsWithHistory");
+    private static final PathTemplate ACCOUNTS_ACCOUNT_ID_CHILDREN_PATH = PathTemplate.compile("/1.0/kb/accounts/{accountId}/children");
+    private static final PathTemplate ACCOUNTS_ACCOUNT_ID_INVOICE_PAYMENTS_PATH = PathTemplate.compile("/1.0/kb/accounts/{accountId}/invoicePayments");
+    private static final PathTemplate ACCOUNTS_ACCOUNT_ID_INVOICES_PATH = PathTemplate.compile("/1.0/kb/accounts/{accountId}/invoices");
+    private static final PathTemplate ACCOUNTS_ACCOUNT_ID_INVOICES_PAGINATION_PATH = PathTemplate.compile("/1.0/kb/accounts/{accountId}/invoices/pagination");
+    private static final PathTemplate ACCOUNTS_ACCOUNT_ID_OVERDUE_PATH = PathTemplate.compile("/1.0/kb/accounts/{accountId}/overdue");
+    private static final PathTemplate ACCOUNTS_ACCOUNT_ID_PAYMENTS_PATH = PathTemplate.compile("/1.0/kb/accounts/{accountId}/payments");
+    private static final PathTemplate ACCOUNTS_ACCOUNT_ID_CBA_REBALANCING_PATH = PathTemplate.compile("/1.0/kb/accounts/{accountId}/cbaRebalancing");
+    private static final PathTemplate ACCOUNTS_ACCOUNT_ID_PAYMENT_METHODS_REFRESH_PATH = PathTemplate.compile("/1.0/kb/accounts/{accountId}/paymentMethods/refresh");
+    private static final PathTemplate ACCOUNTS_ACCOUNT_ID_EMAILS_EMAIL_PATH = PathTemplate.compile("/1.0/kb/accounts/{accountId}/emails/{email}");
+    private static final PathTemplate ACCOUNTS_SEARCH_SEARCH_KEY_PATH = PathTemplate.compile("/1.0/kb/accounts/search/{searchKey}");
+    private static final PathTemplate ACCOUNTS_ACCOUNT_ID_PAYMENT_METHODS_PAYMENT_METHOD_ID_SET_DEFAULT_PATH = PathTemplate.compile("/1.0/kb/accounts/{accountId}/paymentMethods/{paymentMethodId}/setDefault");
+    private static final PathTemplate ACCOUNTS_CHILD_ACCOUNT_ID_TRANSFER_CREDIT_PATH = PathTemplate.compile("/1.0/kb/accounts/{childAccountId}/transferCredit");
+
     private final KillBillHttpClient httpClient;
 
     public AccountApi() {
@@ -90,10 +119,9 @@ public class AccountApi {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling addAccountBlockingState");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling addAccountBlockingState");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/block"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_BLOCK_PATH.expand(accountId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (requestedDate != null) {
             queryParams.put("requestedDate", String.valueOf(requestedDate));
         }
@@ -102,6 +130,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_BLOCK_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -115,11 +144,11 @@ public class AccountApi {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling addEmail");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling addEmail");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/emails"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_EMAILS_PATH.expand(accountId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_EMAILS_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -137,10 +166,9 @@ public class AccountApi {
     public void closeAccount(final UUID accountId, final Boolean cancelAllSubscriptions, final Boolean writeOffUnpaidInvoices, final Boolean itemAdjustUnpaidInvoices, final Boolean removeFutureNotifications, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling closeAccount");
 
-        final String uri = "/1.0/kb/accounts/{accountId}"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_PATH.expand(accountId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (cancelAllSubscriptions != null) {
             queryParams.put("cancelAllSubscriptions", String.valueOf(cancelAllSubscriptions));
         }
@@ -155,6 +183,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -169,6 +198,7 @@ public class AccountApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/accounts");
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -182,11 +212,11 @@ public class AccountApi {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling createAccountCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createAccountCustomFields");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/customFields"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_CUSTOM_FIELDS_PATH.expand(accountId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_CUSTOM_FIELDS_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -200,11 +230,11 @@ public class AccountApi {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling createAccountTags");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createAccountTags");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/tags"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_TAGS_PATH.expand(accountId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_TAGS_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -222,10 +252,9 @@ public class AccountApi {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling createPaymentMethod");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createPaymentMethod");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/paymentMethods"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_PAYMENT_METHODS_PATH.expand(accountId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (isDefault != null) {
             queryParams.put("isDefault", String.valueOf(isDefault));
         }
@@ -240,6 +269,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_PAYMENT_METHODS_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -254,15 +284,15 @@ public class AccountApi {
     public void deleteAccountCustomFields(final UUID accountId, final List<UUID> customField, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling deleteAccountCustomFields");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/customFields"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_CUSTOM_FIELDS_PATH.expand(accountId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (customField != null) {
             queryParams.putAll("customField", Converter.convertUUIDListToStringList(customField));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_CUSTOM_FIELDS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -275,15 +305,15 @@ public class AccountApi {
     public void deleteAccountTags(final UUID accountId, final List<UUID> tagDef, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling deleteAccountTags");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/tags"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_TAGS_PATH.expand(accountId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (tagDef != null) {
             queryParams.putAll("tagDef", Converter.convertUUIDListToStringList(tagDef));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_TAGS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -299,10 +329,9 @@ public class AccountApi {
     public Account getAccount(final UUID accountId, final Boolean accountWithBalance, final Boolean accountWithBalanceAndCBA, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getAccount");
 
-        final String uri = "/1.0/kb/accounts/{accountId}"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_PATH.expand(accountId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (accountWithBalance != null) {
             queryParams.put("accountWithBalance", String.valueOf(accountWithBalance));
         }
@@ -314,6 +343,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -324,11 +354,11 @@ public class AccountApi {
     public AuditLogs getAccountAuditLogs(final UUID accountId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getAccountAuditLogs");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/auditLogs"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_AUDIT_LOGS_PATH.expand(accountId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_AUDIT_LOGS_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -338,11 +368,11 @@ public class AccountApi {
     public AuditLogs getAccountAuditLogsWithHistory(final UUID accountId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getAccountAuditLogsWithHistory");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/auditLogsWithHistory"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_AUDIT_LOGS_WITH_HISTORY_PATH.expand(accountId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_AUDIT_LOGS_WITH_HISTORY_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -356,10 +386,9 @@ public class AccountApi {
     public Bundles getAccountBundles(final UUID accountId, final String externalKey, final String bundlesFilter, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getAccountBundles");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/bundles"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_BUNDLES_PATH.expand(accountId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (externalKey != null) {
             queryParams.put("externalKey", String.valueOf(externalKey));
         }
@@ -371,6 +400,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_BUNDLES_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -385,10 +415,9 @@ public class AccountApi {
     public Bundles getAccountBundlesPaginated(final UUID accountId, final Long offset, final Long limit, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getAccountBundlesPaginated");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/bundles/pagination"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_BUNDLES_PAGINATION_PATH.expand(accountId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (offset != null) {
             queryParams.put("offset", String.valueOf(offset));
         }
@@ -400,6 +429,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_BUNDLES_PAGINATION_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -416,7 +446,7 @@ public class AccountApi {
 
         final String uri = "/1.0/kb/accounts";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (externalKey != null) {
             queryParams.put("externalKey", String.valueOf(externalKey));
         }
@@ -431,6 +461,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/accounts");
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -445,15 +476,15 @@ public class AccountApi {
     public CustomFields getAccountCustomFields(final UUID accountId, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getAccountCustomFields");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/customFields"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_CUSTOM_FIELDS_PATH.expand(accountId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (audit != null) {
             queryParams.put("audit", String.valueOf(audit));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_CUSTOM_FIELDS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -465,12 +496,11 @@ public class AccountApi {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getAccountEmailAuditLogsWithHistory");
         Preconditions.checkNotNull(accountEmailId, "Missing the required parameter 'accountEmailId' when calling getAccountEmailAuditLogsWithHistory");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/emails/{accountEmailId}/auditLogsWithHistory"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString())
-          .replaceAll("\\{" + "accountEmailId" + "\\}", accountEmailId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_EMAILS_ACCOUNT_EMAIL_ID_AUDIT_LOGS_WITH_HISTORY_PATH.expand(accountId, accountEmailId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_EMAILS_ACCOUNT_EMAIL_ID_AUDIT_LOGS_WITH_HISTORY_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -484,10 +514,9 @@ public class AccountApi {
     public Tags getAccountTags(final UUID accountId, final Boolean includedDeleted, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getAccountTags");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/tags"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_TAGS_PATH.expand(accountId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (includedDeleted != null) {
             queryParams.put("includedDeleted", String.valueOf(includedDeleted));
         }
@@ -496,6 +525,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_TAGS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -510,10 +540,9 @@ public class AccountApi {
     public AccountTimeline getAccountTimeline(final UUID accountId, final Boolean parallel, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getAccountTimeline");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/timeline"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_TIMELINE_PATH.expand(accountId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (parallel != null) {
             queryParams.put("parallel", String.valueOf(parallel));
         }
@@ -522,6 +551,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_TIMELINE_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -537,7 +567,7 @@ public class AccountApi {
 
         final String uri = "/1.0/kb/accounts/pagination";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (offset != null) {
             queryParams.put("offset", String.valueOf(offset));
         }
@@ -555,6 +585,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/accounts/pagination");
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -569,10 +600,9 @@ public class AccountApi {
     public CustomFields getAllCustomFields(final UUID accountId, final ObjectType objectType, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getAllCustomFields");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/allCustomFields"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_ALL_CUSTOM_FIELDS_PATH.expand(accountId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (objectType != null) {
             queryParams.put("objectType", String.valueOf(objectType));
         }
@@ -581,6 +611,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_ALL_CUSTOM_FIELDS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -595,10 +626,9 @@ public class AccountApi {
     public Tags getAllTags(final UUID accountId, final ObjectType objectType, final Boolean includedDeleted, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getAllTags");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/allTags"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_ALL_TAGS_PATH.expand(accountId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (objectType != null) {
             queryParams.put("objectType", String.valueOf(objectType));
         }
@@ -610,6 +640,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_ALL_TAGS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -620,11 +651,11 @@ public class AccountApi {
     public AuditLogs getBlockingStateAuditLogsWithHistory(final UUID blockingId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(blockingId, "Missing the required parameter 'blockingId' when calling getBlockingStateAuditLogsWithHistory");
 
-        final String uri = "/1.0/kb/accounts/block/{blockingId}/auditLogsWithHistory"
-          .replaceAll("\\{" + "blockingId" + "\\}", blockingId.toString());
+        final String uri = ACCOUNTS_BLOCK_BLOCKING_ID_AUDIT_LOGS_WITH_HISTORY_PATH.expand(blockingId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_BLOCK_BLOCKING_ID_AUDIT_LOGS_WITH_HISTORY_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -638,10 +669,9 @@ public class AccountApi {
     public BlockingStates getBlockingStates(final UUID accountId, final List<BlockingStateType> blockingStateTypes, final List<String> blockingStateSvcs, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getBlockingStates");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/block"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_BLOCK_PATH.expand(accountId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (blockingStateTypes != null) {
             queryParams.putAll("blockingStateTypes", Converter.convertEnumListToStringList(blockingStateTypes));
         }
@@ -653,6 +683,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_BLOCK_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -667,10 +698,9 @@ public class AccountApi {
     public Accounts getChildrenAccounts(final UUID accountId, final Boolean accountWithBalance, final Boolean accountWithBalanceAndCBA, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getChildrenAccounts");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/children"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_CHILDREN_PATH.expand(accountId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (accountWithBalance != null) {
             queryParams.put("accountWithBalance", String.valueOf(accountWithBalance));
         }
@@ -682,6 +712,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_CHILDREN_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -692,11 +723,11 @@ public class AccountApi {
     public AccountEmails getEmails(final UUID accountId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getEmails");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/emails"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_EMAILS_PATH.expand(accountId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_EMAILS_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -710,10 +741,9 @@ public class AccountApi {
     public InvoicePayments getInvoicePayments(final UUID accountId, final Boolean withPluginInfo, final Boolean withAttempts, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getInvoicePayments");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/invoicePayments"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_INVOICE_PAYMENTS_PATH.expand(accountId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (withPluginInfo != null) {
             queryParams.put("withPluginInfo", String.valueOf(withPluginInfo));
         }
@@ -728,6 +758,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_INVOICE_PAYMENTS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -742,10 +773,9 @@ public class AccountApi {
     public Invoices getInvoicesForAccount(final UUID accountId, final LocalDate startDate, final LocalDate endDate, final Boolean withMigrationInvoices, final Boolean unpaidInvoicesOnly, final Boolean includeVoidedInvoices, final Boolean includeInvoiceComponents, final String invoicesFilter, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getInvoicesForAccount");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/invoices"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_INVOICES_PATH.expand(accountId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (startDate != null) {
             queryParams.put("startDate", String.valueOf(startDate));
         }
@@ -772,6 +802,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_INVOICES_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -786,10 +817,9 @@ public class AccountApi {
     public Invoices getInvoicesForAccountPaginated(final UUID accountId, final Long offset, final Long limit, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getInvoicesForAccountPaginated");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/invoices/pagination"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_INVOICES_PAGINATION_PATH.expand(accountId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (offset != null) {
             queryParams.put("offset", String.valueOf(offset));
         }
@@ -801,6 +831,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_INVOICES_PAGINATION_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -811,11 +842,11 @@ public class AccountApi {
     public OverdueState getOverdueAccount(final UUID accountId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getOverdueAccount");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/overdue"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_OVERDUE_PATH.expand(accountId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_OVERDUE_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -829,10 +860,9 @@ public class AccountApi {
     public PaymentMethods getPaymentMethodsForAccount(final UUID accountId, final Boolean withPluginInfo, final Boolean includedDeleted, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getPaymentMethodsForAccount");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/paymentMethods"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_PAYMENT_METHODS_PATH.expand(accountId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (withPluginInfo != null) {
             queryParams.put("withPluginInfo", String.valueOf(withPluginInfo));
         }
@@ -847,6 +877,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_PAYMENT_METHODS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -861,10 +892,9 @@ public class AccountApi {
     public Payments getPaymentsForAccount(final UUID accountId, final Boolean withAttempts, final Boolean withPluginInfo, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getPaymentsForAccount");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/payments"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_PAYMENTS_PATH.expand(accountId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (withAttempts != null) {
             queryParams.put("withAttempts", String.valueOf(withAttempts));
         }
@@ -879,6 +909,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_PAYMENTS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -890,11 +921,11 @@ public class AccountApi {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling modifyAccountCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling modifyAccountCustomFields");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/customFields"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_CUSTOM_FIELDS_PATH.expand(accountId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_CUSTOM_FIELDS_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -909,10 +940,9 @@ public class AccountApi {
     public Invoices payAllInvoices(final UUID accountId, final UUID paymentMethodId, final Boolean externalPayment, final BigDecimal paymentAmount, final LocalDate targetDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling payAllInvoices");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/invoicePayments"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_INVOICE_PAYMENTS_PATH.expand(accountId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (paymentMethodId != null) {
             queryParams.put("paymentMethodId", String.valueOf(paymentMethodId));
         }
@@ -930,6 +960,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_INVOICE_PAYMENTS_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -944,10 +975,9 @@ public class AccountApi {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling processPayment");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling processPayment");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/payments"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_PAYMENTS_PATH.expand(accountId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (paymentMethodId != null) {
             queryParams.put("paymentMethodId", String.valueOf(paymentMethodId));
         }
@@ -959,6 +989,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_PAYMENTS_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -975,7 +1006,7 @@ public class AccountApi {
 
         final String uri = "/1.0/kb/accounts/payments";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (externalKey != null) {
             queryParams.put("externalKey", String.valueOf(externalKey));
         }
@@ -990,6 +1021,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/accounts/payments");
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -1003,11 +1035,11 @@ public class AccountApi {
     public void rebalanceExistingCBAOnAccount(final UUID accountId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling rebalanceExistingCBAOnAccount");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/cbaRebalancing"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_CBA_REBALANCING_PATH.expand(accountId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_CBA_REBALANCING_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -1018,10 +1050,9 @@ public class AccountApi {
     public void refreshPaymentMethods(final UUID accountId, final String pluginName, final Map<String, String> pluginProperty, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling refreshPaymentMethods");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/paymentMethods/refresh"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_PAYMENT_METHODS_REFRESH_PATH.expand(accountId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (pluginName != null) {
             queryParams.put("pluginName", String.valueOf(pluginName));
         }
@@ -1030,6 +1061,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_PAYMENT_METHODS_REFRESH_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -1042,12 +1074,11 @@ public class AccountApi {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling removeEmail");
         Preconditions.checkNotNull(email, "Missing the required parameter 'email' when calling removeEmail");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/emails/{email}"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString())
-          .replaceAll("\\{" + "email" + "\\}", email.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_EMAILS_EMAIL_PATH.expand(accountId, email);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_EMAILS_EMAIL_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -1061,10 +1092,9 @@ public class AccountApi {
     public Accounts searchAccounts(final String searchKey, final Long offset, final Long limit, final Boolean accountWithBalance, final Boolean accountWithBalanceAndCBA, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(searchKey, "Missing the required parameter 'searchKey' when calling searchAccounts");
 
-        final String uri = "/1.0/kb/accounts/search/{searchKey}"
-          .replaceAll("\\{" + "searchKey" + "\\}", searchKey.toString());
+        final String uri = ACCOUNTS_SEARCH_SEARCH_KEY_PATH.expand(searchKey);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (offset != null) {
             queryParams.put("offset", String.valueOf(offset));
         }
@@ -1082,6 +1112,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_SEARCH_SEARCH_KEY_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -1097,11 +1128,9 @@ public class AccountApi {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling setDefaultPaymentMethod");
         Preconditions.checkNotNull(paymentMethodId, "Missing the required parameter 'paymentMethodId' when calling setDefaultPaymentMethod");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/paymentMethods/{paymentMethodId}/setDefault"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString())
-          .replaceAll("\\{" + "paymentMethodId" + "\\}", paymentMethodId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_PAYMENT_METHODS_PAYMENT_METHOD_ID_SET_DEFAULT_PATH.expand(accountId, paymentMethodId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (payAllUnpaidInvoices != null) {
             queryParams.put("payAllUnpaidInvoices", String.valueOf(payAllUnpaidInvoices));
         }
@@ -1110,6 +1139,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_PAYMENT_METHODS_PAYMENT_METHOD_ID_SET_DEFAULT_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -1121,11 +1151,11 @@ public class AccountApi {
     public void transferChildCreditToParent(final UUID childAccountId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(childAccountId, "Missing the required parameter 'childAccountId' when calling transferChildCreditToParent");
 
-        final String uri = "/1.0/kb/accounts/{childAccountId}/transferCredit"
-          .replaceAll("\\{" + "childAccountId" + "\\}", childAccountId.toString());
+        final String uri = ACCOUNTS_CHILD_ACCOUNT_ID_TRANSFER_CREDIT_PATH.expand(childAccountId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_CHILD_ACCOUNT_ID_TRANSFER_CREDIT_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -1141,15 +1171,15 @@ public class AccountApi {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling updateAccount");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling updateAccount");
 
-        final String uri = "/1.0/kb/accounts/{accountId}"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ACCOUNTS_ACCOUNT_ID_PATH.expand(accountId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (treatNullAsReset != null) {
             queryParams.put("treatNullAsReset", String.valueOf(treatNullAsReset));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ACCOUNTS_ACCOUNT_ID_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -0,0 +1,339 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2021 Equinix, Inc
+ * Copyright 2014-2021 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client.api.gen;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.killbill.billing.ObjectType;
+import org.killbill.billing.client.AsyncApiCalls;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.model.AccountEmails;
+import org.killbill.billing.client.model.Accounts;
+import org.killbill.billing.client.model.AuditLogs;
+import org.killbill.billing.client.model.BlockingStates;
+import org.killbill.billing.client.model.Bundles;
+import org.killbill.billing.client.model.CustomFields;
+import org.killbill.billing.client.model.InvoicePayments;
+import org.killbill.billing.client.model.Invoices;
+import org.killbill.billing.client.model.PaymentMethods;
+import org.killbill.billing.client.model.Payments;
+import org.killbill.billing.client.model.Tags;
+import org.killbill.billing.client.model.gen.Account;
+import org.killbill.billing.client.model.gen.AccountEmail;
+import org.killbill.billing.client.model.gen.AccountTimeline;
+import org.killbill.billing.client.model.gen.BlockingState;
+import org.killbill.billing.client.model.gen.OverdueState;
+import org.killbill.billing.client.model.gen.Payment;
+import org.killbill.billing.client.model.gen.PaymentMethod;
+import org.killbill.billing.client.model.gen.PaymentTransaction;
+import org.killbill.billing.entitlement.api.BlockingStateType;
+import org.killbill.billing.util.api.AuditLevel;
+
+/**
+ * Non-blocking variant of {@link AccountApi}: the requests are built by {@link AccountApi} itself (see {@link AsyncApiCalls})
+ * and sent without blocking the calling thread. Missing required parameters fail the returned future, and
+ * cancelling it aborts the request.
+ *
+ * Not generated by swagger: when {@link AccountApi} is regenerated, its new methods must be added here
+ * ({@code TestApiAsync} fails otherwise).
+ */
+public class AccountApiAsync {
+
+    private final AccountApi api;
+
+    public AccountApiAsync() {
+        this(new KillBillHttpClient());
+    }
+
+    public AccountApiAsync(final KillBillHttpClient httpClient) {
+        this.api = new AccountApi(httpClient);
+    }
+
+    public CompletableFuture<BlockingStates> addAccountBlockingState(final UUID accountId, final BlockingState body, final LocalDate requestedDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.addAccountBlockingState(accountId, body, requestedDate, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<AccountEmails> addEmail(final UUID accountId, final AccountEmail body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.addEmail(accountId, body, inputOptions));
+    }
+
+    public CompletableFuture<Void> closeAccount(final UUID accountId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.closeAccount(accountId, inputOptions));
+    }
+
+    public CompletableFuture<Void> closeAccount(final UUID accountId, final Boolean cancelAllSubscriptions, final Boolean writeOffUnpaidInvoices, final Boolean itemAdjustUnpaidInvoices, final Boolean removeFutureNotifications, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.closeAccount(accountId, cancelAllSubscriptions, writeOffUnpaidInvoices, itemAdjustUnpaidInvoices, removeFutureNotifications, inputOptions));
+    }
+
+    public CompletableFuture<Account> createAccount(final Account body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createAccount(body, inputOptions));
+    }
+
+    public CompletableFuture<CustomFields> createAccountCustomFields(final UUID accountId, final CustomFields body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createAccountCustomFields(accountId, body, inputOptions));
+    }
+
+    public CompletableFuture<Tags> createAccountTags(final UUID accountId, final List<UUID> body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createAccountTags(accountId, body, inputOptions));
+    }
+
+    public CompletableFuture<PaymentMethod> createPaymentMethod(final UUID accountId, final PaymentMethod body, final List<String> controlPluginName, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createPaymentMethod(accountId, body, controlPluginName, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<PaymentMethod> createPaymentMethod(final UUID accountId, final PaymentMethod body, final Boolean isDefault, final Boolean payAllUnpaidInvoices, final List<String> controlPluginName, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createPaymentMethod(accountId, body, isDefault, payAllUnpaidInvoices, controlPluginName, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Void> deleteAccountCustomFields(final UUID accountId, final List<UUID> customField, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.deleteAccountCustomFields(accountId, customField, inputOptions));
+    }
+
+    public CompletableFuture<Void> deleteAccountTags(final UUID accountId, final List<UUID> tagDef, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.deleteAccountTags(accountId, tagDef, inputOptions));
+    }
+
+    public CompletableFuture<Account> getAccount(final UUID accountId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getAccount(accountId, inputOptions));
+    }
+
+    public CompletableFuture<Account> getAccount(final UUID accountId, final Boolean accountWithBalance, final Boolean accountWithBalanceAndCBA, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getAccount(accountId, accountWithBalance, accountWithBalanceAndCBA, audit, inputOptions));
+    }
+
+    public CompletableFuture<AuditLogs> getAccountAuditLogs(final UUID accountId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getAccountAuditLogs(accountId, inputOptions));
+    }
+
+    public CompletableFuture<AuditLogs> getAccountAuditLogsWithHistory(final UUID accountId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getAccountAuditLogsWithHistory(accountId, inputOptions));
+    }
+
+    public CompletableFuture<Bundles> getAccountBundles(final UUID accountId, final String externalKey, final String bundlesFilter, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getAccountBundles(accountId, externalKey, bundlesFilter, inputOptions));
+    }
+
+    public CompletableFuture<Bundles> getAccountBundles(final UUID accountId, final String externalKey, final String bundlesFilter, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getAccountBundles(accountId, externalKey, bundlesFilter, audit, inputOptions));
+    }
+
+    public CompletableFuture<Bundles> getAccountBundlesPaginated(final UUID accountId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getAccountBundlesPaginated(accountId, inputOptions));
+    }
+
+    public CompletableFuture<Bundles> getAccountBundlesPaginated(final UUID accountId, final Long offset, final Long limit, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getAccountBundlesPaginated(accountId, offset, limit, audit, inputOptions));
+    }
+
+    public CompletableFuture<Account> getAccountByKey(final String externalKey, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getAccountByKey(externalKey, inputOptions));
+    }
+
+    public CompletableFuture<Account> getAccountByKey(final String externalKey, final Boolean accountWithBalance, final Boolean accountWithBalanceAndCBA, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getAccountByKey(externalKey, accountWithBalance, accountWithBalanceAndCBA, audit, inputOptions));
+    }
+
+    public CompletableFuture<CustomFields> getAccountCustomFields(final UUID accountId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getAccountCustomFields(accountId, inputOptions));
+    }
+
+    public CompletableFuture<CustomFields> getAccountCustomFields(final UUID accountId, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getAccountCustomFields(accountId, audit, inputOptions));
+    }
+
+    public CompletableFuture<AuditLogs> getAccountEmailAuditLogsWithHistory(final UUID accountId, final UUID accountEmailId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getAccountEmailAuditLogsWithHistory(accountId, accountEmailId, inputOptions));
+    }
+
+    public CompletableFuture<Tags> getAccountTags(final UUID accountId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getAccountTags(accountId, inputOptions));
+    }
+
+    public CompletableFuture<Tags> getAccountTags(final UUID accountId, final Boolean includedDeleted, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getAccountTags(accountId, includedDeleted, audit, inputOptions));
+    }
+
+    public CompletableFuture<AccountTimeline> getAccountTimeline(final UUID accountId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getAccountTimeline(accountId, inputOptions));
+    }
+
+    public CompletableFuture<AccountTimeline> getAccountTimeline(final UUID accountId, final Boolean parallel, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getAccountTimeline(accountId, parallel, audit, inputOptions));
+    }
+
+    public CompletableFuture<Accounts> getAccounts(final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getAccounts(inputOptions));
+    }
+
+    public CompletableFuture<Accounts> getAccounts(final Long offset, final Long limit, final Boolean accountWithBalance, final Boolean accountWithBalanceAndCBA, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getAccounts(offset, limit, accountWithBalance, accountWithBalanceAndCBA, audit, inputOptions));
+    }
+
+    public CompletableFuture<CustomFields> getAllCustomFields(final UUID accountId, final ObjectType objectType, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getAllCustomFields(accountId, objectType, inputOptions));
+    }
+
+    public CompletableFuture<CustomFields> getAllCustomFields(final UUID accountId, final ObjectType objectType, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getAllCustomFields(accountId, objectType, audit, inputOptions));
+    }
+
+    public CompletableFuture<Tags> getAllTags(final UUID accountId, final ObjectType objectType, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getAllTags(accountId, objectType, inputOptions));
+    }
+
+    public CompletableFuture<Tags> getAllTags(final UUID accountId, final ObjectType objectType, final Boolean includedDeleted, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getAllTags(accountId, objectType, includedDeleted, audit, inputOptions));
+    }
+
+    public CompletableFuture<AuditLogs> getBlockingStateAuditLogsWithHistory(final UUID blockingId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getBlockingStateAuditLogsWithHistory(blockingId, inputOptions));
+    }
+
+    public CompletableFuture<BlockingStates> getBlockingStates(final UUID accountId, final List<BlockingStateType> blockingStateTypes, final List<String> blockingStateSvcs, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getBlockingStates(accountId, blockingStateTypes, blockingStateSvcs, inputOptions));
+    }
+
+    public CompletableFuture<BlockingStates> getBlockingStates(final UUID accountId, final List<BlockingStateType> blockingStateTypes, final List<String> blockingStateSvcs, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getBlockingStates(accountId, blockingStateTypes, blockingStateSvcs, audit, inputOptions));
+    }
+
+    public CompletableFuture<Accounts> getChildrenAccounts(final UUID accountId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getChildrenAccounts(accountId, inputOptions));
+    }
+
+    public CompletableFuture<Accounts> getChildrenAccounts(final UUID accountId, final Boolean accountWithBalance, final Boolean accountWithBalanceAndCBA, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getChildrenAccounts(accountId, accountWithBalance, accountWithBalanceAndCBA, audit, inputOptions));
+    }
+
+    public CompletableFuture<AccountEmails> getEmails(final UUID accountId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getEmails(accountId, inputOptions));
+    }
+
+    public CompletableFuture<InvoicePayments> getInvoicePayments(final UUID accountId, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoicePayments(accountId, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<InvoicePayments> getInvoicePayments(final UUID accountId, final Boolean withPluginInfo, final Boolean withAttempts, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoicePayments(accountId, withPluginInfo, withAttempts, pluginProperty, audit, inputOptions));
+    }
+
+    public CompletableFuture<Invoices> getInvoicesForAccount(final UUID accountId, final LocalDate startDate, final LocalDate endDate, final String invoicesFilter, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoicesForAccount(accountId, startDate, endDate, invoicesFilter, inputOptions));
+    }
+
+    public CompletableFuture<Invoices> getInvoicesForAccount(final UUID accountId, final LocalDate startDate, final LocalDate endDate, final Boolean withMigrationInvoices, final Boolean unpaidInvoicesOnly, final Boolean includeVoidedInvoices, final Boolean includeInvoiceComponents, final String invoicesFilter, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoicesForAccount(accountId, startDate, endDate, withMigrationInvoices, unpaidInvoicesOnly, includeVoidedInvoices, includeInvoiceComponents, invoicesFilter, audit, inputOptions));
+    }
+
+    public CompletableFuture<Invoices> getInvoicesForAccountPaginated(final UUID accountId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoicesForAccountPaginated(accountId, inputOptions));
+    }
+
+    public CompletableFuture<Invoices> getInvoicesForAccountPaginated(final UUID accountId, final Long offset, final Long limit, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoicesForAccountPaginated(accountId, offset, limit, audit, inputOptions));
+    }
+
+    public CompletableFuture<OverdueState> getOverdueAccount(final UUID accountId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getOverdueAccount(accountId, inputOptions));
+    }
+
+    public CompletableFuture<PaymentMethods> getPaymentMethodsForAccount(final UUID accountId, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPaymentMethodsForAccount(accountId, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<PaymentMethods> getPaymentMethodsForAccount(final UUID accountId, final Boolean withPluginInfo, final Boolean includedDeleted, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPaymentMethodsForAccount(accountId, withPluginInfo, includedDeleted, pluginProperty, audit, inputOptions));
+    }
+
+    public CompletableFuture<Payments> getPaymentsForAccount(final UUID accountId, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPaymentsForAccount(accountId, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Payments> getPaymentsForAccount(final UUID accountId, final Boolean withAttempts, final Boolean withPluginInfo, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPaymentsForAccount(accountId, withAttempts, withPluginInfo, pluginProperty, audit, inputOptions));
+    }
+
+    public CompletableFuture<Void> modifyAccountCustomFields(final UUID accountId, final CustomFields body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.modifyAccountCustomFields(accountId, body, inputOptions));
+    }
+
+    public CompletableFuture<Invoices> payAllInvoices(final UUID accountId, final UUID paymentMethodId, final BigDecimal paymentAmount, final LocalDate targetDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.payAllInvoices(accountId, paymentMethodId, paymentAmount, targetDate, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Invoices> payAllInvoices(final UUID accountId, final UUID paymentMethodId, final Boolean externalPayment, final BigDecimal paymentAmount, final LocalDate targetDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.payAllInvoices(accountId, paymentMethodId, externalPayment, paymentAmount, targetDate, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Payment> processPayment(final UUID accountId, final PaymentTransaction body, final UUID paymentMethodId, final List<String> controlPluginName, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.processPayment(accountId, body, paymentMethodId, controlPluginName, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Payment> processPaymentByExternalKey(final PaymentTransaction body, final String externalKey, final UUID paymentMethodId, final List<String> controlPluginName, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.processPaymentByExternalKey(body, externalKey, paymentMethodId, controlPluginName, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Void> rebalanceExistingCBAOnAccount(final UUID accountId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.rebalanceExistingCBAOnAccount(accountId, inputOptions));
+    }
+
+    public CompletableFuture<Void> refreshPaymentMethods(final UUID accountId, final String pluginName, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.refreshPaymentMethods(accountId, pluginName, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Void> removeEmail(final UUID accountId, final String email, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.removeEmail(accountId, email, inputOptions));
+    }
+
+    public CompletableFuture<Accounts> searchAccounts(final String searchKey, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.searchAccounts(searchKey, inputOptions));
+    }
+
+    public CompletableFuture<Accounts> searchAccounts(final String searchKey, final Long offset, final Long limit, final Boolean accountWithBalance, final Boolean accountWithBalanceAndCBA, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.searchAccounts(searchKey, offset, limit, accountWithBalance, accountWithBalanceAndCBA, audit, inputOptions));
+    }
+
+    public CompletableFuture<Void> setDefaultPaymentMethod(final UUID accountId, final UUID paymentMethodId, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.setDefaultPaymentMethod(accountId, paymentMethodId, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Void> setDefaultPaymentMethod(final UUID accountId, final UUID paymentMethodId, final Boolean payAllUnpaidInvoices, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.setDefaultPaymentMethod(accountId, paymentMethodId, payAllUnpaidInvoices, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Void> transferChildCreditToParent(final UUID childAccountId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.transferChildCreditToParent(childAccountId, inputOptions));
+    }
+
+    public CompletableFuture<Void> updateAccount(final UUID accountId, final Account body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.updateAccount(accountId, body, inputOptions));
+    }
+
+    public CompletableFuture<Void> updateAccount(final UUID accountId, final Account body, final Boolean treatNullAsReset, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.updateAccount(accountId, body, treatNullAsReset, inputOptions));
+    }
+}
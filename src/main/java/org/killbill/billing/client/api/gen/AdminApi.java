@@ -34,12 +34,13 @@ import java.time.format.DateTimeFormatter;
 import org.killbill.billing.client.Converter;
 import org.killbill.billing.client.KillBillClientException;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
 import org.killbill.billing.client.util.Preconditions;
 import org.killbill.billing.client.util.Multimap;
-import org.killbill.billing.client.util.TreeMapSetMultimap;
+import org.killbill.billing.client.util.CompactSetMultimap;
 
 /**
  *           DO NOT EDIT !!!
@@ -49,6 +50,9 @@ import org.killbill.billing.client.util.TreeMapSetMultimap;
  */
 public class AdminApi {
 
+    private static final PathTemplate ADMIN_CACHE_ACCOUNTS_ACCOUNT_ID_PATH = PathTemplate.compile("/1.0/kb/admin/cache/accounts/{accountId}");
+    private static final PathTemplate ADMIN_PAYMENTS_PAYMENT_ID_TRANSACTIONS_PAYMENT_TRANSACTION_ID_PATH = PathTemplate.compile("/1.0/kb/admin/payments/{paymentId}/transactions/{paymentTransactionId}");
+
     private final KillBillHttpClient httpClient;
 
     public AdminApi() {
@@ -67,7 +71,7 @@ public class AdminApi {
 
         final String uri = "/1.0/kb/admin/queues";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (accountId != null) {
             queryParams.put("accountId", String.valueOf(accountId));
         }
@@ -97,6 +101,7 @@ public class AdminApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/admin/queues");
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/octet-stream");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -110,12 +115,13 @@ public class AdminApi {
 
         final String uri = "/1.0/kb/admin/cache";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (cacheName != null) {
             queryParams.put("cacheName", String.valueOf(cacheName));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/admin/cache");
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -127,11 +133,11 @@ public class AdminApi {
     public void invalidatesCacheByAccount(final UUID accountId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling invalidatesCacheByAccount");
 
-        final String uri = "/1.0/kb/admin/cache/accounts/{accountId}"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ADMIN_CACHE_ACCOUNTS_ACCOUNT_ID_PATH.expand(accountId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ADMIN_CACHE_ACCOUNTS_ACCOUNT_ID_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -145,6 +151,7 @@ public class AdminApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/admin/cache/tenants");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -157,6 +164,7 @@ public class AdminApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/admin/healthcheck");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -170,6 +178,7 @@ public class AdminApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/admin/healthcheck");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -184,7 +193,7 @@ public class AdminApi {
 
         final String uri = "/1.0/kb/admin/invoices";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (offset != null) {
             queryParams.put("offset", String.valueOf(offset));
         }
@@ -196,6 +205,7 @@ public class AdminApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/admin/invoices");
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -211,12 +221,11 @@ public class AdminApi {
         Preconditions.checkNotNull(paymentTransactionId, "Missing the required parameter 'paymentTransactionId' when calling updatePaymentTransactionState");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling updatePaymentTransactionState");
 
-        final String uri = "/1.0/kb/admin/payments/{paymentId}/transactions/{paymentTransactionId}"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString())
-          .replaceAll("\\{" + "paymentTransactionId" + "\\}", paymentTransactionId.toString());
+        final String uri = ADMIN_PAYMENTS_PAYMENT_ID_TRANSACTIONS_PAYMENT_TRANSACTION_ID_PATH.expand(paymentId, paymentTransactionId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(ADMIN_PAYMENTS_PAYMENT_ID_TRANSACTIONS_PAYMENT_TRANSACTION_ID_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2021 Equinix, Inc
+ * Copyright 2014-2021 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client.api.gen;
+
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.killbill.billing.client.AsyncApiCalls;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.model.gen.AdminPayment;
+
+/**
+ * Non-blocking variant of {@link AdminApi}: the requests are built by {@link AdminApi} itself (see {@link AsyncApiCalls})
+ * and sent without blocking the calling thread. Missing required parameters fail the returned future, and
+ * cancelling it aborts the request.
+ *
+ * Not generated by swagger: when {@link AdminApi} is regenerated, its new methods must be added here
+ * ({@code TestApiAsync} fails otherwise).
+ */
+public class AdminApiAsync {
+
+    private final AdminApi api;
+
+    public AdminApiAsync() {
+        this(new KillBillHttpClient());
+    }
+
+    public AdminApiAsync(final KillBillHttpClient httpClient) {
+        this.api = new AdminApi(httpClient);
+    }
+
+    public CompletableFuture<Integer> getQueueEntries(final UUID accountId, final String queueName, final String serviceName, final String minDate, final String maxDate, final OutputStream outputStream, final RequestOptions inputOptions) {
+        return AsyncApiCalls.stream(() -> api.getQueueEntries(accountId, queueName, serviceName, minDate, maxDate, outputStream, inputOptions));
+    }
+
+    public CompletableFuture<Integer> getQueueEntries(final UUID accountId, final String queueName, final String serviceName, final Boolean withHistory, final String minDate, final String maxDate, final Boolean withInProcessing, final Boolean withBusEvents, final Boolean withNotifications, final OutputStream outputStream, final RequestOptions inputOptions) {
+        return AsyncApiCalls.stream(() -> api.getQueueEntries(accountId, queueName, serviceName, withHistory, minDate, maxDate, withInProcessing, withBusEvents, withNotifications, outputStream, inputOptions));
+    }
+
+    public CompletableFuture<Void> invalidatesCache(final String cacheName, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.invalidatesCache(cacheName, inputOptions));
+    }
+
+    public CompletableFuture<Void> invalidatesCacheByAccount(final UUID accountId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.invalidatesCacheByAccount(accountId, inputOptions));
+    }
+
+    public CompletableFuture<Void> invalidatesCacheByTenant(final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.invalidatesCacheByTenant(inputOptions));
+    }
+
+    public CompletableFuture<Void> putInRotation(final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.putInRotation(inputOptions));
+    }
+
+    public CompletableFuture<Void> putOutOfRotation(final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.putOutOfRotation(inputOptions));
+    }
+
+    public CompletableFuture<Void> triggerInvoiceGenerationForParkedAccounts(final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.triggerInvoiceGenerationForParkedAccounts(pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Void> triggerInvoiceGenerationForParkedAccounts(final Long offset, final Long limit, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.triggerInvoiceGenerationForParkedAccounts(offset, limit, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Void> updatePaymentTransactionState(final UUID paymentId, final UUID paymentTransactionId, final AdminPayment body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.updatePaymentTransactionState(paymentId, paymentTransactionId, body, inputOptions));
+    }
+}
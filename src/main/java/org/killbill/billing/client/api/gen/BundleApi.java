@@ -46,12 +46,13 @@ import java.time.format.DateTimeFormatter;
 import org.killbill.billing.client.Converter;
 import org.killbill.billing.client.KillBillClientException;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
 import org.killbill.billing.client.util.Preconditions;
 import org.killbill.billing.client.util.Multimap;
-import org.killbill.billing.client.util.TreeMapSetMultimap;
+import org.killbill.billing.client.util.CompactSetMultimap;
 
 /**
  *           DO NOT EDIT !!!
@@ -61,6 +62,16 @@ import org.killbill.billing.client.util.TreeMapSetMultimap;
  */
 public class BundleApi {
 
+    private static final PathTemplate BUNDLES_BUNDLE_ID_BLOCK_PATH = PathTemplate.compile("/1.0/kb/bundles/{bundleId}/block");
+    private static final PathTemplate BUNDLES_BUNDLE_ID_CUSTOM_FIELDS_PATH = PathTemplate.compile("/1.0/kb/bundles/{bundleId}/customFields");
+    private static final PathTemplate BUNDLES_BUNDLE_ID_TAGS_PATH = PathTemplate.compile("/1.0/kb/bundles/{bundleId}/tags");
+    private static final PathTemplate BUNDLES_BUNDLE_ID_PATH = PathTemplate.compile("/1.0/kb/bundles/{bundleId}");
+    private static final PathTemplate BUNDLES_BUNDLE_ID_AUDIT_LOGS_WITH_HISTORY_PATH = PathTemplate.compile("/1.0/kb/bundles/{bundleId}/auditLogsWithHistory");
+    private static final PathTemplate BUNDLES_BUNDLE_ID_PAUSE_PATH = PathTemplate.compile("/1.0/kb/bundles/{bundleId}/pause");
+    private static final PathTemplate BUNDLES_BUNDLE_ID_RENAME_KEY_PATH = PathTemplate.compile("/1.0/kb/bundles/{bundleId}/renameKey");
+    private static final PathTemplate BUNDLES_BUNDLE_ID_RESUME_PATH = PathTemplate.compile("/1.0/kb/bundles/{bundleId}/resume");
+    private static final PathTemplate BUNDLES_SEARCH_SEARCH_KEY_PATH = PathTemplate.compile("/1.0/kb/bundles/search/{searchKey}");
+
     private final KillBillHttpClient httpClient;
 
     public BundleApi() {
@@ -75,10 +86,9 @@ public class BundleApi {
         Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling addBundleBlockingState");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling addBundleBlockingState");
 
-        final String uri = "/1.0/kb/bundles/{bundleId}/block"
-          .replaceAll("\\{" + "bundleId" + "\\}", bundleId.toString());
+        final String uri = BUNDLES_BUNDLE_ID_BLOCK_PATH.expand(bundleId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (requestedDate != null) {
             queryParams.put("requestedDate", String.valueOf(requestedDate));
         }
@@ -87,6 +97,7 @@ public class BundleApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(BUNDLES_BUNDLE_ID_BLOCK_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -100,10 +111,9 @@ public class BundleApi {
         Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling addBundleBlockingState");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling addBundleBlockingState");
 
-        final String uri = "/1.0/kb/bundles/{bundleId}/block"
-          .replaceAll("\\{" + "bundleId" + "\\}", bundleId.toString());
+        final String uri = BUNDLES_BUNDLE_ID_BLOCK_PATH.expand(bundleId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (requestedDate != null) {
             queryParams.put("requestedDate", DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(requestedDate));
         }
@@ -112,6 +122,7 @@ public class BundleApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(BUNDLES_BUNDLE_ID_BLOCK_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -125,11 +136,11 @@ public class BundleApi {
         Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling createBundleCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createBundleCustomFields");
 
-        final String uri = "/1.0/kb/bundles/{bundleId}/customFields"
-          .replaceAll("\\{" + "bundleId" + "\\}", bundleId.toString());
+        final String uri = BUNDLES_BUNDLE_ID_CUSTOM_FIELDS_PATH.expand(bundleId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(BUNDLES_BUNDLE_ID_CUSTOM_FIELDS_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -143,11 +154,11 @@ public class BundleApi {
         Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling createBundleTags");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createBundleTags");
 
-        final String uri = "/1.0/kb/bundles/{bundleId}/tags"
-          .replaceAll("\\{" + "bundleId" + "\\}", bundleId.toString());
+        final String uri = BUNDLES_BUNDLE_ID_TAGS_PATH.expand(bundleId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(BUNDLES_BUNDLE_ID_TAGS_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -161,15 +172,15 @@ public class BundleApi {
     public void deleteBundleCustomFields(final UUID bundleId, final List<UUID> customField, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling deleteBundleCustomFields");
 
-        final String uri = "/1.0/kb/bundles/{bundleId}/customFields"
-          .replaceAll("\\{" + "bundleId" + "\\}", bundleId.toString());
+        final String uri = BUNDLES_BUNDLE_ID_CUSTOM_FIELDS_PATH.expand(bundleId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (customField != null) {
             queryParams.putAll("customField", Converter.convertUUIDListToStringList(customField));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(BUNDLES_BUNDLE_ID_CUSTOM_FIELDS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -182,15 +193,15 @@ public class BundleApi {
     public void deleteBundleTags(final UUID bundleId, final List<UUID> tagDef, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling deleteBundleTags");
 
-        final String uri = "/1.0/kb/bundles/{bundleId}/tags"
-          .replaceAll("\\{" + "bundleId" + "\\}", bundleId.toString());
+        final String uri = BUNDLES_BUNDLE_ID_TAGS_PATH.expand(bundleId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (tagDef != null) {
             queryParams.putAll("tagDef", Converter.convertUUIDListToStringList(tagDef));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(BUNDLES_BUNDLE_ID_TAGS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -206,15 +217,15 @@ public class BundleApi {
     public Bundle getBundle(final UUID bundleId, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling getBundle");
 
-        final String uri = "/1.0/kb/bundles/{bundleId}"
-          .replaceAll("\\{" + "bundleId" + "\\}", bundleId.toString());
+        final String uri = BUNDLES_BUNDLE_ID_PATH.expand(bundleId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (audit != null) {
             queryParams.put("audit", String.valueOf(audit));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(BUNDLES_BUNDLE_ID_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -225,11 +236,11 @@ public class BundleApi {
     public AuditLogs getBundleAuditLogsWithHistory(final UUID bundleId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling getBundleAuditLogsWithHistory");
 
-        final String uri = "/1.0/kb/bundles/{bundleId}/auditLogsWithHistory"
-          .replaceAll("\\{" + "bundleId" + "\\}", bundleId.toString());
+        final String uri = BUNDLES_BUNDLE_ID_AUDIT_LOGS_WITH_HISTORY_PATH.expand(bundleId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(BUNDLES_BUNDLE_ID_AUDIT_LOGS_WITH_HISTORY_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -245,7 +256,7 @@ public class BundleApi {
 
         final String uri = "/1.0/kb/bundles";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (externalKey != null) {
             queryParams.put("externalKey", String.valueOf(externalKey));
         }
@@ -257,6 +268,7 @@ public class BundleApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/bundles");
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -271,15 +283,15 @@ public class BundleApi {
     public CustomFields getBundleCustomFields(final UUID bundleId, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling getBundleCustomFields");
 
-        final String uri = "/1.0/kb/bundles/{bundleId}/customFields"
-          .replaceAll("\\{" + "bundleId" + "\\}", bundleId.toString());
+        final String uri = BUNDLES_BUNDLE_ID_CUSTOM_FIELDS_PATH.expand(bundleId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (audit != null) {
             queryParams.put("audit", String.valueOf(audit));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(BUNDLES_BUNDLE_ID_CUSTOM_FIELDS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -294,10 +306,9 @@ public class BundleApi {
     public Tags getBundleTags(final UUID bundleId, final Boolean includedDeleted, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling getBundleTags");
 
-        final String uri = "/1.0/kb/bundles/{bundleId}/tags"
-          .replaceAll("\\{" + "bundleId" + "\\}", bundleId.toString());
+        final String uri = BUNDLES_BUNDLE_ID_TAGS_PATH.expand(bundleId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (includedDeleted != null) {
             queryParams.put("includedDeleted", String.valueOf(includedDeleted));
         }
@@ -306,6 +317,7 @@ public class BundleApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(BUNDLES_BUNDLE_ID_TAGS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -321,7 +333,7 @@ public class BundleApi {
 
         final String uri = "/1.0/kb/bundles/pagination";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (offset != null) {
             queryParams.put("offset", String.valueOf(offset));
         }
@@ -333,6 +345,7 @@ public class BundleApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/bundles/pagination");
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -344,11 +357,11 @@ public class BundleApi {
         Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling modifyBundleCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling modifyBundleCustomFields");
 
-        final String uri = "/1.0/kb/bundles/{bundleId}/customFields"
-          .replaceAll("\\{" + "bundleId" + "\\}", bundleId.toString());
+        final String uri = BUNDLES_BUNDLE_ID_CUSTOM_FIELDS_PATH.expand(bundleId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(BUNDLES_BUNDLE_ID_CUSTOM_FIELDS_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -359,10 +372,9 @@ public class BundleApi {
     public void pauseBundle(final UUID bundleId, final LocalDate requestedDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling pauseBundle");
 
-        final String uri = "/1.0/kb/bundles/{bundleId}/pause"
-          .replaceAll("\\{" + "bundleId" + "\\}", bundleId.toString());
+        final String uri = BUNDLES_BUNDLE_ID_PAUSE_PATH.expand(bundleId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (requestedDate != null) {
             queryParams.put("requestedDate", String.valueOf(requestedDate));
         }
@@ -371,6 +383,7 @@ public class BundleApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(BUNDLES_BUNDLE_ID_PAUSE_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -383,11 +396,11 @@ public class BundleApi {
         Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling renameExternalKey");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling renameExternalKey");
 
-        final String uri = "/1.0/kb/bundles/{bundleId}/renameKey"
-          .replaceAll("\\{" + "bundleId" + "\\}", bundleId.toString());
+        final String uri = BUNDLES_BUNDLE_ID_RENAME_KEY_PATH.expand(bundleId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(BUNDLES_BUNDLE_ID_RENAME_KEY_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -397,10 +410,9 @@ public class BundleApi {
     public void resumeBundle(final UUID bundleId, final LocalDate requestedDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling resumeBundle");
 
-        final String uri = "/1.0/kb/bundles/{bundleId}/resume"
-          .replaceAll("\\{" + "bundleId" + "\\}", bundleId.toString());
+        final String uri = BUNDLES_BUNDLE_ID_RESUME_PATH.expand(bundleId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (requestedDate != null) {
             queryParams.put("requestedDate", String.valueOf(requestedDate));
         }
@@ -409,6 +421,7 @@ public class BundleApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(BUNDLES_BUNDLE_ID_RESUME_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -424,10 +437,9 @@ public class BundleApi {
     public Bundles searchBundles(final String searchKey, final Long offset, final Long limit, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(searchKey, "Missing the required parameter 'searchKey' when calling searchBundles");
 
-        final String uri = "/1.0/kb/bundles/search/{searchKey}"
-          .replaceAll("\\{" + "searchKey" + "\\}", searchKey.toString());
+        final String uri = BUNDLES_SEARCH_SEARCH_KEY_PATH.expand(searchKey);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (offset != null) {
             queryParams.put("offset", String.valueOf(offset));
         }
@@ -439,6 +451,7 @@ public class BundleApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(BUNDLES_SEARCH_SEARCH_KEY_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -454,10 +467,9 @@ public class BundleApi {
         Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling transferBundle");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling transferBundle");
 
-        final String uri = "/1.0/kb/bundles/{bundleId}"
-          .replaceAll("\\{" + "bundleId" + "\\}", bundleId.toString());
+        final String uri = BUNDLES_BUNDLE_ID_PATH.expand(bundleId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (requestedDate != null) {
             queryParams.put("requestedDate", String.valueOf(requestedDate));
         }
@@ -472,6 +484,7 @@ public class BundleApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(BUNDLES_BUNDLE_ID_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
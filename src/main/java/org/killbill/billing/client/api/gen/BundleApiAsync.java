@@ -0,0 +1,163 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2021 Equinix, Inc
+ * Copyright 2014-2021 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client.api.gen;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.killbill.billing.catalog.api.BillingActionPolicy;
+import org.killbill.billing.client.AsyncApiCalls;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.model.AuditLogs;
+import org.killbill.billing.client.model.BlockingStates;
+import org.killbill.billing.client.model.Bundles;
+import org.killbill.billing.client.model.CustomFields;
+import org.killbill.billing.client.model.Tags;
+import org.killbill.billing.client.model.gen.BlockingState;
+import org.killbill.billing.client.model.gen.Bundle;
+import org.killbill.billing.entitlement.api.BcdTransfer;
+import org.killbill.billing.util.api.AuditLevel;
+
+/**
+ * Non-blocking variant of {@link BundleApi}: the requests are built by {@link BundleApi} itself (see {@link AsyncApiCalls})
+ * and sent without blocking the calling thread. Missing required parameters fail the returned future, and
+ * cancelling it aborts the request.
+ *
+ * Not generated by swagger: when {@link BundleApi} is regenerated, its new methods must be added here
+ * ({@code TestApiAsync} fails otherwise).
+ */
+public class BundleApiAsync {
+
+    private final BundleApi api;
+
+    public BundleApiAsync() {
+        this(new KillBillHttpClient());
+    }
+
+    public BundleApiAsync(final KillBillHttpClient httpClient) {
+        this.api = new BundleApi(httpClient);
+    }
+
+    public CompletableFuture<BlockingStates> addBundleBlockingState(final UUID bundleId, final BlockingState body, final LocalDate requestedDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.addBundleBlockingState(bundleId, body, requestedDate, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<BlockingStates> addBundleBlockingState(final UUID bundleId, final BlockingState body, final ZonedDateTime requestedDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.addBundleBlockingState(bundleId, body, requestedDate, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<CustomFields> createBundleCustomFields(final UUID bundleId, final CustomFields body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createBundleCustomFields(bundleId, body, inputOptions));
+    }
+
+    public CompletableFuture<Tags> createBundleTags(final UUID bundleId, final List<UUID> body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createBundleTags(bundleId, body, inputOptions));
+    }
+
+    public CompletableFuture<Void> deleteBundleCustomFields(final UUID bundleId, final List<UUID> customField, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.deleteBundleCustomFields(bundleId, customField, inputOptions));
+    }
+
+    public CompletableFuture<Void> deleteBundleTags(final UUID bundleId, final List<UUID> tagDef, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.deleteBundleTags(bundleId, tagDef, inputOptions));
+    }
+
+    public CompletableFuture<Bundle> getBundle(final UUID bundleId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getBundle(bundleId, inputOptions));
+    }
+
+    public CompletableFuture<Bundle> getBundle(final UUID bundleId, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getBundle(bundleId, audit, inputOptions));
+    }
+
+    public CompletableFuture<AuditLogs> getBundleAuditLogsWithHistory(final UUID bundleId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getBundleAuditLogsWithHistory(bundleId, inputOptions));
+    }
+
+    public CompletableFuture<Bundles> getBundleByKey(final String externalKey, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getBundleByKey(externalKey, inputOptions));
+    }
+
+    public CompletableFuture<Bundles> getBundleByKey(final String externalKey, final Boolean includedDeleted, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getBundleByKey(externalKey, includedDeleted, audit, inputOptions));
+    }
+
+    public CompletableFuture<CustomFields> getBundleCustomFields(final UUID bundleId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getBundleCustomFields(bundleId, inputOptions));
+    }
+
+    public CompletableFuture<CustomFields> getBundleCustomFields(final UUID bundleId, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getBundleCustomFields(bundleId, audit, inputOptions));
+    }
+
+    public CompletableFuture<Tags> getBundleTags(final UUID bundleId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getBundleTags(bundleId, inputOptions));
+    }
+
+    public CompletableFuture<Tags> getBundleTags(final UUID bundleId, final Boolean includedDeleted, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getBundleTags(bundleId, includedDeleted, audit, inputOptions));
+    }
+
+    public CompletableFuture<Bundles> getBundles(final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getBundles(inputOptions));
+    }
+
+    public CompletableFuture<Bundles> getBundles(final Long offset, final Long limit, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getBundles(offset, limit, audit, inputOptions));
+    }
+
+    public CompletableFuture<Void> modifyBundleCustomFields(final UUID bundleId, final CustomFields body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.modifyBundleCustomFields(bundleId, body, inputOptions));
+    }
+
+    public CompletableFuture<Void> pauseBundle(final UUID bundleId, final LocalDate requestedDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.pauseBundle(bundleId, requestedDate, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Void> renameExternalKey(final UUID bundleId, final Bundle body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.renameExternalKey(bundleId, body, inputOptions));
+    }
+
+    public CompletableFuture<Void> resumeBundle(final UUID bundleId, final LocalDate requestedDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.resumeBundle(bundleId, requestedDate, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Bundles> searchBundles(final String searchKey, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.searchBundles(searchKey, inputOptions));
+    }
+
+    public CompletableFuture<Bundles> searchBundles(final String searchKey, final Long offset, final Long limit, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.searchBundles(searchKey, offset, limit, audit, inputOptions));
+    }
+
+    public CompletableFuture<Bundle> transferBundle(final UUID bundleId, final Bundle body, final LocalDate requestedDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.transferBundle(bundleId, body, requestedDate, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Bundle> transferBundle(final UUID bundleId, final Bundle body, final LocalDate requestedDate, final BillingActionPolicy billingPolicy, final BcdTransfer bcdTransfer, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.transferBundle(bundleId, body, requestedDate, billingPolicy, bcdTransfer, pluginProperty, inputOptions));
+    }
+}
@@ -48,7 +48,7 @@ import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
 import org.killbill.billing.client.util.Preconditions;
 import org.killbill.billing.client.util.Multimap;
-import org.killbill.billing.client.util.TreeMapSetMultimap;
+import org.killbill.billing.client.util.CompactSetMultimap;
 
 /**
  *           DO NOT EDIT !!!
@@ -75,6 +75,7 @@ public class CatalogApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/catalog/simplePlan");
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -91,6 +92,7 @@ public class CatalogApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/catalog");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
         httpClient.doDelete(uri, requestOptions);
@@ -100,7 +102,7 @@ public class CatalogApi {
 
         final String uri = "/1.0/kb/catalog/availableAddons";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (baseProductName != null) {
             queryParams.put("baseProductName", String.valueOf(baseProductName));
         }
@@ -112,6 +114,7 @@ public class CatalogApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/catalog/availableAddons");
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -123,12 +126,13 @@ public class CatalogApi {
 
         final String uri = "/1.0/kb/catalog/availableBasePlans";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (accountId != null) {
             queryParams.put("accountId", String.valueOf(accountId));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/catalog/availableBasePlans");
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -140,7 +144,7 @@ public class CatalogApi {
 
         final String uri = "/1.0/kb/catalog";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (requestedDate != null) {
             queryParams.put("requestedDate", DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(requestedDate));
         }
@@ -149,6 +153,7 @@ public class CatalogApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/catalog");
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -160,12 +165,13 @@ public class CatalogApi {
 
         final String uri = "/1.0/kb/catalog/versions";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (accountId != null) {
             queryParams.put("accountId", String.valueOf(accountId));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/catalog/versions");
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -177,7 +183,7 @@ public class CatalogApi {
 
         final String uri = "/1.0/kb/catalog/xml";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (requestedDate != null) {
             queryParams.put("requestedDate", DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(requestedDate));
         }
@@ -186,6 +192,7 @@ public class CatalogApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/catalog/xml");
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "text/xml");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -197,7 +204,7 @@ public class CatalogApi {
 
         final String uri = "/1.0/kb/catalog/phase";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (subscriptionId != null) {
             queryParams.put("subscriptionId", String.valueOf(subscriptionId));
         }
@@ -206,6 +213,7 @@ public class CatalogApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/catalog/phase");
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -217,7 +225,7 @@ public class CatalogApi {
 
         final String uri = "/1.0/kb/catalog/plan";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (subscriptionId != null) {
             queryParams.put("subscriptionId", String.valueOf(subscriptionId));
         }
@@ -226,6 +234,7 @@ public class CatalogApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/catalog/plan");
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -237,7 +246,7 @@ public class CatalogApi {
 
         final String uri = "/1.0/kb/catalog/priceList";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (subscriptionId != null) {
             queryParams.put("subscriptionId", String.valueOf(subscriptionId));
         }
@@ -246,6 +255,7 @@ public class CatalogApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/catalog/priceList");
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -257,7 +267,7 @@ public class CatalogApi {
 
         final String uri = "/1.0/kb/catalog/product";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (subscriptionId != null) {
             queryParams.put("subscriptionId", String.valueOf(subscriptionId));
         }
@@ -266,6 +276,7 @@ public class CatalogApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/catalog/product");
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -280,6 +291,7 @@ public class CatalogApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/catalog/xml");
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "text/xml");
@@ -295,6 +307,7 @@ public class CatalogApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/catalog/xml/validate");
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2021 Equinix, Inc
+ * Copyright 2014-2021 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client.api.gen;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.killbill.billing.client.AsyncApiCalls;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.model.Catalogs;
+import org.killbill.billing.client.model.DateTimes;
+import org.killbill.billing.client.model.PlanDetails;
+import org.killbill.billing.client.model.gen.CatalogValidation;
+import org.killbill.billing.client.model.gen.Phase;
+import org.killbill.billing.client.model.gen.Plan;
+import org.killbill.billing.client.model.gen.PriceList;
+import org.killbill.billing.client.model.gen.Product;
+import org.killbill.billing.client.model.gen.SimplePlan;
+
+/**
+ * Non-blocking variant of {@link CatalogApi}: the requests are built by {@link CatalogApi} itself (see {@link AsyncApiCalls})
+ * and sent without blocking the calling thread. Missing required parameters fail the returned future, and
+ * cancelling it aborts the request.
+ *
+ * Not generated by swagger: when {@link CatalogApi} is regenerated, its new methods must be added here
+ * ({@code TestApiAsync} fails otherwise).
+ */
+public class CatalogApiAsync {
+
+    private final CatalogApi api;
+
+    public CatalogApiAsync() {
+        this(new KillBillHttpClient());
+    }
+
+    public CatalogApiAsync(final KillBillHttpClient httpClient) {
+        this.api = new CatalogApi(httpClient);
+    }
+
+    public CompletableFuture<String> addSimplePlan(final SimplePlan body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.addSimplePlan(body, inputOptions));
+    }
+
+    public CompletableFuture<Void> deleteCatalog(final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.deleteCatalog(inputOptions));
+    }
+
+    public CompletableFuture<PlanDetails> getAvailableAddons(final String baseProductName, final String priceListName, final UUID accountId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getAvailableAddons(baseProductName, priceListName, accountId, inputOptions));
+    }
+
+    public CompletableFuture<PlanDetails> getAvailableBasePlans(final UUID accountId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getAvailableBasePlans(accountId, inputOptions));
+    }
+
+    public CompletableFuture<Catalogs> getCatalogJson(final ZonedDateTime requestedDate, final UUID accountId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getCatalogJson(requestedDate, accountId, inputOptions));
+    }
+
+    public CompletableFuture<DateTimes> getCatalogVersions(final UUID accountId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getCatalogVersions(accountId, inputOptions));
+    }
+
+    public CompletableFuture<String> getCatalogXml(final ZonedDateTime requestedDate, final UUID accountId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getCatalogXml(requestedDate, accountId, inputOptions));
+    }
+
+    public CompletableFuture<Phase> getPhaseForSubscriptionAndDate(final UUID subscriptionId, final LocalDate requestedDate, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPhaseForSubscriptionAndDate(subscriptionId, requestedDate, inputOptions));
+    }
+
+    public CompletableFuture<Plan> getPlanForSubscriptionAndDate(final UUID subscriptionId, final LocalDate requestedDate, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPlanForSubscriptionAndDate(subscriptionId, requestedDate, inputOptions));
+    }
+
+    public CompletableFuture<PriceList> getPriceListForSubscriptionAndDate(final UUID subscriptionId, final LocalDate requestedDate, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPriceListForSubscriptionAndDate(subscriptionId, requestedDate, inputOptions));
+    }
+
+    public CompletableFuture<Product> getProductForSubscriptionAndDate(final UUID subscriptionId, final LocalDate requestedDate, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getProductForSubscriptionAndDate(subscriptionId, requestedDate, inputOptions));
+    }
+
+    public CompletableFuture<String> uploadCatalogXml(final String body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.uploadCatalogXml(body, inputOptions));
+    }
+
+    public CompletableFuture<CatalogValidation> validateCatalogXml(final String body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.validateCatalogXml(body, inputOptions));
+    }
+}
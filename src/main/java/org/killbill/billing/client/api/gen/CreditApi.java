@@ -34,12 +34,13 @@ import java.time.format.DateTimeFormatter;
 import org.killbill.billing.client.Converter;
 import org.killbill.billing.client.KillBillClientException;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
 import org.killbill.billing.client.util.Preconditions;
 import org.killbill.billing.client.util.Multimap;
-import org.killbill.billing.client.util.TreeMapSetMultimap;
+import org.killbill.billing.client.util.CompactSetMultimap;
 
 /**
  *           DO NOT EDIT !!!
@@ -49,6 +50,8 @@ import org.killbill.billing.client.util.TreeMapSetMultimap;
  */
 public class CreditApi {
 
+    private static final PathTemplate CREDITS_CREDIT_ID_PATH = PathTemplate.compile("/1.0/kb/credits/{creditId}");
+
     private final KillBillHttpClient httpClient;
 
     public CreditApi() {
@@ -68,7 +71,7 @@ public class CreditApi {
 
         final String uri = "/1.0/kb/credits";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (requestedDate != null) {
             queryParams.put("requestedDate", String.valueOf(requestedDate));
         }
@@ -80,6 +83,7 @@ public class CreditApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/credits");
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -93,11 +97,11 @@ public class CreditApi {
     public InvoiceItem getCredit(final UUID creditId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(creditId, "Missing the required parameter 'creditId' when calling getCredit");
 
-        final String uri = "/1.0/kb/credits/{creditId}"
-          .replaceAll("\\{" + "creditId" + "\\}", creditId.toString());
+        final String uri = CREDITS_CREDIT_ID_PATH.expand(creditId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(CREDITS_CREDIT_ID_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
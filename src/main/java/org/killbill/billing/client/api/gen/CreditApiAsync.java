@@ -0,0 +1,65 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2021 Equinix, Inc
+ * Copyright 2014-2021 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client.api.gen;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.killbill.billing.client.AsyncApiCalls;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.model.InvoiceItems;
+import org.killbill.billing.client.model.gen.InvoiceItem;
+
+/**
+ * Non-blocking variant of {@link CreditApi}: the requests are built by {@link CreditApi} itself (see {@link AsyncApiCalls})
+ * and sent without blocking the calling thread. Missing required parameters fail the returned future, and
+ * cancelling it aborts the request.
+ *
+ * Not generated by swagger: when {@link CreditApi} is regenerated, its new methods must be added here
+ * ({@code TestApiAsync} fails otherwise).
+ */
+public class CreditApiAsync {
+
+    private final CreditApi api;
+
+    public CreditApiAsync() {
+        this(new KillBillHttpClient());
+    }
+
+    public CreditApiAsync(final KillBillHttpClient httpClient) {
+        this.api = new CreditApi(httpClient);
+    }
+
+    public CompletableFuture<InvoiceItems> createCredits(final InvoiceItems body, final LocalDate requestedDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createCredits(body, requestedDate, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<InvoiceItems> createCredits(final InvoiceItems body, final LocalDate requestedDate, final Boolean autoCommit, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createCredits(body, requestedDate, autoCommit, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<InvoiceItem> getCredit(final UUID creditId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getCredit(creditId, inputOptions));
+    }
+}
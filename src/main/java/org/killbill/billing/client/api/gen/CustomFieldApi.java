@@ -35,12 +35,13 @@ import java.time.format.DateTimeFormatter;
 import org.killbill.billing.client.Converter;
 import org.killbill.billing.client.KillBillClientException;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
 import org.killbill.billing.client.util.Preconditions;
 import org.killbill.billing.client.util.Multimap;
-import org.killbill.billing.client.util.TreeMapSetMultimap;
+import org.killbill.billing.client.util.CompactSetMultimap;
 
 /**
  *           DO NOT EDIT !!!
@@ -50,6 +51,9 @@ import org.killbill.billing.client.util.TreeMapSetMultimap;
  */
 public class CustomFieldApi {
 
+    private static final PathTemplate CUSTOM_FIELDS_CUSTOM_FIELD_ID_AUDIT_LOGS_WITH_HISTORY_PATH = PathTemplate.compile("/1.0/kb/customFields/{customFieldId}/auditLogsWithHistory");
+    private static final PathTemplate CUSTOM_FIELDS_SEARCH_SEARCH_KEY_PATH = PathTemplate.compile("/1.0/kb/customFields/search/{searchKey}");
+
     private final KillBillHttpClient httpClient;
 
     public CustomFieldApi() {
@@ -63,11 +67,11 @@ public class CustomFieldApi {
     public AuditLogs getCustomFieldAuditLogsWithHistory(final UUID customFieldId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(customFieldId, "Missing the required parameter 'customFieldId' when calling getCustomFieldAuditLogsWithHistory");
 
-        final String uri = "/1.0/kb/customFields/{customFieldId}/auditLogsWithHistory"
-          .replaceAll("\\{" + "customFieldId" + "\\}", customFieldId.toString());
+        final String uri = CUSTOM_FIELDS_CUSTOM_FIELD_ID_AUDIT_LOGS_WITH_HISTORY_PATH.expand(customFieldId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(CUSTOM_FIELDS_CUSTOM_FIELD_ID_AUDIT_LOGS_WITH_HISTORY_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -82,7 +86,7 @@ public class CustomFieldApi {
 
         final String uri = "/1.0/kb/customFields/pagination";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (offset != null) {
             queryParams.put("offset", String.valueOf(offset));
         }
@@ -94,6 +98,7 @@ public class CustomFieldApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/customFields/pagination");
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -108,10 +113,9 @@ public class CustomFieldApi {
     public CustomFields searchCustomFields(final String searchKey, final Long offset, final Long limit, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(searchKey, "Missing the required parameter 'searchKey' when calling searchCustomFields");
 
-        final String uri = "/1.0/kb/customFields/search/{searchKey}"
-          .replaceAll("\\{" + "searchKey" + "\\}", searchKey.toString());
+        final String uri = CUSTOM_FIELDS_SEARCH_SEARCH_KEY_PATH.expand(searchKey);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (offset != null) {
             queryParams.put("offset", String.valueOf(offset));
         }
@@ -123,6 +127,7 @@ public class CustomFieldApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(CUSTOM_FIELDS_SEARCH_SEARCH_KEY_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -138,7 +143,7 @@ public class CustomFieldApi {
 
         final String uri = "/1.0/kb/customFields/search";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (objectType != null) {
             queryParams.put("objectType", String.valueOf(objectType));
         }
@@ -159,6 +164,7 @@ public class CustomFieldApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/customFields/search");
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
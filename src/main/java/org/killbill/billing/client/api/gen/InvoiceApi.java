@@ -46,12 +46,13 @@ import java.time.format.DateTimeFormatter;
 import org.killbill.billing.client.Converter;
 import org.killbill.billing.client.KillBillClientException;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
 import org.killbill.billing.client.util.Preconditions;
 import org.killbill.billing.client.util.Multimap;
-import org.killbill.billing.client.util.TreeMapSetMultimap;
+import org.killbill.billing.client.util.CompactSetMultimap;
 
 /**
  *           DO NOT EDIT !!!
@@ -61,6 +62,26 @@ import org.killbill.billing.client.util.TreeMapSetMultimap;
  */
 public class InvoiceApi {
 
+    private static final PathTemplate INVOICES_INVOICE_ID_PATH = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}");
+    private static final PathTemplate INVOICES_INVOICE_ID_COMMIT_INVOICE_PATH = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/commitInvoice");
+    private static final PathTemplate INVOICES_CHARGES_ACCOUNT_ID_PATH = PathTemplate.compile("/1.0/kb/invoices/charges/{accountId}");
+    private static final PathTemplate INVOICES_INVOICE_ID_PAYMENTS_PATH = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/payments");
+    private static final PathTemplate INVOICES_INVOICE_ID_CUSTOM_FIELDS_PATH = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/customFields");
+    private static final PathTemplate INVOICES_INVOICE_ID_TAGS_PATH = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/tags");
+    private static final PathTemplate INVOICES_MIGRATION_ACCOUNT_ID_PATH = PathTemplate.compile("/1.0/kb/invoices/migration/{accountId}");
+    private static final PathTemplate INVOICES_TAXES_ACCOUNT_ID_PATH = PathTemplate.compile("/1.0/kb/invoices/taxes/{accountId}");
+    private static final PathTemplate INVOICES_INVOICE_ID_INVOICE_ITEM_ID_CBA_PATH = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/{invoiceItemId}/cba");
+    private static final PathTemplate INVOICES_CATALOG_TRANSLATION_LOCALE_PATH = PathTemplate.compile("/1.0/kb/invoices/catalogTranslation/{locale}");
+    private static final PathTemplate INVOICES_INVOICE_ID_HTML_PATH = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/html");
+    private static final PathTemplate INVOICES_INVOICE_ID_AUDIT_LOGS_WITH_HISTORY_PATH = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/auditLogsWithHistory");
+    private static final PathTemplate INVOICES_BY_ITEM_ID_ITEM_ID_PATH = PathTemplate.compile("/1.0/kb/invoices/byItemId/{itemId}");
+    private static final PathTemplate INVOICES_BY_NUMBER_INVOICE_NUMBER_PATH = PathTemplate.compile("/1.0/kb/invoices/byNumber/{invoiceNumber}");
+    private static final PathTemplate INVOICES_MANUAL_PAY_TEMPLATE_LOCALE_PATH = PathTemplate.compile("/1.0/kb/invoices/manualPayTemplate/{locale}");
+    private static final PathTemplate INVOICES_TRANSLATION_LOCALE_PATH = PathTemplate.compile("/1.0/kb/invoices/translation/{locale}");
+    private static final PathTemplate INVOICES_GROUP_ID_GROUP_PATH = PathTemplate.compile("/1.0/kb/invoices/{groupId}/group");
+    private static final PathTemplate INVOICES_SEARCH_SEARCH_KEY_PATH = PathTemplate.compile("/1.0/kb/invoices/search/{searchKey}");
+    private static final PathTemplate INVOICES_INVOICE_ID_VOID_INVOICE_PATH = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/voidInvoice");
+
     private final KillBillHttpClient httpClient;
 
     public InvoiceApi() {
@@ -75,10 +96,9 @@ public class InvoiceApi {
         Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling adjustInvoiceItem");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling adjustInvoiceItem");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString());
+        final String uri = INVOICES_INVOICE_ID_PATH.expand(invoiceId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (requestedDate != null) {
             queryParams.put("requestedDate", String.valueOf(requestedDate));
         }
@@ -87,6 +107,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICES_INVOICE_ID_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -100,11 +121,11 @@ public class InvoiceApi {
     public void commitInvoice(final UUID invoiceId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling commitInvoice");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}/commitInvoice"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString());
+        final String uri = INVOICES_INVOICE_ID_COMMIT_INVOICE_PATH.expand(invoiceId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICES_INVOICE_ID_COMMIT_INVOICE_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -120,10 +141,9 @@ public class InvoiceApi {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling createExternalCharges");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createExternalCharges");
 
-        final String uri = "/1.0/kb/invoices/charges/{accountId}"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = INVOICES_CHARGES_ACCOUNT_ID_PATH.expand(accountId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (requestedDate != null) {
             queryParams.put("requestedDate", String.valueOf(requestedDate));
         }
@@ -135,6 +155,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICES_CHARGES_ACCOUNT_ID_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -150,7 +171,7 @@ public class InvoiceApi {
 
         final String uri = "/1.0/kb/invoices";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (accountId != null) {
             queryParams.put("accountId", String.valueOf(accountId));
         }
@@ -162,6 +183,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/invoices");
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -177,7 +199,7 @@ public class InvoiceApi {
 
         final String uri = "/1.0/kb/invoices/group";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (accountId != null) {
             queryParams.put("accountId", String.valueOf(accountId));
         }
@@ -189,6 +211,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/invoices/group");
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -207,10 +230,9 @@ public class InvoiceApi {
         Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling createInstantPayment");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createInstantPayment");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}/payments"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString());
+        final String uri = INVOICES_INVOICE_ID_PAYMENTS_PATH.expand(invoiceId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (externalPayment != null) {
             queryParams.put("externalPayment", String.valueOf(externalPayment));
         }
@@ -222,6 +244,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICES_INVOICE_ID_PAYMENTS_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -236,11 +259,11 @@ public class InvoiceApi {
         Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling createInvoiceCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createInvoiceCustomFields");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}/customFields"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString());
+        final String uri = INVOICES_INVOICE_ID_CUSTOM_FIELDS_PATH.expand(invoiceId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICES_INVOICE_ID_CUSTOM_FIELDS_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -254,11 +277,11 @@ public class InvoiceApi {
         Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling createInvoiceTags");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createInvoiceTags");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}/tags"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString());
+        final String uri = INVOICES_INVOICE_ID_TAGS_PATH.expand(invoiceId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICES_INVOICE_ID_TAGS_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -272,15 +295,15 @@ public class InvoiceApi {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling createMigrationInvoice");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createMigrationInvoice");
 
-        final String uri = "/1.0/kb/invoices/migration/{accountId}"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = INVOICES_MIGRATION_ACCOUNT_ID_PATH.expand(accountId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (targetDate != null) {
             queryParams.put("targetDate", String.valueOf(targetDate));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICES_MIGRATION_ACCOUNT_ID_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -299,10 +322,9 @@ public class InvoiceApi {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling createTaxItems");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createTaxItems");
 
-        final String uri = "/1.0/kb/invoices/taxes/{accountId}"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = INVOICES_TAXES_ACCOUNT_ID_PATH.expand(accountId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (autoCommit != null) {
             queryParams.put("autoCommit", String.valueOf(autoCommit));
         }
@@ -314,6 +336,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICES_TAXES_ACCOUNT_ID_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -330,16 +353,15 @@ public class InvoiceApi {
         Preconditions.checkNotNull(invoiceItemId, "Missing the required parameter 'invoiceItemId' when calling deleteCBA");
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling deleteCBA");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}/{invoiceItemId}/cba"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString())
-          .replaceAll("\\{" + "invoiceItemId" + "\\}", invoiceItemId.toString());
+        final String uri = INVOICES_INVOICE_ID_INVOICE_ITEM_ID_CBA_PATH.expand(invoiceId, invoiceItemId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (accountId != null) {
             queryParams.put("accountId", String.valueOf(accountId));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICES_INVOICE_ID_INVOICE_ITEM_ID_CBA_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -352,15 +374,15 @@ public class InvoiceApi {
     public void deleteInvoiceCustomFields(final UUID invoiceId, final List<UUID> customField, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling deleteInvoiceCustomFields");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}/customFields"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString());
+        final String uri = INVOICES_INVOICE_ID_CUSTOM_FIELDS_PATH.expand(invoiceId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (customField != null) {
             queryParams.putAll("customField", Converter.convertUUIDListToStringList(customField));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICES_INVOICE_ID_CUSTOM_FIELDS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -373,15 +395,15 @@ public class InvoiceApi {
     public void deleteInvoiceTags(final UUID invoiceId, final List<UUID> tagDef, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling deleteInvoiceTags");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}/tags"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString());
+        final String uri = INVOICES_INVOICE_ID_TAGS_PATH.expand(invoiceId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (tagDef != null) {
             queryParams.putAll("tagDef", Converter.convertUUIDListToStringList(tagDef));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICES_INVOICE_ID_TAGS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -396,7 +418,7 @@ public class InvoiceApi {
 
         final String uri = "/1.0/kb/invoices/dryRun";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (accountId != null) {
             queryParams.put("accountId", String.valueOf(accountId));
         }
@@ -408,6 +430,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/invoices/dryRun");
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -421,11 +444,11 @@ public class InvoiceApi {
     public String getCatalogTranslation(final String locale, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(locale, "Missing the required parameter 'locale' when calling getCatalogTranslation");
 
-        final String uri = "/1.0/kb/invoices/catalogTranslation/{locale}"
-          .replaceAll("\\{" + "locale" + "\\}", locale.toString());
+        final String uri = INVOICES_CATALOG_TRANSLATION_LOCALE_PATH.expand(locale);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICES_CATALOG_TRANSLATION_LOCALE_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "text/plain");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -439,10 +462,9 @@ public class InvoiceApi {
     public Invoice getInvoice(final UUID invoiceId, final Boolean withChildrenItems, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling getInvoice");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString());
+        final String uri = INVOICES_INVOICE_ID_PATH.expand(invoiceId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (withChildrenItems != null) {
             queryParams.put("withChildrenItems", String.valueOf(withChildrenItems));
         }
@@ -451,6 +473,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICES_INVOICE_ID_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -461,11 +484,11 @@ public class InvoiceApi {
     public String getInvoiceAsHTML(final UUID invoiceId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling getInvoiceAsHTML");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}/html"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString());
+        final String uri = INVOICES_INVOICE_ID_HTML_PATH.expand(invoiceId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICES_INVOICE_ID_HTML_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "text/html");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -475,11 +498,11 @@ public class InvoiceApi {
     public AuditLogs getInvoiceAuditLogsWithHistory(final UUID invoiceId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling getInvoiceAuditLogsWithHistory");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}/auditLogsWithHistory"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString());
+        final String uri = INVOICES_INVOICE_ID_AUDIT_LOGS_WITH_HISTORY_PATH.expand(invoiceId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICES_INVOICE_ID_AUDIT_LOGS_WITH_HISTORY_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -493,10 +516,9 @@ public class InvoiceApi {
     public Invoice getInvoiceByItemId(final UUID itemId, final Boolean withChildrenItems, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(itemId, "Missing the required parameter 'itemId' when calling getInvoiceByItemId");
 
-        final String uri = "/1.0/kb/invoices/byItemId/{itemId}"
-          .replaceAll("\\{" + "itemId" + "\\}", itemId.toString());
+        final String uri = INVOICES_BY_ITEM_ID_ITEM_ID_PATH.expand(itemId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (withChildrenItems != null) {
             queryParams.put("withChildrenItems", String.valueOf(withChildrenItems));
         }
@@ -505,6 +527,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICES_BY_ITEM_ID_ITEM_ID_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -519,10 +542,9 @@ public class InvoiceApi {
     public Invoice getInvoiceByNumber(final Integer invoiceNumber, final Boolean withChildrenItems, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoiceNumber, "Missing the required parameter 'invoiceNumber' when calling getInvoiceByNumber");
 
-        final String uri = "/1.0/kb/invoices/byNumber/{invoiceNumber}"
-          .replaceAll("\\{" + "invoiceNumber" + "\\}", invoiceNumber.toString());
+        final String uri = INVOICES_BY_NUMBER_INVOICE_NUMBER_PATH.expand(invoiceNumber);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (withChildrenItems != null) {
             queryParams.put("withChildrenItems", String.valueOf(withChildrenItems));
         }
@@ -531,6 +553,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICES_BY_NUMBER_INVOICE_NUMBER_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -545,15 +568,15 @@ public class InvoiceApi {
     public CustomFields getInvoiceCustomFields(final UUID invoiceId, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling getInvoiceCustomFields");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}/customFields"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString());
+        final String uri = INVOICES_INVOICE_ID_CUSTOM_FIELDS_PATH.expand(invoiceId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (audit != null) {
             queryParams.put("audit", String.valueOf(audit));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICES_INVOICE_ID_CUSTOM_FIELDS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -564,11 +587,11 @@ public class InvoiceApi {
     public String getInvoiceMPTemplate(final String locale, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(locale, "Missing the required parameter 'locale' when calling getInvoiceMPTemplate");
 
-        final String uri = "/1.0/kb/invoices/manualPayTemplate/{locale}"
-          .replaceAll("\\{" + "locale" + "\\}", locale.toString());
+        final String uri = INVOICES_MANUAL_PAY_TEMPLATE_LOCALE_PATH.expand(locale);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICES_MANUAL_PAY_TEMPLATE_LOCALE_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "text/html");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -582,10 +605,9 @@ public class InvoiceApi {
     public Tags getInvoiceTags(final UUID invoiceId, final Boolean includedDeleted, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling getInvoiceTags");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}/tags"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString());
+        final String uri = INVOICES_INVOICE_ID_TAGS_PATH.expand(invoiceId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (includedDeleted != null) {
             queryParams.put("includedDeleted", String.valueOf(includedDeleted));
         }
@@ -594,6 +616,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICES_INVOICE_ID_TAGS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -607,6 +630,7 @@ public class InvoiceApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/invoices/template");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "text/html");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -616,11 +640,11 @@ public class InvoiceApi {
     public String getInvoiceTranslation(final String locale, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(locale, "Missing the required parameter 'locale' when calling getInvoiceTranslation");
 
-        final String uri = "/1.0/kb/invoices/translation/{locale}"
-          .replaceAll("\\{" + "locale" + "\\}", locale.toString());
+        final String uri = INVOICES_TRANSLATION_LOCALE_PATH.expand(locale);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICES_TRANSLATION_LOCALE_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "text/plain");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -635,7 +659,7 @@ public class InvoiceApi {
 
         final String uri = "/1.0/kb/invoices/pagination";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (offset != null) {
             queryParams.put("offset", String.valueOf(offset));
         }
@@ -647,6 +671,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/invoices/pagination");
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -662,10 +687,9 @@ public class InvoiceApi {
         Preconditions.checkNotNull(groupId, "Missing the required parameter 'groupId' when calling getInvoicesGroup");
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getInvoicesGroup");
 
-        final String uri = "/1.0/kb/invoices/{groupId}/group"
-          .replaceAll("\\{" + "groupId" + "\\}", groupId.toString());
+        final String uri = INVOICES_GROUP_ID_GROUP_PATH.expand(groupId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (accountId != null) {
             queryParams.put("accountId", String.valueOf(accountId));
         }
@@ -677,6 +701,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICES_GROUP_ID_GROUP_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -691,10 +716,9 @@ public class InvoiceApi {
     public InvoicePayments getPaymentsForInvoice(final UUID invoiceId, final Boolean withPluginInfo, final Boolean withAttempts, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling getPaymentsForInvoice");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}/payments"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString());
+        final String uri = INVOICES_INVOICE_ID_PAYMENTS_PATH.expand(invoiceId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (withPluginInfo != null) {
             queryParams.put("withPluginInfo", String.valueOf(withPluginInfo));
         }
@@ -706,6 +730,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICES_INVOICE_ID_PAYMENTS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -717,11 +742,11 @@ public class InvoiceApi {
         Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling modifyInvoiceCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling modifyInvoiceCustomFields");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}/customFields"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString());
+        final String uri = INVOICES_INVOICE_ID_CUSTOM_FIELDS_PATH.expand(invoiceId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICES_INVOICE_ID_CUSTOM_FIELDS_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -736,10 +761,9 @@ public class InvoiceApi {
     public Invoices searchInvoices(final String searchKey, final Long offset, final Long limit, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(searchKey, "Missing the required parameter 'searchKey' when calling searchInvoices");
 
-        final String uri = "/1.0/kb/invoices/search/{searchKey}"
-          .replaceAll("\\{" + "searchKey" + "\\}", searchKey.toString());
+        final String uri = INVOICES_SEARCH_SEARCH_KEY_PATH.expand(searchKey);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (offset != null) {
             queryParams.put("offset", String.valueOf(offset));
         }
@@ -751,6 +775,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICES_SEARCH_SEARCH_KEY_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -766,15 +791,15 @@ public class InvoiceApi {
         Preconditions.checkNotNull(locale, "Missing the required parameter 'locale' when calling uploadCatalogTranslation");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling uploadCatalogTranslation");
 
-        final String uri = "/1.0/kb/invoices/catalogTranslation/{locale}"
-          .replaceAll("\\{" + "locale" + "\\}", locale.toString());
+        final String uri = INVOICES_CATALOG_TRANSLATION_LOCALE_PATH.expand(locale);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (deleteIfExists != null) {
             queryParams.put("deleteIfExists", String.valueOf(deleteIfExists));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICES_CATALOG_TRANSLATION_LOCALE_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -794,12 +819,13 @@ public class InvoiceApi {
 
         final String uri = "/1.0/kb/invoices/manualPayTemplate";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (deleteIfExists != null) {
             queryParams.put("deleteIfExists", String.valueOf(deleteIfExists));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/invoices/manualPayTemplate");
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -819,12 +845,13 @@ public class InvoiceApi {
 
         final String uri = "/1.0/kb/invoices/template";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (deleteIfExists != null) {
             queryParams.put("deleteIfExists", String.valueOf(deleteIfExists));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/invoices/template");
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -843,15 +870,15 @@ public class InvoiceApi {
         Preconditions.checkNotNull(locale, "Missing the required parameter 'locale' when calling uploadInvoiceTranslation");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling uploadInvoiceTranslation");
 
-        final String uri = "/1.0/kb/invoices/translation/{locale}"
-          .replaceAll("\\{" + "locale" + "\\}", locale.toString());
+        final String uri = INVOICES_TRANSLATION_LOCALE_PATH.expand(locale);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (deleteIfExists != null) {
             queryParams.put("deleteIfExists", String.valueOf(deleteIfExists));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICES_TRANSLATION_LOCALE_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -865,11 +892,11 @@ public class InvoiceApi {
     public void voidInvoice(final UUID invoiceId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling voidInvoice");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}/voidInvoice"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString());
+        final String uri = INVOICES_INVOICE_ID_VOID_INVOICE_PATH.expand(invoiceId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICES_INVOICE_ID_VOID_INVOICE_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
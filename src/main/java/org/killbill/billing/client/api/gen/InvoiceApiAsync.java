@@ -0,0 +1,267 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2021 Equinix, Inc
+ * Copyright 2014-2021 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client.api.gen;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.killbill.billing.client.AsyncApiCalls;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.model.AuditLogs;
+import org.killbill.billing.client.model.CustomFields;
+import org.killbill.billing.client.model.InvoiceItems;
+import org.killbill.billing.client.model.InvoicePayments;
+import org.killbill.billing.client.model.Invoices;
+import org.killbill.billing.client.model.Tags;
+import org.killbill.billing.client.model.gen.Invoice;
+import org.killbill.billing.client.model.gen.InvoiceDryRun;
+import org.killbill.billing.client.model.gen.InvoiceItem;
+import org.killbill.billing.client.model.gen.InvoicePayment;
+import org.killbill.billing.util.api.AuditLevel;
+
+/**
+ * Non-blocking variant of {@link InvoiceApi}: the requests are built by {@link InvoiceApi} itself (see {@link AsyncApiCalls})
+ * and sent without blocking the calling thread. Missing required parameters fail the returned future, and
+ * cancelling it aborts the request.
+ *
+ * Not generated by swagger: when {@link InvoiceApi} is regenerated, its new methods must be added here
+ * ({@code TestApiAsync} fails otherwise).
+ */
+public class InvoiceApiAsync {
+
+    private final InvoiceApi api;
+
+    public InvoiceApiAsync() {
+        this(new KillBillHttpClient());
+    }
+
+    public InvoiceApiAsync(final KillBillHttpClient httpClient) {
+        this.api = new InvoiceApi(httpClient);
+    }
+
+    public CompletableFuture<Invoice> adjustInvoiceItem(final UUID invoiceId, final InvoiceItem body, final LocalDate requestedDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.adjustInvoiceItem(invoiceId, body, requestedDate, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Void> commitInvoice(final UUID invoiceId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.commitInvoice(invoiceId, inputOptions));
+    }
+
+    public CompletableFuture<InvoiceItems> createExternalCharges(final UUID accountId, final InvoiceItems body, final LocalDate requestedDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createExternalCharges(accountId, body, requestedDate, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<InvoiceItems> createExternalCharges(final UUID accountId, final InvoiceItems body, final LocalDate requestedDate, final Boolean autoCommit, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createExternalCharges(accountId, body, requestedDate, autoCommit, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Invoice> createFutureInvoice(final UUID accountId, final LocalDate targetDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createFutureInvoice(accountId, targetDate, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Invoices> createFutureInvoiceGroup(final UUID accountId, final LocalDate targetDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createFutureInvoiceGroup(accountId, targetDate, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<InvoicePayment> createInstantPayment(final UUID invoiceId, final InvoicePayment body, final List<String> controlPluginName, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createInstantPayment(invoiceId, body, controlPluginName, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<InvoicePayment> createInstantPayment(final UUID invoiceId, final InvoicePayment body, final Boolean externalPayment, final List<String> controlPluginName, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createInstantPayment(invoiceId, body, externalPayment, controlPluginName, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<CustomFields> createInvoiceCustomFields(final UUID invoiceId, final CustomFields body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createInvoiceCustomFields(invoiceId, body, inputOptions));
+    }
+
+    public CompletableFuture<Tags> createInvoiceTags(final UUID invoiceId, final List<UUID> body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createInvoiceTags(invoiceId, body, inputOptions));
+    }
+
+    public CompletableFuture<Invoice> createMigrationInvoice(final UUID accountId, final InvoiceItems body, final LocalDate targetDate, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createMigrationInvoice(accountId, body, targetDate, inputOptions));
+    }
+
+    public CompletableFuture<InvoiceItems> createTaxItems(final UUID accountId, final InvoiceItems body, final LocalDate requestedDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createTaxItems(accountId, body, requestedDate, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<InvoiceItems> createTaxItems(final UUID accountId, final InvoiceItems body, final Boolean autoCommit, final LocalDate requestedDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createTaxItems(accountId, body, autoCommit, requestedDate, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Void> deleteCBA(final UUID invoiceId, final UUID invoiceItemId, final UUID accountId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.deleteCBA(invoiceId, invoiceItemId, accountId, inputOptions));
+    }
+
+    public CompletableFuture<Void> deleteInvoiceCustomFields(final UUID invoiceId, final List<UUID> customField, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.deleteInvoiceCustomFields(invoiceId, customField, inputOptions));
+    }
+
+    public CompletableFuture<Void> deleteInvoiceTags(final UUID invoiceId, final List<UUID> tagDef, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.deleteInvoiceTags(invoiceId, tagDef, inputOptions));
+    }
+
+    public CompletableFuture<Invoice> generateDryRunInvoice(final InvoiceDryRun body, final UUID accountId, final LocalDate targetDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.generateDryRunInvoice(body, accountId, targetDate, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<String> getCatalogTranslation(final String locale, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getCatalogTranslation(locale, inputOptions));
+    }
+
+    public CompletableFuture<Invoice> getInvoice(final UUID invoiceId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoice(invoiceId, inputOptions));
+    }
+
+    public CompletableFuture<Invoice> getInvoice(final UUID invoiceId, final Boolean withChildrenItems, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoice(invoiceId, withChildrenItems, audit, inputOptions));
+    }
+
+    public CompletableFuture<String> getInvoiceAsHTML(final UUID invoiceId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoiceAsHTML(invoiceId, inputOptions));
+    }
+
+    public CompletableFuture<AuditLogs> getInvoiceAuditLogsWithHistory(final UUID invoiceId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoiceAuditLogsWithHistory(invoiceId, inputOptions));
+    }
+
+    public CompletableFuture<Invoice> getInvoiceByItemId(final UUID itemId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoiceByItemId(itemId, inputOptions));
+    }
+
+    public CompletableFuture<Invoice> getInvoiceByItemId(final UUID itemId, final Boolean withChildrenItems, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoiceByItemId(itemId, withChildrenItems, audit, inputOptions));
+    }
+
+    public CompletableFuture<Invoice> getInvoiceByNumber(final Integer invoiceNumber, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoiceByNumber(invoiceNumber, inputOptions));
+    }
+
+    public CompletableFuture<Invoice> getInvoiceByNumber(final Integer invoiceNumber, final Boolean withChildrenItems, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoiceByNumber(invoiceNumber, withChildrenItems, audit, inputOptions));
+    }
+
+    public CompletableFuture<CustomFields> getInvoiceCustomFields(final UUID invoiceId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoiceCustomFields(invoiceId, inputOptions));
+    }
+
+    public CompletableFuture<CustomFields> getInvoiceCustomFields(final UUID invoiceId, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoiceCustomFields(invoiceId, audit, inputOptions));
+    }
+
+    public CompletableFuture<String> getInvoiceMPTemplate(final String locale, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoiceMPTemplate(locale, inputOptions));
+    }
+
+    public CompletableFuture<Tags> getInvoiceTags(final UUID invoiceId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoiceTags(invoiceId, inputOptions));
+    }
+
+    public CompletableFuture<Tags> getInvoiceTags(final UUID invoiceId, final Boolean includedDeleted, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoiceTags(invoiceId, includedDeleted, audit, inputOptions));
+    }
+
+    public CompletableFuture<String> getInvoiceTemplate(final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoiceTemplate(inputOptions));
+    }
+
+    public CompletableFuture<String> getInvoiceTranslation(final String locale, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoiceTranslation(locale, inputOptions));
+    }
+
+    public CompletableFuture<Invoices> getInvoices(final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoices(inputOptions));
+    }
+
+    public CompletableFuture<Invoices> getInvoices(final Long offset, final Long limit, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoices(offset, limit, audit, inputOptions));
+    }
+
+    public CompletableFuture<Invoices> getInvoicesGroup(final UUID groupId, final UUID accountId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoicesGroup(groupId, accountId, inputOptions));
+    }
+
+    public CompletableFuture<Invoices> getInvoicesGroup(final UUID groupId, final UUID accountId, final Boolean withChildrenItems, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoicesGroup(groupId, accountId, withChildrenItems, audit, inputOptions));
+    }
+
+    public CompletableFuture<InvoicePayments> getPaymentsForInvoice(final UUID invoiceId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPaymentsForInvoice(invoiceId, inputOptions));
+    }
+
+    public CompletableFuture<InvoicePayments> getPaymentsForInvoice(final UUID invoiceId, final Boolean withPluginInfo, final Boolean withAttempts, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPaymentsForInvoice(invoiceId, withPluginInfo, withAttempts, audit, inputOptions));
+    }
+
+    public CompletableFuture<Void> modifyInvoiceCustomFields(final UUID invoiceId, final CustomFields body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.modifyInvoiceCustomFields(invoiceId, body, inputOptions));
+    }
+
+    public CompletableFuture<Invoices> searchInvoices(final String searchKey, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.searchInvoices(searchKey, inputOptions));
+    }
+
+    public CompletableFuture<Invoices> searchInvoices(final String searchKey, final Long offset, final Long limit, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.searchInvoices(searchKey, offset, limit, audit, inputOptions));
+    }
+
+    public CompletableFuture<String> uploadCatalogTranslation(final String locale, final String body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.uploadCatalogTranslation(locale, body, inputOptions));
+    }
+
+    public CompletableFuture<String> uploadCatalogTranslation(final String locale, final String body, final Boolean deleteIfExists, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.uploadCatalogTranslation(locale, body, deleteIfExists, inputOptions));
+    }
+
+    public CompletableFuture<String> uploadInvoiceMPTemplate(final String body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.uploadInvoiceMPTemplate(body, inputOptions));
+    }
+
+    public CompletableFuture<String> uploadInvoiceMPTemplate(final String body, final Boolean deleteIfExists, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.uploadInvoiceMPTemplate(body, deleteIfExists, inputOptions));
+    }
+
+    public CompletableFuture<String> uploadInvoiceTemplate(final String body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.uploadInvoiceTemplate(body, inputOptions));
+    }
+
+    public CompletableFuture<String> uploadInvoiceTemplate(final String body, final Boolean deleteIfExists, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.uploadInvoiceTemplate(body, deleteIfExists, inputOptions));
+    }
+
+    public CompletableFuture<String> uploadInvoiceTranslation(final String locale, final String body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.uploadInvoiceTranslation(locale, body, inputOptions));
+    }
+
+    public CompletableFuture<String> uploadInvoiceTranslation(final String locale, final String body, final Boolean deleteIfExists, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.uploadInvoiceTranslation(locale, body, deleteIfExists, inputOptions));
+    }
+
+    public CompletableFuture<Void> voidInvoice(final UUID invoiceId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.voidInvoice(invoiceId, inputOptions));
+    }
+}
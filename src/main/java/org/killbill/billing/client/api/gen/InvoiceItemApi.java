@@ -37,12 +37,13 @@ import java.time.format.DateTimeFormatter;
 import org.killbill.billing.client.Converter;
 import org.killbill.billing.client.KillBillClientException;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
 import org.killbill.billing.client.util.Preconditions;
 import org.killbill.billing.client.util.Multimap;
-import org.killbill.billing.client.util.TreeMapSetMultimap;
+import org.killbill.billing.client.util.CompactSetMultimap;
 
 /**
  *           DO NOT EDIT !!!
@@ -52,6 +53,10 @@ import org.killbill.billing.client.util.TreeMapSetMultimap;
  */
 public class InvoiceItemApi {
 
+    private static final PathTemplate INVOICE_ITEMS_INVOICE_ITEM_ID_CUSTOM_FIELDS_PATH = PathTemplate.compile("/1.0/kb/invoiceItems/{invoiceItemId}/customFields");
+    private static final PathTemplate INVOICE_ITEMS_INVOICE_ITEM_ID_TAGS_PATH = PathTemplate.compile("/1.0/kb/invoiceItems/{invoiceItemId}/tags");
+    private static final PathTemplate INVOICE_ITEMS_INVOICE_ITEM_ID_AUDIT_LOGS_WITH_HISTORY_PATH = PathTemplate.compile("/1.0/kb/invoiceItems/{invoiceItemId}/auditLogsWithHistory");
+
     private final KillBillHttpClient httpClient;
 
     public InvoiceItemApi() {
@@ -66,11 +71,11 @@ public class InvoiceItemApi {
         Preconditions.checkNotNull(invoiceItemId, "Missing the required parameter 'invoiceItemId' when calling createInvoiceItemCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createInvoiceItemCustomFields");
 
-        final String uri = "/1.0/kb/invoiceItems/{invoiceItemId}/customFields"
-          .replaceAll("\\{" + "invoiceItemId" + "\\}", invoiceItemId.toString());
+        final String uri = INVOICE_ITEMS_INVOICE_ITEM_ID_CUSTOM_FIELDS_PATH.expand(invoiceItemId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICE_ITEMS_INVOICE_ITEM_ID_CUSTOM_FIELDS_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -84,11 +89,11 @@ public class InvoiceItemApi {
         Preconditions.checkNotNull(invoiceItemId, "Missing the required parameter 'invoiceItemId' when calling createInvoiceItemTags");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createInvoiceItemTags");
 
-        final String uri = "/1.0/kb/invoiceItems/{invoiceItemId}/tags"
-          .replaceAll("\\{" + "invoiceItemId" + "\\}", invoiceItemId.toString());
+        final String uri = INVOICE_ITEMS_INVOICE_ITEM_ID_TAGS_PATH.expand(invoiceItemId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICE_ITEMS_INVOICE_ITEM_ID_TAGS_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -102,15 +107,15 @@ public class InvoiceItemApi {
     public void deleteInvoiceItemCustomFields(final UUID invoiceItemId, final List<UUID> customField, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoiceItemId, "Missing the required parameter 'invoiceItemId' when calling deleteInvoiceItemCustomFields");
 
-        final String uri = "/1.0/kb/invoiceItems/{invoiceItemId}/customFields"
-          .replaceAll("\\{" + "invoiceItemId" + "\\}", invoiceItemId.toString());
+        final String uri = INVOICE_ITEMS_INVOICE_ITEM_ID_CUSTOM_FIELDS_PATH.expand(invoiceItemId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (customField != null) {
             queryParams.putAll("customField", Converter.convertUUIDListToStringList(customField));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICE_ITEMS_INVOICE_ITEM_ID_CUSTOM_FIELDS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -123,15 +128,15 @@ public class InvoiceItemApi {
     public void deleteInvoiceItemTags(final UUID invoiceItemId, final List<UUID> tagDef, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoiceItemId, "Missing the required parameter 'invoiceItemId' when calling deleteInvoiceItemTags");
 
-        final String uri = "/1.0/kb/invoiceItems/{invoiceItemId}/tags"
-          .replaceAll("\\{" + "invoiceItemId" + "\\}", invoiceItemId.toString());
+        final String uri = INVOICE_ITEMS_INVOICE_ITEM_ID_TAGS_PATH.expand(invoiceItemId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (tagDef != null) {
             queryParams.putAll("tagDef", Converter.convertUUIDListToStringList(tagDef));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICE_ITEMS_INVOICE_ITEM_ID_TAGS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -143,11 +148,11 @@ public class InvoiceItemApi {
     public AuditLogs getInvoiceItemAuditLogsWithHistory(final UUID invoiceItemId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoiceItemId, "Missing the required parameter 'invoiceItemId' when calling getInvoiceItemAuditLogsWithHistory");
 
-        final String uri = "/1.0/kb/invoiceItems/{invoiceItemId}/auditLogsWithHistory"
-          .replaceAll("\\{" + "invoiceItemId" + "\\}", invoiceItemId.toString());
+        final String uri = INVOICE_ITEMS_INVOICE_ITEM_ID_AUDIT_LOGS_WITH_HISTORY_PATH.expand(invoiceItemId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICE_ITEMS_INVOICE_ITEM_ID_AUDIT_LOGS_WITH_HISTORY_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -161,15 +166,15 @@ public class InvoiceItemApi {
     public CustomFields getInvoiceItemCustomFields(final UUID invoiceItemId, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoiceItemId, "Missing the required parameter 'invoiceItemId' when calling getInvoiceItemCustomFields");
 
-        final String uri = "/1.0/kb/invoiceItems/{invoiceItemId}/customFields"
-          .replaceAll("\\{" + "invoiceItemId" + "\\}", invoiceItemId.toString());
+        final String uri = INVOICE_ITEMS_INVOICE_ITEM_ID_CUSTOM_FIELDS_PATH.expand(invoiceItemId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (audit != null) {
             queryParams.put("audit", String.valueOf(audit));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICE_ITEMS_INVOICE_ITEM_ID_CUSTOM_FIELDS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -185,10 +190,9 @@ public class InvoiceItemApi {
         Preconditions.checkNotNull(invoiceItemId, "Missing the required parameter 'invoiceItemId' when calling getInvoiceItemTags");
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getInvoiceItemTags");
 
-        final String uri = "/1.0/kb/invoiceItems/{invoiceItemId}/tags"
-          .replaceAll("\\{" + "invoiceItemId" + "\\}", invoiceItemId.toString());
+        final String uri = INVOICE_ITEMS_INVOICE_ITEM_ID_TAGS_PATH.expand(invoiceItemId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (accountId != null) {
             queryParams.put("accountId", String.valueOf(accountId));
         }
@@ -200,6 +204,7 @@ public class InvoiceItemApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICE_ITEMS_INVOICE_ITEM_ID_TAGS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -211,11 +216,11 @@ public class InvoiceItemApi {
         Preconditions.checkNotNull(invoiceItemId, "Missing the required parameter 'invoiceItemId' when calling modifyInvoiceItemCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling modifyInvoiceItemCustomFields");
 
-        final String uri = "/1.0/kb/invoiceItems/{invoiceItemId}/customFields"
-          .replaceAll("\\{" + "invoiceItemId" + "\\}", invoiceItemId.toString());
+        final String uri = INVOICE_ITEMS_INVOICE_ITEM_ID_CUSTOM_FIELDS_PATH.expand(invoiceItemId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICE_ITEMS_INVOICE_ITEM_ID_CUSTOM_FIELDS_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2021 Equinix, Inc
+ * Copyright 2014-2021 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client.api.gen;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.killbill.billing.client.AsyncApiCalls;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.model.AuditLogs;
+import org.killbill.billing.client.model.CustomFields;
+import org.killbill.billing.client.model.Tags;
+import org.killbill.billing.util.api.AuditLevel;
+
+/**
+ * Non-blocking variant of {@link InvoiceItemApi}: the requests are built by {@link InvoiceItemApi} itself (see {@link AsyncApiCalls})
+ * and sent without blocking the calling thread. Missing required parameters fail the returned future, and
+ * cancelling it aborts the request.
+ *
+ * Not generated by swagger: when {@link InvoiceItemApi} is regenerated, its new methods must be added here
+ * ({@code TestApiAsync} fails otherwise).
+ */
+public class InvoiceItemApiAsync {
+
+    private final InvoiceItemApi api;
+
+    public InvoiceItemApiAsync() {
+        this(new KillBillHttpClient());
+    }
+
+    public InvoiceItemApiAsync(final KillBillHttpClient httpClient) {
+        this.api = new InvoiceItemApi(httpClient);
+    }
+
+    public CompletableFuture<CustomFields> createInvoiceItemCustomFields(final UUID invoiceItemId, final CustomFields body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createInvoiceItemCustomFields(invoiceItemId, body, inputOptions));
+    }
+
+    public CompletableFuture<Tags> createInvoiceItemTags(final UUID invoiceItemId, final List<UUID> body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createInvoiceItemTags(invoiceItemId, body, inputOptions));
+    }
+
+    public CompletableFuture<Void> deleteInvoiceItemCustomFields(final UUID invoiceItemId, final List<UUID> customField, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.deleteInvoiceItemCustomFields(invoiceItemId, customField, inputOptions));
+    }
+
+    public CompletableFuture<Void> deleteInvoiceItemTags(final UUID invoiceItemId, final List<UUID> tagDef, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.deleteInvoiceItemTags(invoiceItemId, tagDef, inputOptions));
+    }
+
+    public CompletableFuture<AuditLogs> getInvoiceItemAuditLogsWithHistory(final UUID invoiceItemId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoiceItemAuditLogsWithHistory(invoiceItemId, inputOptions));
+    }
+
+    public CompletableFuture<CustomFields> getInvoiceItemCustomFields(final UUID invoiceItemId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoiceItemCustomFields(invoiceItemId, inputOptions));
+    }
+
+    public CompletableFuture<CustomFields> getInvoiceItemCustomFields(final UUID invoiceItemId, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoiceItemCustomFields(invoiceItemId, audit, inputOptions));
+    }
+
+    public CompletableFuture<Tags> getInvoiceItemTags(final UUID invoiceItemId, final UUID accountId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoiceItemTags(invoiceItemId, accountId, inputOptions));
+    }
+
+    public CompletableFuture<Tags> getInvoiceItemTags(final UUID invoiceItemId, final UUID accountId, final Boolean includedDeleted, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoiceItemTags(invoiceItemId, accountId, includedDeleted, audit, inputOptions));
+    }
+
+    public CompletableFuture<Void> modifyInvoiceItemCustomFields(final UUID invoiceItemId, final CustomFields body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.modifyInvoiceItemCustomFields(invoiceItemId, body, inputOptions));
+    }
+}
@@ -41,12 +41,13 @@ import java.time.format.DateTimeFormatter;
 import org.killbill.billing.client.Converter;
 import org.killbill.billing.client.KillBillClientException;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
 import org.killbill.billing.client.util.Preconditions;
 import org.killbill.billing.client.util.Multimap;
-import org.killbill.billing.client.util.TreeMapSetMultimap;
+import org.killbill.billing.client.util.CompactSetMultimap;
 
 /**
  *           DO NOT EDIT !!!
@@ -56,6 +57,14 @@ import org.killbill.billing.client.util.TreeMapSetMultimap;
  */
 public class InvoicePaymentApi {
 
+    private static final PathTemplate INVOICE_PAYMENTS_PAYMENT_ID_PATH = PathTemplate.compile("/1.0/kb/invoicePayments/{paymentId}");
+    private static final PathTemplate INVOICE_PAYMENTS_PAYMENT_ID_CHARGEBACKS_PATH = PathTemplate.compile("/1.0/kb/invoicePayments/{paymentId}/chargebacks");
+    private static final PathTemplate INVOICE_PAYMENTS_PAYMENT_ID_CHARGEBACK_REVERSALS_PATH = PathTemplate.compile("/1.0/kb/invoicePayments/{paymentId}/chargebackReversals");
+    private static final PathTemplate INVOICE_PAYMENTS_PAYMENT_ID_CUSTOM_FIELDS_PATH = PathTemplate.compile("/1.0/kb/invoicePayments/{paymentId}/customFields");
+    private static final PathTemplate INVOICE_PAYMENTS_PAYMENT_ID_TAGS_PATH = PathTemplate.compile("/1.0/kb/invoicePayments/{paymentId}/tags");
+    private static final PathTemplate INVOICE_PAYMENTS_PAYMENT_ID_REFUNDS_PATH = PathTemplate.compile("/1.0/kb/invoicePayments/{paymentId}/refunds");
+    private static final PathTemplate INVOICE_PAYMENTS_INVOICE_PAYMENT_ID_AUDIT_LOGS_WITH_HISTORY_PATH = PathTemplate.compile("/1.0/kb/invoicePayments/{invoicePaymentId}/auditLogsWithHistory");
+
     private final KillBillHttpClient httpClient;
 
     public InvoicePaymentApi() {
@@ -70,10 +79,9 @@ public class InvoicePaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling completeInvoicePaymentTransaction");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling completeInvoicePaymentTransaction");
 
-        final String uri = "/1.0/kb/invoicePayments/{paymentId}"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = INVOICE_PAYMENTS_PAYMENT_ID_PATH.expand(paymentId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (controlPluginName != null) {
             queryParams.putAll("controlPluginName", controlPluginName);
         }
@@ -82,6 +90,7 @@ public class InvoicePaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICE_PAYMENTS_PAYMENT_ID_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -94,15 +103,15 @@ public class InvoicePaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling createChargeback");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createChargeback");
 
-        final String uri = "/1.0/kb/invoicePayments/{paymentId}/chargebacks"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = INVOICE_PAYMENTS_PAYMENT_ID_CHARGEBACKS_PATH.expand(paymentId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (pluginProperty != null) {
             queryParams.putAll("pluginProperty", Converter.convertPluginPropertyMap(pluginProperty));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICE_PAYMENTS_PAYMENT_ID_CHARGEBACKS_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -117,15 +126,15 @@ public class InvoicePaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling createChargebackReversal");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createChargebackReversal");
 
-        final String uri = "/1.0/kb/invoicePayments/{paymentId}/chargebackReversals"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = INVOICE_PAYMENTS_PAYMENT_ID_CHARGEBACK_REVERSALS_PATH.expand(paymentId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (pluginProperty != null) {
             queryParams.putAll("pluginProperty", Converter.convertPluginPropertyMap(pluginProperty));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICE_PAYMENTS_PAYMENT_ID_CHARGEBACK_REVERSALS_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -140,11 +149,11 @@ public class InvoicePaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling createInvoicePaymentCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createInvoicePaymentCustomFields");
 
-        final String uri = "/1.0/kb/invoicePayments/{paymentId}/customFields"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = INVOICE_PAYMENTS_PAYMENT_ID_CUSTOM_FIELDS_PATH.expand(paymentId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICE_PAYMENTS_PAYMENT_ID_CUSTOM_FIELDS_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -158,11 +167,11 @@ public class InvoicePaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling createInvoicePaymentTags");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createInvoicePaymentTags");
 
-        final String uri = "/1.0/kb/invoicePayments/{paymentId}/tags"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = INVOICE_PAYMENTS_PAYMENT_ID_TAGS_PATH.expand(paymentId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICE_PAYMENTS_PAYMENT_ID_TAGS_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -180,10 +189,9 @@ public class InvoicePaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling createRefundWithAdjustments");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createRefundWithAdjustments");
 
-        final String uri = "/1.0/kb/invoicePayments/{paymentId}/refunds"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = INVOICE_PAYMENTS_PAYMENT_ID_REFUNDS_PATH.expand(paymentId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (externalPayment != null) {
             queryParams.put("externalPayment", String.valueOf(externalPayment));
         }
@@ -195,6 +203,7 @@ public class InvoicePaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICE_PAYMENTS_PAYMENT_ID_REFUNDS_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -209,15 +218,15 @@ public class InvoicePaymentApi {
     public void deleteInvoicePaymentCustomFields(final UUID paymentId, final List<UUID> customField, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling deleteInvoicePaymentCustomFields");
 
-        final String uri = "/1.0/kb/invoicePayments/{paymentId}/customFields"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = INVOICE_PAYMENTS_PAYMENT_ID_CUSTOM_FIELDS_PATH.expand(paymentId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (customField != null) {
             queryParams.putAll("customField", Converter.convertUUIDListToStringList(customField));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICE_PAYMENTS_PAYMENT_ID_CUSTOM_FIELDS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -230,15 +239,15 @@ public class InvoicePaymentApi {
     public void deleteInvoicePaymentTags(final UUID paymentId, final List<UUID> tagDef, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling deleteInvoicePaymentTags");
 
-        final String uri = "/1.0/kb/invoicePayments/{paymentId}/tags"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = INVOICE_PAYMENTS_PAYMENT_ID_TAGS_PATH.expand(paymentId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (tagDef != null) {
             queryParams.putAll("tagDef", Converter.convertUUIDListToStringList(tagDef));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICE_PAYMENTS_PAYMENT_ID_TAGS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -254,10 +263,9 @@ public class InvoicePaymentApi {
     public InvoicePayment getInvoicePayment(final UUID paymentId, final Boolean withPluginInfo, final Boolean withAttempts, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling getInvoicePayment");
 
-        final String uri = "/1.0/kb/invoicePayments/{paymentId}"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = INVOICE_PAYMENTS_PAYMENT_ID_PATH.expand(paymentId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (withPluginInfo != null) {
             queryParams.put("withPluginInfo", String.valueOf(withPluginInfo));
         }
@@ -272,6 +280,7 @@ public class InvoicePaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICE_PAYMENTS_PAYMENT_ID_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -282,11 +291,11 @@ public class InvoicePaymentApi {
     public AuditLogs getInvoicePaymentAuditLogsWithHistory(final UUID invoicePaymentId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoicePaymentId, "Missing the required parameter 'invoicePaymentId' when calling getInvoicePaymentAuditLogsWithHistory");
 
-        final String uri = "/1.0/kb/invoicePayments/{invoicePaymentId}/auditLogsWithHistory"
-          .replaceAll("\\{" + "invoicePaymentId" + "\\}", invoicePaymentId.toString());
+        final String uri = INVOICE_PAYMENTS_INVOICE_PAYMENT_ID_AUDIT_LOGS_WITH_HISTORY_PATH.expand(invoicePaymentId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICE_PAYMENTS_INVOICE_PAYMENT_ID_AUDIT_LOGS_WITH_HISTORY_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -300,15 +309,15 @@ public class InvoicePaymentApi {
     public CustomFields getInvoicePaymentCustomFields(final UUID paymentId, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling getInvoicePaymentCustomFields");
 
-        final String uri = "/1.0/kb/invoicePayments/{paymentId}/customFields"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = INVOICE_PAYMENTS_PAYMENT_ID_CUSTOM_FIELDS_PATH.expand(paymentId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (audit != null) {
             queryParams.put("audit", String.valueOf(audit));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICE_PAYMENTS_PAYMENT_ID_CUSTOM_FIELDS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -323,10 +332,9 @@ public class InvoicePaymentApi {
     public Tags getInvoicePaymentTags(final UUID paymentId, final Boolean includedDeleted, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling getInvoicePaymentTags");
 
-        final String uri = "/1.0/kb/invoicePayments/{paymentId}/tags"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = INVOICE_PAYMENTS_PAYMENT_ID_TAGS_PATH.expand(paymentId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (includedDeleted != null) {
             queryParams.put("includedDeleted", String.valueOf(includedDeleted));
         }
@@ -338,6 +346,7 @@ public class InvoicePaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICE_PAYMENTS_PAYMENT_ID_TAGS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -349,11 +358,11 @@ public class InvoicePaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling modifyInvoicePaymentCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling modifyInvoicePaymentCustomFields");
 
-        final String uri = "/1.0/kb/invoicePayments/{paymentId}/customFields"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = INVOICE_PAYMENTS_PAYMENT_ID_CUSTOM_FIELDS_PATH.expand(paymentId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(INVOICE_PAYMENTS_PAYMENT_ID_CUSTOM_FIELDS_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
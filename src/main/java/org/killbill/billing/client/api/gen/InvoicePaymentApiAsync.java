@@ -0,0 +1,126 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2021 Equinix, Inc
+ * Copyright 2014-2021 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client.api.gen;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.killbill.billing.client.AsyncApiCalls;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.model.AuditLogs;
+import org.killbill.billing.client.model.CustomFields;
+import org.killbill.billing.client.model.Tags;
+import org.killbill.billing.client.model.gen.InvoicePayment;
+import org.killbill.billing.client.model.gen.InvoicePaymentTransaction;
+import org.killbill.billing.client.model.gen.PaymentTransaction;
+import org.killbill.billing.util.api.AuditLevel;
+
+/**
+ * Non-blocking variant of {@link InvoicePaymentApi}: the requests are built by {@link InvoicePaymentApi} itself (see {@link AsyncApiCalls})
+ * and sent without blocking the calling thread. Missing required parameters fail the returned future, and
+ * cancelling it aborts the request.
+ *
+ * Not generated by swagger: when {@link InvoicePaymentApi} is regenerated, its new methods must be added here
+ * ({@code TestApiAsync} fails otherwise).
+ */
+public class InvoicePaymentApiAsync {
+
+    private final InvoicePaymentApi api;
+
+    public InvoicePaymentApiAsync() {
+        this(new KillBillHttpClient());
+    }
+
+    public InvoicePaymentApiAsync(final KillBillHttpClient httpClient) {
+        this.api = new InvoicePaymentApi(httpClient);
+    }
+
+    public CompletableFuture<Void> completeInvoicePaymentTransaction(final UUID paymentId, final PaymentTransaction body, final List<String> controlPluginName, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.completeInvoicePaymentTransaction(paymentId, body, controlPluginName, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<InvoicePayment> createChargeback(final UUID paymentId, final InvoicePaymentTransaction body, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createChargeback(paymentId, body, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<InvoicePayment> createChargebackReversal(final UUID paymentId, final InvoicePaymentTransaction body, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createChargebackReversal(paymentId, body, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<CustomFields> createInvoicePaymentCustomFields(final UUID paymentId, final CustomFields body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createInvoicePaymentCustomFields(paymentId, body, inputOptions));
+    }
+
+    public CompletableFuture<Tags> createInvoicePaymentTags(final UUID paymentId, final List<UUID> body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createInvoicePaymentTags(paymentId, body, inputOptions));
+    }
+
+    public CompletableFuture<InvoicePayment> createRefundWithAdjustments(final UUID paymentId, final InvoicePaymentTransaction body, final UUID paymentMethodId, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createRefundWithAdjustments(paymentId, body, paymentMethodId, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<InvoicePayment> createRefundWithAdjustments(final UUID paymentId, final InvoicePaymentTransaction body, final Boolean externalPayment, final UUID paymentMethodId, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createRefundWithAdjustments(paymentId, body, externalPayment, paymentMethodId, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Void> deleteInvoicePaymentCustomFields(final UUID paymentId, final List<UUID> customField, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.deleteInvoicePaymentCustomFields(paymentId, customField, inputOptions));
+    }
+
+    public CompletableFuture<Void> deleteInvoicePaymentTags(final UUID paymentId, final List<UUID> tagDef, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.deleteInvoicePaymentTags(paymentId, tagDef, inputOptions));
+    }
+
+    public CompletableFuture<InvoicePayment> getInvoicePayment(final UUID paymentId, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoicePayment(paymentId, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<InvoicePayment> getInvoicePayment(final UUID paymentId, final Boolean withPluginInfo, final Boolean withAttempts, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoicePayment(paymentId, withPluginInfo, withAttempts, pluginProperty, audit, inputOptions));
+    }
+
+    public CompletableFuture<AuditLogs> getInvoicePaymentAuditLogsWithHistory(final UUID invoicePaymentId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoicePaymentAuditLogsWithHistory(invoicePaymentId, inputOptions));
+    }
+
+    public CompletableFuture<CustomFields> getInvoicePaymentCustomFields(final UUID paymentId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoicePaymentCustomFields(paymentId, inputOptions));
+    }
+
+    public CompletableFuture<CustomFields> getInvoicePaymentCustomFields(final UUID paymentId, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoicePaymentCustomFields(paymentId, audit, inputOptions));
+    }
+
+    public CompletableFuture<Tags> getInvoicePaymentTags(final UUID paymentId, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoicePaymentTags(paymentId, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Tags> getInvoicePaymentTags(final UUID paymentId, final Boolean includedDeleted, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getInvoicePaymentTags(paymentId, includedDeleted, pluginProperty, audit, inputOptions));
+    }
+
+    public CompletableFuture<Void> modifyInvoicePaymentCustomFields(final UUID paymentId, final CustomFields body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.modifyInvoicePaymentCustomFields(paymentId, body, inputOptions));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2021 Equinix, Inc
+ * Copyright 2014-2021 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client.api.gen;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.killbill.billing.client.AsyncApiCalls;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.model.gen.Overdue;
+
+/**
+ * Non-blocking variant of {@link OverdueApi}: the requests are built by {@link OverdueApi} itself (see {@link AsyncApiCalls})
+ * and sent without blocking the calling thread. Missing required parameters fail the returned future, and
+ * cancelling it aborts the request.
+ *
+ * Not generated by swagger: when {@link OverdueApi} is regenerated, its new methods must be added here
+ * ({@code TestApiAsync} fails otherwise).
+ */
+public class OverdueApiAsync {
+
+    private final OverdueApi api;
+
+    public OverdueApiAsync() {
+        this(new KillBillHttpClient());
+    }
+
+    public OverdueApiAsync(final KillBillHttpClient httpClient) {
+        this.api = new OverdueApi(httpClient);
+    }
+
+    public CompletableFuture<Overdue> getOverdueConfigJson(final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getOverdueConfigJson(inputOptions));
+    }
+
+    public CompletableFuture<String> getOverdueConfigXml(final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getOverdueConfigXml(inputOptions));
+    }
+
+    public CompletableFuture<Overdue> uploadOverdueConfigJson(final Overdue body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.uploadOverdueConfigJson(body, inputOptions));
+    }
+
+    public CompletableFuture<String> uploadOverdueConfigXml(final String body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.uploadOverdueConfigXml(body, inputOptions));
+    }
+}
@@ -42,12 +42,13 @@ import java.time.format.DateTimeFormatter;
 import org.killbill.billing.client.Converter;
 import org.killbill.billing.client.KillBillClientException;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
 import org.killbill.billing.client.util.Preconditions;
 import org.killbill.billing.client.util.Multimap;
-import org.killbill.billing.client.util.TreeMapSetMultimap;
+import org.killbill.billing.client.util.CompactSetMultimap;
 
 /**
  *           DO NOT EDIT !!!
@@ -57,6 +58,17 @@ import org.killbill.billing.client.util.TreeMapSetMultimap;
  */
 public class PaymentApi {
 
+    private static final PathTemplate PAYMENTS_PAYMENT_TRANSACTION_ID_CANCEL_SCHEDULED_PAYMENT_TRANSACTION_PATH = PathTemplate.compile("/1.0/kb/payments/{paymentTransactionId}/cancelScheduledPaymentTransaction");
+    private static final PathTemplate PAYMENTS_PAYMENT_ID_PATH = PathTemplate.compile("/1.0/kb/payments/{paymentId}");
+    private static final PathTemplate PAYMENTS_PAYMENT_ID_CHARGEBACKS_PATH = PathTemplate.compile("/1.0/kb/payments/{paymentId}/chargebacks");
+    private static final PathTemplate PAYMENTS_PAYMENT_ID_CHARGEBACK_REVERSALS_PATH = PathTemplate.compile("/1.0/kb/payments/{paymentId}/chargebackReversals");
+    private static final PathTemplate PAYMENTS_PAYMENT_ID_CUSTOM_FIELDS_PATH = PathTemplate.compile("/1.0/kb/payments/{paymentId}/customFields");
+    private static final PathTemplate PAYMENTS_PAYMENT_ID_TAGS_PATH = PathTemplate.compile("/1.0/kb/payments/{paymentId}/tags");
+    private static final PathTemplate PAYMENTS_ATTEMPTS_PAYMENT_ATTEMPT_ID_AUDIT_LOGS_WITH_HISTORY_PATH = PathTemplate.compile("/1.0/kb/payments/attempts/{paymentAttemptId}/auditLogsWithHistory");
+    private static final PathTemplate PAYMENTS_PAYMENT_ID_AUDIT_LOGS_WITH_HISTORY_PATH = PathTemplate.compile("/1.0/kb/payments/{paymentId}/auditLogsWithHistory");
+    private static final PathTemplate PAYMENTS_PAYMENT_ID_REFUNDS_PATH = PathTemplate.compile("/1.0/kb/payments/{paymentId}/refunds");
+    private static final PathTemplate PAYMENTS_SEARCH_SEARCH_KEY_PATH = PathTemplate.compile("/1.0/kb/payments/search/{searchKey}");
+
     private final KillBillHttpClient httpClient;
 
     public PaymentApi() {
@@ -73,12 +85,13 @@ public class PaymentApi {
 
         final String uri = "/1.0/kb/payments/cancelScheduledPaymentTransaction";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (transactionExternalKey != null) {
             queryParams.put("transactionExternalKey", String.valueOf(transactionExternalKey));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/payments/cancelScheduledPaymentTransaction");
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -91,11 +104,11 @@ public class PaymentApi {
     public void cancelScheduledPaymentTransactionById(final UUID paymentTransactionId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentTransactionId, "Missing the required parameter 'paymentTransactionId' when calling cancelScheduledPaymentTransactionById");
 
-        final String uri = "/1.0/kb/payments/{paymentTransactionId}/cancelScheduledPaymentTransaction"
-          .replaceAll("\\{" + "paymentTransactionId" + "\\}", paymentTransactionId.toString());
+        final String uri = PAYMENTS_PAYMENT_TRANSACTION_ID_CANCEL_SCHEDULED_PAYMENT_TRANSACTION_PATH.expand(paymentTransactionId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENTS_PAYMENT_TRANSACTION_ID_CANCEL_SCHEDULED_PAYMENT_TRANSACTION_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -107,10 +120,9 @@ public class PaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling captureAuthorization");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling captureAuthorization");
 
-        final String uri = "/1.0/kb/payments/{paymentId}"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = PAYMENTS_PAYMENT_ID_PATH.expand(paymentId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (controlPluginName != null) {
             queryParams.putAll("controlPluginName", controlPluginName);
         }
@@ -119,6 +131,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENTS_PAYMENT_ID_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -134,7 +147,7 @@ public class PaymentApi {
 
         final String uri = "/1.0/kb/payments";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (controlPluginName != null) {
             queryParams.putAll("controlPluginName", controlPluginName);
         }
@@ -143,6 +156,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/payments");
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -157,10 +171,9 @@ public class PaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling chargebackPayment");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling chargebackPayment");
 
-        final String uri = "/1.0/kb/payments/{paymentId}/chargebacks"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = PAYMENTS_PAYMENT_ID_CHARGEBACKS_PATH.expand(paymentId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (controlPluginName != null) {
             queryParams.putAll("controlPluginName", controlPluginName);
         }
@@ -169,6 +182,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENTS_PAYMENT_ID_CHARGEBACKS_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -184,7 +198,7 @@ public class PaymentApi {
 
         final String uri = "/1.0/kb/payments/chargebacks";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (controlPluginName != null) {
             queryParams.putAll("controlPluginName", controlPluginName);
         }
@@ -193,6 +207,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/payments/chargebacks");
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -207,10 +222,9 @@ public class PaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling chargebackReversalPayment");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling chargebackReversalPayment");
 
-        final String uri = "/1.0/kb/payments/{paymentId}/chargebackReversals"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = PAYMENTS_PAYMENT_ID_CHARGEBACK_REVERSALS_PATH.expand(paymentId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (controlPluginName != null) {
             queryParams.putAll("controlPluginName", controlPluginName);
         }
@@ -219,6 +233,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENTS_PAYMENT_ID_CHARGEBACK_REVERSALS_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -234,7 +249,7 @@ public class PaymentApi {
 
         final String uri = "/1.0/kb/payments/chargebackReversals";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (controlPluginName != null) {
             queryParams.putAll("controlPluginName", controlPluginName);
         }
@@ -243,6 +258,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/payments/chargebackReversals");
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -257,10 +273,9 @@ public class PaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling completeTransaction");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling completeTransaction");
 
-        final String uri = "/1.0/kb/payments/{paymentId}"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = PAYMENTS_PAYMENT_ID_PATH.expand(paymentId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (controlPluginName != null) {
             queryParams.putAll("controlPluginName", controlPluginName);
         }
@@ -269,6 +284,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENTS_PAYMENT_ID_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -282,7 +298,7 @@ public class PaymentApi {
 
         final String uri = "/1.0/kb/payments";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (controlPluginName != null) {
             queryParams.putAll("controlPluginName", controlPluginName);
         }
@@ -291,6 +307,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/payments");
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -304,12 +321,13 @@ public class PaymentApi {
 
         final String uri = "/1.0/kb/payments/combo";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (controlPluginName != null) {
             queryParams.putAll("controlPluginName", controlPluginName);
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/payments/combo");
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -324,11 +342,11 @@ public class PaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling createPaymentCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createPaymentCustomFields");
 
-        final String uri = "/1.0/kb/payments/{paymentId}/customFields"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = PAYMENTS_PAYMENT_ID_CUSTOM_FIELDS_PATH.expand(paymentId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENTS_PAYMENT_ID_CUSTOM_FIELDS_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -342,11 +360,11 @@ public class PaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling createPaymentTags");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createPaymentTags");
 
-        final String uri = "/1.0/kb/payments/{paymentId}/tags"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = PAYMENTS_PAYMENT_ID_TAGS_PATH.expand(paymentId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENTS_PAYMENT_ID_TAGS_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -360,15 +378,15 @@ public class PaymentApi {
     public void deletePaymentCustomFields(final UUID paymentId, final List<UUID> customField, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling deletePaymentCustomFields");
 
-        final String uri = "/1.0/kb/payments/{paymentId}/customFields"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = PAYMENTS_PAYMENT_ID_CUSTOM_FIELDS_PATH.expand(paymentId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (customField != null) {
             queryParams.putAll("customField", Converter.convertUUIDListToStringList(customField));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENTS_PAYMENT_ID_CUSTOM_FIELDS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -381,15 +399,15 @@ public class PaymentApi {
     public void deletePaymentTags(final UUID paymentId, final List<UUID> tagDef, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling deletePaymentTags");
 
-        final String uri = "/1.0/kb/payments/{paymentId}/tags"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = PAYMENTS_PAYMENT_ID_TAGS_PATH.expand(paymentId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (tagDef != null) {
             queryParams.putAll("tagDef", Converter.convertUUIDListToStringList(tagDef));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENTS_PAYMENT_ID_TAGS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -405,10 +423,9 @@ public class PaymentApi {
     public Payment getPayment(final UUID paymentId, final Boolean withPluginInfo, final Boolean withAttempts, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling getPayment");
 
-        final String uri = "/1.0/kb/payments/{paymentId}"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = PAYMENTS_PAYMENT_ID_PATH.expand(paymentId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (withPluginInfo != null) {
             queryParams.put("withPluginInfo", String.valueOf(withPluginInfo));
         }
@@ -423,6 +440,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENTS_PAYMENT_ID_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -433,11 +451,11 @@ public class PaymentApi {
     public AuditLogs getPaymentAttemptAuditLogsWithHistory(final UUID paymentAttemptId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentAttemptId, "Missing the required parameter 'paymentAttemptId' when calling getPaymentAttemptAuditLogsWithHistory");
 
-        final String uri = "/1.0/kb/payments/attempts/{paymentAttemptId}/auditLogsWithHistory"
-          .replaceAll("\\{" + "paymentAttemptId" + "\\}", paymentAttemptId.toString());
+        final String uri = PAYMENTS_ATTEMPTS_PAYMENT_ATTEMPT_ID_AUDIT_LOGS_WITH_HISTORY_PATH.expand(paymentAttemptId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENTS_ATTEMPTS_PAYMENT_ATTEMPT_ID_AUDIT_LOGS_WITH_HISTORY_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -447,11 +465,11 @@ public class PaymentApi {
     public AuditLogs getPaymentAuditLogsWithHistory(final UUID paymentId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling getPaymentAuditLogsWithHistory");
 
-        final String uri = "/1.0/kb/payments/{paymentId}/auditLogsWithHistory"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = PAYMENTS_PAYMENT_ID_AUDIT_LOGS_WITH_HISTORY_PATH.expand(paymentId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENTS_PAYMENT_ID_AUDIT_LOGS_WITH_HISTORY_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -467,7 +485,7 @@ public class PaymentApi {
 
         final String uri = "/1.0/kb/payments";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (withPluginInfo != null) {
             queryParams.put("withPluginInfo", String.valueOf(withPluginInfo));
         }
@@ -485,6 +503,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/payments");
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -499,15 +518,15 @@ public class PaymentApi {
     public CustomFields getPaymentCustomFields(final UUID paymentId, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling getPaymentCustomFields");
 
-        final String uri = "/1.0/kb/payments/{paymentId}/customFields"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = PAYMENTS_PAYMENT_ID_CUSTOM_FIELDS_PATH.expand(paymentId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (audit != null) {
             queryParams.put("audit", String.valueOf(audit));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENTS_PAYMENT_ID_CUSTOM_FIELDS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -522,10 +541,9 @@ public class PaymentApi {
     public Tags getPaymentTags(final UUID paymentId, final Boolean includedDeleted, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling getPaymentTags");
 
-        final String uri = "/1.0/kb/payments/{paymentId}/tags"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = PAYMENTS_PAYMENT_ID_TAGS_PATH.expand(paymentId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (includedDeleted != null) {
             queryParams.put("includedDeleted", String.valueOf(includedDeleted));
         }
@@ -534,6 +552,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENTS_PAYMENT_ID_TAGS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -549,7 +568,7 @@ public class PaymentApi {
 
         final String uri = "/1.0/kb/payments/pagination";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (offset != null) {
             queryParams.put("offset", String.valueOf(offset));
         }
@@ -573,6 +592,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/payments/pagination");
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -584,11 +604,11 @@ public class PaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling modifyPaymentCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling modifyPaymentCustomFields");
 
-        final String uri = "/1.0/kb/payments/{paymentId}/customFields"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = PAYMENTS_PAYMENT_ID_CUSTOM_FIELDS_PATH.expand(paymentId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENTS_PAYMENT_ID_CUSTOM_FIELDS_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -600,10 +620,9 @@ public class PaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling refundPayment");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling refundPayment");
 
-        final String uri = "/1.0/kb/payments/{paymentId}/refunds"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = PAYMENTS_PAYMENT_ID_REFUNDS_PATH.expand(paymentId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (controlPluginName != null) {
             queryParams.putAll("controlPluginName", controlPluginName);
         }
@@ -612,6 +631,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENTS_PAYMENT_ID_REFUNDS_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -627,7 +647,7 @@ public class PaymentApi {
 
         final String uri = "/1.0/kb/payments/refunds";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (controlPluginName != null) {
             queryParams.putAll("controlPluginName", controlPluginName);
         }
@@ -636,6 +656,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/payments/refunds");
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -653,10 +674,9 @@ public class PaymentApi {
     public Payments searchPayments(final String searchKey, final Long offset, final Long limit, final Boolean withPluginInfo, final Boolean withAttempts, final String pluginName, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(searchKey, "Missing the required parameter 'searchKey' when calling searchPayments");
 
-        final String uri = "/1.0/kb/payments/search/{searchKey}"
-          .replaceAll("\\{" + "searchKey" + "\\}", searchKey.toString());
+        final String uri = PAYMENTS_SEARCH_SEARCH_KEY_PATH.expand(searchKey);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (offset != null) {
             queryParams.put("offset", String.valueOf(offset));
         }
@@ -680,6 +700,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENTS_SEARCH_SEARCH_KEY_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -692,10 +713,9 @@ public class PaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling voidPayment");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling voidPayment");
 
-        final String uri = "/1.0/kb/payments/{paymentId}"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = PAYMENTS_PAYMENT_ID_PATH.expand(paymentId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (controlPluginName != null) {
             queryParams.putAll("controlPluginName", controlPluginName);
         }
@@ -704,6 +724,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENTS_PAYMENT_ID_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -718,7 +739,7 @@ public class PaymentApi {
 
         final String uri = "/1.0/kb/payments";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (controlPluginName != null) {
             queryParams.putAll("controlPluginName", controlPluginName);
         }
@@ -727,6 +748,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/payments");
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2021 Equinix, Inc
+ * Copyright 2014-2021 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client.api.gen;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.killbill.billing.client.AsyncApiCalls;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.model.AuditLogs;
+import org.killbill.billing.client.model.CustomFields;
+import org.killbill.billing.client.model.Payments;
+import org.killbill.billing.client.model.Tags;
+import org.killbill.billing.client.model.gen.ComboPaymentTransaction;
+import org.killbill.billing.client.model.gen.Payment;
+import org.killbill.billing.client.model.gen.PaymentTransaction;
+import org.killbill.billing.util.api.AuditLevel;
+
+/**
+ * Non-blocking variant of {@link PaymentApi}: the requests are built by {@link PaymentApi} itself (see {@link AsyncApiCalls})
+ * and sent without blocking the calling thread. Missing required parameters fail the returned future, and
+ * cancelling it aborts the request.
+ *
+ * Not generated by swagger: when {@link PaymentApi} is regenerated, its new methods must be added here
+ * ({@code TestApiAsync} fails otherwise).
+ */
+public class PaymentApiAsync {
+
+    private final PaymentApi api;
+
+    public PaymentApiAsync() {
+        this(new KillBillHttpClient());
+    }
+
+    public PaymentApiAsync(final KillBillHttpClient httpClient) {
+        this.api = new PaymentApi(httpClient);
+    }
+
+    public CompletableFuture<Void> cancelScheduledPaymentTransactionByExternalKey(final String transactionExternalKey, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.cancelScheduledPaymentTransactionByExternalKey(transactionExternalKey, inputOptions));
+    }
+
+    public CompletableFuture<Void> cancelScheduledPaymentTransactionById(final UUID paymentTransactionId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.cancelScheduledPaymentTransactionById(paymentTransactionId, inputOptions));
+    }
+
+    public CompletableFuture<Payment> captureAuthorization(final UUID paymentId, final PaymentTransaction body, final List<String> controlPluginName, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.captureAuthorization(paymentId, body, controlPluginName, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Payment> captureAuthorizationByExternalKey(final PaymentTransaction body, final List<String> controlPluginName, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.captureAuthorizationByExternalKey(body, controlPluginName, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Payment> chargebackPayment(final UUID paymentId, final PaymentTransaction body, final List<String> controlPluginName, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.chargebackPayment(paymentId, body, controlPluginName, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Payment> chargebackPaymentByExternalKey(final PaymentTransaction body, final List<String> controlPluginName, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.chargebackPaymentByExternalKey(body, controlPluginName, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Payment> chargebackReversalPayment(final UUID paymentId, final PaymentTransaction body, final List<String> controlPluginName, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.chargebackReversalPayment(paymentId, body, controlPluginName, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Payment> chargebackReversalPaymentByExternalKey(final PaymentTransaction body, final List<String> controlPluginName, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.chargebackReversalPaymentByExternalKey(body, controlPluginName, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Void> completeTransaction(final UUID paymentId, final PaymentTransaction body, final List<String> controlPluginName, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.completeTransaction(paymentId, body, controlPluginName, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Void> completeTransactionByExternalKey(final PaymentTransaction body, final List<String> controlPluginName, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.completeTransactionByExternalKey(body, controlPluginName, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Payment> createComboPayment(final ComboPaymentTransaction body, final List<String> controlPluginName, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createComboPayment(body, controlPluginName, inputOptions));
+    }
+
+    public CompletableFuture<CustomFields> createPaymentCustomFields(final UUID paymentId, final CustomFields body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createPaymentCustomFields(paymentId, body, inputOptions));
+    }
+
+    public CompletableFuture<Tags> createPaymentTags(final UUID paymentId, final List<UUID> body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createPaymentTags(paymentId, body, inputOptions));
+    }
+
+    public CompletableFuture<Void> deletePaymentCustomFields(final UUID paymentId, final List<UUID> customField, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.deletePaymentCustomFields(paymentId, customField, inputOptions));
+    }
+
+    public CompletableFuture<Void> deletePaymentTags(final UUID paymentId, final List<UUID> tagDef, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.deletePaymentTags(paymentId, tagDef, inputOptions));
+    }
+
+    public CompletableFuture<Payment> getPayment(final UUID paymentId, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPayment(paymentId, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Payment> getPayment(final UUID paymentId, final Boolean withPluginInfo, final Boolean withAttempts, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPayment(paymentId, withPluginInfo, withAttempts, pluginProperty, audit, inputOptions));
+    }
+
+    public CompletableFuture<AuditLogs> getPaymentAttemptAuditLogsWithHistory(final UUID paymentAttemptId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPaymentAttemptAuditLogsWithHistory(paymentAttemptId, inputOptions));
+    }
+
+    public CompletableFuture<AuditLogs> getPaymentAuditLogsWithHistory(final UUID paymentId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPaymentAuditLogsWithHistory(paymentId, inputOptions));
+    }
+
+    public CompletableFuture<Payment> getPaymentByExternalKey(final String externalKey, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPaymentByExternalKey(externalKey, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Payment> getPaymentByExternalKey(final String externalKey, final Boolean withPluginInfo, final Boolean withAttempts, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPaymentByExternalKey(externalKey, withPluginInfo, withAttempts, pluginProperty, audit, inputOptions));
+    }
+
+    public CompletableFuture<CustomFields> getPaymentCustomFields(final UUID paymentId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPaymentCustomFields(paymentId, inputOptions));
+    }
+
+    public CompletableFuture<CustomFields> getPaymentCustomFields(final UUID paymentId, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPaymentCustomFields(paymentId, audit, inputOptions));
+    }
+
+    public CompletableFuture<Tags> getPaymentTags(final UUID paymentId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPaymentTags(paymentId, inputOptions));
+    }
+
+    public CompletableFuture<Tags> getPaymentTags(final UUID paymentId, final Boolean includedDeleted, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPaymentTags(paymentId, includedDeleted, audit, inputOptions));
+    }
+
+    public CompletableFuture<Payments> getPayments(final String pluginName, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPayments(pluginName, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Payments> getPayments(final Long offset, final Long limit, final String pluginName, final Boolean withPluginInfo, final Boolean withAttempts, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPayments(offset, limit, pluginName, withPluginInfo, withAttempts, pluginProperty, audit, inputOptions));
+    }
+
+    public CompletableFuture<Void> modifyPaymentCustomFields(final UUID paymentId, final CustomFields body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.modifyPaymentCustomFields(paymentId, body, inputOptions));
+    }
+
+    public CompletableFuture<Payment> refundPayment(final UUID paymentId, final PaymentTransaction body, final List<String> controlPluginName, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.refundPayment(paymentId, body, controlPluginName, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Payment> refundPaymentByExternalKey(final PaymentTransaction body, final List<String> controlPluginName, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.refundPaymentByExternalKey(body, controlPluginName, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Payments> searchPayments(final String searchKey, final String pluginName, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.searchPayments(searchKey, pluginName, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Payments> searchPayments(final String searchKey, final Long offset, final Long limit, final Boolean withPluginInfo, final Boolean withAttempts, final String pluginName, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.searchPayments(searchKey, offset, limit, withPluginInfo, withAttempts, pluginName, pluginProperty, audit, inputOptions));
+    }
+
+    public CompletableFuture<Void> voidPayment(final UUID paymentId, final PaymentTransaction body, final List<String> controlPluginName, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.voidPayment(paymentId, body, controlPluginName, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Void> voidPaymentByExternalKey(final PaymentTransaction body, final List<String> controlPluginName, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.voidPaymentByExternalKey(body, controlPluginName, pluginProperty, inputOptions));
+    }
+}
@@ -34,12 +34,13 @@ import java.time.format.DateTimeFormatter;
 import org.killbill.billing.client.Converter;
 import org.killbill.billing.client.KillBillClientException;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
 import org.killbill.billing.client.util.Preconditions;
 import org.killbill.billing.client.util.Multimap;
-import org.killbill.billing.client.util.TreeMapSetMultimap;
+import org.killbill.billing.client.util.CompactSetMultimap;
 
 /**
  *           DO NOT EDIT !!!
@@ -49,6 +50,9 @@ import org.killbill.billing.client.util.TreeMapSetMultimap;
  */
 public class PaymentGatewayApi {
 
+    private static final PathTemplate PAYMENT_GATEWAYS_HOSTED_FORM_ACCOUNT_ID_PATH = PathTemplate.compile("/1.0/kb/paymentGateways/hosted/form/{accountId}");
+    private static final PathTemplate PAYMENT_GATEWAYS_NOTIFICATION_PLUGIN_NAME_PATH = PathTemplate.compile("/1.0/kb/paymentGateways/notification/{pluginName}");
+
     private final KillBillHttpClient httpClient;
 
     public PaymentGatewayApi() {
@@ -64,7 +68,7 @@ public class PaymentGatewayApi {
 
         final String uri = "/1.0/kb/paymentGateways/hosted/form";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (controlPluginName != null) {
             queryParams.putAll("controlPluginName", controlPluginName);
         }
@@ -73,6 +77,7 @@ public class PaymentGatewayApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/paymentGateways/hosted/form");
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -87,10 +92,9 @@ public class PaymentGatewayApi {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling buildFormDescriptor");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling buildFormDescriptor");
 
-        final String uri = "/1.0/kb/paymentGateways/hosted/form/{accountId}"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = PAYMENT_GATEWAYS_HOSTED_FORM_ACCOUNT_ID_PATH.expand(accountId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (paymentMethodId != null) {
             queryParams.put("paymentMethodId", String.valueOf(paymentMethodId));
         }
@@ -102,6 +106,7 @@ public class PaymentGatewayApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENT_GATEWAYS_HOSTED_FORM_ACCOUNT_ID_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -116,10 +121,9 @@ public class PaymentGatewayApi {
         Preconditions.checkNotNull(pluginName, "Missing the required parameter 'pluginName' when calling processNotification");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling processNotification");
 
-        final String uri = "/1.0/kb/paymentGateways/notification/{pluginName}"
-          .replaceAll("\\{" + "pluginName" + "\\}", pluginName.toString());
+        final String uri = PAYMENT_GATEWAYS_NOTIFICATION_PLUGIN_NAME_PATH.expand(pluginName);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (controlPluginName != null) {
             queryParams.putAll("controlPluginName", controlPluginName);
         }
@@ -128,6 +132,7 @@ public class PaymentGatewayApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENT_GATEWAYS_NOTIFICATION_PLUGIN_NAME_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -38,12 +38,13 @@ import java.time.format.DateTimeFormatter;
 import org.killbill.billing.client.Converter;
 import org.killbill.billing.client.KillBillClientException;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
 import org.killbill.billing.client.util.Preconditions;
 import org.killbill.billing.client.util.Multimap;
-import org.killbill.billing.client.util.TreeMapSetMultimap;
+import org.killbill.billing.client.util.CompactSetMultimap;
 
 /**
  *           DO NOT EDIT !!!
@@ -53,6 +54,11 @@ import org.killbill.billing.client.util.TreeMapSetMultimap;
  */
 public class PaymentMethodApi {
 
+    private static final PathTemplate PAYMENT_METHODS_PAYMENT_METHOD_ID_CUSTOM_FIELDS_PATH = PathTemplate.compile("/1.0/kb/paymentMethods/{paymentMethodId}/customFields");
+    private static final PathTemplate PAYMENT_METHODS_PAYMENT_METHOD_ID_PATH = PathTemplate.compile("/1.0/kb/paymentMethods/{paymentMethodId}");
+    private static final PathTemplate PAYMENT_METHODS_PAYMENT_METHOD_ID_AUDIT_LOGS_WITH_HISTORY_PATH = PathTemplate.compile("/1.0/kb/paymentMethods/{paymentMethodId}/auditLogsWithHistory");
+    private static final PathTemplate PAYMENT_METHODS_SEARCH_SEARCH_KEY_PATH = PathTemplate.compile("/1.0/kb/paymentMethods/search/{searchKey}");
+
     private final KillBillHttpClient httpClient;
 
     public PaymentMethodApi() {
@@ -67,11 +73,11 @@ public class PaymentMethodApi {
         Preconditions.checkNotNull(paymentMethodId, "Missing the required parameter 'paymentMethodId' when calling createPaymentMethodCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createPaymentMethodCustomFields");
 
-        final String uri = "/1.0/kb/paymentMethods/{paymentMethodId}/customFields"
-          .replaceAll("\\{" + "paymentMethodId" + "\\}", paymentMethodId.toString());
+        final String uri = PAYMENT_METHODS_PAYMENT_METHOD_ID_CUSTOM_FIELDS_PATH.expand(paymentMethodId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENT_METHODS_PAYMENT_METHOD_ID_CUSTOM_FIELDS_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -89,10 +95,9 @@ public class PaymentMethodApi {
     public void deletePaymentMethod(final UUID paymentMethodId, final Boolean deleteDefaultPmWithAutoPayOff, final Boolean forceDefaultPmDeletion, final Map<String, String> pluginProperty, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentMethodId, "Missing the required parameter 'paymentMethodId' when calling deletePaymentMethod");
 
-        final String uri = "/1.0/kb/paymentMethods/{paymentMethodId}"
-          .replaceAll("\\{" + "paymentMethodId" + "\\}", paymentMethodId.toString());
+        final String uri = PAYMENT_METHODS_PAYMENT_METHOD_ID_PATH.expand(paymentMethodId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (deleteDefaultPmWithAutoPayOff != null) {
             queryParams.put("deleteDefaultPmWithAutoPayOff", String.valueOf(deleteDefaultPmWithAutoPayOff));
         }
@@ -104,6 +109,7 @@ public class PaymentMethodApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENT_METHODS_PAYMENT_METHOD_ID_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -115,15 +121,15 @@ public class PaymentMethodApi {
     public void deletePaymentMethodCustomFields(final UUID paymentMethodId, final List<UUID> customField, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentMethodId, "Missing the required parameter 'paymentMethodId' when calling deletePaymentMethodCustomFields");
 
-        final String uri = "/1.0/kb/paymentMethods/{paymentMethodId}/customFields"
-          .replaceAll("\\{" + "paymentMethodId" + "\\}", paymentMethodId.toString());
+        final String uri = PAYMENT_METHODS_PAYMENT_METHOD_ID_CUSTOM_FIELDS_PATH.expand(paymentMethodId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (customField != null) {
             queryParams.putAll("customField", Converter.convertUUIDListToStringList(customField));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENT_METHODS_PAYMENT_METHOD_ID_CUSTOM_FIELDS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -139,10 +145,9 @@ public class PaymentMethodApi {
     public PaymentMethod getPaymentMethod(final UUID paymentMethodId, final Boolean includedDeleted, final Boolean withPluginInfo, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentMethodId, "Missing the required parameter 'paymentMethodId' when calling getPaymentMethod");
 
-        final String uri = "/1.0/kb/paymentMethods/{paymentMethodId}"
-          .replaceAll("\\{" + "paymentMethodId" + "\\}", paymentMethodId.toString());
+        final String uri = PAYMENT_METHODS_PAYMENT_METHOD_ID_PATH.expand(paymentMethodId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (includedDeleted != null) {
             queryParams.put("includedDeleted", String.valueOf(includedDeleted));
         }
@@ -157,6 +162,7 @@ public class PaymentMethodApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENT_METHODS_PAYMENT_METHOD_ID_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -167,11 +173,11 @@ public class PaymentMethodApi {
     public AuditLogs getPaymentMethodAuditLogsWithHistory(final UUID paymentMethodId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentMethodId, "Missing the required parameter 'paymentMethodId' when calling getPaymentMethodAuditLogsWithHistory");
 
-        final String uri = "/1.0/kb/paymentMethods/{paymentMethodId}/auditLogsWithHistory"
-          .replaceAll("\\{" + "paymentMethodId" + "\\}", paymentMethodId.toString());
+        final String uri = PAYMENT_METHODS_PAYMENT_METHOD_ID_AUDIT_LOGS_WITH_HISTORY_PATH.expand(paymentMethodId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENT_METHODS_PAYMENT_METHOD_ID_AUDIT_LOGS_WITH_HISTORY_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -187,7 +193,7 @@ public class PaymentMethodApi {
 
         final String uri = "/1.0/kb/paymentMethods";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (externalKey != null) {
             queryParams.put("externalKey", String.valueOf(externalKey));
         }
@@ -205,6 +211,7 @@ public class PaymentMethodApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/paymentMethods");
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -219,15 +226,15 @@ public class PaymentMethodApi {
     public CustomFields getPaymentMethodCustomFields(final UUID paymentMethodId, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentMethodId, "Missing the required parameter 'paymentMethodId' when calling getPaymentMethodCustomFields");
 
-        final String uri = "/1.0/kb/paymentMethods/{paymentMethodId}/customFields"
-          .replaceAll("\\{" + "paymentMethodId" + "\\}", paymentMethodId.toString());
+        final String uri = PAYMENT_METHODS_PAYMENT_METHOD_ID_CUSTOM_FIELDS_PATH.expand(paymentMethodId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (audit != null) {
             queryParams.put("audit", String.valueOf(audit));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENT_METHODS_PAYMENT_METHOD_ID_CUSTOM_FIELDS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -243,7 +250,7 @@ public class PaymentMethodApi {
 
         final String uri = "/1.0/kb/paymentMethods/pagination";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (offset != null) {
             queryParams.put("offset", String.valueOf(offset));
         }
@@ -264,6 +271,7 @@ public class PaymentMethodApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/paymentMethods/pagination");
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -275,11 +283,11 @@ public class PaymentMethodApi {
         Preconditions.checkNotNull(paymentMethodId, "Missing the required parameter 'paymentMethodId' when calling modifyPaymentMethodCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling modifyPaymentMethodCustomFields");
 
-        final String uri = "/1.0/kb/paymentMethods/{paymentMethodId}/customFields"
-          .replaceAll("\\{" + "paymentMethodId" + "\\}", paymentMethodId.toString());
+        final String uri = PAYMENT_METHODS_PAYMENT_METHOD_ID_CUSTOM_FIELDS_PATH.expand(paymentMethodId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENT_METHODS_PAYMENT_METHOD_ID_CUSTOM_FIELDS_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -294,10 +302,9 @@ public class PaymentMethodApi {
     public PaymentMethods searchPaymentMethods(final String searchKey, final Long offset, final Long limit, final String pluginName, final Boolean withPluginInfo, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(searchKey, "Missing the required parameter 'searchKey' when calling searchPaymentMethods");
 
-        final String uri = "/1.0/kb/paymentMethods/search/{searchKey}"
-          .replaceAll("\\{" + "searchKey" + "\\}", searchKey.toString());
+        final String uri = PAYMENT_METHODS_SEARCH_SEARCH_KEY_PATH.expand(searchKey);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (offset != null) {
             queryParams.put("offset", String.valueOf(offset));
         }
@@ -318,6 +325,7 @@ public class PaymentMethodApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENT_METHODS_SEARCH_SEARCH_KEY_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
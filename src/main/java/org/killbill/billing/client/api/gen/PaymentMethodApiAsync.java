@@ -0,0 +1,120 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2021 Equinix, Inc
+ * Copyright 2014-2021 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client.api.gen;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.killbill.billing.client.AsyncApiCalls;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.model.AuditLogs;
+import org.killbill.billing.client.model.CustomFields;
+import org.killbill.billing.client.model.PaymentMethods;
+import org.killbill.billing.client.model.gen.PaymentMethod;
+import org.killbill.billing.util.api.AuditLevel;
+
+/**
+ * Non-blocking variant of {@link PaymentMethodApi}: the requests are built by {@link PaymentMethodApi} itself (see {@link AsyncApiCalls})
+ * and sent without blocking the calling thread. Missing required parameters fail the returned future, and
+ * cancelling it aborts the request.
+ *
+ * Not generated by swagger: when {@link PaymentMethodApi} is regenerated, its new methods must be added here
+ * ({@code TestApiAsync} fails otherwise).
+ */
+public class PaymentMethodApiAsync {
+
+    private final PaymentMethodApi api;
+
+    public PaymentMethodApiAsync() {
+        this(new KillBillHttpClient());
+    }
+
+    public PaymentMethodApiAsync(final KillBillHttpClient httpClient) {
+        this.api = new PaymentMethodApi(httpClient);
+    }
+
+    public CompletableFuture<CustomFields> createPaymentMethodCustomFields(final UUID paymentMethodId, final CustomFields body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createPaymentMethodCustomFields(paymentMethodId, body, inputOptions));
+    }
+
+    public CompletableFuture<Void> deletePaymentMethod(final UUID paymentMethodId, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.deletePaymentMethod(paymentMethodId, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Void> deletePaymentMethod(final UUID paymentMethodId, final Boolean deleteDefaultPmWithAutoPayOff, final Boolean forceDefaultPmDeletion, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.deletePaymentMethod(paymentMethodId, deleteDefaultPmWithAutoPayOff, forceDefaultPmDeletion, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Void> deletePaymentMethodCustomFields(final UUID paymentMethodId, final List<UUID> customField, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.deletePaymentMethodCustomFields(paymentMethodId, customField, inputOptions));
+    }
+
+    public CompletableFuture<PaymentMethod> getPaymentMethod(final UUID paymentMethodId, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPaymentMethod(paymentMethodId, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<PaymentMethod> getPaymentMethod(final UUID paymentMethodId, final Boolean includedDeleted, final Boolean withPluginInfo, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPaymentMethod(paymentMethodId, includedDeleted, withPluginInfo, pluginProperty, audit, inputOptions));
+    }
+
+    public CompletableFuture<AuditLogs> getPaymentMethodAuditLogsWithHistory(final UUID paymentMethodId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPaymentMethodAuditLogsWithHistory(paymentMethodId, inputOptions));
+    }
+
+    public CompletableFuture<PaymentMethod> getPaymentMethodByKey(final String externalKey, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPaymentMethodByKey(externalKey, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<PaymentMethod> getPaymentMethodByKey(final String externalKey, final Boolean includedDeleted, final Boolean withPluginInfo, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPaymentMethodByKey(externalKey, includedDeleted, withPluginInfo, pluginProperty, audit, inputOptions));
+    }
+
+    public CompletableFuture<CustomFields> getPaymentMethodCustomFields(final UUID paymentMethodId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPaymentMethodCustomFields(paymentMethodId, inputOptions));
+    }
+
+    public CompletableFuture<CustomFields> getPaymentMethodCustomFields(final UUID paymentMethodId, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPaymentMethodCustomFields(paymentMethodId, audit, inputOptions));
+    }
+
+    public CompletableFuture<PaymentMethods> getPaymentMethods(final String pluginName, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPaymentMethods(pluginName, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<PaymentMethods> getPaymentMethods(final Long offset, final Long limit, final String pluginName, final Boolean withPluginInfo, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPaymentMethods(offset, limit, pluginName, withPluginInfo, pluginProperty, audit, inputOptions));
+    }
+
+    public CompletableFuture<Void> modifyPaymentMethodCustomFields(final UUID paymentMethodId, final CustomFields body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.modifyPaymentMethodCustomFields(paymentMethodId, body, inputOptions));
+    }
+
+    public CompletableFuture<PaymentMethods> searchPaymentMethods(final String searchKey, final String pluginName, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.searchPaymentMethods(searchKey, pluginName, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<PaymentMethods> searchPaymentMethods(final String searchKey, final Long offset, final Long limit, final String pluginName, final Boolean withPluginInfo, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.searchPaymentMethods(searchKey, offset, limit, pluginName, withPluginInfo, pluginProperty, audit, inputOptions));
+    }
+}
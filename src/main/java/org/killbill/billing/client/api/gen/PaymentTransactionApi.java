@@ -40,12 +40,13 @@ import java.time.format.DateTimeFormatter;
 import org.killbill.billing.client.Converter;
 import org.killbill.billing.client.KillBillClientException;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
 import org.killbill.billing.client.util.Preconditions;
 import org.killbill.billing.client.util.Multimap;
-import org.killbill.billing.client.util.TreeMapSetMultimap;
+import org.killbill.billing.client.util.CompactSetMultimap;
 
 /**
  *           DO NOT EDIT !!!
@@ -55,6 +56,11 @@ import org.killbill.billing.client.util.TreeMapSetMultimap;
  */
 public class PaymentTransactionApi {
 
+    private static final PathTemplate PAYMENT_TRANSACTIONS_TRANSACTION_ID_CUSTOM_FIELDS_PATH = PathTemplate.compile("/1.0/kb/paymentTransactions/{transactionId}/customFields");
+    private static final PathTemplate PAYMENT_TRANSACTIONS_TRANSACTION_ID_TAGS_PATH = PathTemplate.compile("/1.0/kb/paymentTransactions/{transactionId}/tags");
+    private static final PathTemplate PAYMENT_TRANSACTIONS_TRANSACTION_ID_PATH = PathTemplate.compile("/1.0/kb/paymentTransactions/{transactionId}");
+    private static final PathTemplate PAYMENT_TRANSACTIONS_TRANSACTION_ID_AUDIT_LOGS_WITH_HISTORY_PATH = PathTemplate.compile("/1.0/kb/paymentTransactions/{transactionId}/auditLogsWithHistory");
+
     private final KillBillHttpClient httpClient;
 
     public PaymentTransactionApi() {
@@ -69,11 +75,11 @@ public class PaymentTransactionApi {
         Preconditions.checkNotNull(transactionId, "Missing the required parameter 'transactionId' when calling createTransactionCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createTransactionCustomFields");
 
-        final String uri = "/1.0/kb/paymentTransactions/{transactionId}/customFields"
-          .replaceAll("\\{" + "transactionId" + "\\}", transactionId.toString());
+        final String uri = PAYMENT_TRANSACTIONS_TRANSACTION_ID_CUSTOM_FIELDS_PATH.expand(transactionId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENT_TRANSACTIONS_TRANSACTION_ID_CUSTOM_FIELDS_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -87,11 +93,11 @@ public class PaymentTransactionApi {
         Preconditions.checkNotNull(transactionId, "Missing the required parameter 'transactionId' when calling createTransactionTags");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createTransactionTags");
 
-        final String uri = "/1.0/kb/paymentTransactions/{transactionId}/tags"
-          .replaceAll("\\{" + "transactionId" + "\\}", transactionId.toString());
+        final String uri = PAYMENT_TRANSACTIONS_TRANSACTION_ID_TAGS_PATH.expand(transactionId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENT_TRANSACTIONS_TRANSACTION_ID_TAGS_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -105,15 +111,15 @@ public class PaymentTransactionApi {
     public void deleteTransactionCustomFields(final UUID transactionId, final List<UUID> customField, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(transactionId, "Missing the required parameter 'transactionId' when calling deleteTransactionCustomFields");
 
-        final String uri = "/1.0/kb/paymentTransactions/{transactionId}/customFields"
-          .replaceAll("\\{" + "transactionId" + "\\}", transactionId.toString());
+        final String uri = PAYMENT_TRANSACTIONS_TRANSACTION_ID_CUSTOM_FIELDS_PATH.expand(transactionId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (customField != null) {
             queryParams.putAll("customField", Converter.convertUUIDListToStringList(customField));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENT_TRANSACTIONS_TRANSACTION_ID_CUSTOM_FIELDS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -126,15 +132,15 @@ public class PaymentTransactionApi {
     public void deleteTransactionTags(final UUID transactionId, final List<UUID> tagDef, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(transactionId, "Missing the required parameter 'transactionId' when calling deleteTransactionTags");
 
-        final String uri = "/1.0/kb/paymentTransactions/{transactionId}/tags"
-          .replaceAll("\\{" + "transactionId" + "\\}", transactionId.toString());
+        final String uri = PAYMENT_TRANSACTIONS_TRANSACTION_ID_TAGS_PATH.expand(transactionId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (tagDef != null) {
             queryParams.putAll("tagDef", Converter.convertUUIDListToStringList(tagDef));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENT_TRANSACTIONS_TRANSACTION_ID_TAGS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -152,7 +158,7 @@ public class PaymentTransactionApi {
 
         final String uri = "/1.0/kb/paymentTransactions";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (transactionExternalKey != null) {
             queryParams.put("transactionExternalKey", String.valueOf(transactionExternalKey));
         }
@@ -170,6 +176,7 @@ public class PaymentTransactionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/paymentTransactions");
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -184,10 +191,9 @@ public class PaymentTransactionApi {
     public Payment getPaymentByTransactionId(final UUID transactionId, final Boolean withPluginInfo, final Boolean withAttempts, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(transactionId, "Missing the required parameter 'transactionId' when calling getPaymentByTransactionId");
 
-        final String uri = "/1.0/kb/paymentTransactions/{transactionId}"
-          .replaceAll("\\{" + "transactionId" + "\\}", transactionId.toString());
+        final String uri = PAYMENT_TRANSACTIONS_TRANSACTION_ID_PATH.expand(transactionId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (withPluginInfo != null) {
             queryParams.put("withPluginInfo", String.valueOf(withPluginInfo));
         }
@@ -202,6 +208,7 @@ public class PaymentTransactionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENT_TRANSACTIONS_TRANSACTION_ID_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -212,11 +219,11 @@ public class PaymentTransactionApi {
     public AuditLogs getTransactionAuditLogsWithHistory(final UUID transactionId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(transactionId, "Missing the required parameter 'transactionId' when calling getTransactionAuditLogsWithHistory");
 
-        final String uri = "/1.0/kb/paymentTransactions/{transactionId}/auditLogsWithHistory"
-          .replaceAll("\\{" + "transactionId" + "\\}", transactionId.toString());
+        final String uri = PAYMENT_TRANSACTIONS_TRANSACTION_ID_AUDIT_LOGS_WITH_HISTORY_PATH.expand(transactionId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENT_TRANSACTIONS_TRANSACTION_ID_AUDIT_LOGS_WITH_HISTORY_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -230,15 +237,15 @@ public class PaymentTransactionApi {
     public CustomFields getTransactionCustomFields(final UUID transactionId, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(transactionId, "Missing the required parameter 'transactionId' when calling getTransactionCustomFields");
 
-        final String uri = "/1.0/kb/paymentTransactions/{transactionId}/customFields"
-          .replaceAll("\\{" + "transactionId" + "\\}", transactionId.toString());
+        final String uri = PAYMENT_TRANSACTIONS_TRANSACTION_ID_CUSTOM_FIELDS_PATH.expand(transactionId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (audit != null) {
             queryParams.put("audit", String.valueOf(audit));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENT_TRANSACTIONS_TRANSACTION_ID_CUSTOM_FIELDS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -253,10 +260,9 @@ public class PaymentTransactionApi {
     public Tags getTransactionTags(final UUID transactionId, final Boolean includedDeleted, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(transactionId, "Missing the required parameter 'transactionId' when calling getTransactionTags");
 
-        final String uri = "/1.0/kb/paymentTransactions/{transactionId}/tags"
-          .replaceAll("\\{" + "transactionId" + "\\}", transactionId.toString());
+        final String uri = PAYMENT_TRANSACTIONS_TRANSACTION_ID_TAGS_PATH.expand(transactionId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (includedDeleted != null) {
             queryParams.put("includedDeleted", String.valueOf(includedDeleted));
         }
@@ -265,6 +271,7 @@ public class PaymentTransactionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENT_TRANSACTIONS_TRANSACTION_ID_TAGS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -276,11 +283,11 @@ public class PaymentTransactionApi {
         Preconditions.checkNotNull(transactionId, "Missing the required parameter 'transactionId' when calling modifyTransactionCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling modifyTransactionCustomFields");
 
-        final String uri = "/1.0/kb/paymentTransactions/{transactionId}/customFields"
-          .replaceAll("\\{" + "transactionId" + "\\}", transactionId.toString());
+        final String uri = PAYMENT_TRANSACTIONS_TRANSACTION_ID_CUSTOM_FIELDS_PATH.expand(transactionId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENT_TRANSACTIONS_TRANSACTION_ID_CUSTOM_FIELDS_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -292,15 +299,15 @@ public class PaymentTransactionApi {
         Preconditions.checkNotNull(transactionId, "Missing the required parameter 'transactionId' when calling notifyStateChanged");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling notifyStateChanged");
 
-        final String uri = "/1.0/kb/paymentTransactions/{transactionId}"
-          .replaceAll("\\{" + "transactionId" + "\\}", transactionId.toString());
+        final String uri = PAYMENT_TRANSACTIONS_TRANSACTION_ID_PATH.expand(transactionId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (controlPluginName != null) {
             queryParams.putAll("controlPluginName", controlPluginName);
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(PAYMENT_TRANSACTIONS_TRANSACTION_ID_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
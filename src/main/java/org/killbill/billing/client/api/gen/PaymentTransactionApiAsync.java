@@ -0,0 +1,117 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2021 Equinix, Inc
+ * Copyright 2014-2021 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client.api.gen;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.killbill.billing.client.AsyncApiCalls;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.model.AuditLogs;
+import org.killbill.billing.client.model.CustomFields;
+import org.killbill.billing.client.model.Tags;
+import org.killbill.billing.client.model.gen.Payment;
+import org.killbill.billing.client.model.gen.PaymentTransaction;
+import org.killbill.billing.util.api.AuditLevel;
+
+/**
+ * Non-blocking variant of {@link PaymentTransactionApi}: the requests are built by {@link PaymentTransactionApi} itself (see {@link AsyncApiCalls})
+ * and sent without blocking the calling thread. Missing required parameters fail the returned future, and
+ * cancelling it aborts the request.
+ *
+ * Not generated by swagger: when {@link PaymentTransactionApi} is regenerated, its new methods must be added here
+ * ({@code TestApiAsync} fails otherwise).
+ */
+public class PaymentTransactionApiAsync {
+
+    private final PaymentTransactionApi api;
+
+    public PaymentTransactionApiAsync() {
+        this(new KillBillHttpClient());
+    }
+
+    public PaymentTransactionApiAsync(final KillBillHttpClient httpClient) {
+        this.api = new PaymentTransactionApi(httpClient);
+    }
+
+    public CompletableFuture<CustomFields> createTransactionCustomFields(final UUID transactionId, final CustomFields body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createTransactionCustomFields(transactionId, body, inputOptions));
+    }
+
+    public CompletableFuture<Tags> createTransactionTags(final UUID transactionId, final List<UUID> body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createTransactionTags(transactionId, body, inputOptions));
+    }
+
+    public CompletableFuture<Void> deleteTransactionCustomFields(final UUID transactionId, final List<UUID> customField, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.deleteTransactionCustomFields(transactionId, customField, inputOptions));
+    }
+
+    public CompletableFuture<Void> deleteTransactionTags(final UUID transactionId, final List<UUID> tagDef, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.deleteTransactionTags(transactionId, tagDef, inputOptions));
+    }
+
+    public CompletableFuture<Payment> getPaymentByTransactionExternalKey(final String transactionExternalKey, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPaymentByTransactionExternalKey(transactionExternalKey, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Payment> getPaymentByTransactionExternalKey(final String transactionExternalKey, final Boolean withPluginInfo, final Boolean withAttempts, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPaymentByTransactionExternalKey(transactionExternalKey, withPluginInfo, withAttempts, pluginProperty, audit, inputOptions));
+    }
+
+    public CompletableFuture<Payment> getPaymentByTransactionId(final UUID transactionId, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPaymentByTransactionId(transactionId, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Payment> getPaymentByTransactionId(final UUID transactionId, final Boolean withPluginInfo, final Boolean withAttempts, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPaymentByTransactionId(transactionId, withPluginInfo, withAttempts, pluginProperty, audit, inputOptions));
+    }
+
+    public CompletableFuture<AuditLogs> getTransactionAuditLogsWithHistory(final UUID transactionId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getTransactionAuditLogsWithHistory(transactionId, inputOptions));
+    }
+
+    public CompletableFuture<CustomFields> getTransactionCustomFields(final UUID transactionId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getTransactionCustomFields(transactionId, inputOptions));
+    }
+
+    public CompletableFuture<CustomFields> getTransactionCustomFields(final UUID transactionId, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getTransactionCustomFields(transactionId, audit, inputOptions));
+    }
+
+    public CompletableFuture<Tags> getTransactionTags(final UUID transactionId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getTransactionTags(transactionId, inputOptions));
+    }
+
+    public CompletableFuture<Tags> getTransactionTags(final UUID transactionId, final Boolean includedDeleted, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getTransactionTags(transactionId, includedDeleted, audit, inputOptions));
+    }
+
+    public CompletableFuture<Void> modifyTransactionCustomFields(final UUID transactionId, final CustomFields body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.modifyTransactionCustomFields(transactionId, body, inputOptions));
+    }
+
+    public CompletableFuture<Payment> notifyStateChanged(final UUID transactionId, final PaymentTransaction body, final List<String> controlPluginName, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.notifyStateChanged(transactionId, body, controlPluginName, inputOptions));
+    }
+}
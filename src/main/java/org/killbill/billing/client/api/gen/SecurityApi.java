@@ -33,12 +33,13 @@ import java.time.format.DateTimeFormatter;
 import org.killbill.billing.client.Converter;
 import org.killbill.billing.client.KillBillClientException;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
 import org.killbill.billing.client.util.Preconditions;
 import org.killbill.billing.client.util.Multimap;
-import org.killbill.billing.client.util.TreeMapSetMultimap;
+import org.killbill.billing.client.util.CompactSetMultimap;
 
 /**
  *           DO NOT EDIT !!!
@@ -48,6 +49,11 @@ import org.killbill.billing.client.util.TreeMapSetMultimap;
  */
 public class SecurityApi {
 
+    private static final PathTemplate SECURITY_ROLES_ROLE_PATH = PathTemplate.compile("/1.0/kb/security/roles/{role}");
+    private static final PathTemplate SECURITY_USERS_USERNAME_ROLES_PATH = PathTemplate.compile("/1.0/kb/security/users/{username}/roles");
+    private static final PathTemplate SECURITY_USERS_USERNAME_PATH = PathTemplate.compile("/1.0/kb/security/users/{username}");
+    private static final PathTemplate SECURITY_USERS_USERNAME_PASSWORD_PATH = PathTemplate.compile("/1.0/kb/security/users/{username}/password");
+
     private final KillBillHttpClient httpClient;
 
     public SecurityApi() {
@@ -65,6 +71,7 @@ public class SecurityApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/security/roles");
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -81,6 +88,7 @@ public class SecurityApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/security/users");
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -96,6 +104,7 @@ public class SecurityApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/security/permissions");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -108,6 +117,7 @@ public class SecurityApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/security/subject");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -117,11 +127,11 @@ public class SecurityApi {
     public RoleDefinition getRoleDefinition(final String role, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(role, "Missing the required parameter 'role' when calling getRoleDefinition");
 
-        final String uri = "/1.0/kb/security/roles/{role}"
-          .replaceAll("\\{" + "role" + "\\}", role.toString());
+        final String uri = SECURITY_ROLES_ROLE_PATH.expand(role);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(SECURITY_ROLES_ROLE_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -131,11 +141,11 @@ public class SecurityApi {
     public UserRoles getUserRoles(final String username, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(username, "Missing the required parameter 'username' when calling getUserRoles");
 
-        final String uri = "/1.0/kb/security/users/{username}/roles"
-          .replaceAll("\\{" + "username" + "\\}", username.toString());
+        final String uri = SECURITY_USERS_USERNAME_ROLES_PATH.expand(username);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(SECURITY_USERS_USERNAME_ROLES_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -146,11 +156,11 @@ public class SecurityApi {
     public void invalidateUser(final String username, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(username, "Missing the required parameter 'username' when calling invalidateUser");
 
-        final String uri = "/1.0/kb/security/users/{username}"
-          .replaceAll("\\{" + "username" + "\\}", username.toString());
+        final String uri = SECURITY_USERS_USERNAME_PATH.expand(username);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(SECURITY_USERS_USERNAME_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -165,6 +175,7 @@ public class SecurityApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/security/roles");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -176,11 +187,11 @@ public class SecurityApi {
         Preconditions.checkNotNull(username, "Missing the required parameter 'username' when calling updateUserPassword");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling updateUserPassword");
 
-        final String uri = "/1.0/kb/security/users/{username}/password"
-          .replaceAll("\\{" + "username" + "\\}", username.toString());
+        final String uri = SECURITY_USERS_USERNAME_PASSWORD_PATH.expand(username);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(SECURITY_USERS_USERNAME_PASSWORD_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -192,11 +203,11 @@ public class SecurityApi {
         Preconditions.checkNotNull(username, "Missing the required parameter 'username' when calling updateUserRoles");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling updateUserRoles");
 
-        final String uri = "/1.0/kb/security/users/{username}/roles"
-          .replaceAll("\\{" + "username" + "\\}", username.toString());
+        final String uri = SECURITY_USERS_USERNAME_ROLES_PATH.expand(username);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(SECURITY_USERS_USERNAME_ROLES_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2021 Equinix, Inc
+ * Copyright 2014-2021 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client.api.gen;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.killbill.billing.client.AsyncApiCalls;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.model.Strings;
+import org.killbill.billing.client.model.gen.RoleDefinition;
+import org.killbill.billing.client.model.gen.Subject;
+import org.killbill.billing.client.model.gen.UserRoles;
+
+/**
+ * Non-blocking variant of {@link SecurityApi}: the requests are built by {@link SecurityApi} itself (see {@link AsyncApiCalls})
+ * and sent without blocking the calling thread. Missing required parameters fail the returned future, and
+ * cancelling it aborts the request.
+ *
+ * Not generated by swagger: when {@link SecurityApi} is regenerated, its new methods must be added here
+ * ({@code TestApiAsync} fails otherwise).
+ */
+public class SecurityApiAsync {
+
+    private final SecurityApi api;
+
+    public SecurityApiAsync() {
+        this(new KillBillHttpClient());
+    }
+
+    public SecurityApiAsync(final KillBillHttpClient httpClient) {
+        this.api = new SecurityApi(httpClient);
+    }
+
+    public CompletableFuture<RoleDefinition> addRoleDefinition(final RoleDefinition body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.addRoleDefinition(body, inputOptions));
+    }
+
+    public CompletableFuture<UserRoles> addUserRoles(final UserRoles body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.addUserRoles(body, inputOptions));
+    }
+
+    public CompletableFuture<Strings> getCurrentUserPermissions(final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getCurrentUserPermissions(inputOptions));
+    }
+
+    public CompletableFuture<Subject> getCurrentUserSubject(final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getCurrentUserSubject(inputOptions));
+    }
+
+    public CompletableFuture<RoleDefinition> getRoleDefinition(final String role, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getRoleDefinition(role, inputOptions));
+    }
+
+    public CompletableFuture<UserRoles> getUserRoles(final String username, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getUserRoles(username, inputOptions));
+    }
+
+    public CompletableFuture<Void> invalidateUser(final String username, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.invalidateUser(username, inputOptions));
+    }
+
+    public CompletableFuture<Void> updateRoleDefinition(final RoleDefinition body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.updateRoleDefinition(body, inputOptions));
+    }
+
+    public CompletableFuture<Void> updateUserPassword(final String username, final UserRoles body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.updateUserPassword(username, body, inputOptions));
+    }
+
+    public CompletableFuture<Void> updateUserRoles(final String username, final UserRoles body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.updateUserRoles(username, body, inputOptions));
+    }
+}
@@ -50,12 +50,13 @@ import java.time.format.DateTimeFormatter;
 import org.killbill.billing.client.Converter;
 import org.killbill.billing.client.KillBillClientException;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
 import org.killbill.billing.client.util.Preconditions;
 import org.killbill.billing.client.util.Multimap;
-import org.killbill.billing.client.util.TreeMapSetMultimap;
+import org.killbill.billing.client.util.CompactSetMultimap;
 
 /**
  *           DO NOT EDIT !!!
@@ -65,6 +66,17 @@ import org.killbill.billing.client.util.TreeMapSetMultimap;
  */
 public class SubscriptionApi {
 
+    private static final PathTemplate SUBSCRIPTIONS_SUBSCRIPTION_ID_BLOCK_PATH = PathTemplate.compile("/1.0/kb/subscriptions/{subscriptionId}/block");
+    private static final PathTemplate SUBSCRIPTIONS_SUBSCRIPTION_ID_PATH = PathTemplate.compile("/1.0/kb/subscriptions/{subscriptionId}");
+    private static final PathTemplate SUBSCRIPTIONS_SUBSCRIPTION_ID_CUSTOM_FIELDS_PATH = PathTemplate.compile("/1.0/kb/subscriptions/{subscriptionId}/customFields");
+    private static final PathTemplate SUBSCRIPTIONS_SUBSCRIPTION_ID_TAGS_PATH = PathTemplate.compile("/1.0/kb/subscriptions/{subscriptionId}/tags");
+    private static final PathTemplate SUBSCRIPTIONS_SUBSCRIPTION_ID_AUDIT_LOGS_WITH_HISTORY_PATH = PathTemplate.compile("/1.0/kb/subscriptions/{subscriptionId}/auditLogsWithHistory");
+    private static final PathTemplate SUBSCRIPTIONS_EVENTS_EVENT_ID_AUDIT_LOGS_WITH_HISTORY_PATH = PathTemplate.compile("/1.0/kb/subscriptions/events/{eventId}/auditLogsWithHistory");
+    private static final PathTemplate SUBSCRIPTIONS_SUBSCRIPTION_ID_UNCANCEL_PATH = PathTemplate.compile("/1.0/kb/subscriptions/{subscriptionId}/uncancel");
+    private static final PathTemplate SUBSCRIPTIONS_SUBSCRIPTION_ID_UNDO_CHANGE_PLAN_PATH = PathTemplate.compile("/1.0/kb/subscriptions/{subscriptionId}/undoChangePlan");
+    private static final PathTemplate SUBSCRIPTIONS_SUBSCRIPTION_ID_BCD_PATH = PathTemplate.compile("/1.0/kb/subscriptions/{subscriptionId}/bcd");
+    private static final PathTemplate SUBSCRIPTIONS_SUBSCRIPTION_ID_QUANTITY_PATH = PathTemplate.compile("/1.0/kb/subscriptions/{subscriptionId}/quantity");
+
     private final KillBillHttpClient httpClient;
 
     public SubscriptionApi() {
@@ -79,10 +91,9 @@ public class SubscriptionApi {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling addSubscriptionBlockingState");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling addSubscriptionBlockingState");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}/block"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = SUBSCRIPTIONS_SUBSCRIPTION_ID_BLOCK_PATH.expand(subscriptionId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (requestedDate != null) {
             queryParams.put("requestedDate", String.valueOf(requestedDate));
         }
@@ -91,6 +102,7 @@ public class SubscriptionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(SUBSCRIPTIONS_SUBSCRIPTION_ID_BLOCK_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -104,10 +116,9 @@ public class SubscriptionApi {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling addSubscriptionBlockingState");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling addSubscriptionBlockingState");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}/block"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = SUBSCRIPTIONS_SUBSCRIPTION_ID_BLOCK_PATH.expand(subscriptionId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (requestedDate != null) {
             queryParams.put("requestedDate", DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(requestedDate));
         }
@@ -116,6 +127,7 @@ public class SubscriptionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(SUBSCRIPTIONS_SUBSCRIPTION_ID_BLOCK_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -133,10 +145,9 @@ public class SubscriptionApi {
     public void cancelSubscriptionPlan(final UUID subscriptionId, final LocalDate requestedDate, final Boolean callCompletion, final Long callTimeoutSec, final EntitlementActionPolicy entitlementPolicy, final BillingActionPolicy billingPolicy, final Boolean useRequestedDateForBilling, final Map<String, String> pluginProperty, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling cancelSubscriptionPlan");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = SUBSCRIPTIONS_SUBSCRIPTION_ID_PATH.expand(subscriptionId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (requestedDate != null) {
             queryParams.put("requestedDate", String.valueOf(requestedDate));
         }
@@ -160,6 +171,7 @@ public class SubscriptionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(SUBSCRIPTIONS_SUBSCRIPTION_ID_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -175,10 +187,9 @@ public class SubscriptionApi {
     public void cancelSubscriptionPlan(final UUID subscriptionId, final ZonedDateTime requestedDate, final Boolean callCompletion, final Long callTimeoutSec, final EntitlementActionPolicy entitlementPolicy, final BillingActionPolicy billingPolicy, final Boolean useRequestedDateForBilling, final Map<String, String> pluginProperty, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling cancelSubscriptionPlan");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = SUBSCRIPTIONS_SUBSCRIPTION_ID_PATH.expand(subscriptionId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (requestedDate != null) {
             queryParams.put("requestedDate", DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(requestedDate));
         }
@@ -202,6 +213,7 @@ public class SubscriptionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(SUBSCRIPTIONS_SUBSCRIPTION_ID_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -217,10 +229,9 @@ public class SubscriptionApi {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling changeSubscriptionPlan");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling changeSubscriptionPlan");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = SUBSCRIPTIONS_SUBSCRIPTION_ID_PATH.expand(subscriptionId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (requestedDate != null) {
             queryParams.put("requestedDate", String.valueOf(requestedDate));
         }
@@ -238,6 +249,7 @@ public class SubscriptionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(SUBSCRIPTIONS_SUBSCRIPTION_ID_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -254,10 +266,9 @@ public class SubscriptionApi {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling changeSubscriptionPlan");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling changeSubscriptionPlan");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = SUBSCRIPTIONS_SUBSCRIPTION_ID_PATH.expand(subscriptionId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (requestedDate != null) {
             queryParams.put("requestedDate", DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(requestedDate));
         }
@@ -275,6 +286,7 @@ public class SubscriptionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(SUBSCRIPTIONS_SUBSCRIPTION_ID_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -292,7 +304,7 @@ public class SubscriptionApi {
 
         final String uri = "/1.0/kb/subscriptions";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (entitlementDate != null) {
             queryParams.put("entitlementDate", String.valueOf(entitlementDate));
         }
@@ -319,6 +331,7 @@ public class SubscriptionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/subscriptions");
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -338,7 +351,7 @@ public class SubscriptionApi {
 
         final String uri = "/1.0/kb/subscriptions";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (entitlementDate != null) {
             queryParams.put("entitlementDate", DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(entitlementDate));
         }
@@ -365,6 +378,7 @@ public class SubscriptionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/subscriptions");
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -379,11 +393,11 @@ public class SubscriptionApi {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling createSubscriptionCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createSubscriptionCustomFields");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}/customFields"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = SUBSCRIPTIONS_SUBSCRIPTION_ID_CUSTOM_FIELDS_PATH.expand(subscriptionId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(SUBSCRIPTIONS_SUBSCRIPTION_ID_CUSTOM_FIELDS_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -397,11 +411,11 @@ public class SubscriptionApi {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling createSubscriptionTags");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createSubscriptionTags");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}/tags"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = SUBSCRIPTIONS_SUBSCRIPTION_ID_TAGS_PATH.expand(subscriptionId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(SUBSCRIPTIONS_SUBSCRIPTION_ID_TAGS_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -420,7 +434,7 @@ public class SubscriptionApi {
 
         final String uri = "/1.0/kb/subscriptions/createSubscriptionWithAddOns";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (entitlementDate != null) {
             queryParams.put("entitlementDate", String.valueOf(entitlementDate));
         }
@@ -447,6 +461,7 @@ public class SubscriptionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/subscriptions/createSubscriptionWithAddOns");
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -466,7 +481,7 @@ public class SubscriptionApi {
 
         final String uri = "/1.0/kb/subscriptions/createSubscriptionWithAddOns";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (entitlementDate != null) {
             queryParams.put("entitlementDate", DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(entitlementDate));
         }
@@ -493,6 +508,7 @@ public class SubscriptionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/subscriptions/createSubscriptionWithAddOns");
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -512,7 +528,7 @@ public class SubscriptionApi {
 
         final String uri = "/1.0/kb/subscriptions/createSubscriptionsWithAddOns";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (entitlementDate != null) {
             queryParams.put("entitlementDate", String.valueOf(entitlementDate));
         }
@@ -539,6 +555,7 @@ public class SubscriptionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/subscriptions/createSubscriptionsWithAddOns");
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -553,15 +570,15 @@ public class SubscriptionApi {
     public void deleteSubscriptionCustomFields(final UUID subscriptionId, final List<UUID> customField, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling deleteSubscriptionCustomFields");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}/customFields"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = SUBSCRIPTIONS_SUBSCRIPTION_ID_CUSTOM_FIELDS_PATH.expand(subscriptionId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (customField != null) {
             queryParams.putAll("customField", Converter.convertUUIDListToStringList(customField));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(SUBSCRIPTIONS_SUBSCRIPTION_ID_CUSTOM_FIELDS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -574,15 +591,15 @@ public class SubscriptionApi {
     public void deleteSubscriptionTags(final UUID subscriptionId, final List<UUID> tagDef, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling deleteSubscriptionTags");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}/tags"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = SUBSCRIPTIONS_SUBSCRIPTION_ID_TAGS_PATH.expand(subscriptionId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (tagDef != null) {
             queryParams.putAll("tagDef", Converter.convertUUIDListToStringList(tagDef));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(SUBSCRIPTIONS_SUBSCRIPTION_ID_TAGS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -598,15 +615,15 @@ public class SubscriptionApi {
     public Subscription getSubscription(final UUID subscriptionId, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling getSubscription");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = SUBSCRIPTIONS_SUBSCRIPTION_ID_PATH.expand(subscriptionId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (audit != null) {
             queryParams.put("audit", String.valueOf(audit));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(SUBSCRIPTIONS_SUBSCRIPTION_ID_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -617,11 +634,11 @@ public class SubscriptionApi {
     public AuditLogs getSubscriptionAuditLogsWithHistory(final UUID subscriptionId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling getSubscriptionAuditLogsWithHistory");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}/auditLogsWithHistory"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = SUBSCRIPTIONS_SUBSCRIPTION_ID_AUDIT_LOGS_WITH_HISTORY_PATH.expand(subscriptionId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(SUBSCRIPTIONS_SUBSCRIPTION_ID_AUDIT_LOGS_WITH_HISTORY_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -637,7 +654,7 @@ public class SubscriptionApi {
 
         final String uri = "/1.0/kb/subscriptions";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (externalKey != null) {
             queryParams.put("externalKey", String.valueOf(externalKey));
         }
@@ -646,6 +663,7 @@ public class SubscriptionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/subscriptions");
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -660,15 +678,15 @@ public class SubscriptionApi {
     public CustomFields getSubscriptionCustomFields(final UUID subscriptionId, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling getSubscriptionCustomFields");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}/customFields"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = SUBSCRIPTIONS_SUBSCRIPTION_ID_CUSTOM_FIELDS_PATH.expand(subscriptionId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (audit != null) {
             queryParams.put("audit", String.valueOf(audit));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(SUBSCRIPTIONS_SUBSCRIPTION_ID_CUSTOM_FIELDS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -679,11 +697,11 @@ public class SubscriptionApi {
     public AuditLogs getSubscriptionEventAuditLogsWithHistory(final UUID eventId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(eventId, "Missing the required parameter 'eventId' when calling getSubscriptionEventAuditLogsWithHistory");
 
-        final String uri = "/1.0/kb/subscriptions/events/{eventId}/auditLogsWithHistory"
-          .replaceAll("\\{" + "eventId" + "\\}", eventId.toString());
+        final String uri = SUBSCRIPTIONS_EVENTS_EVENT_ID_AUDIT_LOGS_WITH_HISTORY_PATH.expand(eventId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(SUBSCRIPTIONS_EVENTS_EVENT_ID_AUDIT_LOGS_WITH_HISTORY_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -697,10 +715,9 @@ public class SubscriptionApi {
     public Tags getSubscriptionTags(final UUID subscriptionId, final Boolean includedDeleted, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling getSubscriptionTags");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}/tags"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = SUBSCRIPTIONS_SUBSCRIPTION_ID_TAGS_PATH.expand(subscriptionId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (includedDeleted != null) {
             queryParams.put("includedDeleted", String.valueOf(includedDeleted));
         }
@@ -709,6 +726,7 @@ public class SubscriptionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(SUBSCRIPTIONS_SUBSCRIPTION_ID_TAGS_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -720,11 +738,11 @@ public class SubscriptionApi {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling modifySubscriptionCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling modifySubscriptionCustomFields");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}/customFields"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = SUBSCRIPTIONS_SUBSCRIPTION_ID_CUSTOM_FIELDS_PATH.expand(subscriptionId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(SUBSCRIPTIONS_SUBSCRIPTION_ID_CUSTOM_FIELDS_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -735,15 +753,15 @@ public class SubscriptionApi {
     public void uncancelSubscriptionPlan(final UUID subscriptionId, final Map<String, String> pluginProperty, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling uncancelSubscriptionPlan");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}/uncancel"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = SUBSCRIPTIONS_SUBSCRIPTION_ID_UNCANCEL_PATH.expand(subscriptionId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (pluginProperty != null) {
             queryParams.putAll("pluginProperty", Converter.convertPluginPropertyMap(pluginProperty));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(SUBSCRIPTIONS_SUBSCRIPTION_ID_UNCANCEL_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -754,15 +772,15 @@ public class SubscriptionApi {
     public void undoChangeSubscriptionPlan(final UUID subscriptionId, final Map<String, String> pluginProperty, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling undoChangeSubscriptionPlan");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}/undoChangePlan"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = SUBSCRIPTIONS_SUBSCRIPTION_ID_UNDO_CHANGE_PLAN_PATH.expand(subscriptionId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (pluginProperty != null) {
             queryParams.putAll("pluginProperty", Converter.convertPluginPropertyMap(pluginProperty));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(SUBSCRIPTIONS_SUBSCRIPTION_ID_UNDO_CHANGE_PLAN_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -778,10 +796,9 @@ public class SubscriptionApi {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling updateSubscriptionBCD");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling updateSubscriptionBCD");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}/bcd"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = SUBSCRIPTIONS_SUBSCRIPTION_ID_BCD_PATH.expand(subscriptionId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (effectiveFromDate != null) {
             queryParams.put("effectiveFromDate", String.valueOf(effectiveFromDate));
         }
@@ -790,6 +807,7 @@ public class SubscriptionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(SUBSCRIPTIONS_SUBSCRIPTION_ID_BCD_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -806,10 +824,9 @@ public class SubscriptionApi {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling updateSubscriptionQuantity");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling updateSubscriptionQuantity");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}/quantity"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = SUBSCRIPTIONS_SUBSCRIPTION_ID_QUANTITY_PATH.expand(subscriptionId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (effectiveFromDate != null) {
             queryParams.put("effectiveFromDate", String.valueOf(effectiveFromDate));
         }
@@ -818,6 +835,7 @@ public class SubscriptionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(SUBSCRIPTIONS_SUBSCRIPTION_ID_QUANTITY_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
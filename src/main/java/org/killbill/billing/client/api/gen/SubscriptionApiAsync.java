@@ -0,0 +1,230 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2021 Equinix, Inc
+ * Copyright 2014-2021 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client.api.gen;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.killbill.billing.catalog.api.BillingActionPolicy;
+import org.killbill.billing.client.AsyncApiCalls;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.model.AuditLogs;
+import org.killbill.billing.client.model.BlockingStates;
+import org.killbill.billing.client.model.BulkSubscriptionsBundles;
+import org.killbill.billing.client.model.Bundles;
+import org.killbill.billing.client.model.CustomFields;
+import org.killbill.billing.client.model.Subscriptions;
+import org.killbill.billing.client.model.Tags;
+import org.killbill.billing.client.model.gen.BlockingState;
+import org.killbill.billing.client.model.gen.Bundle;
+import org.killbill.billing.client.model.gen.Subscription;
+import org.killbill.billing.entitlement.api.Entitlement.EntitlementActionPolicy;
+import org.killbill.billing.util.api.AuditLevel;
+
+/**
+ * Non-blocking variant of {@link SubscriptionApi}: the requests are built by {@link SubscriptionApi} itself (see {@link AsyncApiCalls})
+ * and sent without blocking the calling thread. Missing required parameters fail the returned future, and
+ * cancelling it aborts the request.
+ *
+ * Not generated by swagger: when {@link SubscriptionApi} is regenerated, its new methods must be added here
+ * ({@code TestApiAsync} fails otherwise).
+ */
+public class SubscriptionApiAsync {
+
+    private final SubscriptionApi api;
+
+    public SubscriptionApiAsync() {
+        this(new KillBillHttpClient());
+    }
+
+    public SubscriptionApiAsync(final KillBillHttpClient httpClient) {
+        this.api = new SubscriptionApi(httpClient);
+    }
+
+    public CompletableFuture<BlockingStates> addSubscriptionBlockingState(final UUID subscriptionId, final BlockingState body, final LocalDate requestedDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.addSubscriptionBlockingState(subscriptionId, body, requestedDate, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<BlockingStates> addSubscriptionBlockingState(final UUID subscriptionId, final BlockingState body, final ZonedDateTime requestedDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.addSubscriptionBlockingState(subscriptionId, body, requestedDate, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Void> cancelSubscriptionPlan(final UUID subscriptionId, final LocalDate requestedDate, final EntitlementActionPolicy entitlementPolicy, final BillingActionPolicy billingPolicy, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.cancelSubscriptionPlan(subscriptionId, requestedDate, entitlementPolicy, billingPolicy, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Void> cancelSubscriptionPlan(final UUID subscriptionId, final LocalDate requestedDate, final Boolean callCompletion, final Long callTimeoutSec, final EntitlementActionPolicy entitlementPolicy, final BillingActionPolicy billingPolicy, final Boolean useRequestedDateForBilling, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.cancelSubscriptionPlan(subscriptionId, requestedDate, callCompletion, callTimeoutSec, entitlementPolicy, billingPolicy, useRequestedDateForBilling, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Void> cancelSubscriptionPlan(final UUID subscriptionId, final ZonedDateTime requestedDate, final EntitlementActionPolicy entitlementPolicy, final BillingActionPolicy billingPolicy, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.cancelSubscriptionPlan(subscriptionId, requestedDate, entitlementPolicy, billingPolicy, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Void> cancelSubscriptionPlan(final UUID subscriptionId, final ZonedDateTime requestedDate, final Boolean callCompletion, final Long callTimeoutSec, final EntitlementActionPolicy entitlementPolicy, final BillingActionPolicy billingPolicy, final Boolean useRequestedDateForBilling, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.cancelSubscriptionPlan(subscriptionId, requestedDate, callCompletion, callTimeoutSec, entitlementPolicy, billingPolicy, useRequestedDateForBilling, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Void> changeSubscriptionPlan(final UUID subscriptionId, final Subscription body, final LocalDate requestedDate, final BillingActionPolicy billingPolicy, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.changeSubscriptionPlan(subscriptionId, body, requestedDate, billingPolicy, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Void> changeSubscriptionPlan(final UUID subscriptionId, final Subscription body, final LocalDate requestedDate, final Boolean callCompletion, final Long callTimeoutSec, final BillingActionPolicy billingPolicy, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.changeSubscriptionPlan(subscriptionId, body, requestedDate, callCompletion, callTimeoutSec, billingPolicy, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Void> changeSubscriptionPlan(final UUID subscriptionId, final Subscription body, final ZonedDateTime requestedDate, final BillingActionPolicy billingPolicy, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.changeSubscriptionPlan(subscriptionId, body, requestedDate, billingPolicy, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Void> changeSubscriptionPlan(final UUID subscriptionId, final Subscription body, final ZonedDateTime requestedDate, final Boolean callCompletion, final Long callTimeoutSec, final BillingActionPolicy billingPolicy, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.changeSubscriptionPlan(subscriptionId, body, requestedDate, callCompletion, callTimeoutSec, billingPolicy, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Subscription> createSubscription(final Subscription body, final LocalDate entitlementDate, final LocalDate billingDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createSubscription(body, entitlementDate, billingDate, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Subscription> createSubscription(final Subscription body, final LocalDate entitlementDate, final LocalDate billingDate, final Boolean renameKeyIfExistsAndUnused, final Boolean migrated, final Boolean skipResponse, final Boolean callCompletion, final Long callTimeoutSec, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createSubscription(body, entitlementDate, billingDate, renameKeyIfExistsAndUnused, migrated, skipResponse, callCompletion, callTimeoutSec, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Subscription> createSubscription(final Subscription body, final ZonedDateTime entitlementDate, final ZonedDateTime billingDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createSubscription(body, entitlementDate, billingDate, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Subscription> createSubscription(final Subscription body, final ZonedDateTime entitlementDate, final ZonedDateTime billingDate, final Boolean renameKeyIfExistsAndUnused, final Boolean migrated, final Boolean skipResponse, final Boolean callCompletion, final Long callTimeoutSec, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createSubscription(body, entitlementDate, billingDate, renameKeyIfExistsAndUnused, migrated, skipResponse, callCompletion, callTimeoutSec, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Void> createSubscriptionCustomFields(final UUID subscriptionId, final CustomFields body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.createSubscriptionCustomFields(subscriptionId, body, inputOptions));
+    }
+
+    public CompletableFuture<Void> createSubscriptionTags(final UUID subscriptionId, final List<UUID> body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.createSubscriptionTags(subscriptionId, body, inputOptions));
+    }
+
+    public CompletableFuture<Bundle> createSubscriptionWithAddOns(final Subscriptions body, final LocalDate entitlementDate, final LocalDate billingDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createSubscriptionWithAddOns(body, entitlementDate, billingDate, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Bundle> createSubscriptionWithAddOns(final Subscriptions body, final LocalDate entitlementDate, final LocalDate billingDate, final Boolean migrated, final Boolean skipResponse, final Boolean renameKeyIfExistsAndUnused, final Boolean callCompletion, final Long callTimeoutSec, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createSubscriptionWithAddOns(body, entitlementDate, billingDate, migrated, skipResponse, renameKeyIfExistsAndUnused, callCompletion, callTimeoutSec, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Bundle> createSubscriptionWithAddOns(final Subscriptions body, final ZonedDateTime entitlementDate, final ZonedDateTime billingDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createSubscriptionWithAddOns(body, entitlementDate, billingDate, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Bundle> createSubscriptionWithAddOns(final Subscriptions body, final ZonedDateTime entitlementDate, final ZonedDateTime billingDate, final Boolean migrated, final Boolean skipResponse, final Boolean renameKeyIfExistsAndUnused, final Boolean callCompletion, final Long callTimeoutSec, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createSubscriptionWithAddOns(body, entitlementDate, billingDate, migrated, skipResponse, renameKeyIfExistsAndUnused, callCompletion, callTimeoutSec, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Bundles> createSubscriptionsWithAddOns(final BulkSubscriptionsBundles body, final LocalDate entitlementDate, final LocalDate billingDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createSubscriptionsWithAddOns(body, entitlementDate, billingDate, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Bundles> createSubscriptionsWithAddOns(final BulkSubscriptionsBundles body, final LocalDate entitlementDate, final LocalDate billingDate, final Boolean renameKeyIfExistsAndUnused, final Boolean migrated, final Boolean skipResponse, final Boolean callCompletion, final Long callTimeoutSec, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createSubscriptionsWithAddOns(body, entitlementDate, billingDate, renameKeyIfExistsAndUnused, migrated, skipResponse, callCompletion, callTimeoutSec, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Void> deleteSubscriptionCustomFields(final UUID subscriptionId, final List<UUID> customField, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.deleteSubscriptionCustomFields(subscriptionId, customField, inputOptions));
+    }
+
+    public CompletableFuture<Void> deleteSubscriptionTags(final UUID subscriptionId, final List<UUID> tagDef, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.deleteSubscriptionTags(subscriptionId, tagDef, inputOptions));
+    }
+
+    public CompletableFuture<Subscription> getSubscription(final UUID subscriptionId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getSubscription(subscriptionId, inputOptions));
+    }
+
+    public CompletableFuture<Subscription> getSubscription(final UUID subscriptionId, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getSubscription(subscriptionId, audit, inputOptions));
+    }
+
+    public CompletableFuture<AuditLogs> getSubscriptionAuditLogsWithHistory(final UUID subscriptionId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getSubscriptionAuditLogsWithHistory(subscriptionId, inputOptions));
+    }
+
+    public CompletableFuture<Subscription> getSubscriptionByKey(final String externalKey, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getSubscriptionByKey(externalKey, inputOptions));
+    }
+
+    public CompletableFuture<Subscription> getSubscriptionByKey(final String externalKey, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getSubscriptionByKey(externalKey, audit, inputOptions));
+    }
+
+    public CompletableFuture<CustomFields> getSubscriptionCustomFields(final UUID subscriptionId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getSubscriptionCustomFields(subscriptionId, inputOptions));
+    }
+
+    public CompletableFuture<CustomFields> getSubscriptionCustomFields(final UUID subscriptionId, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getSubscriptionCustomFields(subscriptionId, audit, inputOptions));
+    }
+
+    public CompletableFuture<AuditLogs> getSubscriptionEventAuditLogsWithHistory(final UUID eventId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getSubscriptionEventAuditLogsWithHistory(eventId, inputOptions));
+    }
+
+    public CompletableFuture<Tags> getSubscriptionTags(final UUID subscriptionId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getSubscriptionTags(subscriptionId, inputOptions));
+    }
+
+    public CompletableFuture<Tags> getSubscriptionTags(final UUID subscriptionId, final Boolean includedDeleted, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getSubscriptionTags(subscriptionId, includedDeleted, audit, inputOptions));
+    }
+
+    public CompletableFuture<Void> modifySubscriptionCustomFields(final UUID subscriptionId, final CustomFields body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.modifySubscriptionCustomFields(subscriptionId, body, inputOptions));
+    }
+
+    public CompletableFuture<Void> uncancelSubscriptionPlan(final UUID subscriptionId, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.uncancelSubscriptionPlan(subscriptionId, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Void> undoChangeSubscriptionPlan(final UUID subscriptionId, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.undoChangeSubscriptionPlan(subscriptionId, pluginProperty, inputOptions));
+    }
+
+    public CompletableFuture<Void> updateSubscriptionBCD(final UUID subscriptionId, final Subscription body, final LocalDate effectiveFromDate, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.updateSubscriptionBCD(subscriptionId, body, effectiveFromDate, inputOptions));
+    }
+
+    public CompletableFuture<Void> updateSubscriptionBCD(final UUID subscriptionId, final Subscription body, final LocalDate effectiveFromDate, final Boolean forceNewBcdWithPastEffectiveDate, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.updateSubscriptionBCD(subscriptionId, body, effectiveFromDate, forceNewBcdWithPastEffectiveDate, inputOptions));
+    }
+
+    public CompletableFuture<Void> updateSubscriptionQuantity(final UUID subscriptionId, final Subscription body, final LocalDate effectiveFromDate, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.updateSubscriptionQuantity(subscriptionId, body, effectiveFromDate, inputOptions));
+    }
+
+    public CompletableFuture<Void> updateSubscriptionQuantity(final UUID subscriptionId, final Subscription body, final LocalDate effectiveFromDate, final Boolean forceNewQuantityWithPastEffectiveDate, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.updateSubscriptionQuantity(subscriptionId, body, effectiveFromDate, forceNewQuantityWithPastEffectiveDate, inputOptions));
+    }
+}
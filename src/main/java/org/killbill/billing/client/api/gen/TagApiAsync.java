@@ -0,0 +1,72 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2021 Equinix, Inc
+ * Copyright 2014-2021 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client.api.gen;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.killbill.billing.client.AsyncApiCalls;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.model.AuditLogs;
+import org.killbill.billing.client.model.Tags;
+import org.killbill.billing.util.api.AuditLevel;
+
+/**
+ * Non-blocking variant of {@link TagApi}: the requests are built by {@link TagApi} itself (see {@link AsyncApiCalls})
+ * and sent without blocking the calling thread. Missing required parameters fail the returned future, and
+ * cancelling it aborts the request.
+ *
+ * Not generated by swagger: when {@link TagApi} is regenerated, its new methods must be added here
+ * ({@code TestApiAsync} fails otherwise).
+ */
+public class TagApiAsync {
+
+    private final TagApi api;
+
+    public TagApiAsync() {
+        this(new KillBillHttpClient());
+    }
+
+    public TagApiAsync(final KillBillHttpClient httpClient) {
+        this.api = new TagApi(httpClient);
+    }
+
+    public CompletableFuture<AuditLogs> getTagAuditLogsWithHistory(final UUID tagId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getTagAuditLogsWithHistory(tagId, inputOptions));
+    }
+
+    public CompletableFuture<Tags> getTags(final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getTags(inputOptions));
+    }
+
+    public CompletableFuture<Tags> getTags(final Long offset, final Long limit, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getTags(offset, limit, audit, inputOptions));
+    }
+
+    public CompletableFuture<Tags> searchTags(final String searchKey, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.searchTags(searchKey, inputOptions));
+    }
+
+    public CompletableFuture<Tags> searchTags(final String searchKey, final Long offset, final Long limit, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.searchTags(searchKey, offset, limit, audit, inputOptions));
+    }
+}
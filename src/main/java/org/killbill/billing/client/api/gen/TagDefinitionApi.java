@@ -35,12 +35,13 @@ import java.time.format.DateTimeFormatter;
 import org.killbill.billing.client.Converter;
 import org.killbill.billing.client.KillBillClientException;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
 import org.killbill.billing.client.util.Preconditions;
 import org.killbill.billing.client.util.Multimap;
-import org.killbill.billing.client.util.TreeMapSetMultimap;
+import org.killbill.billing.client.util.CompactSetMultimap;
 
 /**
  *           DO NOT EDIT !!!
@@ -50,6 +51,9 @@ import org.killbill.billing.client.util.TreeMapSetMultimap;
  */
 public class TagDefinitionApi {
 
+    private static final PathTemplate TAG_DEFINITIONS_TAG_DEFINITION_ID_PATH = PathTemplate.compile("/1.0/kb/tagDefinitions/{tagDefinitionId}");
+    private static final PathTemplate TAG_DEFINITIONS_TAG_DEFINITION_ID_AUDIT_LOGS_WITH_HISTORY_PATH = PathTemplate.compile("/1.0/kb/tagDefinitions/{tagDefinitionId}/auditLogsWithHistory");
+
     private final KillBillHttpClient httpClient;
 
     public TagDefinitionApi() {
@@ -67,6 +71,7 @@ public class TagDefinitionApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/tagDefinitions");
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -80,11 +85,11 @@ public class TagDefinitionApi {
     public void deleteTagDefinition(final UUID tagDefinitionId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(tagDefinitionId, "Missing the required parameter 'tagDefinitionId' when calling deleteTagDefinition");
 
-        final String uri = "/1.0/kb/tagDefinitions/{tagDefinitionId}"
-          .replaceAll("\\{" + "tagDefinitionId" + "\\}", tagDefinitionId.toString());
+        final String uri = TAG_DEFINITIONS_TAG_DEFINITION_ID_PATH.expand(tagDefinitionId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(TAG_DEFINITIONS_TAG_DEFINITION_ID_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -98,15 +103,15 @@ public class TagDefinitionApi {
     public TagDefinition getTagDefinition(final UUID tagDefinitionId, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(tagDefinitionId, "Missing the required parameter 'tagDefinitionId' when calling getTagDefinition");
 
-        final String uri = "/1.0/kb/tagDefinitions/{tagDefinitionId}"
-          .replaceAll("\\{" + "tagDefinitionId" + "\\}", tagDefinitionId.toString());
+        final String uri = TAG_DEFINITIONS_TAG_DEFINITION_ID_PATH.expand(tagDefinitionId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (audit != null) {
             queryParams.put("audit", String.valueOf(audit));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(TAG_DEFINITIONS_TAG_DEFINITION_ID_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -117,11 +122,11 @@ public class TagDefinitionApi {
     public AuditLogs getTagDefinitionAuditLogsWithHistory(final UUID tagDefinitionId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(tagDefinitionId, "Missing the required parameter 'tagDefinitionId' when calling getTagDefinitionAuditLogsWithHistory");
 
-        final String uri = "/1.0/kb/tagDefinitions/{tagDefinitionId}/auditLogsWithHistory"
-          .replaceAll("\\{" + "tagDefinitionId" + "\\}", tagDefinitionId.toString());
+        final String uri = TAG_DEFINITIONS_TAG_DEFINITION_ID_AUDIT_LOGS_WITH_HISTORY_PATH.expand(tagDefinitionId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(TAG_DEFINITIONS_TAG_DEFINITION_ID_AUDIT_LOGS_WITH_HISTORY_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -136,12 +141,13 @@ public class TagDefinitionApi {
 
         final String uri = "/1.0/kb/tagDefinitions";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (audit != null) {
             queryParams.put("audit", String.valueOf(audit));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/tagDefinitions");
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2021 Equinix, Inc
+ * Copyright 2014-2021 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client.api.gen;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.killbill.billing.client.AsyncApiCalls;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.model.AuditLogs;
+import org.killbill.billing.client.model.TagDefinitions;
+import org.killbill.billing.client.model.gen.TagDefinition;
+import org.killbill.billing.util.api.AuditLevel;
+
+/**
+ * Non-blocking variant of {@link TagDefinitionApi}: the requests are built by {@link TagDefinitionApi} itself (see {@link AsyncApiCalls})
+ * and sent without blocking the calling thread. Missing required parameters fail the returned future, and
+ * cancelling it aborts the request.
+ *
+ * Not generated by swagger: when {@link TagDefinitionApi} is regenerated, its new methods must be added here
+ * ({@code TestApiAsync} fails otherwise).
+ */
+public class TagDefinitionApiAsync {
+
+    private final TagDefinitionApi api;
+
+    public TagDefinitionApiAsync() {
+        this(new KillBillHttpClient());
+    }
+
+    public TagDefinitionApiAsync(final KillBillHttpClient httpClient) {
+        this.api = new TagDefinitionApi(httpClient);
+    }
+
+    public CompletableFuture<TagDefinition> createTagDefinition(final TagDefinition body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createTagDefinition(body, inputOptions));
+    }
+
+    public CompletableFuture<Void> deleteTagDefinition(final UUID tagDefinitionId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.deleteTagDefinition(tagDefinitionId, inputOptions));
+    }
+
+    public CompletableFuture<TagDefinition> getTagDefinition(final UUID tagDefinitionId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getTagDefinition(tagDefinitionId, inputOptions));
+    }
+
+    public CompletableFuture<TagDefinition> getTagDefinition(final UUID tagDefinitionId, final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getTagDefinition(tagDefinitionId, audit, inputOptions));
+    }
+
+    public CompletableFuture<AuditLogs> getTagDefinitionAuditLogsWithHistory(final UUID tagDefinitionId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getTagDefinitionAuditLogsWithHistory(tagDefinitionId, inputOptions));
+    }
+
+    public CompletableFuture<TagDefinitions> getTagDefinitions(final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getTagDefinitions(inputOptions));
+    }
+
+    public CompletableFuture<TagDefinitions> getTagDefinitions(final AuditLevel audit, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getTagDefinitions(audit, inputOptions));
+    }
+}
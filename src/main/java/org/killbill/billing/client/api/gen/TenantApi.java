@@ -33,12 +33,13 @@ import java.time.format.DateTimeFormatter;
 import org.killbill.billing.client.Converter;
 import org.killbill.billing.client.KillBillClientException;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
 import org.killbill.billing.client.util.Preconditions;
 import org.killbill.billing.client.util.Multimap;
-import org.killbill.billing.client.util.TreeMapSetMultimap;
+import org.killbill.billing.client.util.CompactSetMultimap;
 
 /**
  *           DO NOT EDIT !!!
@@ -48,6 +49,12 @@ import org.killbill.billing.client.util.TreeMapSetMultimap;
  */
 public class TenantApi {
 
+    private static final PathTemplate TENANTS_UPLOAD_PLUGIN_CONFIG_PLUGIN_NAME_PATH = PathTemplate.compile("/1.0/kb/tenants/uploadPluginConfig/{pluginName}");
+    private static final PathTemplate TENANTS_UPLOAD_PLUGIN_PAYMENT_STATE_MACHINE_CONFIG_PLUGIN_NAME_PATH = PathTemplate.compile("/1.0/kb/tenants/uploadPluginPaymentStateMachineConfig/{pluginName}");
+    private static final PathTemplate TENANTS_USER_KEY_VALUE_KEY_NAME_PATH = PathTemplate.compile("/1.0/kb/tenants/userKeyValue/{keyName}");
+    private static final PathTemplate TENANTS_UPLOAD_PER_TENANT_CONFIG_KEY_PREFIX_SEARCH_PATH = PathTemplate.compile("/1.0/kb/tenants/uploadPerTenantConfig/{keyPrefix}/search");
+    private static final PathTemplate TENANTS_TENANT_ID_PATH = PathTemplate.compile("/1.0/kb/tenants/{tenantId}");
+
     private final KillBillHttpClient httpClient;
 
     public TenantApi() {
@@ -67,12 +74,13 @@ public class TenantApi {
 
         final String uri = "/1.0/kb/tenants";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (useGlobalDefault != null) {
             queryParams.put("useGlobalDefault", String.valueOf(useGlobalDefault));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/tenants");
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -90,6 +98,7 @@ public class TenantApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/tenants/uploadPerTenantConfig");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
         httpClient.doDelete(uri, requestOptions);
@@ -99,11 +108,11 @@ public class TenantApi {
     public void deletePluginConfiguration(final String pluginName, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(pluginName, "Missing the required parameter 'pluginName' when calling deletePluginConfiguration");
 
-        final String uri = "/1.0/kb/tenants/uploadPluginConfig/{pluginName}"
-          .replaceAll("\\{" + "pluginName" + "\\}", pluginName.toString());
+        final String uri = TENANTS_UPLOAD_PLUGIN_CONFIG_PLUGIN_NAME_PATH.expand(pluginName);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(TENANTS_UPLOAD_PLUGIN_CONFIG_PLUGIN_NAME_PATH.getTemplate());
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
         httpClient.doDelete(uri, requestOptions);
@@ -113,11 +122,11 @@ public class TenantApi {
     public void deletePluginPaymentStateMachineConfig(final String pluginName, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(pluginName, "Missing the required parameter 'pluginName' when calling deletePluginPaymentStateMachineConfig");
 
-        final String uri = "/1.0/kb/tenants/uploadPluginPaymentStateMachineConfig/{pluginName}"
-          .replaceAll("\\{" + "pluginName" + "\\}", pluginName.toString());
+        final String uri = TENANTS_UPLOAD_PLUGIN_PAYMENT_STATE_MACHINE_CONFIG_PLUGIN_NAME_PATH.expand(pluginName);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(TENANTS_UPLOAD_PLUGIN_PAYMENT_STATE_MACHINE_CONFIG_PLUGIN_NAME_PATH.getTemplate());
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
         httpClient.doDelete(uri, requestOptions);
@@ -130,6 +139,7 @@ public class TenantApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/tenants/registerNotificationCallback");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
         httpClient.doDelete(uri, requestOptions);
@@ -139,11 +149,11 @@ public class TenantApi {
     public void deleteUserKeyValue(final String keyName, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(keyName, "Missing the required parameter 'keyName' when calling deleteUserKeyValue");
 
-        final String uri = "/1.0/kb/tenants/userKeyValue/{keyName}"
-          .replaceAll("\\{" + "keyName" + "\\}", keyName.toString());
+        final String uri = TENANTS_USER_KEY_VALUE_KEY_NAME_PATH.expand(keyName);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(TENANTS_USER_KEY_VALUE_KEY_NAME_PATH.getTemplate());
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
         httpClient.doDelete(uri, requestOptions);
@@ -152,11 +162,11 @@ public class TenantApi {
     public TenantKeyValues getAllPluginConfiguration(final String keyPrefix, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(keyPrefix, "Missing the required parameter 'keyPrefix' when calling getAllPluginConfiguration");
 
-        final String uri = "/1.0/kb/tenants/uploadPerTenantConfig/{keyPrefix}/search"
-          .replaceAll("\\{" + "keyPrefix" + "\\}", keyPrefix.toString());
+        final String uri = TENANTS_UPLOAD_PER_TENANT_CONFIG_KEY_PREFIX_SEARCH_PATH.expand(keyPrefix);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(TENANTS_UPLOAD_PER_TENANT_CONFIG_KEY_PREFIX_SEARCH_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -169,6 +179,7 @@ public class TenantApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/tenants/uploadPerTenantConfig");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -178,11 +189,11 @@ public class TenantApi {
     public TenantKeyValue getPluginConfiguration(final String pluginName, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(pluginName, "Missing the required parameter 'pluginName' when calling getPluginConfiguration");
 
-        final String uri = "/1.0/kb/tenants/uploadPluginConfig/{pluginName}"
-          .replaceAll("\\{" + "pluginName" + "\\}", pluginName.toString());
+        final String uri = TENANTS_UPLOAD_PLUGIN_CONFIG_PLUGIN_NAME_PATH.expand(pluginName);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(TENANTS_UPLOAD_PLUGIN_CONFIG_PLUGIN_NAME_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -192,11 +203,11 @@ public class TenantApi {
     public TenantKeyValue getPluginPaymentStateMachineConfig(final String pluginName, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(pluginName, "Missing the required parameter 'pluginName' when calling getPluginPaymentStateMachineConfig");
 
-        final String uri = "/1.0/kb/tenants/uploadPluginPaymentStateMachineConfig/{pluginName}"
-          .replaceAll("\\{" + "pluginName" + "\\}", pluginName.toString());
+        final String uri = TENANTS_UPLOAD_PLUGIN_PAYMENT_STATE_MACHINE_CONFIG_PLUGIN_NAME_PATH.expand(pluginName);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(TENANTS_UPLOAD_PLUGIN_PAYMENT_STATE_MACHINE_CONFIG_PLUGIN_NAME_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -209,6 +220,7 @@ public class TenantApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/tenants/registerNotificationCallback");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -218,11 +230,11 @@ public class TenantApi {
     public Tenant getTenant(final UUID tenantId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(tenantId, "Missing the required parameter 'tenantId' when calling getTenant");
 
-        final String uri = "/1.0/kb/tenants/{tenantId}"
-          .replaceAll("\\{" + "tenantId" + "\\}", tenantId.toString());
+        final String uri = TENANTS_TENANT_ID_PATH.expand(tenantId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(TENANTS_TENANT_ID_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -233,12 +245,13 @@ public class TenantApi {
 
         final String uri = "/1.0/kb/tenants";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (apiKey != null) {
             queryParams.put("apiKey", String.valueOf(apiKey));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/tenants");
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -249,11 +262,11 @@ public class TenantApi {
     public TenantKeyValue getUserKeyValue(final String keyName, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(keyName, "Missing the required parameter 'keyName' when calling getUserKeyValue");
 
-        final String uri = "/1.0/kb/tenants/userKeyValue/{keyName}"
-          .replaceAll("\\{" + "keyName" + "\\}", keyName.toString());
+        final String uri = TENANTS_USER_KEY_VALUE_KEY_NAME_PATH.expand(keyName);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(TENANTS_USER_KEY_VALUE_KEY_NAME_PATH.getTemplate());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -264,11 +277,11 @@ public class TenantApi {
         Preconditions.checkNotNull(keyName, "Missing the required parameter 'keyName' when calling insertUserKeyValue");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling insertUserKeyValue");
 
-        final String uri = "/1.0/kb/tenants/userKeyValue/{keyName}"
-          .replaceAll("\\{" + "keyName" + "\\}", keyName.toString());
+        final String uri = TENANTS_USER_KEY_VALUE_KEY_NAME_PATH.expand(keyName);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(TENANTS_USER_KEY_VALUE_KEY_NAME_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -282,12 +295,13 @@ public class TenantApi {
 
         final String uri = "/1.0/kb/tenants/registerNotificationCallback";
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (cb != null) {
             queryParams.put("cb", String.valueOf(cb));
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/tenants/registerNotificationCallback");
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
@@ -305,6 +319,7 @@ public class TenantApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/tenants/uploadPerTenantConfig");
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -318,11 +333,11 @@ public class TenantApi {
         Preconditions.checkNotNull(pluginName, "Missing the required parameter 'pluginName' when calling uploadPluginConfiguration");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling uploadPluginConfiguration");
 
-        final String uri = "/1.0/kb/tenants/uploadPluginConfig/{pluginName}"
-          .replaceAll("\\{" + "pluginName" + "\\}", pluginName.toString());
+        final String uri = TENANTS_UPLOAD_PLUGIN_CONFIG_PLUGIN_NAME_PATH.expand(pluginName);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(TENANTS_UPLOAD_PLUGIN_CONFIG_PLUGIN_NAME_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -336,11 +351,11 @@ public class TenantApi {
         Preconditions.checkNotNull(pluginName, "Missing the required parameter 'pluginName' when calling uploadPluginPaymentStateMachineConfig");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling uploadPluginPaymentStateMachineConfig");
 
-        final String uri = "/1.0/kb/tenants/uploadPluginPaymentStateMachineConfig/{pluginName}"
-          .replaceAll("\\{" + "pluginName" + "\\}", pluginName.toString());
+        final String uri = TENANTS_UPLOAD_PLUGIN_PAYMENT_STATE_MACHINE_CONFIG_PLUGIN_NAME_PATH.expand(pluginName);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(TENANTS_UPLOAD_PLUGIN_PAYMENT_STATE_MACHINE_CONFIG_PLUGIN_NAME_PATH.getTemplate());
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2021 Equinix, Inc
+ * Copyright 2014-2021 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client.api.gen;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.killbill.billing.client.AsyncApiCalls;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.model.TenantKeyValues;
+import org.killbill.billing.client.model.gen.Tenant;
+import org.killbill.billing.client.model.gen.TenantKeyValue;
+
+/**
+ * Non-blocking variant of {@link TenantApi}: the requests are built by {@link TenantApi} itself (see {@link AsyncApiCalls})
+ * and sent without blocking the calling thread. Missing required parameters fail the returned future, and
+ * cancelling it aborts the request.
+ *
+ * Not generated by swagger: when {@link TenantApi} is regenerated, its new methods must be added here
+ * ({@code TestApiAsync} fails otherwise).
+ */
+public class TenantApiAsync {
+
+    private final TenantApi api;
+
+    public TenantApiAsync() {
+        this(new KillBillHttpClient());
+    }
+
+    public TenantApiAsync(final KillBillHttpClient httpClient) {
+        this.api = new TenantApi(httpClient);
+    }
+
+    public CompletableFuture<Tenant> createTenant(final Tenant body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createTenant(body, inputOptions));
+    }
+
+    public CompletableFuture<Tenant> createTenant(final Tenant body, final Boolean useGlobalDefault, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.createTenant(body, useGlobalDefault, inputOptions));
+    }
+
+    public CompletableFuture<Void> deletePerTenantConfiguration(final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.deletePerTenantConfiguration(inputOptions));
+    }
+
+    public CompletableFuture<Void> deletePluginConfiguration(final String pluginName, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.deletePluginConfiguration(pluginName, inputOptions));
+    }
+
+    public CompletableFuture<Void> deletePluginPaymentStateMachineConfig(final String pluginName, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.deletePluginPaymentStateMachineConfig(pluginName, inputOptions));
+    }
+
+    public CompletableFuture<Void> deletePushNotificationCallbacks(final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.deletePushNotificationCallbacks(inputOptions));
+    }
+
+    public CompletableFuture<Void> deleteUserKeyValue(final String keyName, final RequestOptions inputOptions) {
+        return AsyncApiCalls.run(() -> api.deleteUserKeyValue(keyName, inputOptions));
+    }
+
+    public CompletableFuture<TenantKeyValues> getAllPluginConfiguration(final String keyPrefix, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getAllPluginConfiguration(keyPrefix, inputOptions));
+    }
+
+    public CompletableFuture<TenantKeyValue> getPerTenantConfiguration(final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPerTenantConfiguration(inputOptions));
+    }
+
+    public CompletableFuture<TenantKeyValue> getPluginConfiguration(final String pluginName, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPluginConfiguration(pluginName, inputOptions));
+    }
+
+    public CompletableFuture<TenantKeyValue> getPluginPaymentStateMachineConfig(final String pluginName, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPluginPaymentStateMachineConfig(pluginName, inputOptions));
+    }
+
+    public CompletableFuture<TenantKeyValue> getPushNotificationCallbacks(final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getPushNotificationCallbacks(inputOptions));
+    }
+
+    public CompletableFuture<Tenant> getTenant(final UUID tenantId, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getTenant(tenantId, inputOptions));
+    }
+
+    public CompletableFuture<Tenant> getTenantByApiKey(final String apiKey, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getTenantByApiKey(apiKey, inputOptions));
+    }
+
+    public CompletableFuture<TenantKeyValue> getUserKeyValue(final String keyName, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.getUserKeyValue(keyName, inputOptions));
+    }
+
+    public CompletableFuture<TenantKeyValue> insertUserKeyValue(final String keyName, final String body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.insertUserKeyValue(keyName, body, inputOptions));
+    }
+
+    public CompletableFuture<TenantKeyValue> registerPushNotificationCallback(final String cb, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.registerPushNotificationCallback(cb, inputOptions));
+    }
+
+    public CompletableFuture<TenantKeyValue> uploadPerTenantConfiguration(final String body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.uploadPerTenantConfiguration(body, inputOptions));
+    }
+
+    public CompletableFuture<TenantKeyValue> uploadPluginConfiguration(final String pluginName, final String body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.uploadPluginConfiguration(pluginName, body, inputOptions));
+    }
+
+    public CompletableFuture<TenantKeyValue> uploadPluginPaymentStateMachineConfig(final String pluginName, final String body, final RequestOptions inputOptions) {
+        return AsyncApiCalls.call(() -> api.uploadPluginPaymentStateMachineConfig(pluginName, body, inputOptions));
+    }
+}
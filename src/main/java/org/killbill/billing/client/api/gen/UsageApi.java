@@ -33,12 +33,13 @@ import java.time.format.DateTimeFormatter;
 import org.killbill.billing.client.Converter;
 import org.killbill.billing.client.KillBillClientException;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
 import org.killbill.billing.client.util.Preconditions;
 import org.killbill.billing.client.util.Multimap;
-import org.killbill.billing.client.util.TreeMapSetMultimap;
+import org.killbill.billing.client.util.CompactSetMultimap;
 
 /**
  *           DO NOT EDIT !!!
@@ -48,6 +49,9 @@ import org.killbill.billing.client.util.TreeMapSetMultimap;
  */
 public class UsageApi {
 
+    private static final PathTemplate USAGES_SUBSCRIPTION_ID_PATH = PathTemplate.compile("/1.0/kb/usages/{subscriptionId}");
+    private static final PathTemplate USAGES_SUBSCRIPTION_ID_UNIT_TYPE_PATH = PathTemplate.compile("/1.0/kb/usages/{subscriptionId}/{unitType}");
+
     private final KillBillHttpClient httpClient;
 
     public UsageApi() {
@@ -61,10 +65,9 @@ public class UsageApi {
     public RolledUpUsage getAllUsage(final UUID subscriptionId, final LocalDate startDate, final LocalDate endDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling getAllUsage");
 
-        final String uri = "/1.0/kb/usages/{subscriptionId}"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = USAGES_SUBSCRIPTION_ID_PATH.expand(subscriptionId);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (startDate != null) {
             queryParams.put("startDate", String.valueOf(startDate));
         }
@@ -76,6 +79,7 @@ public class UsageApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(USAGES_SUBSCRIPTION_ID_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -87,11 +91,9 @@ public class UsageApi {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling getUsage");
         Preconditions.checkNotNull(unitType, "Missing the required parameter 'unitType' when calling getUsage");
 
-        final String uri = "/1.0/kb/usages/{subscriptionId}/{unitType}"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString())
-          .replaceAll("\\{" + "unitType" + "\\}", unitType.toString());
+        final String uri = USAGES_SUBSCRIPTION_ID_UNIT_TYPE_PATH.expand(subscriptionId, unitType);
 
-        final Multimap<String, String> queryParams = new TreeMapSetMultimap<>(inputOptions.getQueryParams());
+        final Multimap<String, String> queryParams = new CompactSetMultimap<>(inputOptions.getQueryParams());
         if (startDate != null) {
             queryParams.put("startDate", String.valueOf(startDate));
         }
@@ -103,6 +105,7 @@ public class UsageApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate(USAGES_SUBSCRIPTION_ID_UNIT_TYPE_PATH.getTemplate());
         inputOptionsBuilder.withQueryParams(queryParams.asMap());
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -117,6 +120,7 @@ public class UsageApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withUriTemplate("/1.0/kb/usages");
         final Boolean followLocation = Objects.requireNonNullElse(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -20,6 +20,7 @@
 package org.killbill.billing.client.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 
 import org.killbill.billing.client.KillBillClientException;
 import org.killbill.billing.client.KillBillHttpClient;
@@ -51,10 +52,21 @@ public abstract class KillBillObjects<T extends KillBillObject> extends ArrayLis
 
     @JsonIgnore
     public <U extends KillBillObjects<T>> U getNext(final Class<U> clazz) throws KillBillClientException {
+        return getNext(clazz, RequestOptions.empty());
+    }
+
+    /**
+     * @param clazz          page type
+     * @param requestOptions options (credentials, tenant, headers) to fetch the next page with, query parameters are ignored
+     * @return the next page, null if this is the last one
+     */
+    @JsonIgnore
+    public <U extends KillBillObjects<T>> U getNext(final Class<U> clazz, final RequestOptions requestOptions) throws KillBillClientException {
         if (killBillHttpClient == null || paginationNextPageUri == null) {
             return null;
         }
-        return killBillHttpClient.doGet(paginationNextPageUri, clazz, RequestOptions.empty());
+        // The next page uri already has all query parameters
+        return killBillHttpClient.doGet(paginationNextPageUri, clazz, requestOptions.extend().withQueryParams(Collections.emptyMap()).build());
     }
 
     @JsonIgnore
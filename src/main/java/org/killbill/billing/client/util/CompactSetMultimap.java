@@ -0,0 +1,259 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * <p>Compact implementation of {@link Multimap}, for the few query parameters of a request:</p>
+ * <ul>
+ *     <li>backed by sorted arrays: keys and values iterate in their natural order, like {@link TreeMapSetMultimap}</li>
+ *     <li>values of a key are deduplicated (set semantics)</li>
+ *     <li>lookups are binary searches, insertions shift the arrays</li>
+ *     <li>key cannot be {@code null}</li>
+ *     <li>values cannot be {@code null}</li>
+ *     <li>{@link #asMap()} return a live view.</li>
+ * </ul>
+ */
+public class CompactSetMultimap<K, V> implements Multimap<K, V> {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private Object[] keys = new Object[INITIAL_CAPACITY];
+    private ValueSet<?>[] values = new ValueSet<?>[INITIAL_CAPACITY];
+    private int size;
+
+    private Map<K, Collection<V>> asMap;
+
+    public CompactSetMultimap() {
+    }
+
+    public CompactSetMultimap(final Map<K, ? extends Collection<V>> map) {
+        if (map != null && !map.isEmpty()) {
+            map.forEach(this::putAll);
+        }
+    }
+
+    @Override
+    public void put(final K key, final V value) {
+        Preconditions.checkNotNull(key, "Cannot #put() with null key");
+        Preconditions.checkNotNull(value, "Cannot #put() with null value");
+
+        valuesFor(key).add(value);
+    }
+
+    @Override
+    public void putAll(final K key, final Collection<V> values) {
+        Preconditions.checkNotNull(key, "Cannot #putAll() with null key");
+        Preconditions.checkNotNull(values, "Cannot #putAll() with null values");
+
+        if (!values.isEmpty()) {
+            final ValueSet<V> valueSet = valuesFor(key);
+            for (final V value : values) {
+                valueSet.add(Preconditions.checkNotNull(value, "Cannot #putAll() with null value"));
+            }
+        }
+    }
+
+    @Override
+    public void remove(final K key) {
+        Preconditions.checkNotNull(key, "Cannot #remove() with null key");
+
+        final int position = indexOf(key);
+        if (position < 0) {
+            return;
+        }
+        System.arraycopy(keys, position + 1, keys, position, size - position - 1);
+        System.arraycopy(values, position + 1, values, position, size - position - 1);
+        size--;
+        keys[size] = null;
+        values[size] = null;
+    }
+
+    @Override
+    public Map<K, Collection<V>> asMap() {
+        if (asMap == null) {
+            asMap = new MapView();
+        }
+        return asMap;
+    }
+
+    @Override
+    public String toString() {
+        return "CompactSetMultimap {" + asMap() + '}';
+    }
+
+    /**
+     * @return the position of the key, or {@code -(insertion point) - 1} (see {@link Arrays#binarySearch(Object[], int, int, Object)})
+     */
+    private int indexOf(final Object key) {
+        // Keys must be Comparable, as with a TreeMap
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ValueSet<V> valuesAt(final int position) {
+        return (ValueSet<V>) values[position];
+    }
+
+    private ValueSet<V> valuesFor(final K key) {
+        int position = indexOf(key);
+        if (position >= 0) {
+            return valuesAt(position);
+        }
+
+        position = -position - 1;
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        System.arraycopy(keys, position, keys, position + 1, size - position);
+        System.arraycopy(values, position, values, position + 1, size - position);
+        final ValueSet<V> valueSet = new ValueSet<>();
+        keys[position] = key;
+        values[position] = valueSet;
+        size++;
+        return valueSet;
+    }
+
+    /**
+     * Sorted set, a single value being the common case.
+     */
+    private static final class ValueSet<V> extends AbstractSet<V> {
+
+        private Object[] elements = new Object[1];
+        private int size;
+
+        @Override
+        public boolean add(final V value) {
+            int position = Arrays.binarySearch(elements, 0, size, value);
+            if (position >= 0) {
+                return false;
+            }
+            position = -position - 1;
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, size < INITIAL_CAPACITY ? INITIAL_CAPACITY : size * 2);
+            }
+            System.arraycopy(elements, position, elements, position + 1, size - position);
+            elements[position] = value;
+            size++;
+            return true;
+        }
+
+        @Override
+        public boolean contains(final Object value) {
+            return value != null && Arrays.binarySearch(elements, 0, size, value) >= 0;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<V> iterator() {
+            return new Iterator<>() {
+
+                private int position;
+
+                @Override
+                public boolean hasNext() {
+                    return position < size;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public V next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return (V) elements[position++];
+                }
+            };
+        }
+
+        @Override
+        public Object[] toArray() {
+            return Arrays.copyOf(elements, size);
+        }
+    }
+
+    private final class MapView extends AbstractMap<K, Collection<V>> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return key != null && indexOf(key) >= 0;
+        }
+
+        @Override
+        public Collection<V> get(final Object key) {
+            if (key == null) {
+                return null;
+            }
+            final int position = indexOf(key);
+            return position < 0 ? null : valuesAt(position);
+        }
+
+        @Override
+        public Set<Entry<K, Collection<V>>> entrySet() {
+            return new AbstractSet<>() {
+
+                @Override
+                public int size() {
+                    return size;
+                }
+
+                @Override
+                public Iterator<Entry<K, Collection<V>>> iterator() {
+                    return new Iterator<>() {
+
+                        private int position;
+
+                        @Override
+                        public boolean hasNext() {
+                            return position < size;
+                        }
+
+                        @Override
+                        @SuppressWarnings("unchecked")
+                        public Entry<K, Collection<V>> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            final Entry<K, Collection<V>> entry = new SimpleImmutableEntry<>((K) keys[position], valuesAt(position));
+                            position++;
+                            return entry;
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
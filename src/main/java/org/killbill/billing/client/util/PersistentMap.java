@@ -0,0 +1,282 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * <p>Immutable, insertion-ordered {@link Map} with structural sharing:</p>
+ * <ul>
+ *     <li>{@link #with(Object, Object)} and {@link #without(Object)} return a new map in O(1), sharing the
+ *     entries of the original one</li>
+ *     <li>after a few derivations, entries are flattened into arrays, to bound lookup times</li>
+ *     <li>keys cannot be {@code null}, values can</li>
+ * </ul>
+ * Meant for small maps derived many times (e.g. headers and query parameters of {@code RequestOptions}).
+ */
+public final class PersistentMap<K, V> extends AbstractMap<K, V> {
+
+    private static final int MAX_DEPTH = 8;
+
+    private static final Object REMOVED = new Object();
+
+    private static final PersistentMap<Object, Object> EMPTY = new PersistentMap<>(new Object[0], new Object[0]);
+
+    // Flat representation (parent == null)
+    private final Object[] keys;
+    private final Object[] values;
+
+    // Layered representation: parent, with key mapped to value (or removed)
+    private final PersistentMap<K, V> parent;
+    private final Object key;
+    private final Object value;
+
+    private final int depth;
+    private final int size;
+
+    private PersistentMap<K, V> flattened;
+    private Set<Entry<K, V>> entrySet;
+
+    private PersistentMap(final Object[] keys, final Object[] values) {
+        this.keys = keys;
+        this.values = values;
+        this.parent = null;
+        this.key = null;
+        this.value = null;
+        this.depth = 0;
+        this.size = keys.length;
+    }
+
+    private PersistentMap(final PersistentMap<K, V> parent, final Object key, final Object value, final int size) {
+        this.keys = null;
+        this.values = null;
+        this.parent = parent;
+        this.key = key;
+        this.value = value;
+        this.depth = parent.depth + 1;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentMap<K, V> empty() {
+        return (PersistentMap<K, V>) EMPTY;
+    }
+
+    /**
+     * @param map entries to copy
+     * @return the map itself if it is already a {@code PersistentMap}, an immutable copy otherwise
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentMap<K, V> copyOf(final Map<? extends K, ? extends V> map) {
+        if (map == null || map.isEmpty()) {
+            return empty();
+        }
+        if (map instanceof PersistentMap) {
+            return (PersistentMap<K, V>) map;
+        }
+        return copyOf(map, Function.identity());
+    }
+
+    /**
+     * @param map         entries to copy
+     * @param valueMapper applied to each value (e.g. to make it immutable)
+     * @return an immutable copy
+     */
+    public static <K, V, W> PersistentMap<K, W> copyOf(final Map<? extends K, ? extends V> map, final Function<? super V, ? extends W> valueMapper) {
+        if (map == null || map.isEmpty()) {
+            return empty();
+        }
+
+        final Object[] keys = new Object[map.size()];
+        final Object[] values = new Object[map.size()];
+        int i = 0;
+        for (final Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            keys[i] = Preconditions.checkNotNull(entry.getKey(), "PersistentMap keys cannot be null");
+            values[i] = valueMapper.apply(entry.getValue());
+            i++;
+        }
+        return new PersistentMap<>(keys, values);
+    }
+
+    /**
+     * @return a map with {@code key} mapped to {@code value}, this map is left unchanged
+     */
+    public PersistentMap<K, V> with(final K key, final V value) {
+        Preconditions.checkNotNull(key, "PersistentMap keys cannot be null");
+        final Object current = lookup(key);
+        if (current != REMOVED && Objects.equals(current, value)) {
+            return this;
+        }
+        return derive(key, value, current == REMOVED ? size + 1 : size);
+    }
+
+    /**
+     * @return a map without {@code key}, this map is left unchanged
+     */
+    public PersistentMap<K, V> without(final Object key) {
+        if (key == null || lookup(key) == REMOVED) {
+            return this;
+        }
+        return derive(key, REMOVED, size - 1);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return key != null && lookup(key) != REMOVED;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(final Object key) {
+        if (key == null) {
+            return null;
+        }
+        final Object result = lookup(key);
+        return result == REMOVED ? null : (V) result;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet<>(flatten());
+        }
+        return entrySet;
+    }
+
+    // REMOVED if the key is not mapped
+    private Object lookup(final Object key) {
+        PersistentMap<K, V> node = this;
+        while (node.parent != null) {
+            if (node.key.equals(key)) {
+                return node.value;
+            }
+            node = node.parent;
+        }
+        for (int i = 0; i < node.keys.length; i++) {
+            if (node.keys[i].equals(key)) {
+                return node.values[i];
+            }
+        }
+        return REMOVED;
+    }
+
+    private PersistentMap<K, V> derive(final Object key, final Object value, final int newSize) {
+        if (newSize == 0) {
+            return empty();
+        }
+        final PersistentMap<K, V> base = depth >= MAX_DEPTH ? flatten() : this;
+        return new PersistentMap<>(base, key, value, newSize);
+    }
+
+    private PersistentMap<K, V> flatten() {
+        if (parent == null) {
+            return this;
+        }
+        if (flattened != null) {
+            return flattened;
+        }
+
+        final Object[] layers = new Object[depth];
+        PersistentMap<K, V> node = this;
+        for (int i = 0; node.parent != null; i++) {
+            layers[i] = node;
+            node = node.parent;
+        }
+
+        // Upper bound: every layer adds a key
+        Object[] newKeys = Arrays.copyOf(node.keys, node.keys.length + layers.length);
+        Object[] newValues = Arrays.copyOf(node.values, newKeys.length);
+        int length = node.keys.length;
+        for (int i = layers.length - 1; i >= 0; i--) {
+            final PersistentMap<?, ?> layer = (PersistentMap<?, ?>) layers[i];
+            int index = 0;
+            while (index < length && !newKeys[index].equals(layer.key)) {
+                index++;
+            }
+            if (layer.value == REMOVED) {
+                System.arraycopy(newKeys, index + 1, newKeys, index, length - index - 1);
+                System.arraycopy(newValues, index + 1, newValues, index, length - index - 1);
+                length--;
+            } else {
+                if (index == length) {
+                    newKeys[length++] = layer.key;
+                }
+                newValues[index] = layer.value;
+            }
+        }
+        if (length < newKeys.length) {
+            newKeys = Arrays.copyOf(newKeys, length);
+            newValues = Arrays.copyOf(newValues, length);
+        }
+
+        // Benign race: maps are immutable, concurrent callers compute the same result
+        flattened = new PersistentMap<>(newKeys, newValues);
+        return flattened;
+    }
+
+    private static final class EntrySet<K, V> extends AbstractSet<Entry<K, V>> {
+
+        private final PersistentMap<K, V> flat;
+
+        private EntrySet(final PersistentMap<K, V> flat) {
+            this.flat = flat;
+        }
+
+        @Override
+        public int size() {
+            return flat.size;
+        }
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new Iterator<>() {
+
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < flat.keys.length;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public Entry<K, V> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    final Entry<K, V> entry = new SimpleImmutableEntry<>((K) flat.keys[index], (V) flat.values[index]);
+                    index++;
+                    return entry;
+                }
+            };
+        }
+    }
+}
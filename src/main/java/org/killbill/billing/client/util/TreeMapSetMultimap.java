@@ -41,7 +41,8 @@ public class TreeMapSetMultimap<K, V> implements Multimap<K, V> {
 
     public TreeMapSetMultimap(final Map<K, ? extends Collection<V>> map) {
         if (map != null && !map.isEmpty()) {
-            delegate.putAll(map);
+            // Don't share (possibly immutable) value collections with the source map
+            map.forEach(this::putAll);
         }
     }
 
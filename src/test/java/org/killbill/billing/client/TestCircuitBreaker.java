@@ -0,0 +1,206 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+
+import org.killbill.billing.client.CircuitBreaker.State;
+import org.killbill.billing.client.api.gen.AccountApi;
+import org.killbill.billing.client.model.gen.Account;
+import org.killbill.billing.client.model.gen.Payment;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+public class TestCircuitBreaker {
+
+    private static final String PAYMENTS = "/1.0/kb/payments/{paymentId}";
+
+    @Test(groups = "fast")
+    public void testFailureRate() throws InterruptedException {
+        final CircuitBreaker circuitBreaker = CircuitBreaker.builder()
+                                                            .withSlidingWindowSize(4)
+                                                            .withMinimumNumberOfCalls(4)
+                                                            .withFailureRateThreshold(50)
+                                                            .withWaitDurationInOpenState(Duration.ofMillis(50))
+                                                            .withPermittedCallsInHalfOpenState(2)
+                                                            .build();
+
+        circuitBreaker.tryAcquire(PAYMENTS).complete(200, null);
+        circuitBreaker.tryAcquire(PAYMENTS).complete(404, null);
+        circuitBreaker.tryAcquire(PAYMENTS).complete(503, null);
+        Assert.assertEquals(circuitBreaker.getState(PAYMENTS), State.CLOSED);
+        circuitBreaker.tryAcquire(PAYMENTS).complete(-1, new KillBillClientException(new Exception()));
+        Assert.assertEquals(circuitBreaker.getState(PAYMENTS), State.OPEN);
+        Assert.assertNull(circuitBreaker.tryAcquire(PAYMENTS));
+
+        // Other templates are unaffected
+        Assert.assertNotNull(circuitBreaker.tryAcquire("/1.0/kb/accounts/{accountId}"));
+
+        Thread.sleep(60);
+        final CircuitBreaker.Permit first = circuitBreaker.tryAcquire(PAYMENTS);
+        final CircuitBreaker.Permit second = circuitBreaker.tryAcquire(PAYMENTS);
+        Assert.assertEquals(circuitBreaker.getState(PAYMENTS), State.HALF_OPEN);
+        Assert.assertNull(circuitBreaker.tryAcquire(PAYMENTS));
+        first.complete(200, null);
+        second.complete(500, null);
+        Assert.assertEquals(circuitBreaker.getState(PAYMENTS), State.OPEN);
+
+        Thread.sleep(60);
+        circuitBreaker.tryAcquire(PAYMENTS).complete(200, null);
+        circuitBreaker.tryAcquire(PAYMENTS).complete(201, null);
+        Assert.assertEquals(circuitBreaker.getState(PAYMENTS), State.CLOSED);
+    }
+
+    @Test(groups = "fast")
+    public void testCancelledCalls() throws InterruptedException {
+        final CircuitBreaker circuitBreaker = CircuitBreaker.builder()
+                                                            .withSlidingWindowSize(2)
+                                                            .withMinimumNumberOfCalls(2)
+                                                            .withWaitDurationInOpenState(Duration.ofMillis(50))
+                                                            .withPermittedCallsInHalfOpenState(1)
+                                                            .build();
+
+        circuitBreaker.tryAcquire(PAYMENTS).complete(500, null);
+        circuitBreaker.tryAcquire(PAYMENTS).complete(500, null);
+        Assert.assertEquals(circuitBreaker.getState(PAYMENTS), State.OPEN);
+
+        // A cancelled trial call neither closes the circuit nor uses up the trial permits
+        Thread.sleep(60);
+        circuitBreaker.tryAcquire(PAYMENTS).cancel();
+        Assert.assertEquals(circuitBreaker.getState(PAYMENTS), State.HALF_OPEN);
+        final CircuitBreaker.Permit trial = circuitBreaker.tryAcquire(PAYMENTS);
+        Assert.assertNotNull(trial);
+        Assert.assertNull(circuitBreaker.tryAcquire(PAYMENTS));
+        trial.complete(500, null);
+        Assert.assertEquals(circuitBreaker.getState(PAYMENTS), State.OPEN);
+    }
+
+    @Test(groups = "fast")
+    public void testSlowCallRate() throws InterruptedException {
+        final CircuitBreaker circuitBreaker = CircuitBreaker.builder()
+                                                            .withSlidingWindowSize(2)
+                                                            .withMinimumNumberOfCalls(2)
+                                                            .withSlowCallDuration(Duration.ofMillis(20))
+                                                            .withSlowCallRateThreshold(100)
+                                                            .build();
+
+        final CircuitBreaker.Permit fast = circuitBreaker.tryAcquire(PAYMENTS);
+        final CircuitBreaker.Permit slow = circuitBreaker.tryAcquire(PAYMENTS);
+        fast.complete(200, null);
+        Thread.sleep(30);
+        slow.complete(200, null);
+        Assert.assertEquals(circuitBreaker.getState(PAYMENTS), State.CLOSED);
+
+        final CircuitBreaker.Permit slow2 = circuitBreaker.tryAcquire(PAYMENTS);
+        Thread.sleep(30);
+        slow2.complete(200, null);
+        Assert.assertEquals(circuitBreaker.getState(PAYMENTS), State.OPEN);
+    }
+
+    @Test(groups = "fast")
+    public void testFailFast() throws Exception {
+        final HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/1.0/kb/payments", exchange -> {
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+        });
+        server.createContext("/1.0/kb/accounts", exchange -> {
+            final byte[] body = "{\"name\":\"Jane\"}".getBytes();
+            exchange.sendResponseHeaders(200, body.length);
+            try (final OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+
+        final CircuitBreaker circuitBreaker = CircuitBreaker.builder().withSlidingWindowSize(2).withMinimumNumberOfCalls(2).build();
+        final KillBillHttpClient httpClient = KillBillHttpClient.builder()
+                                                                .withKbServerUrl(String.format("http://127.0.0.1:%d", server.getAddress().getPort()))
+                                                                .withCircuitBreaker(circuitBreaker)
+                                                                .build();
+        try {
+            for (int i = 0; i < 2; i++) {
+                try {
+                    httpClient.doGet("/1.0/kb/payments/" + UUID.randomUUID(), Payment.class, RequestOptions.empty());
+                    Assert.fail();
+                } catch (final KillBillClientException e) {
+                    Assert.assertEquals(e.getResponse().statusCode(), 500);
+                }
+            }
+            Assert.assertEquals(circuitBreaker.getState(PAYMENTS), State.OPEN);
+
+            try {
+                httpClient.doGet("/1.0/kb/payments/" + UUID.randomUUID(), Payment.class, RequestOptions.empty());
+                Assert.fail();
+            } catch (final KillBillClientException e) {
+                Assert.assertTrue(e.getCause() instanceof CircuitBreakerOpenException);
+                Assert.assertEquals(((CircuitBreakerOpenException) e.getCause()).getUriTemplate(), PAYMENTS);
+            }
+            try {
+                httpClient.doGetAsync("/1.0/kb/payments/" + UUID.randomUUID(), Payment.class, RequestOptions.empty()).get();
+                Assert.fail();
+            } catch (final ExecutionException e) {
+                Assert.assertTrue(e.getCause().getCause() instanceof CircuitBreakerOpenException);
+            }
+
+            Assert.assertEquals(httpClient.doGet("/1.0/kb/accounts/" + UUID.randomUUID(), Account.class, RequestOptions.empty()).getName(), "Jane");
+        } finally {
+            httpClient.close();
+            server.stop(0);
+        }
+    }
+
+    @Test(groups = "fast")
+    public void testKeyedByApiPathTemplate() throws Exception {
+        final HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/1.0/kb/accounts", exchange -> {
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+        });
+        server.start();
+
+        final CircuitBreaker circuitBreaker = CircuitBreaker.builder().withSlidingWindowSize(2).withMinimumNumberOfCalls(2).build();
+        final KillBillHttpClient httpClient = KillBillHttpClient.builder()
+                                                                .withKbServerUrl(String.format("http://127.0.0.1:%d", server.getAddress().getPort()))
+                                                                .withCircuitBreaker(circuitBreaker)
+                                                                .build();
+        final AccountApi accountApi = new AccountApi(httpClient);
+        try {
+            // Search keys aren't identifiers, but share the circuit of their API
+            for (final String searchKey : new String[]{"jane@example.com", "john"}) {
+                try {
+                    accountApi.searchAccounts(searchKey, RequestOptions.empty());
+                    Assert.fail();
+                } catch (final KillBillClientException e) {
+                    Assert.assertEquals(e.getResponse().statusCode(), 500);
+                }
+            }
+            Assert.assertEquals(circuitBreaker.getStates().size(), 1);
+            Assert.assertEquals(circuitBreaker.getState("/1.0/kb/accounts/search/{searchKey}"), State.OPEN);
+        } finally {
+            httpClient.close();
+            server.stop(0);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.killbill.billing.client.EndpointPool.Endpoint;
+import org.killbill.billing.client.EndpointPool.Strategy;
+import org.killbill.billing.client.model.gen.NodeInfo;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+public class TestEndpointPool {
+
+    @Test(groups = "fast")
+    public void testLeastOutstandingRequests() {
+        final EndpointPool pool = new EndpointPool(List.of("http://kb1:8080", "http://kb2:8080/", "http://kb3:8080"), Strategy.LEAST_OUTSTANDING_REQUESTS, Duration.ofSeconds(30), Duration.ofMinutes(5), null);
+        Assert.assertEquals(pool.getEndpoints().get(1).getBaseUrl(), "http://kb2:8080");
+
+        // In-flight requests are spread evenly
+        final Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 30; i++) {
+            counts.merge(pool.acquire().getBaseUrl(), 1, Integer::sum);
+        }
+        Assert.assertEquals(counts.get("http://kb1:8080"), (Integer) 10);
+        Assert.assertEquals(counts.get("http://kb2:8080"), (Integer) 10);
+        Assert.assertEquals(counts.get("http://kb3:8080"), (Integer) 10);
+    }
+
+    @Test(groups = "fast")
+    public void testPowerOfTwoChoicesAvoidsLoadedNode() {
+        final EndpointPool pool = new EndpointPool(List.of("http://kb1:8080", "http://kb2:8080"));
+        final Endpoint loaded = pool.acquire();
+        for (int i = 0; i < 100; i++) {
+            final Endpoint endpoint = pool.acquire();
+            Assert.assertNotSame(endpoint, loaded);
+            pool.release(endpoint, 200, null);
+        }
+    }
+
+    @Test(groups = "fast")
+    public void testEjectionAndReadmission() throws InterruptedException {
+        final EndpointPool pool = new EndpointPool(List.of("http://kb1:8080", "http://kb2:8080"), Strategy.LEAST_OUTSTANDING_REQUESTS, Duration.ofMillis(100), Duration.ofSeconds(1), null);
+        final Endpoint kb1 = pool.getEndpoints().get(0);
+        final Endpoint kb2 = pool.getEndpoints().get(1);
+
+        pool.release(acquire(pool, kb1), 503, null);
+        Assert.assertTrue(kb1.isEjected());
+        for (int i = 0; i < 10; i++) {
+            Assert.assertSame(pool.acquire(), kb2);
+        }
+
+        // Read timeouts don't eject, connection errors do
+        pool.release(kb2, -1, new KillBillClientException(new HttpTimeoutException("request timed out")));
+        Assert.assertFalse(kb2.isEjected());
+        pool.release(kb2, -1, new KillBillClientException(new ConnectException("Connection refused")));
+        Assert.assertTrue(kb2.isEjected());
+
+        // All nodes ejected: fail open
+        Assert.assertSame(pool.acquire(), kb1);
+
+        Thread.sleep(150);
+        Assert.assertFalse(kb1.isEjected());
+    }
+
+    @Test(groups = "fast")
+    public void testSetBaseUrlsKeepsState() {
+        final EndpointPool pool = new EndpointPool(List.of("http://kb1:8080", "http://kb2:8080"));
+        final Endpoint kb1 = pool.getEndpoints().get(0);
+        pool.release(acquire(pool, kb1), -1, new KillBillClientException(new IOException("Connection reset")));
+        Assert.assertTrue(kb1.isEjected());
+
+        pool.setBaseUrls(List.of("http://kb3:8080", "http://kb1:8080"));
+        Assert.assertEquals(pool.getEndpoints().size(), 2);
+        Assert.assertSame(pool.getEndpoints().get(1), kb1);
+        Assert.assertTrue(kb1.isEjected());
+
+        try {
+            pool.setBaseUrls(List.of());
+            Assert.fail("Empty pools are not supported");
+        } catch (final IllegalArgumentException ignored) {
+        }
+    }
+
+    @Test(groups = "fast")
+    public void testRefreshChecksHealth() throws Exception {
+        final AtomicInteger healthChecksOfSickNode = new AtomicInteger();
+        final HttpServer healthyNode = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        final HttpServer sickNode = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        final String unreachableNodeUrl;
+        try (final ServerSocket socket = new ServerSocket(0)) {
+            unreachableNodeUrl = "http://127.0.0.1:" + socket.getLocalPort();
+        }
+        final String healthyNodeUrl = "http://127.0.0.1:" + healthyNode.getAddress().getPort();
+        final String sickNodeUrl = "http://127.0.0.1:" + sickNode.getAddress().getPort();
+
+        healthyNode.createContext("/1.0/kb/nodesInfo", exchange -> send(exchange, 200, "[{\"nodeName\":\"" + healthyNodeUrl + "\"}," +
+                                                                                      "{\"nodeName\":\"" + sickNodeUrl + "\"}," +
+                                                                                      "{\"nodeName\":\"" + unreachableNodeUrl + "\"}]"));
+        healthyNode.createContext(EndpointPool.DEFAULT_HEALTHCHECK_PATH, exchange -> send(exchange, 200, "{\"healthy\":true}"));
+        sickNode.createContext(EndpointPool.DEFAULT_HEALTHCHECK_PATH, exchange -> {
+            healthChecksOfSickNode.incrementAndGet();
+            send(exchange, 503, "{\"healthy\":false}");
+        });
+        healthyNode.start();
+        sickNode.start();
+
+        final EndpointPool pool = new EndpointPool(List.of(healthyNodeUrl), Strategy.LEAST_OUTSTANDING_REQUESTS, Duration.ofMinutes(1), Duration.ofMinutes(5), EndpointPool.DEFAULT_HEALTHCHECK_PATH);
+        final CircuitBreaker circuitBreaker = CircuitBreaker.builder()
+                                                            .withSlidingWindowSize(2)
+                                                            .withMinimumNumberOfCalls(1)
+                                                            .build();
+        final KillBillHttpClient httpClient = KillBillHttpClient.builder()
+                                                                .withKbServerUrl(healthyNodeUrl)
+                                                                .withEndpointPool(pool)
+                                                                .withRetryPolicy(RetryPolicy.builder().withInitialBackoff(Duration.ofMillis(1)).build())
+                                                                .withCircuitBreaker(circuitBreaker)
+                                                                .build();
+        try {
+            for (int i = 0; i < 3; i++) {
+                final List<Endpoint> endpoints = pool.refresh(httpClient, NodeInfo::getNodeName, RequestOptions.empty());
+                Assert.assertEquals(endpoints.size(), 3);
+                Assert.assertFalse(endpoints.get(0).isEjected());
+                Assert.assertTrue(endpoints.get(1).isEjected());
+                Assert.assertTrue(endpoints.get(2).isEjected());
+            }
+
+            // One probe per refresh, not retried, and not counted by the circuit breaker
+            Assert.assertEquals(healthChecksOfSickNode.get(), 3);
+            Assert.assertEquals(circuitBreaker.getState(EndpointPool.DEFAULT_HEALTHCHECK_PATH), CircuitBreaker.State.CLOSED);
+            Assert.assertFalse(circuitBreaker.getStates().containsKey(EndpointPool.DEFAULT_HEALTHCHECK_PATH));
+            Assert.assertEquals(pool.getEndpoints().get(0).getOutstandingRequests(), 0);
+        } finally {
+            httpClient.close();
+            healthyNode.stop(0);
+            sickNode.stop(0);
+        }
+    }
+
+    private static void send(final HttpExchange exchange, final int status, final String body) throws IOException {
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (final OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Endpoint acquire(final EndpointPool pool, final Endpoint expected) {
+        for (int i = 0; i < 1000; i++) {
+            final Endpoint endpoint = pool.acquire();
+            if (endpoint == expected) {
+                return endpoint;
+            }
+            pool.release(endpoint, 200, null);
+        }
+        throw new AssertionError("Unable to acquire " + expected);
+    }
+}
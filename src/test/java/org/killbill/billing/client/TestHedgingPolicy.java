@@ -0,0 +1,124 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.killbill.billing.client.model.gen.Account;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+public class TestHedgingPolicy {
+
+    @Test(groups = "fast")
+    public void testPercentileDelay() {
+        final HedgingPolicy hedgingPolicy = HedgingPolicy.builder()
+                                                         .withPercentile(95)
+                                                         .withInitialDelay(Duration.ofMillis(100))
+                                                         .build();
+        Assert.assertEquals(hedgingPolicy.getDelay(), Duration.ofMillis(100));
+
+        for (int i = 1; i <= HedgingPolicy.LATENCY_REFRESH_INTERVAL; i++) {
+            hedgingPolicy.recordLatency(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        Assert.assertEquals(hedgingPolicy.getDelay(), Duration.ofMillis(61));
+    }
+
+    @Test(groups = "fast")
+    public void testBudget() {
+        final HedgingPolicy hedgingPolicy = HedgingPolicy.builder().withMaxHedgeRatio(0.5).build();
+        for (int i = 0; i < 10; i++) {
+            Assert.assertTrue(hedgingPolicy.tryAcquireHedge());
+        }
+        Assert.assertFalse(hedgingPolicy.tryAcquireHedge());
+
+        hedgingPolicy.recordLatency(1);
+        hedgingPolicy.recordLatency(1);
+        Assert.assertTrue(hedgingPolicy.tryAcquireHedge());
+        Assert.assertFalse(hedgingPolicy.tryAcquireHedge());
+
+        Assert.assertEquals(hedgingPolicy.getHedgeCount(), 11);
+        Assert.assertEquals(hedgingPolicy.getBudgetExhaustedCount(), 2);
+        Assert.assertFalse(HedgingPolicy.builder().withMaxHedgeRatio(0).build().tryAcquireHedge());
+    }
+
+    @Test(groups = "fast")
+    public void testHedgedRequestWins() throws Exception {
+        final AtomicInteger requests = new AtomicInteger();
+        final HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/1.0/kb/accounts", exchange -> {
+            if (requests.incrementAndGet() % 2 == 1) {
+                // The primary request is stuck
+                try {
+                    Thread.sleep(2000);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            final byte[] body = "{\"name\":\"Jane\"}".getBytes();
+            exchange.sendResponseHeaders(200, body.length);
+            try (final OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            } catch (final IOException ignored) {
+                // Cancelled by the client
+            }
+        });
+        final ExecutorService serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        final HedgingPolicy hedgingPolicy = HedgingPolicy.builder()
+                                                         .withPercentile(0)
+                                                         .withInitialDelay(Duration.ofMillis(200))
+                                                         .build();
+        final KillBillHttpClient httpClient = KillBillHttpClient.builder()
+                                                                .withKbServerUrl(String.format("http://127.0.0.1:%d", server.getAddress().getPort()))
+                                                                .withHedgingPolicy(hedgingPolicy)
+                                                                .build();
+        try {
+            final long startNanos = System.nanoTime();
+            Assert.assertEquals(httpClient.doGet("/1.0/kb/accounts", Account.class, RequestOptions.empty()).getName(), "Jane");
+            Assert.assertEquals(httpClient.doGetAsync("/1.0/kb/accounts", Account.class, RequestOptions.empty()).get().getName(), "Jane");
+            Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) < 1500);
+
+            Assert.assertEquals(requests.get(), 4);
+            Assert.assertEquals(hedgingPolicy.getHedgeCount(), 2);
+            Assert.assertEquals(hedgingPolicy.getHedgeWinCount(), 2);
+
+            // Not hedged
+            try {
+                httpClient.doPost("/1.0/kb/accounts", new Account(), Account.class, RequestOptions.empty());
+            } catch (final KillBillClientException ignored) {
+            }
+            Assert.assertEquals(hedgingPolicy.getHedgeCount(), 2);
+        } finally {
+            httpClient.close();
+            server.stop(0);
+            serverExecutor.shutdownNow();
+        }
+    }
+}
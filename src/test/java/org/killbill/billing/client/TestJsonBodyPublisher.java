@@ -0,0 +1,115 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+
+import org.killbill.billing.client.model.gen.Account;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class TestJsonBodyPublisher {
+
+    private final ObjectMapper mapper = KillBillHttpClient.newObjectMapper();
+    private final JsonCodecs codecs = new JsonCodecs(mapper);
+
+    @Test(groups = "fast")
+    public void testSerialization() throws Exception {
+        final Account account = new Account().setAccountId(UUID.randomUUID()).setName("Jane").setExternalKey("jane");
+        final ByteChunkPool pool = new ByteChunkPool(16, 4);
+
+        final JsonBodyPublisher bodyPublisher = JsonBodyPublisher.create(codecs, account, pool, null);
+        final byte[] expected = mapper.writeValueAsBytes(account);
+        Assert.assertEquals(bodyPublisher.contentLength(), expected.length);
+        Assert.assertFalse(bodyPublisher.isGzipped());
+        // Can be sent several times
+        Assert.assertEquals(drain(bodyPublisher), expected);
+        Assert.assertEquals(drain(bodyPublisher), expected);
+
+        bodyPublisher.recycle();
+        Assert.assertEquals(pool.getPooledChunks(), 4);
+        try {
+            drain(bodyPublisher);
+            Assert.fail();
+        } catch (final IllegalStateException ignored) {
+        }
+
+        Assert.assertEquals(new String(drain(JsonBodyPublisher.create(codecs, null, pool, null)), StandardCharsets.UTF_8), "{}");
+        Assert.assertEquals(new String(drain(JsonBodyPublisher.create(codecs, "{\"name\":\"J\u00e4ne\"}", pool, null)), StandardCharsets.UTF_8), "{\"name\":\"J\u00e4ne\"}");
+    }
+
+    @Test(groups = "fast")
+    public void testCompression() throws Exception {
+        final String body = "{\"name\":\"" + "Jane".repeat(1000) + "\"}";
+        final ByteChunkPool pool = new ByteChunkPool(64, 16);
+
+        Assert.assertFalse(JsonBodyPublisher.create(codecs, body, pool, body.length() + 1).isGzipped());
+
+        final JsonBodyPublisher bodyPublisher = JsonBodyPublisher.create(codecs, body, pool, body.length());
+        Assert.assertTrue(bodyPublisher.isGzipped());
+        Assert.assertTrue(bodyPublisher.contentLength() < body.length());
+        final byte[] compressed = drain(bodyPublisher);
+        Assert.assertEquals(compressed.length, bodyPublisher.contentLength());
+        Assert.assertEquals(new String(new GZIPInputStream(new ByteArrayInputStream(compressed)).readAllBytes(), StandardCharsets.UTF_8), body);
+    }
+
+    private static byte[] drain(final JsonBodyPublisher bodyPublisher) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        bodyPublisher.subscribe(new Flow.Subscriber<>() {
+
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(final Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(final ByteBuffer item) {
+                final byte[] bytes = new byte[item.remaining()];
+                item.get(bytes);
+                out.write(bytes, 0, bytes.length);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(final Throwable throwable) {
+                failure.set(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        if (failure.get() instanceof IllegalStateException) {
+            throw (IllegalStateException) failure.get();
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,640 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.killbill.billing.client.api.gen.AccountApi;
+import org.killbill.billing.client.api.gen.AccountApiAsync;
+import org.killbill.billing.client.api.gen.AdminApiAsync;
+import org.killbill.billing.client.api.gen.InvoiceApiAsync;
+import org.killbill.billing.client.model.Accounts;
+import org.killbill.billing.client.model.Invoices;
+import org.killbill.billing.client.model.gen.Account;
+import org.killbill.billing.client.model.gen.Invoice;
+import org.killbill.billing.util.api.AuditLevel;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+public class TestKillBillHttpClient {
+
+    private static final UUID ACCOUNT_ID = UUID.fromString("7c6ae9d4-0b47-4c0c-bb2c-0f2a9f1e6a11");
+
+    private static final int NB_INVOICES = 5;
+
+    private final AtomicInteger invoicePageRequests = new AtomicInteger();
+    private final AtomicReference<String> lastAccountQuery = new AtomicReference<>();
+    // Counted down by the client once it has received the first part of the queue entries
+    private volatile CountDownLatch queueEntriesReceived = new CountDownLatch(1);
+    private final AtomicBoolean queueEntriesStreamed = new AtomicBoolean();
+
+    private HttpServer server;
+    private KillBillHttpClient httpClient;
+
+    @BeforeClass(groups = "fast")
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/1.0/kb/accounts", this::handleAccounts);
+        server.createContext("/1.0/kb/echo", TestKillBillHttpClient::handleEcho);
+        server.createContext("/1.0/kb/invoices/pagination", this::handleInvoicesPagination);
+        server.createContext("/1.0/kb/admin/queues", this::handleQueues);
+        server.createContext("/1.0/kb/slow", exchange -> {
+            try {
+                Thread.sleep(1000);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            send(exchange, 204, null);
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        httpClient = new KillBillHttpClient(String.format("http://127.0.0.1:%d", server.getAddress().getPort()), "admin", "password", "bob", "lazar");
+    }
+
+    @AfterClass(groups = "fast")
+    public void tearDown() {
+        httpClient.close();
+        server.stop(0);
+        ((ExecutorService) server.getExecutor()).shutdownNow();
+    }
+
+    @Test(groups = "fast")
+    public void testUriTemplate() {
+        Assert.assertEquals(KillBillHttpClient.toUriTemplate("/1.0/kb/payments/" + ACCOUNT_ID), "/1.0/kb/payments/{paymentId}");
+        Assert.assertEquals(KillBillHttpClient.toUriTemplate("/1.0/kb/accounts/" + ACCOUNT_ID + "/paymentMethods?refresh=true"), "/1.0/kb/accounts/{accountId}/paymentMethods");
+        Assert.assertEquals(KillBillHttpClient.toUriTemplate("http://127.0.0.1:8080/1.0/kb/invoices/" + ACCOUNT_ID + "/" + ACCOUNT_ID), "/1.0/kb/invoices/{invoiceId}/{id}");
+        Assert.assertEquals(KillBillHttpClient.toUriTemplate("/1.0/kb/invoices/byNumber/42"), "/1.0/kb/invoices/byNumber/{id}");
+        Assert.assertEquals(KillBillHttpClient.toUriTemplate("/1.0/kb/catalog"), "/1.0/kb/catalog");
+    }
+
+    @Test(groups = "fast")
+    public void testAsyncGet() throws Exception {
+        final Account account = new AccountApiAsync(httpClient).getAccount(ACCOUNT_ID, RequestOptions.empty()).get();
+        Assert.assertEquals(account.getAccountId(), ACCOUNT_ID);
+        Assert.assertEquals(account.getName(), "Jane");
+    }
+
+    @Test(groups = "fast")
+    public void testQueryParametersSortedByKey() throws Exception {
+        final RequestOptions requestOptions = RequestOptions.builder()
+                                                            .withQueryParams(Map.of("zeta", List.of("2", "1"), "alpha", List.of("a")))
+                                                            .build();
+        final String expectedQuery = "accountWithBalance=true&accountWithBalanceAndCBA=false&alpha=a&audit=MINIMAL&zeta=1&zeta=2";
+        new AccountApiAsync(httpClient).getAccount(ACCOUNT_ID, true, false, AuditLevel.MINIMAL, requestOptions).get();
+        // Stable order, whatever the insertion order: the URL can be signed or used as a cache key
+        Assert.assertEquals(lastAccountQuery.get(), expectedQuery);
+        lastAccountQuery.set(null);
+        // Same request built by the blocking API
+        new AccountApi(httpClient).getAccount(ACCOUNT_ID, true, false, AuditLevel.MINIMAL, requestOptions);
+        Assert.assertEquals(lastAccountQuery.get(), expectedQuery);
+    }
+
+    @Test(groups = "fast")
+    public void testAsyncStreamedResponse() throws Exception {
+        queueEntriesReceived = new CountDownLatch(1);
+        final CountDownLatch received = queueEntriesReceived;
+        final ByteArrayOutputStream entries = new ByteArrayOutputStream() {
+            @Override
+            public synchronized void write(final byte[] b, final int off, final int len) {
+                super.write(b, off, len);
+                received.countDown();
+            }
+        };
+
+        final int status = new AdminApiAsync(httpClient).getQueueEntries(ACCOUNT_ID, null, null, null, null, entries, RequestOptions.empty()).get(5, TimeUnit.SECONDS);
+        Assert.assertEquals(status, 200);
+        Assert.assertEquals(entries.toString(StandardCharsets.UTF_8), "{\"first\":true}\n{\"last\":true}\n");
+        // Written to the stream as it is received, not once the response is complete
+        Assert.assertTrue(queueEntriesStreamed.get());
+    }
+
+    @Test(groups = "fast")
+    public void testAsyncCancellation() throws Exception {
+        final TenantBulkhead tenantBulkhead = TenantBulkhead.builder()
+                                                            .withMaxConcurrentRequests(1)
+                                                            .withMaxWaitTime(Duration.ofSeconds(5))
+                                                            .build();
+        final KillBillHttpClient clientWithBulkhead = KillBillHttpClient.builder()
+                                                                        .withKbServerUrl(String.format("http://127.0.0.1:%d", server.getAddress().getPort()))
+                                                                        .withApiKey("bob")
+                                                                        .withTenantBulkhead(tenantBulkhead)
+                                                                        .build();
+        try {
+            final CompletableFuture<HttpResponse<InputStream>> inFlight = clientWithBulkhead.doGetAsync("/1.0/kb/slow", RequestOptions.empty());
+            final CompletableFuture<HttpResponse<InputStream>> queued = clientWithBulkhead.doGetAsync("/1.0/kb/slow", RequestOptions.empty());
+            Assert.assertEquals(tenantBulkhead.getStats("bob").getQueued(), 1);
+
+            queued.cancel(true);
+            Assert.assertEquals(tenantBulkhead.getStats("bob").getQueued(), 0);
+            inFlight.cancel(true);
+            // The exchange is aborted and the permit released, without waiting for the (slow) response
+            final Account account = new AccountApiAsync(clientWithBulkhead).getAccount(ACCOUNT_ID, RequestOptions.empty()).get(500, TimeUnit.MILLISECONDS);
+            Assert.assertEquals(account.getAccountId(), ACCOUNT_ID);
+            Assert.assertEquals(tenantBulkhead.getStats("bob").getInFlight(), 0);
+        } finally {
+            clientWithBulkhead.close();
+        }
+    }
+
+    @Test(groups = "fast")
+    public void testAsyncNotFoundReturnsEmptyResult() throws Exception {
+        final AccountApiAsync accountApi = new AccountApiAsync(httpClient);
+        Assert.assertNull(accountApi.getAccount(UUID.randomUUID(), RequestOptions.empty()).get());
+        final Accounts accounts = httpClient.doGetAsync("/1.0/kb/accounts/missing", Accounts.class, RequestOptions.empty()).get();
+        Assert.assertNotNull(accounts);
+        Assert.assertTrue(accounts.isEmpty());
+    }
+
+    @Test(groups = "fast")
+    public void testAsyncFollowLocation() throws Exception {
+        final Account account = new AccountApiAsync(httpClient).createAccount(new Account().setName("Jane"), RequestOptions.empty()).get();
+        Assert.assertEquals(account.getAccountId(), ACCOUNT_ID);
+    }
+
+    @Test(groups = "fast")
+    public void testAsyncBillingException() throws InterruptedException {
+        final CompletableFuture<Void> future = new AccountApiAsync(httpClient).closeAccount(ACCOUNT_ID, RequestOptions.empty());
+        try {
+            future.get();
+            Assert.fail("Expected a KillBillClientException");
+        } catch (final ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof KillBillClientException);
+            final KillBillClientException cause = (KillBillClientException) e.getCause();
+            Assert.assertEquals(cause.getResponse().statusCode(), 400);
+            Assert.assertEquals(cause.getBillingException().getMessage(), "Account is already closed");
+        }
+    }
+
+    @Test(groups = "fast")
+    public void testExchangeListener() throws Exception {
+        final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        final List<ExchangeEvent> parsedEvents = Collections.synchronizedList(new ArrayList<>());
+        final ExchangeListener listener = new ExchangeListener() {
+            @Override
+            public void onRequestStart(final ExchangeEvent event) {
+                events.add("start " + event.getVerb() + " " + event.getUriTemplate());
+            }
+
+            @Override
+            public void onResponseHeaders(final ExchangeEvent event) {
+                events.add("headers " + event.getStatus());
+            }
+
+            @Override
+            public void onBodyParsed(final ExchangeEvent event) {
+                events.add("parsed");
+                parsedEvents.add(event);
+            }
+
+            @Override
+            public void onFailure(final ExchangeEvent event, final Throwable failure) {
+                events.add("failure " + event.getStatus() + " " + failure.getClass().getSimpleName());
+            }
+        };
+        final LatencyRecorder latencyRecorder = new LatencyRecorder();
+        final KillBillHttpClient listenedClient = KillBillHttpClient.builder()
+                                                                    .withKbServerUrl(String.format("http://127.0.0.1:%d", server.getAddress().getPort()))
+                                                                    .withApiKey("bob")
+                                                                    .withExchangeListener(listener)
+                                                                    .withExchangeListener(latencyRecorder)
+                                                                    .build();
+        try {
+            final AccountApi accountApi = new AccountApi(listenedClient);
+            Assert.assertEquals(accountApi.getAccount(ACCOUNT_ID, RequestOptions.empty()).getName(), "Jane");
+            Assert.assertEquals(events, List.of("start GET /1.0/kb/accounts/{accountId}", "headers 200", "parsed"));
+            final ExchangeEvent get = parsedEvents.get(0);
+            Assert.assertEquals(get.getTenantApiKey(), "bob");
+            Assert.assertEquals(get.getBytesOut(), 0);
+            Assert.assertEquals(get.getBytesIn(), ("{\"accountId\":\"" + ACCOUNT_ID + "\",\"name\":\"Jane\"}").length());
+            Assert.assertTrue(get.getNetworkTimeNanos() > 0);
+            Assert.assertTrue(get.getDeserializationTimeNanos() > 0);
+
+            // Following the Location header is another exchange
+            events.clear();
+            parsedEvents.clear();
+            new AccountApiAsync(listenedClient).createAccount(new Account().setName("Jane"), RequestOptions.empty()).get();
+            Assert.assertEquals(events, List.of("start POST /1.0/kb/accounts", "headers 201", "parsed",
+                                                "start GET /1.0/kb/accounts/{accountId}", "headers 200", "parsed"));
+            Assert.assertTrue(parsedEvents.get(0).getBytesOut() > 0);
+
+            events.clear();
+            try {
+                accountApi.closeAccount(ACCOUNT_ID, RequestOptions.empty());
+                Assert.fail("Expected a KillBillClientException");
+            } catch (final KillBillClientException expected) {
+            }
+            Assert.assertEquals(events, List.of("start DELETE /1.0/kb/accounts/{accountId}", "headers 400", "failure 400 KillBillClientException"));
+
+            final Map<String, LatencyRecorder.EndpointSnapshot> latencies = latencyRecorder.snapshot();
+            Assert.assertEquals(latencies.keySet(), Set.of("GET /1.0/kb/accounts/{accountId}", "POST /1.0/kb/accounts", "DELETE /1.0/kb/accounts/{accountId}"));
+            Assert.assertEquals(latencies.get("GET /1.0/kb/accounts/{accountId}").getNetworkTimes().get("2xx").getCount(), 2);
+            Assert.assertEquals(latencies.get("GET /1.0/kb/accounts/{accountId}").getDeserializationTimes().get("2xx").getCount(), 2);
+            Assert.assertTrue(latencies.get("POST /1.0/kb/accounts").getDeserializationTimes().isEmpty());
+            Assert.assertEquals(latencies.get("DELETE /1.0/kb/accounts/{accountId}").getErrorRate(), 1.0);
+        } finally {
+            listenedClient.close();
+        }
+    }
+
+    @Test(groups = "fast")
+    public void testJfrEvents() throws Exception {
+        final Path recordingFile = Files.createTempFile("killbill-client", ".jfr");
+        try {
+            try (final Recording recording = new Recording()) {
+                recording.enable(ExchangeJfrEvent.NAME);
+                recording.enable(DeserializationJfrEvent.NAME);
+                recording.start();
+                Assert.assertEquals(new AccountApi(httpClient).getAccount(ACCOUNT_ID, RequestOptions.empty()).getName(), "Jane");
+                recording.stop();
+                recording.dump(recordingFile);
+            }
+
+            final List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+            final List<RecordedEvent> exchanges = events.stream().filter(event -> ExchangeJfrEvent.NAME.equals(event.getEventType().getName())).collect(Collectors.toList());
+            Assert.assertEquals(exchanges.size(), 1);
+            Assert.assertEquals(exchanges.get(0).getString("verb"), "GET");
+            Assert.assertEquals(exchanges.get(0).getString("pathTemplate"), "/1.0/kb/accounts/{accountId}");
+            Assert.assertEquals(exchanges.get(0).getInt("status"), 200);
+            Assert.assertTrue(exchanges.get(0).getLong("bytesIn") > 0);
+            Assert.assertFalse(exchanges.get(0).getDuration().isNegative());
+
+            final List<RecordedEvent> deserializations = events.stream().filter(event -> DeserializationJfrEvent.NAME.equals(event.getEventType().getName())).collect(Collectors.toList());
+            Assert.assertEquals(deserializations.size(), 1);
+            Assert.assertEquals(deserializations.get(0).getClass("targetClass").getName(), Account.class.getName());
+            Assert.assertEquals(deserializations.get(0).getLong("bytes"), exchanges.get(0).getLong("bytesIn"));
+        } finally {
+            Files.delete(recordingFile);
+        }
+    }
+
+    @Test(groups = "fast")
+    public void testCompressedResponse() throws Exception {
+        Assert.assertEquals(httpClient.doGet("/1.0/kb/echo", Account.class, RequestOptions.empty()).getName(), "Jane");
+        Assert.assertEquals(httpClient.doGetAsync("/1.0/kb/echo", Account.class, RequestOptions.empty()).get().getName(), "Jane");
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final HttpResponse<InputStream> response = httpClient.doGet("/1.0/kb/echo", outputStream, RequestOptions.empty());
+        // Headers describe the decoded body
+        Assert.assertFalse(response.headers().firstValue("Content-Encoding").isPresent());
+        Assert.assertFalse(response.headers().firstValue("Content-Length").isPresent());
+        Assert.assertEquals(outputStream.toString(StandardCharsets.UTF_8), "{\"name\":\"Jane\"}");
+
+        final HttpResponse<InputStream> asyncResponse = httpClient.doGetAsync("/1.0/kb/echo", RequestOptions.empty()).get();
+        Assert.assertFalse(asyncResponse.headers().firstValue("Content-Encoding").isPresent());
+        Assert.assertEquals(new String(asyncResponse.body().readAllBytes(), StandardCharsets.UTF_8), "{\"name\":\"Jane\"}");
+
+        final KillBillHttpClient uncompressedClient = KillBillHttpClient.builder()
+                                                                        .withKbServerUrl(String.format("http://127.0.0.1:%d", server.getAddress().getPort()))
+                                                                        .withResponseCompression(false)
+                                                                        .build();
+        try {
+            final HttpResponse<InputStream> uncompressed = uncompressedClient.doGet("/1.0/kb/echo", RequestOptions.empty());
+            Assert.assertFalse(uncompressed.headers().firstValue("Content-Encoding").isPresent());
+        } finally {
+            uncompressedClient.close();
+        }
+    }
+
+    @Test(groups = "fast")
+    public void testCompressedRequest() throws Exception {
+        final KillBillHttpClient compressingClient = KillBillHttpClient.builder()
+                                                                       .withKbServerUrl(String.format("http://127.0.0.1:%d", server.getAddress().getPort()))
+                                                                       .withRequestCompressionThreshold(64)
+                                                                       .build();
+        try {
+            final HttpResponse<InputStream> small = compressingClient.doPost("/1.0/kb/echo", "{\"name\":\"Jane\"}", RequestOptions.empty());
+            Assert.assertFalse(small.headers().firstValue("X-Request-Encoding").isPresent());
+
+            final String name = "Jane".repeat(100);
+            final HttpResponse<InputStream> large = compressingClient.doPost("/1.0/kb/echo", new Account().setName(name), RequestOptions.empty());
+            Assert.assertEquals(large.headers().firstValue("X-Request-Encoding").orElse(null), "gzip");
+            Assert.assertEquals(compressingClient.doPostAsync("/1.0/kb/echo", new Account().setName(name), Account.class, RequestOptions.empty()).get().getName(), name);
+        } finally {
+            compressingClient.close();
+        }
+    }
+
+    @Test(groups = "fast")
+    public void testIterator() throws Exception {
+        final List<String> invoiceNumbers = new ArrayList<>();
+        KillBillObjectsIterator<Invoice> page = httpClient.doGetIterator("/1.0/kb/invoices/pagination", Invoice.class, RequestOptions.empty());
+        Assert.assertEquals(page.getPaginationTotalNbRecords(), NB_INVOICES);
+        Assert.assertEquals(page.getPaginationNextOffset(), 2);
+        while (page != null) {
+            try (final KillBillObjectsIterator<Invoice> invoices = page) {
+                invoices.forEachRemaining(invoice -> invoiceNumbers.add(invoice.getInvoiceNumber()));
+            }
+            page = page.getNext();
+        }
+        Assert.assertEquals(invoiceNumbers, List.of("0", "1", "2", "3", "4"));
+
+        try (final Stream<Invoice> invoices = httpClient.doGetIterator("/1.0/kb/invoices/pagination?limit=10", Invoice.class, RequestOptions.empty()).stream()) {
+            Assert.assertEquals(invoices.count(), NB_INVOICES);
+        }
+
+        final KillBillObjectsIterator<Invoice> missing = httpClient.doGetIterator("/1.0/kb/accounts/missing", Invoice.class, RequestOptions.empty());
+        Assert.assertFalse(missing.hasNext());
+        Assert.assertNull(missing.getNext());
+    }
+
+    @Test(groups = "fast")
+    public void testPaginationCursor() throws Exception {
+        // The tenant only comes from the request options: it needs to be kept for the next pages
+        final KillBillHttpClient clientWithoutTenant = new KillBillHttpClient(String.format("http://127.0.0.1:%d", server.getAddress().getPort()), "admin", "password", null, null);
+        final RequestOptions requestOptions = RequestOptions.builder()
+                                                            .withTenantApiKey("bob")
+                                                            .withTenantApiSecret("lazar")
+                                                            .withQueryParams(Map.of("limit", List.of("1")))
+                                                            .build();
+        try {
+            final Invoices firstPage = clientWithoutTenant.doGet("/1.0/kb/invoices/pagination", Invoices.class, requestOptions);
+            Assert.assertEquals(firstPage.size(), 1);
+
+            final List<String> invoiceNumbers = new ArrayList<>();
+            try (final PaginationCursor<Invoice> cursor = new PaginationCursor<>(firstPage, Invoices.class, requestOptions, 2)) {
+                cursor.forEachRemaining(invoice -> invoiceNumbers.add(invoice.getInvoiceNumber()));
+            }
+            Assert.assertEquals(invoiceNumbers, List.of("0", "1", "2", "3", "4"));
+
+            final Invoices otherFirstPage = clientWithoutTenant.doGet("/1.0/kb/invoices/pagination", Invoices.class, requestOptions);
+            try (final Stream<Invoice> invoices = new PaginationCursor<>(otherFirstPage, Invoices.class, requestOptions, 1).stream()) {
+                Assert.assertEquals(invoices.count(), NB_INVOICES);
+            }
+            Assert.assertEquals(otherFirstPage.getNext(Invoices.class, requestOptions).get(0).getInvoiceNumber(), "1");
+        } finally {
+            clientWithoutTenant.close();
+        }
+    }
+
+    @Test(groups = "fast")
+    public void testParallelScanner() throws Exception {
+        final InvoiceApiAsync invoiceApi = new InvoiceApiAsync(httpClient);
+
+        final ParallelScanner orderedScanner = ParallelScanner.builder().withPageSize(2).withParallelism(3).build();
+        final int requestsBefore = invoicePageRequests.get();
+        try (final Stream<Invoice> invoices = orderedScanner.scan((offset, limit) -> invoiceApi.getInvoices(offset, limit, AuditLevel.NONE, RequestOptions.empty()))) {
+            Assert.assertEquals(invoices.map(Invoice::getInvoiceNumber).collect(Collectors.toList()), List.of("0", "1", "2", "3", "4"));
+        }
+        // No window past the total number of records
+        Assert.assertEquals(invoicePageRequests.get() - requestsBefore, 3);
+
+        final ParallelScanner unorderedScanner = ParallelScanner.builder().withPageSize(1).withParallelism(4).withPreserveOrder(false).build();
+        try (final Stream<Invoice> invoices = unorderedScanner.scan((offset, limit) -> invoiceApi.getInvoices(offset, limit, AuditLevel.NONE, RequestOptions.empty()))) {
+            Assert.assertEquals(invoices.map(Invoice::getInvoiceNumber).collect(Collectors.toSet()), Set.of("0", "1", "2", "3", "4"));
+        }
+    }
+
+    @Test(groups = "fast")
+    public void testCustomObjectMapper() throws Exception {
+        final ObjectMapper mapper = KillBillHttpClient.newObjectMapper();
+        mapper.addMixIn(Account.class, IgnoreName.class);
+        final KillBillHttpClient clientWithMapper = KillBillHttpClient.builder()
+                                                                      .withKbServerUrl(String.format("http://127.0.0.1:%d", server.getAddress().getPort()))
+                                                                      .withObjectMapper(mapper)
+                                                                      .build();
+        try {
+            Assert.assertNull(new AccountApi(clientWithMapper).getAccount(ACCOUNT_ID, RequestOptions.empty()).getName());
+            // Other clients keep the default mapper
+            Assert.assertEquals(new AccountApi(httpClient).getAccount(ACCOUNT_ID, RequestOptions.empty()).getName(), "Jane");
+        } finally {
+            clientWithMapper.close();
+        }
+    }
+
+    @JsonIgnoreProperties("name")
+    private abstract static class IgnoreName {}
+
+    @Test(groups = "fast")
+    public void testCustomExecutor() throws Exception {
+        final AtomicInteger tasks = new AtomicInteger();
+        final ExecutorService delegate = Executors.newFixedThreadPool(2);
+        final Executor executor = command -> {
+            tasks.incrementAndGet();
+            delegate.execute(command);
+        };
+
+        final KillBillHttpClient clientWithExecutor = KillBillHttpClient.builder()
+                                                                        .withKbServerUrl(String.format("http://127.0.0.1:%d", server.getAddress().getPort()))
+                                                                        .withExecutor(executor)
+                                                                        .withVirtualThreads(true)
+                                                                        .build();
+        try {
+            Assert.assertSame(clientWithExecutor.getExecutor(), executor);
+            final Account account = new AccountApiAsync(clientWithExecutor).getAccount(ACCOUNT_ID, RequestOptions.empty()).get();
+            Assert.assertEquals(account.getAccountId(), ACCOUNT_ID);
+            Assert.assertTrue(tasks.get() > 0);
+        } finally {
+            clientWithExecutor.close();
+            delegate.shutdown();
+        }
+    }
+
+    @Test(groups = "fast")
+    public void testMillisecondReadTimeout() {
+        final KillBillHttpClient clientWithTimeout = KillBillHttpClient.builder()
+                                                                       .withKbServerUrl(String.format("http://127.0.0.1:%d", server.getAddress().getPort()))
+                                                                       .withHttpVersion(HttpClient.Version.HTTP_1_1)
+                                                                       .withReadTimeout(Duration.ofMillis(200))
+                                                                       .build();
+        final long startNanos = System.nanoTime();
+        try {
+            clientWithTimeout.doGet("/1.0/kb/slow", RequestOptions.empty());
+            Assert.fail("Expected a timeout");
+        } catch (final KillBillClientException e) {
+            Assert.assertTrue(e.getCause() instanceof HttpTimeoutException);
+            // Not rounded up to a full second anymore
+            Assert.assertTrue(System.nanoTime() - startNanos < TimeUnit.MILLISECONDS.toNanos(900));
+        } finally {
+            clientWithTimeout.close();
+        }
+    }
+
+    @Test(groups = "fast")
+    public void testEndpointPoolEjectsUnreachableNode() throws Exception {
+        final String liveUrl = String.format("http://127.0.0.1:%d", server.getAddress().getPort());
+        // Nothing listens on port 1
+        final EndpointPool endpointPool = new EndpointPool(List.of("http://127.0.0.1:1", liveUrl));
+        final KillBillHttpClient clientWithPool = KillBillHttpClient.builder()
+                                                                    .withEndpointPool(endpointPool)
+                                                                    .build();
+        try {
+            final AccountApi accountApi = new AccountApi(clientWithPool);
+            int failures = 0;
+            for (int i = 0; i < 20; i++) {
+                try {
+                    Assert.assertEquals(accountApi.getAccount(ACCOUNT_ID, RequestOptions.empty()).getAccountId(), ACCOUNT_ID);
+                } catch (final KillBillClientException e) {
+                    failures++;
+                }
+            }
+            // At most one request hits the unreachable node before it is ejected
+            Assert.assertTrue(failures <= 1);
+            Assert.assertTrue(endpointPool.getEndpoints().get(0).isEjected() || failures == 0);
+            Assert.assertEquals(endpointPool.getEndpoints().get(1).getOutstandingRequests(), 0);
+        } finally {
+            clientWithPool.close();
+        }
+    }
+
+    private void handleAccounts(final HttpExchange exchange) throws IOException {
+        final String path = exchange.getRequestURI().getPath();
+        if ("POST".equals(exchange.getRequestMethod())) {
+            exchange.getResponseHeaders().add("Location", "/1.0/kb/accounts/" + ACCOUNT_ID);
+            send(exchange, 201, null);
+        } else if ("DELETE".equals(exchange.getRequestMethod())) {
+            send(exchange, 400, "{\"className\":\"org.killbill.billing.account.api.AccountApiException\",\"code\":7000,\"message\":\"Account is already closed\"}");
+        } else if (path.equals("/1.0/kb/accounts/" + ACCOUNT_ID)) {
+            lastAccountQuery.set(exchange.getRequestURI().getRawQuery());
+            send(exchange, 200, "{\"accountId\":\"" + ACCOUNT_ID + "\",\"name\":\"Jane\"}");
+        } else {
+            send(exchange, 404, null);
+        }
+    }
+
+    // Queue entries, sent in two parts: the second one once the client has received the first one (or after 2s)
+    private void handleQueues(final HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/octet-stream");
+        exchange.sendResponseHeaders(200, 0);
+        try (final OutputStream out = exchange.getResponseBody()) {
+            out.write("{\"first\":true}\n".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            try {
+                queueEntriesStreamed.set(queueEntriesReceived.await(2, TimeUnit.SECONDS));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            out.write("{\"last\":true}\n".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    // Pages of NB_INVOICES invoices (offset and limit query parameters), for tenant "bob" only
+    private void handleInvoicesPagination(final HttpExchange exchange) throws IOException {
+        invoicePageRequests.incrementAndGet();
+        if (!"bob".equals(exchange.getRequestHeaders().getFirst(JaxrsResource.HDR_API_KEY))) {
+            send(exchange, 401, null);
+            return;
+        }
+
+        int offset = 0;
+        int limit = 2;
+        final String query = exchange.getRequestURI().getQuery();
+        for (final String param : query == null ? new String[0] : query.split("&")) {
+            final String[] keyValue = param.split("=");
+            if ("offset".equals(keyValue[0])) {
+                offset = Integer.parseInt(keyValue[1]);
+            } else if ("limit".equals(keyValue[0])) {
+                limit = Integer.parseInt(keyValue[1]);
+            }
+        }
+
+        final StringBuilder body = new StringBuilder("[");
+        for (int i = offset; i < Math.min(offset + limit, NB_INVOICES); i++) {
+            body.append(i == offset ? "" : ",").append("{\"invoiceNumber\":\"").append(i).append("\",\"items\":[]}");
+        }
+        body.append("]");
+
+        exchange.getResponseHeaders().add(JaxrsResource.HDR_PAGINATION_CURRENT_OFFSET, String.valueOf(offset));
+        exchange.getResponseHeaders().add(JaxrsResource.HDR_PAGINATION_TOTAL_NB_RECORDS, String.valueOf(NB_INVOICES));
+        exchange.getResponseHeaders().add(JaxrsResource.HDR_PAGINATION_MAX_NB_RECORDS, String.valueOf(NB_INVOICES));
+        if (offset + limit < NB_INVOICES) {
+            exchange.getResponseHeaders().add(JaxrsResource.HDR_PAGINATION_NEXT_OFFSET, String.valueOf(offset + limit));
+            exchange.getResponseHeaders().add(JaxrsResource.HDR_PAGINATION_NEXT_PAGE_URI, "/1.0/kb/invoices/pagination?offset=" + (offset + limit) + "&limit=" + limit);
+        }
+        send(exchange, 200, body.toString());
+    }
+
+    // Echo the (decompressed) request body, compressed if the client accepts it
+    private static void handleEcho(final HttpExchange exchange) throws IOException {
+        byte[] body = exchange.getRequestBody().readAllBytes();
+        if ("gzip".equals(exchange.getRequestHeaders().getFirst("Content-Encoding"))) {
+            exchange.getResponseHeaders().add("X-Request-Encoding", "gzip");
+            body = new GZIPInputStream(new ByteArrayInputStream(body)).readAllBytes();
+        }
+        if (body.length == 0) {
+            body = "{\"name\":\"Jane\"}".getBytes(StandardCharsets.UTF_8);
+        }
+
+        final String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (final GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+                out.write(body);
+            }
+            body = compressed.toByteArray();
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (final OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+
+    private static void send(final HttpExchange exchange, final int status, final String body) throws IOException {
+        final byte[] bytes = body == null ? new byte[0] : body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (final OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.killbill.billing.client.LatencyRecorder.EndpointSnapshot;
+import org.killbill.billing.client.LatencyRecorder.Histogram;
+import org.killbill.billing.client.LatencyRecorder.LatencySnapshot;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class TestLatencyRecorder {
+
+    private static final String GET_ACCOUNT = "GET /1.0/kb/accounts/{accountId}";
+
+    @Test(groups = "fast")
+    public void testBuckets() {
+        int previousIndex = -1;
+        for (long micros = 0; micros < (1L << 32); micros = micros < 100000 ? micros + 1 : micros + micros / 7) {
+            final int index = Histogram.bucketIndex(micros);
+            Assert.assertTrue(index >= previousIndex);
+            previousIndex = index;
+
+            final long bucketMax = Histogram.bucketMaxMicros(index);
+            Assert.assertTrue(bucketMax >= micros);
+            Assert.assertTrue(bucketMax - micros <= micros / 32, micros + " in bucket up to " + bucketMax);
+            Assert.assertEquals(Histogram.bucketIndex(bucketMax), index);
+        }
+    }
+
+    @Test(groups = "fast")
+    public void testPercentiles() {
+        final LatencyRecorder recorder = new LatencyRecorder();
+        for (int millis = 1; millis <= 1000; millis++) {
+            recorder.recordNetworkTime(GET_ACCOUNT, 200, TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+        recorder.recordNetworkTime(GET_ACCOUNT, 503, TimeUnit.MILLISECONDS.toNanos(5));
+
+        final Map<String, LatencySnapshot> networkTimes = recorder.snapshot().get(GET_ACCOUNT).getNetworkTimes();
+        Assert.assertEquals(networkTimes.keySet(), List.of("2xx", "5xx"));
+
+        final LatencySnapshot ok = networkTimes.get("2xx");
+        Assert.assertEquals(ok.getCount(), 1000);
+        assertWithinBucket(ok.getP50Nanos(), TimeUnit.MILLISECONDS.toNanos(500));
+        assertWithinBucket(ok.getP90Nanos(), TimeUnit.MILLISECONDS.toNanos(900));
+        assertWithinBucket(ok.getP99Nanos(), TimeUnit.MILLISECONDS.toNanos(990));
+        Assert.assertEquals(ok.getMaxNanos(), TimeUnit.MILLISECONDS.toNanos(1000));
+
+        final LatencySnapshot unavailable = networkTimes.get("5xx");
+        Assert.assertEquals(unavailable.getCount(), 1);
+        Assert.assertEquals(unavailable.getP50Nanos(), TimeUnit.MILLISECONDS.toNanos(5));
+    }
+
+    @Test(groups = "fast")
+    public void testErrorRateAndReset() {
+        final LatencyRecorder recorder = new LatencyRecorder();
+        for (int i = 0; i < 3; i++) {
+            recorder.recordNetworkTime(GET_ACCOUNT, 200, 2000000);
+            recorder.recordDeserializationTime(GET_ACCOUNT, 200, 30000);
+            recorder.recordCompletion(GET_ACCOUNT, false);
+        }
+        recorder.recordCompletion(GET_ACCOUNT, true);
+
+        final EndpointSnapshot snapshot = recorder.snapshotAndReset().get(GET_ACCOUNT);
+        Assert.assertEquals(snapshot.getCount(), 4);
+        Assert.assertEquals(snapshot.getErrorCount(), 1);
+        Assert.assertEquals(snapshot.getErrorRate(), 0.25);
+        Assert.assertEquals(snapshot.getDeserializationTimes().get("2xx").getCount(), 3);
+        Assert.assertEquals(snapshot.getDeserializationTimes().get("2xx").getP99Nanos(), 30000);
+        Assert.assertFalse(snapshot.getNetworkTimes().containsKey("none"));
+
+        Assert.assertTrue(recorder.snapshot().isEmpty());
+        recorder.recordCompletion(GET_ACCOUNT, true);
+        recorder.reset();
+        Assert.assertTrue(recorder.snapshot().isEmpty());
+    }
+
+    @Test(groups = "fast")
+    public void testConcurrentRecording() throws InterruptedException {
+        final LatencyRecorder recorder = new LatencyRecorder();
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            final Thread thread = new Thread(() -> {
+                for (int j = 0; j < 25000; j++) {
+                    recorder.recordNetworkTime(GET_ACCOUNT, 200, 1000L * (j % 5000));
+                    recorder.recordCompletion(GET_ACCOUNT, false);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        final EndpointSnapshot snapshot = recorder.snapshot().get(GET_ACCOUNT);
+        Assert.assertEquals(snapshot.getCount(), 100000);
+        Assert.assertEquals(snapshot.getNetworkTimes().get("2xx").getCount(), 100000);
+        Assert.assertEquals(snapshot.getNetworkTimes().get("2xx").getMaxNanos(), 4999000);
+    }
+
+    private static void assertWithinBucket(final long actualNanos, final long expectedNanos) {
+        Assert.assertTrue(actualNanos >= expectedNanos && actualNanos <= expectedNanos + expectedNanos / 32, actualNanos + " vs " + expectedNanos);
+    }
+}
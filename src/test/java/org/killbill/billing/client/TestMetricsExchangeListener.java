@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class TestMetricsExchangeListener {
+
+    @Test(groups = "fast")
+    public void testUriCardinality() {
+        final List<Map<String, String>> requests = new ArrayList<>();
+        final MetricsExchangeListener listener = new MetricsExchangeListener() {
+            @Override
+            protected void recordTime(final String name, final Map<String, String> tags, final long nanos) {
+            }
+
+            @Override
+            protected void recordSize(final String name, final Map<String, String> tags, final long bytes) {
+            }
+
+            @Override
+            protected void increment(final String name, final Map<String, String> tags) {
+                requests.add(tags);
+            }
+        };
+
+        complete(listener, "/1.0/kb/accounts/{accountId}");
+        Assert.assertEquals(requests.get(0).get(MetricsExchangeListener.TAG_URI), "/1.0/kb/accounts/{accountId}");
+        Assert.assertEquals(requests.get(0).get(MetricsExchangeListener.TAG_TENANT), MetricsExchangeListener.NONE);
+
+        // e.g. raw requests embedding user names
+        for (int i = 1; i < BoundedKeyMap.MAX_KEYS; i++) {
+            complete(listener, "/1.0/kb/security/users/user" + i + "/roles");
+        }
+        complete(listener, "/1.0/kb/security/users/jane/roles");
+        Assert.assertEquals(requests.get(requests.size() - 1).get(MetricsExchangeListener.TAG_URI), MetricsExchangeListener.OVERFLOW_URI);
+
+        // Already seen
+        complete(listener, "/1.0/kb/accounts/{accountId}");
+        Assert.assertEquals(requests.get(requests.size() - 1).get(MetricsExchangeListener.TAG_URI), "/1.0/kb/accounts/{accountId}");
+    }
+
+    private static void complete(final ExchangeListener listener, final String uriTemplate) {
+        new ExchangeEvent(new ExchangeListener[]{listener}, "GET", uriTemplate, null, 0, null).bodyParsed();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class TestPathTemplate {
+
+    @Test(groups = "fast")
+    public void testExpand() {
+        final UUID accountId = UUID.randomUUID();
+        final UUID paymentMethodId = UUID.randomUUID();
+
+        final PathTemplate template = PathTemplate.compile("/1.0/kb/accounts/{accountId}/paymentMethods/{paymentMethodId}/setDefault");
+        Assert.assertEquals(template.getParameters(), List.of("accountId", "paymentMethodId"));
+        Assert.assertEquals(template.expand(accountId, paymentMethodId), "/1.0/kb/accounts/" + accountId + "/paymentMethods/" + paymentMethodId + "/setDefault");
+
+        Assert.assertEquals(PathTemplate.compile("/1.0/kb/accounts/{accountId}").expand(accountId), "/1.0/kb/accounts/" + accountId);
+        Assert.assertEquals(PathTemplate.compile("/1.0/kb/usages/{subscriptionId}/{unitType}").expand("s", "u"), "/1.0/kb/usages/s/u");
+        Assert.assertEquals(PathTemplate.compile("/1.0/kb/accounts/pagination").expand(), "/1.0/kb/accounts/pagination");
+    }
+
+    @Test(groups = "fast")
+    public void testExpandEncodesValues() {
+        final PathTemplate template = PathTemplate.compile("/1.0/kb/accounts/search/{searchKey}");
+        Assert.assertEquals(template.expand("john doe@example.com"), "/1.0/kb/accounts/search/john%20doe%40example.com");
+        // Not a regular expression replacement
+        Assert.assertEquals(template.expand("$1\\"), "/1.0/kb/accounts/search/%241%5C");
+        // Values are expected raw: already encoded ones are encoded again
+        Assert.assertEquals(template.expand("john%20doe%40example.com"), "/1.0/kb/accounts/search/john%2520doe%2540example.com");
+    }
+
+    @Test(groups = "fast", expectedExceptions = IllegalArgumentException.class)
+    public void testExpandWrongArity() {
+        PathTemplate.compile("/1.0/kb/accounts/{accountId}/emails/{email}").expand(UUID.randomUUID());
+    }
+}
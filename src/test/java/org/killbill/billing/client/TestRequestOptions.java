@@ -37,6 +37,53 @@ public class TestRequestOptions {
         requestOptionsWithMutableMapValues();
     }
 
+    @Test(groups = "fast")
+    public void testImmutableGetters() {
+        final RequestOptions requestOptions = RequestOptions.builder()
+                                                            .withHeader("X-Header", "value")
+                                                            .withQueryParams(Map.of("key1", new ArrayList<>(List.of("1.1"))))
+                                                            .withQueryParamsForFollow(Map.of("key2", List.of("2.1")))
+                                                            .build();
+
+        // Since 1.5.2, the getters return the (shared) maps of the options instead of copies
+        assertUnmodifiable(requestOptions.getHeaders(), "X-Other", "value");
+        assertUnmodifiable(requestOptions.getQueryParams(), "key3", List.of("3.1"));
+        assertUnmodifiable(requestOptions.getQueryParamsForFollow(), "key3", List.of("3.1"));
+        try {
+            requestOptions.getQueryParams().get("key1").add("1.2");
+            Assert.fail("Query parameter values should be immutable");
+        } catch (final UnsupportedOperationException ignored) {
+        }
+
+        // Copies are mutable, and don't change the options
+        final Map<String, Collection<String>> queryParams = new HashMap<>(requestOptions.getQueryParams());
+        queryParams.put("key3", List.of("3.1"));
+        Assert.assertEquals(requestOptions.getQueryParams(), Map.of("key1", List.of("1.1")));
+
+        // Derived options don't change the original ones either
+        final RequestOptions derived = requestOptions.extend()
+                                                     .withHeader("X-Other", "value")
+                                                     .withQueryParams(queryParams)
+                                                     .build();
+        Assert.assertEquals(derived.getHeaders(), Map.of("X-Header", "value", "X-Other", "value"));
+        Assert.assertEquals(derived.getQueryParams(), Map.of("key1", List.of("1.1"), "key3", List.of("3.1")));
+        Assert.assertEquals(requestOptions.getHeaders(), Map.of("X-Header", "value"));
+        Assert.assertEquals(requestOptions.getQueryParams(), Map.of("key1", List.of("1.1")));
+    }
+
+    private static <V> void assertUnmodifiable(final Map<String, V> map, final String key, final V value) {
+        try {
+            map.put(key, value);
+            Assert.fail("Map should be immutable: " + map);
+        } catch (final UnsupportedOperationException ignored) {
+        }
+        try {
+            map.clear();
+            Assert.fail("Map should be immutable: " + map);
+        } catch (final UnsupportedOperationException ignored) {
+        }
+    }
+
     void requestOptionsWithImmutableMapValues() {
         // Let's consider scenario a user using the java client:
         final Map<String, Collection<String>> queryParams = new HashMap<>();
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.killbill.billing.client.model.gen.Account;
+import org.killbill.billing.client.model.gen.PaymentTransaction;
+import org.killbill.billing.client.model.gen.Subscription;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+public class TestRetryPolicy {
+
+    @Test(groups = "fast")
+    public void testIsRetryable() {
+        final RetryPolicy retryPolicy = RetryPolicy.builder().build();
+
+        Assert.assertTrue(retryPolicy.isRetryable("GET", null, RequestOptions.empty()));
+        Assert.assertTrue(retryPolicy.isRetryable("HEAD", null, RequestOptions.empty()));
+
+        // Could double-charge
+        Assert.assertFalse(retryPolicy.isRetryable("POST", new PaymentTransaction(), RequestOptions.empty()));
+        Assert.assertFalse(retryPolicy.isRetryable("PUT", "{}", RequestOptions.empty()));
+        Assert.assertFalse(retryPolicy.isRetryable("DELETE", null, RequestOptions.empty()));
+
+        // The request id is only used for correlation
+        Assert.assertFalse(retryPolicy.isRetryable("POST", new PaymentTransaction(), RequestOptions.builder().withRequestId("request-1").build()));
+        // Capture identified by its parent payment only
+        Assert.assertFalse(retryPolicy.isRetryable("POST", new PaymentTransaction().setPaymentExternalKey("payment-1"), RequestOptions.empty()));
+        // Add-on identified by its base bundle only
+        Assert.assertFalse(retryPolicy.isRetryable("POST", new Subscription().setBundleExternalKey("bundle-1"), RequestOptions.empty()));
+        Assert.assertFalse(retryPolicy.isRetryable("PUT", new Account().setExternalKey("account-1"), RequestOptions.empty()));
+
+        Assert.assertTrue(retryPolicy.isRetryable("POST", new PaymentTransaction().setTransactionExternalKey("tx-1"), RequestOptions.empty()));
+        Assert.assertTrue(retryPolicy.isRetryable("POST", new Account().setExternalKey("account-1"), RequestOptions.empty()));
+
+        final RetryPolicy retryNonIdempotent = RetryPolicy.builder().withRetryNonIdempotent(true).build();
+        Assert.assertTrue(retryNonIdempotent.isRetryable("POST", new PaymentTransaction().setPaymentExternalKey("payment-1"), RequestOptions.empty()));
+        Assert.assertTrue(retryNonIdempotent.isRetryable("DELETE", null, RequestOptions.empty()));
+
+        Assert.assertFalse(RetryPolicy.none().isRetryable("GET", null, RequestOptions.empty()));
+    }
+
+    @Test(groups = "fast")
+    public void testBackoff() {
+        final RetryPolicy retryPolicy = RetryPolicy.builder()
+                                                   .withMaxAttempts(10)
+                                                   .withInitialBackoff(Duration.ofMillis(100))
+                                                   .withMaxBackoff(Duration.ofMillis(400))
+                                                   .build();
+        for (int i = 0; i < 100; i++) {
+            Assert.assertTrue(retryPolicy.getBackoffMillis(1, null) < 100);
+            Assert.assertTrue(retryPolicy.getBackoffMillis(2, null) < 200);
+            Assert.assertTrue(retryPolicy.getBackoffMillis(8, null) < 400);
+        }
+    }
+
+    @Test(groups = "fast")
+    public void testRetryUntilSuccess() throws Exception {
+        final AtomicInteger requests = new AtomicInteger();
+        final HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/1.0/kb/accounts", exchange -> {
+            final byte[] body = "{\"name\":\"Jane\"}".getBytes();
+            exchange.sendResponseHeaders(requests.incrementAndGet() <= 2 ? 503 : 200, body.length);
+            try (final OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+
+        final RetryPolicy retryPolicy = RetryPolicy.builder().withInitialBackoff(Duration.ofMillis(10)).build();
+        final KillBillHttpClient httpClient = KillBillHttpClient.builder()
+                                                                .withKbServerUrl(String.format("http://127.0.0.1:%d", server.getAddress().getPort()))
+                                                                .withRetryPolicy(retryPolicy)
+                                                                .build();
+        try {
+            Assert.assertEquals(httpClient.doGet("/1.0/kb/accounts", Account.class, RequestOptions.empty()).getName(), "Jane");
+            Assert.assertEquals(requests.get(), 3);
+            Assert.assertEquals(retryPolicy.getRetryCount(), 2);
+
+            requests.set(0);
+            Assert.assertEquals(httpClient.doGetAsync("/1.0/kb/accounts", Account.class, RequestOptions.empty()).get().getName(), "Jane");
+            Assert.assertEquals(requests.get(), 3);
+            Assert.assertEquals(retryPolicy.getRetryCount(), 4);
+
+            // Not retried: no external key
+            requests.set(0);
+            try {
+                httpClient.doPost("/1.0/kb/accounts", new Account(), Account.class, RequestOptions.empty());
+                Assert.fail();
+            } catch (final KillBillClientException e) {
+                Assert.assertEquals(e.getResponse().statusCode(), 503);
+            }
+            Assert.assertEquals(requests.get(), 1);
+
+            // Exhausted
+            requests.set(-10);
+            final HttpResponse<?> response = httpClient.doPost("/1.0/kb/accounts", new Account().setExternalKey("jane"), RequestOptions.empty());
+            Assert.assertNull(response);
+        } catch (final KillBillClientException e) {
+            Assert.assertEquals(e.getResponse().statusCode(), 503);
+            Assert.assertEquals(requests.get(), -7);
+            Assert.assertEquals(retryPolicy.getExhaustedCount(), 1);
+        } finally {
+            httpClient.close();
+            server.stop(0);
+        }
+    }
+}
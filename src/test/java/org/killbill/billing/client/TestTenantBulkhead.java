@@ -0,0 +1,228 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+public class TestTenantBulkhead {
+
+    @Test(groups = "fast")
+    public void testRejectOverConcurrencyLimit() throws Exception {
+        final TenantBulkhead tenantBulkhead = TenantBulkhead.builder().withMaxConcurrentRequests(1).build();
+
+        final TenantBulkhead.Permit permit = tenantBulkhead.acquire("tenant1").get();
+        assertRejected(tenantBulkhead.acquire("tenant1"), "tenant1");
+        tenantBulkhead.acquire("tenant2").get().release();
+        tenantBulkhead.acquire(null).get().release();
+
+        permit.release();
+        tenantBulkhead.acquire("tenant1").get().release();
+
+        Assert.assertEquals(tenantBulkhead.getStats("tenant1").getAcquiredCount(), 2);
+        Assert.assertEquals(tenantBulkhead.getStats("tenant1").getRejectedCount(), 1);
+        Assert.assertEquals(tenantBulkhead.getStats("tenant1").getInFlight(), 0);
+        Assert.assertEquals(tenantBulkhead.getStats().size(), 3);
+    }
+
+    @Test(groups = "fast")
+    public void testWaitForPermit() throws Exception {
+        final TenantBulkhead tenantBulkhead = TenantBulkhead.builder()
+                                                            .withMaxConcurrentRequests(1)
+                                                            .withMaxWaitTime(Duration.ofMillis(200))
+                                                            .build();
+
+        final TenantBulkhead.Permit permit = tenantBulkhead.acquire("tenant1").get();
+        final CompletableFuture<TenantBulkhead.Permit> waiting = tenantBulkhead.acquire("tenant1");
+        Assert.assertFalse(waiting.isDone());
+        Assert.assertEquals(tenantBulkhead.getStats("tenant1").getQueued(), 1);
+
+        Thread.sleep(20);
+        permit.release();
+        final TenantBulkhead.Permit second = waiting.get(1, TimeUnit.SECONDS);
+        Assert.assertTrue(tenantBulkhead.getStats("tenant1").getMaxQueueTime().toMillis() >= 20);
+
+        // Nobody releases the permit
+        assertRejected(tenantBulkhead.acquire("tenant1"), "tenant1");
+        second.release();
+    }
+
+    @Test(groups = "fast")
+    public void testCancelWaiter() throws Exception {
+        final TenantBulkhead tenantBulkhead = TenantBulkhead.builder()
+                                                            .withMaxConcurrentRequests(1)
+                                                            .withMaxWaitTime(Duration.ofSeconds(5))
+                                                            .build();
+
+        final TenantBulkhead.Permit permit = tenantBulkhead.acquire("tenant1").get();
+        final CompletableFuture<TenantBulkhead.Permit> cancelled = tenantBulkhead.acquire("tenant1");
+        final CompletableFuture<TenantBulkhead.Permit> waiting = tenantBulkhead.acquire("tenant1");
+        cancelled.cancel(false);
+        Assert.assertEquals(tenantBulkhead.getStats("tenant1").getQueued(), 1);
+
+        // The permit goes to the next waiter, not to the cancelled one
+        permit.release();
+        waiting.get(1, TimeUnit.SECONDS).release();
+        Assert.assertEquals(tenantBulkhead.getStats("tenant1").getInFlight(), 0);
+        Assert.assertEquals(tenantBulkhead.getStats("tenant1").getQueued(), 0);
+    }
+
+    @Test(groups = "fast")
+    public void testInterruptWhileWaiting() throws Exception {
+        final KillBillHttpClient httpClient = KillBillHttpClient.builder()
+                                                                .withKbServerUrl("http://127.0.0.1:1")
+                                                                .withTenantBulkhead(TenantBulkhead.builder()
+                                                                                                  .withMaxConcurrentRequests(1)
+                                                                                                  .withMaxWaitTime(Duration.ofSeconds(5))
+                                                                                                  .build())
+                                                                .build();
+        final TenantBulkhead tenantBulkhead = httpClient.getTenantBulkhead();
+        try {
+            final TenantBulkhead.Permit permit = tenantBulkhead.acquire("tenant1").get();
+            final Thread thread = new Thread(() -> {
+                try {
+                    httpClient.doGet("/1.0/kb/accounts", Object.class, RequestOptions.builder().withTenantApiKey("tenant1").build());
+                } catch (final KillBillClientException ignored) {
+                }
+            });
+            thread.start();
+            while (tenantBulkhead.getStats("tenant1").getQueued() == 0) {
+                Thread.sleep(5);
+            }
+            thread.interrupt();
+            thread.join(5000);
+
+            Assert.assertEquals(tenantBulkhead.getStats("tenant1").getQueued(), 0);
+            permit.release();
+            Assert.assertEquals(tenantBulkhead.getStats("tenant1").getInFlight(), 0);
+        } finally {
+            httpClient.close();
+        }
+    }
+
+    @Test(groups = "fast")
+    public void testRateLimit() throws Exception {
+        final TenantBulkhead tenantBulkhead = TenantBulkhead.builder()
+                                                            .withRateLimit(20, 1)
+                                                            .withMaxWaitTime(Duration.ofSeconds(1))
+                                                            .build();
+
+        final long startNanos = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            tenantBulkhead.acquire("tenant1").get(2, TimeUnit.SECONDS).release();
+        }
+        // 1 token available right away, then 1 every 50ms
+        Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) >= 90);
+        Assert.assertEquals(tenantBulkhead.getStats("tenant1").getAcquiredCount(), 3);
+    }
+
+    @Test(groups = "fast")
+    public void testRateLimitAfterRelease() throws Exception {
+        final TenantBulkhead tenantBulkhead = TenantBulkhead.builder()
+                                                            .withMaxConcurrentRequests(1)
+                                                            .withRateLimit(1, 1)
+                                                            .withMaxWaitTime(Duration.ofSeconds(5))
+                                                            .build();
+
+        final TenantBulkhead.Permit permit = tenantBulkhead.acquire("tenant1").get();
+        final CompletableFuture<TenantBulkhead.Permit> first = tenantBulkhead.acquire("tenant1");
+        final CompletableFuture<TenantBulkhead.Permit> second = tenantBulkhead.acquire("tenant1");
+        Assert.assertEquals(tenantBulkhead.getStats("tenant1").getQueued(), 2);
+
+        // The concurrency slot is free, but the next token is only available in a second
+        permit.release();
+        Assert.assertFalse(first.isDone());
+        first.get(3, TimeUnit.SECONDS);
+        Assert.assertFalse(second.isDone());
+        Assert.assertEquals(tenantBulkhead.getStats("tenant1").getQueued(), 1);
+    }
+
+    @Test(groups = "fast")
+    public void testTenantIsolation() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/1.0/kb/accounts", exchange -> {
+            if ("tenant1".equals(exchange.getRequestHeaders().getFirst(JaxrsResource.HDR_API_KEY))) {
+                try {
+                    latch.await(5, TimeUnit.SECONDS);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        final ExecutorService serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        final KillBillHttpClient httpClient = KillBillHttpClient.builder()
+                                                                .withKbServerUrl(String.format("http://127.0.0.1:%d", server.getAddress().getPort()))
+                                                                .withTenantBulkhead(TenantBulkhead.builder().withMaxConcurrentRequests(1).build())
+                                                                .build();
+        final RequestOptions tenant1 = RequestOptions.builder().withTenantApiKey("tenant1").build();
+        final RequestOptions tenant2 = RequestOptions.builder().withTenantApiKey("tenant2").build();
+        try {
+            final CompletableFuture<Object> inFlight = httpClient.doGetAsync("/1.0/kb/accounts", Object.class, tenant1);
+            while (httpClient.getTenantBulkhead().getStats("tenant1").getInFlight() == 0) {
+                Thread.sleep(5);
+            }
+
+            try {
+                httpClient.doGet("/1.0/kb/accounts", Object.class, tenant1);
+                Assert.fail();
+            } catch (final KillBillClientException e) {
+                Assert.assertTrue(e.getCause() instanceof TenantLimitExceededException);
+            }
+            Assert.assertNull(httpClient.doGet("/1.0/kb/accounts", Object.class, tenant2));
+
+            latch.countDown();
+            Assert.assertNull(inFlight.get(5, TimeUnit.SECONDS));
+            Assert.assertEquals(httpClient.getTenantBulkhead().getStats("tenant1").getInFlight(), 0);
+        } finally {
+            latch.countDown();
+            httpClient.close();
+            server.stop(0);
+            serverExecutor.shutdownNow();
+        }
+    }
+
+    private static void assertRejected(final CompletableFuture<TenantBulkhead.Permit> future, final String apiKey) throws InterruptedException {
+        try {
+            future.get(1, TimeUnit.SECONDS);
+            Assert.fail();
+        } catch (final ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof KillBillClientException);
+            Assert.assertEquals(((TenantLimitExceededException) e.getCause().getCause()).getApiKey(), apiKey);
+        } catch (final TimeoutException e) {
+            Assert.fail("Request should have been rejected");
+        }
+    }
+}
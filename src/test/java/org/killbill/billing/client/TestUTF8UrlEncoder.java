@@ -0,0 +1,59 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.UUID;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class TestUTF8UrlEncoder {
+
+    @Test(groups = "fast")
+    public void testSafeStringsAreNotCopied() {
+        final String uuid = UUID.randomUUID().toString();
+        Assert.assertSame(UTF8UrlEncoder.encode(uuid), uuid);
+        Assert.assertSame(UTF8UrlEncoder.encode("EXTERNAL_PAYMENT", true), "EXTERNAL_PAYMENT");
+        Assert.assertEquals(UTF8UrlEncoder.appendEncoded(new StringBuilder("a="), uuid).toString(), "a=" + uuid);
+    }
+
+    @Test(groups = "fast")
+    public void testEncode() {
+        Assert.assertEquals(UTF8UrlEncoder.encode("a b"), "a%20b");
+        Assert.assertEquals(UTF8UrlEncoder.encode("a b", true), "a+b");
+        Assert.assertEquals(UTF8UrlEncoder.encode("key=v\u00e4l\u20ac\ud83d\ude00"), "key%3Dv%C3%A4l%E2%82%AC%F0%9F%98%80");
+
+        // Same as the JDK, modulo the RFC-3986 unreserved characters
+        final Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            final StringBuilder input = new StringBuilder();
+            for (int j = 0; j < 10; j++) {
+                input.appendCodePoint(random.nextBoolean() ? 32 + random.nextInt(95) : 128 + random.nextInt(Character.MIN_SURROGATE - 128));
+            }
+            final String expected = URLEncoder.encode(input.toString(), StandardCharsets.UTF_8).replace("*", "%2A").replace("%7E", "~");
+            Assert.assertEquals(UTF8UrlEncoder.encode(input, true), expected);
+
+            final byte[] buffer = new byte[UTF8UrlEncoder.encodedLength(input, true) + 1];
+            Assert.assertEquals(UTF8UrlEncoder.encode(input, true, buffer, 1), buffer.length);
+            Assert.assertEquals(new String(buffer, 1, buffer.length - 1, StandardCharsets.US_ASCII), expected);
+        }
+    }
+}
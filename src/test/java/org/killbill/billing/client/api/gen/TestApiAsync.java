@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client.api.gen;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.RequestOptions;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class TestApiAsync {
+
+    private static final List<Class<?>> ASYNC_APIS = List.of(AccountApiAsync.class, AdminApiAsync.class, BundleApiAsync.class, CatalogApiAsync.class,
+                                                             CreditApiAsync.class, CustomFieldApiAsync.class, ExportApiAsync.class, InvoiceApiAsync.class,
+                                                             InvoiceItemApiAsync.class, InvoicePaymentApiAsync.class, NodesInfoApiAsync.class, OverdueApiAsync.class,
+                                                             PaymentApiAsync.class, PaymentGatewayApiAsync.class, PaymentMethodApiAsync.class,
+                                                             PaymentTransactionApiAsync.class, PluginInfoApiAsync.class, SecurityApiAsync.class,
+                                                             SubscriptionApiAsync.class, TagApiAsync.class, TagDefinitionApiAsync.class, TenantApiAsync.class,
+                                                             UsageApiAsync.class);
+
+    // The async APIs aren't generated: fails when a regenerated API has methods without their async variant
+    @Test(groups = "fast")
+    public void testSameMethodsAsBlockingApis() throws Exception {
+        for (final Class<?> asyncApi : ASYNC_APIS) {
+            final String asyncName = asyncApi.getName();
+            final Class<?> api = Class.forName(asyncName.substring(0, asyncName.length() - "Async".length()));
+            for (final Method method : api.getDeclaredMethods()) {
+                if (!Modifier.isPublic(method.getModifiers())) {
+                    continue;
+                }
+                try {
+                    Assert.assertEquals(asyncApi.getMethod(method.getName(), method.getParameterTypes()).getReturnType(), CompletableFuture.class, method.toString());
+                } catch (final NoSuchMethodException e) {
+                    Assert.fail("No async variant of " + method);
+                }
+            }
+        }
+    }
+
+    @Test(groups = "fast")
+    public void testMissingRequiredParameter() throws Exception {
+        final KillBillHttpClient httpClient = KillBillHttpClient.builder().withKbServerUrl("http://127.0.0.1:1").build();
+        try {
+            final AccountApiAsync accountApi = new AccountApiAsync(httpClient);
+            assertFailsWithNullPointerException(accountApi.getAccount(null, RequestOptions.empty()));
+            assertFailsWithNullPointerException(accountApi.updateAccount(UUID.randomUUID(), null, RequestOptions.empty()));
+        } finally {
+            httpClient.close();
+        }
+    }
+
+    private static void assertFailsWithNullPointerException(final CompletableFuture<?> future) throws InterruptedException {
+        Assert.assertTrue(future.isCompletedExceptionally());
+        try {
+            future.get();
+            Assert.fail();
+        } catch (final ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof NullPointerException);
+            Assert.assertTrue(e.getCause().getMessage().startsWith("Missing the required parameter"));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2020-2026 Equinix, Inc
+ * Copyright 2014-2026 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client.util;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class TestPersistentMap {
+
+    @Test(groups = "fast")
+    public void testStructuralSharing() {
+        final PersistentMap<String, String> empty = PersistentMap.empty();
+        final PersistentMap<String, String> one = empty.with("a", "1");
+        final PersistentMap<String, String> two = one.with("b", "2");
+        final PersistentMap<String, String> replaced = two.with("a", "3");
+        final PersistentMap<String, String> removed = replaced.without("b");
+
+        // Derived maps don't change the original ones
+        Assert.assertTrue(empty.isEmpty());
+        Assert.assertEquals(one, Map.of("a", "1"));
+        Assert.assertEquals(two, Map.of("a", "1", "b", "2"));
+        Assert.assertEquals(replaced, Map.of("a", "3", "b", "2"));
+        Assert.assertEquals(removed, Map.of("a", "3"));
+        Assert.assertEquals(removed.size(), 1);
+        Assert.assertFalse(removed.containsKey("b"));
+        Assert.assertNull(removed.get("b"));
+
+        Assert.assertSame(two.with("a", "1"), two);
+        Assert.assertSame(two.without("c"), two);
+        Assert.assertSame(one.without("a"), empty);
+
+        // Insertion order is kept
+        Assert.assertEquals(List.copyOf(replaced.keySet()), List.of("a", "b"));
+        Assert.assertEquals(List.copyOf(replaced.values()), List.of("3", "2"));
+    }
+
+    @Test(groups = "fast")
+    public void testManyDerivations() {
+        final Map<String, Integer> expected = new LinkedHashMap<>();
+        PersistentMap<String, Integer> map = PersistentMap.copyOf(Map.of("initial", 0));
+        expected.put("initial", 0);
+        for (int i = 0; i < 100; i++) {
+            map = map.with("key" + (i % 7), i);
+            expected.put("key" + (i % 7), i);
+            if (i % 5 == 0) {
+                map = map.without("key" + (i % 3));
+                expected.remove("key" + (i % 3));
+            }
+        }
+        Assert.assertEquals(map, expected);
+        Assert.assertEquals(map.hashCode(), expected.hashCode());
+        Assert.assertSame(PersistentMap.copyOf(map), map);
+
+        try {
+            map.put("other", 1);
+            Assert.fail();
+        } catch (final UnsupportedOperationException ignored) {
+        }
+    }
+}